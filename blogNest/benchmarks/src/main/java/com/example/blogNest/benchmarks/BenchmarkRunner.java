@@ -0,0 +1,40 @@
+package com.example.blogNest.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar
+ *
+ * Takes the usual JMH command line and writes results as JSON to target/jmh-result.json
+ * unless -rf/-rff say otherwise, so every run leaves a file to compare against a baseline.
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(commandLine.getResultFormat().get());
+        } else {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (commandLine.getResult().hasValue()) {
+            builder.result(commandLine.getResult().get());
+        } else {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        Options options = builder.parent(commandLine).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.model.entity.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks over a loaded category tree: breadcrumbs up to the root and subtree listings down
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CategoryTreeBenchmark {
+
+    @Param({"3", "5"})
+    public int depth;
+
+    @Param({"4", "8"})
+    public int fanOut;
+
+    private Category root;
+    private Category leaf;
+
+    @Setup
+    public void setUp() {
+        List<Category> nodes = Fixtures.categoryTree(depth, fanOut);
+        root = nodes.get(0);
+        leaf = nodes.get(nodes.size() - 1);
+    }
+
+    @Benchmark
+    public String breadcrumb() {
+        StringBuilder path = new StringBuilder();
+        for (Category category = leaf; category != null; category = category.getParent()) {
+            path.insert(0, category.getSlug()).insert(0, '/');
+        }
+        return path.toString();
+    }
+
+    @Benchmark
+    public long subtreeBlogCount() {
+        long total = 0;
+        Deque<Category> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Category category = pending.pop();
+            total += category.getBlogCount();
+            for (Category child : category.getChildren()) {
+                pending.push(child);
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int subtreeSizeRecursive() {
+        return size(root);
+    }
+
+    private static int size(Category category) {
+        int size = 1;
+        if (category.hasChildren()) {
+            for (Category child : category.getChildren()) {
+                size += size(child);
+            }
+        }
+        return size;
+    }
+}
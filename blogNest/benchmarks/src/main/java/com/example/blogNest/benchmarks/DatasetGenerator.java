@@ -0,0 +1,623 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.moderation.SimHash;
+import com.example.blogNest.domain.text.TextStatistics;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic dataset, bulk loaded into an empty BlogNest schema
+ *
+ * Features:
+ * - Users, follows, categories, tags, blogs, blog tags, likes, comments and notifications,
+ *   all derived from one seed: the same seed, scale and base date give the same rows
+ * - Power-law shape: authors, blogs and followees are drawn with Zipf popularity, and
+ *   per-user activity (follows, likes) has a Pareto tail, so a few rows are very hot
+ * - Rows are written with explicit ids through batched JDBC, committed per batch;
+ *   MySQL URLs get rewriteBatchedStatements so a batch is one multi-row INSERT
+ * - Denormalized counters (followers, blogs, likes, comments, usage) and author_stats are
+ *   written from in-memory tallies, so the app starts with consistent numbers;
+ *   platform_statistics is left to the app's recompute job
+ *
+ * Scale is set by the number of users; every other table is proportional to it. About 55
+ * rows are written per user, so 20 users give ~10^3 rows and 200,000 users ~10^7.
+ *
+ * The schema must exist (start the app once with ddl-auto=create/update) and be empty.
+ * Every user's password is "password".
+ *
+ * Usage: DatasetGenerator --url=jdbc:... [--username=sa] [--password=] [--users=1000]
+ *        [--seed=42] [--base-date=2025-01-31] [--batch-size=1000]
+ */
+public final class DatasetGenerator {
+
+    public static final String PASSWORD = "password";
+
+    private static final double POPULARITY_EXPONENT = 1.1;
+    private static final int HISTORY_DAYS = 730;
+
+    private static final String[] WORDS = {
+            "spring", "java", "database", "index", "query", "latency", "cache", "thread", "memory",
+            "the", "a", "of", "and", "to", "in", "is", "for", "with", "on", "that", "this", "it",
+            "performance", "design", "testing", "scaling", "blog", "writing", "reader", "post",
+            "travel", "food", "music", "design", "career", "health", "learning", "startup", "team"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Maya", "Liam", "Sofia", "Noah", "Zara", "Ethan", "Isha", "Lucas", "Nina"
+    };
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Smith", "Garcia", "Chen", "Okafor", "Muller", "Rossi", "Khan", "Silva", "Kim"
+    };
+
+    /**
+     * Size of the generated dataset
+     */
+    public record Scale(int users) {
+
+        public Scale {
+            if (users < 2) {
+                throw new IllegalArgumentException("At least two users are needed");
+            }
+        }
+
+        public int blogs() {
+            return users * 2;
+        }
+
+        public int categories() {
+            return 20;
+        }
+
+        public int tags() {
+            return Math.max(50, users / 20);
+        }
+
+        public int comments() {
+            return users * 4;
+        }
+    }
+
+    private final DataSource dataSource;
+    private final Scale scale;
+    private final long seed;
+    private final LocalDateTime now;
+    private final int batchSize;
+    private final Map<String, Long> rows = new LinkedHashMap<>();
+    private final List<BatchWriter> openWriters = new ArrayList<>();
+
+    // Tallies for the denormalized counters, indexed by id
+    private long[] userCreated;
+    private long[] blogCreated;
+    private int[] blogAuthor;
+    private boolean[] blogPublished;
+    private int[] blogCategory;
+    private int[] followers;
+    private int[] following;
+    private int[] blogsByAuthor;
+    private int[] commentsWritten;
+    private int[] blogLikes;
+    private int[] blogComments;
+    private int[] categoryBlogs;
+    private int[] tagUsage;
+    private int[] commentReplies;
+    private int[] commentAuthor;
+
+    private long nextNotificationId = 1;
+
+    public DatasetGenerator(DataSource dataSource, Scale scale, long seed, LocalDateTime now, int batchSize) {
+        this.dataSource = dataSource;
+        this.scale = scale;
+        this.seed = seed;
+        this.now = now;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Write the dataset; returns rows written per table
+     */
+    public Map<String, Long> generate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            requireEmpty(connection);
+
+            SplittableRandom random = new SplittableRandom(seed);
+            ZipfSampler users = new ZipfSampler(scale.users(), POPULARITY_EXPONENT, seed + 1);
+            ZipfSampler blogs = new ZipfSampler(scale.blogs(), POPULARITY_EXPONENT, seed + 2);
+            ZipfSampler tags = new ZipfSampler(scale.tags(), POPULARITY_EXPONENT, seed + 3);
+            ZipfSampler categories = new ZipfSampler(scale.categories(), POPULARITY_EXPONENT, seed + 4);
+
+            writeUsers(connection, random);
+            writeCategories(connection);
+            writeTags(connection);
+            writeBlogs(connection, random, users, categories, tags);
+            writeFollows(connection, random, users);
+            writeLikes(connection, random, blogs);
+            writeComments(connection, random, users, blogs);
+            writeCounters(connection);
+            restartIdentities(connection);
+            connection.commit();
+        }
+        return rows;
+    }
+
+    // Tables
+
+    private void writeUsers(Connection connection, SplittableRandom random) throws SQLException {
+        int n = scale.users();
+        userCreated = new long[n + 1];
+        followers = new int[n + 1];
+        following = new int[n + 1];
+        blogsByAuthor = new int[n + 1];
+        commentsWritten = new int[n + 1];
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        try (BatchWriter writer = new BatchWriter(connection, "users",
+                "INSERT INTO users (id, uuid, username, email, password, first_name, last_name, bio, role, is_active, " +
+                "email_verified, followers_count, following_count, blogs_count, token_epoch, created_at, updated_at, " +
+                "version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, TRUE, 0, 0, 0, 0, ?, ?, 0)")) {
+            for (int id = 1; id <= n; id++) {
+                long created = pastSeconds(random, HISTORY_DAYS);
+                userCreated[id] = created;
+                writer.add(id, uuid("users", id), "user" + id, "user" + id + "@example.com", passwordHash,
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                        random.nextInt(3) == 0 ? sentence(random, 12) : null,
+                        id == 1 ? "ADMIN" : "USER", timestamp(created), timestamp(created));
+            }
+        }
+    }
+
+    private void writeCategories(Connection connection) throws SQLException {
+        categoryBlogs = new int[scale.categories() + 1];
+        try (BatchWriter writer = new BatchWriter(connection, "categories",
+                "INSERT INTO categories (id, uuid, name, slug, description, is_active, blog_count, sort_order, " +
+                "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, TRUE, 0, ?, ?, ?, 0)")) {
+            Timestamp created = timestamp(epochSeconds(now) - HISTORY_DAYS * 86_400L);
+            for (int id = 1; id <= scale.categories(); id++) {
+                writer.add(id, uuid("categories", id), "Category " + id, "category-" + id, "Posts about topic " + id, id, created, created);
+            }
+        }
+    }
+
+    private void writeTags(Connection connection) throws SQLException {
+        tagUsage = new int[scale.tags() + 1];
+        try (BatchWriter writer = new BatchWriter(connection, "tags",
+                "INSERT INTO tags (id, uuid, name, slug, is_active, usage_count, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, TRUE, 0, ?, ?, 0)")) {
+            Timestamp created = timestamp(epochSeconds(now) - HISTORY_DAYS * 86_400L);
+            for (int id = 1; id <= scale.tags(); id++) {
+                writer.add(id, uuid("tags", id), WORDS[id % WORDS.length] + id, "tag-" + id, created, created);
+            }
+        }
+    }
+
+    private void writeBlogs(Connection connection, SplittableRandom random, ZipfSampler authors,
+                            ZipfSampler categories, ZipfSampler tags) throws SQLException {
+        int n = scale.blogs();
+        blogCreated = new long[n + 1];
+        blogAuthor = new int[n + 1];
+        blogPublished = new boolean[n + 1];
+        blogCategory = new int[n + 1];
+        blogLikes = new int[n + 1];
+        blogComments = new int[n + 1];
+        long blogTagId = 1;
+
+        try (BatchWriter writer = new BatchWriter(connection, "blogs",
+                "INSERT INTO blogs (id, uuid, title, slug, content, excerpt, word_count, reading_time_minutes, " +
+                "content_fingerprint, status, is_featured, is_comments_enabled, views_count, likes_count, " +
+                "comments_count, published_at, author_id, category_id, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, 0, 0, 0, ?, ?, ?, ?, ?, 0)");
+             BatchWriter blogTags = new BatchWriter(connection, "blog_tag",
+                     "INSERT INTO blog_tag (id, blog_id, tag_id, created_at, updated_at, version) " +
+                     "VALUES (?, ?, ?, ?, ?, 0)")) {
+            for (int id = 1; id <= n; id++) {
+                int author = authors.next(random);
+                int category = categories.next(random);
+                boolean published = random.nextInt(10) != 0;
+                long created = between(random, userCreated[author], epochSeconds(now));
+                String content = sentence(random, 80 + (int) pareto(random, 250, 1.8, 6_000));
+                TextStatistics statistics = TextStatistics.of(content);
+
+                blogCreated[id] = created;
+                blogAuthor[id] = author;
+                blogPublished[id] = published;
+                blogCategory[id] = category;
+                blogsByAuthor[author]++;
+                if (published) {
+                    categoryBlogs[category]++;
+                }
+                writer.add(id, uuid("blogs", id), capitalize(sentence(random, 3 + random.nextInt(6))), "post-" + id, content,
+                        statistics.getExcerpt(), statistics.getWordCount(), statistics.getReadingTimeMinutes(),
+                        SimHash.fingerprint(content), published ? "PUBLISHED" : "DRAFT", random.nextInt(100) == 0,
+                        published ? timestamp(created) : null, author, category, timestamp(created), timestamp(created));
+
+                int tagCount = random.nextInt(6);
+                Set<Integer> chosen = new HashSet<>();
+                for (int t = 0; t < tagCount; t++) {
+                    int tag = tags.next(random);
+                    if (chosen.add(tag)) {
+                        tagUsage[tag]++;
+                        blogTags.add(blogTagId++, id, tag, timestamp(created), timestamp(created));
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeFollows(Connection connection, SplittableRandom random, ZipfSampler users) throws SQLException {
+        int n = scale.users();
+        long followId = 1;
+        try (BatchWriter follows = new BatchWriter(connection, "follows",
+                "INSERT INTO follows (id, follower_id, following_id, is_notification_sent, created_at, updated_at, " +
+                "version) VALUES (?, ?, ?, TRUE, ?, ?, 0)");
+             BatchWriter notifications = notificationWriter(connection)) {
+            for (int follower = 1; follower <= n; follower++) {
+                int degree = (int) pareto(random, 7, 1.5, Math.min(n - 1, 5_000));
+                Set<Integer> followed = new HashSet<>();
+                for (int attempt = 0; followed.size() < degree && attempt < degree * 3; attempt++) {
+                    int followee = users.next(random);
+                    if (followee == follower || !followed.add(followee)) {
+                        continue;
+                    }
+                    long created = between(random, Math.max(userCreated[follower], userCreated[followee]),
+                            epochSeconds(now));
+                    follows.add(followId++, follower, followee, timestamp(created), timestamp(created));
+                    followers[followee]++;
+                    following[follower]++;
+                    if (random.nextInt(3) == 0) {
+                        notify(notifications, random, "USER_FOLLOWED", "New Follower",
+                                "user" + follower + " started following you", "/users/" + follower,
+                                null, null, follower, followee, follower, created);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeLikes(Connection connection, SplittableRandom random, ZipfSampler blogs) throws SQLException {
+        long likeId = 1;
+        try (BatchWriter likes = new BatchWriter(connection, "likes",
+                "INSERT INTO likes (id, user_id, blog_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)");
+             BatchWriter notifications = notificationWriter(connection)) {
+            for (int user = 1; user <= scale.users(); user++) {
+                int count = (int) pareto(random, 5, 1.5, Math.min(scale.blogs(), 2_000));
+                Set<Integer> liked = new HashSet<>();
+                for (int attempt = 0; liked.size() < count && attempt < count * 3; attempt++) {
+                    int blog = blogs.next(random);
+                    if (!blogPublished[blog] || !liked.add(blog)) {
+                        continue;
+                    }
+                    long created = between(random, Math.max(blogCreated[blog], userCreated[user]), epochSeconds(now));
+                    likes.add(likeId++, user, blog, timestamp(created), timestamp(created));
+                    blogLikes[blog]++;
+                    if (blogAuthor[blog] != user && random.nextInt(2) == 0) {
+                        notify(notifications, random, "BLOG_LIKED", "Blog Liked",
+                                "user" + user + " liked your post", "/blogs/" + blog,
+                                (long) blog, null, user, blogAuthor[blog], user, created);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeComments(Connection connection, SplittableRandom random, ZipfSampler users,
+                               ZipfSampler blogs) throws SQLException {
+        int n = scale.comments();
+        commentReplies = new int[n + 1];
+        commentAuthor = new int[n + 1];
+        Map<Integer, Integer> lastComment = new HashMap<>();
+
+        try (BatchWriter comments = new BatchWriter(connection, "comments",
+                "INSERT INTO comments (id, content, content_fingerprint, is_approved, is_deleted, is_edited, " +
+                "likes_count, replies_count, author_id, blog_id, parent_id, created_at, updated_at, version) " +
+                "VALUES (?, ?, ?, TRUE, FALSE, FALSE, 0, 0, ?, ?, ?, ?, ?, 0)");
+             BatchWriter notifications = notificationWriter(connection)) {
+            for (int id = 1; id <= n; id++) {
+                int blog = blogs.next(random);
+                while (!blogPublished[blog]) {
+                    blog = blogs.next(random);
+                }
+                int author = users.next(random);
+                Integer previous = lastComment.get(blog);
+                Integer parent = previous != null && random.nextInt(4) == 0 ? previous : null;
+                long created = between(random, Math.max(blogCreated[blog], userCreated[author]), epochSeconds(now));
+                String content = capitalize(sentence(random, 4 + (int) pareto(random, 8, 1.6, 100)));
+
+                comments.add(id, content, SimHash.fingerprint(content), author, blog, parent,
+                        timestamp(created), timestamp(created));
+                lastComment.put(blog, id);
+                commentAuthor[id] = author;
+                commentsWritten[author]++;
+                blogComments[blog]++;
+                if (parent != null) {
+                    commentReplies[parent]++;
+                    if (commentAuthor[parent] != author) {
+                        notify(notifications, random, "COMMENT_REPLIED", "Comment Replied",
+                                "user" + author + " replied to your comment", "/blogs/" + blog,
+                                (long) blog, (long) id, author, commentAuthor[parent], author, created);
+                    }
+                } else if (blogAuthor[blog] != author && random.nextInt(2) == 0) {
+                    notify(notifications, random, "BLOG_COMMENTED", "Blog Commented",
+                            "user" + author + " commented on your post", "/blogs/" + blog,
+                            (long) blog, (long) id, author, blogAuthor[blog], author, created);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opened after the rows a notification points at, so those are flushed first
+     */
+    private BatchWriter notificationWriter(Connection connection) throws SQLException {
+        return new BatchWriter(connection, "notifications",
+                "INSERT INTO notifications (id, uuid, type, title, message, action_url, is_read, is_email_sent, " +
+                "related_blog_id, related_comment_id, related_user_id, recipient_id, actor_id, " +
+                "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)");
+    }
+
+    private void notify(BatchWriter notifications, SplittableRandom random, String type, String title,
+                        String message, String actionUrl, Long blogId, Long commentId, Integer relatedUserId,
+                        int recipient, int actor, long created) throws SQLException {
+        // Older notifications have mostly been read
+        boolean read = epochSeconds(now) - created > 7 * 86_400L ? random.nextInt(10) != 0 : random.nextInt(3) == 0;
+        long id = nextNotificationId++;
+        notifications.add(id, uuid("notifications", id), type, title, message, actionUrl, read, false,
+                blogId, commentId, relatedUserId, recipient, actor, timestamp(created), timestamp(created));
+    }
+
+    // Counters
+
+    private void writeCounters(Connection connection) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 5);
+        long[] viewsByAuthor = new long[scale.users() + 1];
+        int[] likesOnBlogs = new int[scale.users() + 1];
+        int[] commentsReceived = new int[scale.users() + 1];
+
+        try (BatchWriter writer = new BatchWriter(connection, null,
+                "UPDATE blogs SET views_count = ?, likes_count = ?, comments_count = ? WHERE id = ?")) {
+            for (int id = 1; id <= scale.blogs(); id++) {
+                // Views track engagement, with a floor of casual readers
+                long views = blogPublished[id] ? blogLikes[id] * (10L + random.nextInt(30)) + random.nextInt(50) : 0;
+                writer.add(views, blogLikes[id], blogComments[id], id);
+                viewsByAuthor[blogAuthor[id]] += views;
+                likesOnBlogs[blogAuthor[id]] += blogLikes[id];
+                commentsReceived[blogAuthor[id]] += blogComments[id];
+            }
+        }
+        try (BatchWriter writer = new BatchWriter(connection, null,
+                "UPDATE users SET followers_count = ?, following_count = ?, blogs_count = ? WHERE id = ?")) {
+            for (int id = 1; id <= scale.users(); id++) {
+                writer.add(followers[id], following[id], blogsByAuthor[id], id);
+            }
+        }
+        try (BatchWriter writer = new BatchWriter(connection, "author_stats",
+                "INSERT INTO author_stats (user_id, blog_count, total_views, likes_on_blogs, likes_on_comments, " +
+                "comments_received, comments_written, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?, ?)")) {
+            Timestamp updated = timestamp(epochSeconds(now));
+            for (int id = 1; id <= scale.users(); id++) {
+                if (blogsByAuthor[id] > 0 || commentsWritten[id] > 0) {
+                    writer.add(id, blogsByAuthor[id], viewsByAuthor[id], likesOnBlogs[id],
+                            commentsReceived[id], commentsWritten[id], updated);
+                }
+            }
+        }
+        try (BatchWriter writer = new BatchWriter(connection, null,
+                "UPDATE comments SET replies_count = ? WHERE id = ?")) {
+            for (int id = 1; id <= scale.comments(); id++) {
+                if (commentReplies[id] > 0) {
+                    writer.add(commentReplies[id], id);
+                }
+            }
+        }
+        try (BatchWriter writer = new BatchWriter(connection, null, "UPDATE categories SET blog_count = ? WHERE id = ?")) {
+            for (int id = 1; id <= scale.categories(); id++) {
+                writer.add(categoryBlogs[id], id);
+            }
+        }
+        try (BatchWriter writer = new BatchWriter(connection, null, "UPDATE tags SET usage_count = ? WHERE id = ?")) {
+            for (int id = 1; id <= scale.tags(); id++) {
+                writer.add(tagUsage[id], id);
+            }
+        }
+    }
+
+    /**
+     * Move identity columns past the explicit ids, so the app's own inserts do not collide
+     */
+    private void restartIdentities(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+        Map<String, Long> next = new LinkedHashMap<>();
+        next.put("users", scale.users() + 1L);
+        next.put("categories", scale.categories() + 1L);
+        next.put("tags", scale.tags() + 1L);
+        next.put("blogs", scale.blogs() + 1L);
+        next.put("comments", scale.comments() + 1L);
+        next.put("notifications", nextNotificationId);
+        next.put("follows", rows.getOrDefault("follows", 0L) + 1);
+        next.put("likes", rows.getOrDefault("likes", 0L) + 1);
+        next.put("blog_tag", rows.getOrDefault("blog_tag", 0L) + 1);
+
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, Long> entry : next.entrySet()) {
+                String table = entry.getKey();
+                long value = entry.getValue();
+                if (product.contains("h2")) {
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + value);
+                } else if (product.contains("postgres")) {
+                    statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " + value + ", false)");
+                }
+                // MySQL moves AUTO_INCREMENT past explicit ids by itself
+            }
+        }
+    }
+
+    private void requireEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            result.next();
+            if (result.getLong(1) > 0) {
+                throw new IllegalStateException("The users table is not empty; generate into an empty schema");
+            }
+        }
+    }
+
+    // Values
+
+    private static double pareto(SplittableRandom random, double minimum, double alpha, double cap) {
+        return Math.min(cap, minimum / Math.pow(1.0 - random.nextDouble(), 1.0 / alpha));
+    }
+
+    private long pastSeconds(SplittableRandom random, int days) {
+        return epochSeconds(now) - (long) (random.nextDouble() * days * 86_400L);
+    }
+
+    private static long between(SplittableRandom random, long from, long to) {
+        return to <= from ? from : from + (long) (random.nextDouble() * (to - from));
+    }
+
+    private static long epochSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Entity key derived from the seed, so the same dataset always gets the same keys
+     */
+    private String uuid(String table, long id) {
+        return UUID.nameUUIDFromBytes((seed + ":" + table + ":" + id).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static Timestamp timestamp(long epochSeconds) {
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSeconds, 0, ZoneOffset.UTC));
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder(words * 7);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(i % 90 == 0 ? "\n\n" : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(14) == 0) {
+                text.append('.');
+            }
+        }
+        return text.toString();
+    }
+
+    private static String capitalize(String text) {
+        return text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    /**
+     * One prepared statement, executed every batchSize rows
+     *
+     * A full batch flushes every open writer in the order they were opened, then commits,
+     * so rows always reach the database after the rows their foreign keys point at.
+     */
+    private final class BatchWriter implements AutoCloseable {
+
+        private final Connection connection;
+        private final String table;
+        private final PreparedStatement statement;
+        private int pending;
+
+        BatchWriter(Connection connection, String table, String sql) throws SQLException {
+            this.connection = connection;
+            this.table = table;
+            this.statement = connection.prepareStatement(sql);
+            openWriters.add(this);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (++pending >= batchSize) {
+                flushAll(connection);
+            }
+        }
+
+        private void execute() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            statement.executeBatch();
+            if (table != null) {
+                rows.merge(table, (long) pending, Long::sum);
+            }
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flushAll(connection);
+            } finally {
+                openWriters.remove(this);
+                statement.close();
+            }
+        }
+    }
+
+    private void flushAll(Connection connection) throws SQLException {
+        for (BatchWriter writer : openWriters) {
+            writer.execute();
+        }
+        connection.commit();
+    }
+
+    // Command line
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        String url = options.get("url");
+        if (url == null) {
+            System.err.println("Usage: DatasetGenerator --url=jdbc:... [--username=] [--password=] [--users=1000] " +
+                    "[--seed=42] [--base-date=yyyy-mm-dd] [--batch-size=1000]");
+            System.exit(2);
+        }
+        if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+
+        Scale scale = new Scale(Integer.parseInt(options.getOrDefault("users", "1000")));
+        LocalDateTime now = options.containsKey("base-date")
+                ? LocalDate.parse(options.get("base-date")).atStartOfDay()
+                : LocalDate.now().atStartOfDay();
+        DataSource dataSource = new DriverManagerDataSource(url,
+                options.getOrDefault("username", ""), options.getOrDefault("password", ""));
+
+        long started = System.currentTimeMillis();
+        Map<String, Long> written = new DatasetGenerator(dataSource, scale,
+                Long.parseLong(options.getOrDefault("seed", "42")), now,
+                Integer.parseInt(options.getOrDefault("batch-size", "1000"))).generate();
+        long total = written.values().stream().mapToLong(Long::longValue).sum();
+        written.forEach((table, count) -> System.out.printf("%-16s %,12d%n", table, count));
+        System.out.printf("%-16s %,12d rows in %.1f s%n", "total", total, (System.currentTimeMillis() - started) / 1000.0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.Tag;
+import com.example.blogNest.domain.model.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entities in hash-based collections: building a set and probing it
+ *
+ * This is what loading a blog's tags or de-duplicating a feed costs, and it is dominated by
+ * how entity hashCode spreads across buckets. Entities hash by the key they get at
+ * construction, so at 100000 elements each probe should still cost about the same as an
+ * id-keyed set, which buildUserIdSet measures for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntitySetBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private List<User> users;
+    private List<Blog> blogs;
+    private List<Tag> tags;
+    private Set<User> userSet;
+    private User probe;
+    private List<User> transientUsers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        users = new ArrayList<>(size);
+        blogs = new ArrayList<>(size);
+        tags = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            User user = Fixtures.user(i);
+            users.add(user);
+            blogs.add(Fixtures.blog(i, user, random, 20));
+            tags.add(Fixtures.tag(i));
+        }
+        userSet = new HashSet<>(users);
+        probe = Fixtures.user(size / 2 + 1);
+
+        transientUsers = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            transientUsers.add(new User("new" + i, "new" + i + "@example.com", "", "", ""));
+        }
+    }
+
+    @Benchmark
+    public Set<User> buildUserSet() {
+        return new HashSet<>(users);
+    }
+
+    @Benchmark
+    public Set<Long> buildUserIdSet() {
+        Set<Long> ids = new HashSet<>(users.size() * 2);
+        for (User user : users) {
+            ids.add(user.getId());
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public Set<Blog> buildBlogSet() {
+        return new HashSet<>(blogs);
+    }
+
+    @Benchmark
+    public Set<Tag> buildTagSet() {
+        return new HashSet<>(tags);
+    }
+
+    @Benchmark
+    public boolean containsUser() {
+        return userSet.contains(probe);
+    }
+
+    /**
+     * New users added to a set, then given ids as persist would; each must still be found,
+     * both as the same instance and as a separately loaded copy of the same row
+     */
+    @Benchmark
+    public int transientThenPersisted() {
+        Set<User> set = new HashSet<>(transientUsers);
+        long id = 1;
+        for (User user : transientUsers) {
+            user.setId(id++);
+        }
+        int found = 0;
+        for (User user : transientUsers) {
+            User loaded = new User(user.getUsername(), user.getEmail(), "", "", "");
+            loaded.setId(user.getId());
+            loaded.setUuid(user.getUuid());
+            if (set.contains(user) && set.contains(loaded)) {
+                found++;
+            }
+            user.setId(null);
+        }
+        if (found != size) {
+            throw new IllegalStateException("Lost " + (size - found) + " users after ids were assigned");
+        }
+        return found;
+    }
+}
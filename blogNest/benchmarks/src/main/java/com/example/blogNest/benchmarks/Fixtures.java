@@ -0,0 +1,121 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.Category;
+import com.example.blogNest.domain.model.entity.Notification;
+import com.example.blogNest.domain.model.entity.Tag;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.domain.model.enums.BlogStatus;
+import com.example.blogNest.domain.model.enums.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Detached entities shaped like production data, built from a fixed seed
+ */
+final class Fixtures {
+
+    private static final String[] WORDS = {
+            "spring", "java", "database", "index", "query", "latency", "cache", "thread", "memory",
+            "the", "a", "of", "and", "to", "in", "is", "for", "with", "on", "that", "this", "it",
+            "performance", "benchmark", "throughput", "scaling", "blog", "writing", "reader", "post"
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * Key fixed per row, so building the same fixture twice gives equal entities as loading a row twice would
+     */
+    static UUID key(String kind, long id) {
+        return new UUID(kind.hashCode(), id);
+    }
+
+    /**
+     * Text of the given number of words, split into paragraphs
+     */
+    static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder(words * 7);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(i % 80 == 0 ? "\n\n" : " ");
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(12) == 0) {
+                text.append('.');
+            }
+        }
+        return text.toString();
+    }
+
+    static User user(long id) {
+        User user = new User("user" + id, "user" + id + "@example.com", "$2a$10$abcdefghijklmnopqrstuv", "First" + id, "Last" + id);
+        user.setId(id);
+        user.setUuid(key("user", id));
+        return user;
+    }
+
+    static Blog blog(long id, User author, Random random, int words) {
+        Blog blog = new Blog("Post " + id, text(random, words), author);
+        blog.setId(id);
+        blog.setUuid(key("blog", id));
+        blog.setSlug("post-" + id);
+        blog.setStatus(BlogStatus.PUBLISHED);
+        blog.setPublishedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+        blog.setViewsCount((long) random.nextInt(10_000));
+        blog.setLikesCount((long) random.nextInt(500));
+        blog.setCommentsCount((long) random.nextInt(50));
+        return blog;
+    }
+
+    static Tag tag(long id) {
+        Tag tag = new Tag("tag" + id, "tag-" + id);
+        tag.setId(id);
+        tag.setUuid(key("tag", id));
+        return tag;
+    }
+
+    static Notification notification(long id, User recipient, User actor) {
+        Notification notification = new Notification(NotificationType.BLOG_LIKED,
+                "New like", actor.getUsername() + " liked your post", recipient, actor);
+        notification.setId(id);
+        notification.setUuid(key("notification", id));
+        notification.setRelatedBlogId(id);
+        notification.setActionUrl("/blogs/" + id);
+        return notification;
+    }
+
+    /**
+     * Complete category tree of the given depth and fan-out; returns every node, root first
+     */
+    static List<Category> categoryTree(int depth, int fanOut) {
+        List<Category> nodes = new ArrayList<>();
+        Category root = category(1);
+        nodes.add(root);
+        List<Category> level = List.of(root);
+        for (int d = 1; d < depth; d++) {
+            List<Category> next = new ArrayList<>();
+            for (Category parent : level) {
+                for (int i = 0; i < fanOut; i++) {
+                    Category child = category(nodes.size() + 1);
+                    parent.addChild(child);
+                    nodes.add(child);
+                    next.add(child);
+                }
+            }
+            level = next;
+        }
+        return nodes;
+    }
+
+    private static Category category(long id) {
+        Category category = new Category("Category " + id, "category-" + id);
+        category.setId(id);
+        category.setUuid(key("category", id));
+        return category;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.auth.JwtTokenService;
+import com.example.blogNest.domain.auth.VerifiedToken;
+import com.example.blogNest.domain.config.JwtConfig;
+import com.example.blogNest.domain.model.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token issue, full parse and signature check, and the cached verification path
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenService tokenService;
+    private JwtParser parser;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig config = new JwtConfig();
+        config.setSecret("blogNestBenchmarkSecretKeyThatIsLongEnoughForHmacSha256");
+        tokenService = new JwtTokenService(config);
+        parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(config.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .build();
+        user = Fixtures.user(7);
+        token = tokenService.issue(user);
+        tokenService.verify(token);
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenService.issue(user);
+    }
+
+    @Benchmark
+    public Jws<Claims> parseAndVerify() {
+        return parser.parseClaimsJws(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return tokenService.verify(token);
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.auth.JwtTokenService;
+import com.example.blogNest.domain.config.JwtConfig;
+import com.example.blogNest.domain.model.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load test against a running BlogNest, replaying a weighted read/write mix
+ *
+ * Features:
+ * - Open-loop pacing with --rate: requests are due on a fixed schedule and latency is measured
+ *   from when a request was due, not when it was sent, so a stalled server shows up in the
+ *   tail instead of quietly slowing the client down (coordinated omission)
+ * - Closed-loop with --rate=0: each thread sends as fast as responses come back
+ * - Ids are drawn with the same Zipf popularity as DatasetGenerator, so hot blogs stay hot
+ * - With --jwt-secret, requests carry a token for the drawn user, minted like the app does
+ * - Count, errors, throughput and p50/p90/p99/p99.9/max per endpoint, printed and written as JSON
+ *
+ * A workload file replaces the default mix, one endpoint per line:
+ *   weight METHOD path [json body]
+ * with {blog}, {user}, {page} and {text} placeholders; lines starting with # are skipped.
+ *
+ * Usage: LoadHarness [--base-url=http://localhost:8080] [--users=1000] [--duration=60]
+ *        [--threads=32] [--rate=500] [--jwt-secret=...] [--workload=file] [--out=target/load-result.json]
+ */
+public final class LoadHarness {
+
+    private static final double POPULARITY_EXPONENT = 1.1;
+
+    // Read-heavy mix; the write endpoints assume the usual REST routes for likes, comments and follows
+    private static final String DEFAULT_WORKLOAD = """
+            30 GET /api/blogs?page={page}&size=20
+            25 GET /api/blogs/{blog}
+            12 GET /api/blogs/{blog}/body
+            8 GET /api/users/{user}
+            5 GET /api/categories
+            4 GET /api/tags
+            7 POST /api/blogs/{blog}/like
+            5 POST /api/blogs/{blog}/comments {"content":"{text}"}
+            4 POST /api/users/{user}/follow
+            """;
+
+    private record Endpoint(String name, String method, String path, String body, int weight) {
+    }
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+    private final ZipfSampler blogs;
+    private final ZipfSampler users;
+    private final int pages;
+    private final JwtTokenService tokenService;
+    private final AtomicReferenceArray<String> tokens;
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new HashMap<>();
+
+    LoadHarness(String baseUrl, List<Endpoint> endpoints, DatasetGenerator.Scale scale, long seed,
+                String jwtSecret, int threads) {
+        // HTTP/1.1 like browsers behind a proxy; the default h2c upgrade attempt skews latencies
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, threads / 4)))
+                .build();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.endpoints = endpoints;
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        this.blogs = new ZipfSampler(scale.blogs(), POPULARITY_EXPONENT, seed + 2);
+        this.users = new ZipfSampler(scale.users(), POPULARITY_EXPONENT, seed + 1);
+        this.pages = Math.max(1, scale.blogs() / 20);
+        if (jwtSecret != null) {
+            JwtConfig config = new JwtConfig();
+            config.setSecret(jwtSecret);
+            this.tokenService = new JwtTokenService(config);
+            this.tokens = new AtomicReferenceArray<>(scale.users() + 1);
+        } else {
+            this.tokenService = null;
+            this.tokens = null;
+        }
+        for (Endpoint endpoint : endpoints) {
+            latencies.put(endpoint.name(), new LatencyHistogram());
+            errors.put(endpoint.name(), new AtomicLong());
+        }
+    }
+
+    /**
+     * Run for the given duration; a rate of 0 runs closed-loop
+     */
+    Map<String, Object> run(Duration duration, int threads, double rate) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long interval = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        AtomicLong tickets = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            long threadSeed = t;
+            workers.execute(() -> {
+                SplittableRandom random = new SplittableRandom(threadSeed * 0x9E3779B97F4A7C15L);
+                while (true) {
+                    long due;
+                    if (interval > 0) {
+                        due = start + tickets.getAndIncrement() * interval;
+                        if (due >= end) {
+                            return;
+                        }
+                        long wait = due - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                    } else {
+                        due = System.nanoTime();
+                        if (due >= end) {
+                            return;
+                        }
+                    }
+                    send(random, due);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return report((System.nanoTime() - start) / 1e9);
+    }
+
+    private void send(SplittableRandom random, long due) {
+        Endpoint endpoint = pick(random);
+        int user = users.next(random);
+        String path = endpoint.path()
+                .replace("{blog}", Integer.toString(blogs.next(random)))
+                .replace("{user}", Integer.toString(users.next(random)))
+                .replace("{page}", Integer.toString(Math.min(pages - 1, (int) Math.abs(Math.log(random.nextDouble()) * 2))));
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (endpoint.body() != null) {
+            String body = endpoint.body().replace("{text}", "Load test comment " + random.nextInt(1_000_000));
+            request.header("Content-Type", "application/json")
+                    .method(endpoint.method(), HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request.method(endpoint.method(), HttpRequest.BodyPublishers.noBody());
+        }
+        if (tokenService != null) {
+            request.header("Authorization", "Bearer " + token(user));
+        }
+
+        try {
+            HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                errors.get(endpoint.name()).incrementAndGet();
+            }
+        } catch (IOException e) {
+            errors.get(endpoint.name()).incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        latencies.get(endpoint.name()).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due));
+    }
+
+    private Endpoint pick(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.weight();
+            if (ticket < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private String token(int userId) {
+        String token = tokens.get(userId);
+        if (token == null) {
+            User user = new User("user" + userId, "user" + userId + "@example.com", "", "", "");
+            user.setId((long) userId);
+            token = tokenService.issue(user);
+            tokens.set(userId, token);
+        }
+        return token;
+    }
+
+    private Map<String, Object> report(double seconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", seconds);
+        Map<String, Object> byEndpoint = new LinkedHashMap<>();
+        long requests = 0;
+        System.out.printf("%-44s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            long count = histogram.count();
+            requests += count;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("count", count);
+            row.put("errors", errors.get(entry.getKey()).get());
+            row.put("rps", count / seconds);
+            row.put("p50Ms", histogram.percentile(50) / 1000.0);
+            row.put("p90Ms", histogram.percentile(90) / 1000.0);
+            row.put("p99Ms", histogram.percentile(99) / 1000.0);
+            row.put("p999Ms", histogram.percentile(99.9) / 1000.0);
+            row.put("maxMs", histogram.max() / 1000.0);
+            byEndpoint.put(entry.getKey(), row);
+            System.out.printf("%-44s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), count,
+                    row.get("errors"), row.get("rps"), row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"),
+                    row.get("p999Ms"), row.get("maxMs"));
+        }
+        report.put("requests", requests);
+        report.put("rps", requests / seconds);
+        report.put("endpoints", byEndpoint);
+        System.out.printf("%-44s %9d %7s %9.1f%n", "total", requests, "", requests / seconds);
+        return report;
+    }
+
+    static List<Endpoint> parseWorkload(String text) {
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+", 4);
+            if (parts.length < 3) {
+                throw new IllegalArgumentException("Expected 'weight METHOD path [body]': " + line);
+            }
+            String method = parts[1].toUpperCase();
+            String name = method + " " + parts[2].replaceAll("\\?.*", "");
+            endpoints.add(new Endpoint(name, method, parts[2], parts.length == 4 ? parts[3] : null,
+                    Integer.parseInt(parts[0])));
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Workload has no endpoints");
+        }
+        return endpoints;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        String workload = options.containsKey("workload")
+                ? Files.readString(Path.of(options.get("workload")))
+                : DEFAULT_WORKLOAD;
+        int threads = Integer.parseInt(options.getOrDefault("threads", "32"));
+
+        LoadHarness harness = new LoadHarness(options.getOrDefault("base-url", "http://localhost:8080"),
+                parseWorkload(workload),
+                new DatasetGenerator.Scale(Integer.parseInt(options.getOrDefault("users", "1000"))),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                options.get("jwt-secret"), threads);
+        Map<String, Object> report = harness.run(
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                threads, Double.parseDouble(options.getOrDefault("rate", "500")));
+
+        Path out = Path.of(options.getOrDefault("out", "target/load-result.json"));
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), report);
+        System.out.println("Results written to " + out);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.BlogNestApplication;
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.Category;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.domain.model.enums.BlogStatus;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository query shapes against the application running on embedded H2
+ *
+ * The application starts with the dev profile and background jobs off, and is seeded with
+ * users, categories and published blogs. Authors follow a power law, as they do in production:
+ * a few authors write most of the blogs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private static final int SEED_BATCH = 500;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"10000"})
+    public int blogs;
+
+    @Param({"1000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private BlogRepository blogRepository;
+    private List<Long> blogIds;
+    private List<Long> authorIds;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Command-line arguments, so they override application-dev.properties
+        context = new SpringApplicationBuilder(BlogNestApplication.class)
+                .profiles("dev")
+                .run("--server.port=0",
+                        "--spring.sql.init.mode=never",
+                        "--spring.h2.console.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + SEED_BATCH,
+                        "--logging.level.root=WARN",
+                        "--app.scheduling.publication.enabled=false",
+                        "--app.maintenance.enabled=false",
+                        "--app.analytics.rollup-enabled=false",
+                        "--app.recommendation.enabled=false",
+                        "--app.similarity.enabled=false",
+                        "--app.moderation.spam-detection-enabled=false",
+                        "--app.rendering.enabled=false");
+        blogRepository = context.getBean(BlogRepository.class);
+        seed();
+        random = new Random(7);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Blog> findById() {
+        return blogRepository.findById(blogIds.get(random.nextInt(blogIds.size())));
+    }
+
+    @Benchmark
+    public Page<Blog> publishedFirstPage() {
+        return blogRepository.findPublishedBlogsOrderByPublishDate(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Blog> authorPage() {
+        return blogRepository.findByAuthorId(authorIds.get(random.nextInt(authorIds.size())), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Blog> categoryPage() {
+        return blogRepository.findByCategory("category-" + (random.nextInt(10) + 1), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Blog> search() {
+        return blogRepository.searchBlogs("benchmark", FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<Blog> trending() {
+        return blogRepository.findTrendingBlogs(LocalDateTime.now().minusDays(7), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public long countPublished() {
+        return blogRepository.countByStatus(BlogStatus.PUBLISHED);
+    }
+
+    private void seed() {
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        Random seedRandom = new Random(42);
+
+        List<User> authors = new ArrayList<>(users);
+        List<Category> categories = new ArrayList<>();
+        transaction.executeWithoutResult(status -> {
+            for (int i = 1; i <= 10; i++) {
+                Category category = new Category("Category " + i, "category-" + i);
+                entityManager.persist(category);
+                categories.add(category);
+            }
+            for (int i = 1; i <= users; i++) {
+                User user = new User("user" + i, "user" + i + "@example.com",
+                        "$2a$10$abcdefghijklmnopqrstuv", "First" + i, "Last" + i);
+                entityManager.persist(user);
+                authors.add(user);
+                if (i % SEED_BATCH == 0) {
+                    entityManager.flush();
+                }
+            }
+        });
+
+        blogIds = new ArrayList<>(blogs);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < blogs; from += SEED_BATCH) {
+            int to = Math.min(blogs, from + SEED_BATCH);
+            int start = from;
+            transaction.executeWithoutResult(status -> {
+                List<Blog> batch = new ArrayList<>(to - start);
+                for (int i = start; i < to; i++) {
+                    // Power law: low author indexes write most of the blogs
+                    User author = entityManager.getReference(User.class,
+                            authors.get((int) (users * Math.pow(seedRandom.nextDouble(), 3))).getId());
+                    Blog blog = new Blog("Post " + i, Fixtures.text(seedRandom, 300 + seedRandom.nextInt(1200)), author);
+                    blog.setSlug("post-" + i);
+                    blog.setCategory(entityManager.getReference(Category.class,
+                            categories.get(seedRandom.nextInt(categories.size())).getId()));
+                    blog.setStatus(BlogStatus.PUBLISHED);
+                    blog.setPublishedAt(now.minusMinutes(seedRandom.nextInt(60 * 24 * 60)));
+                    blog.setViewsCount((long) seedRandom.nextInt(10_000));
+                    blog.setLikesCount((long) seedRandom.nextInt(500));
+                    blog.setCommentsCount((long) seedRandom.nextInt(50));
+                    entityManager.persist(blog);
+                    batch.add(blog);
+                }
+                entityManager.flush();
+                batch.forEach(blog -> blogIds.add(blog.getId()));
+                entityManager.clear();
+            });
+        }
+        authorIds = authors.stream().map(User::getId).toList();
+    }
+}
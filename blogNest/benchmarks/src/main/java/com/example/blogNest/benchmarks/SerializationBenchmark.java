@@ -0,0 +1,89 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.Notification;
+import com.example.blogNest.domain.model.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of entities as the API returns them
+ *
+ * The mapper is configured like the application's (spring.jackson.* in application.properties).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1500"})
+    public int words;
+
+    private ObjectMapper mapper;
+    private Blog blog;
+    private User user;
+    private Notification notification;
+    private List<Blog> page;
+
+    @Setup
+    public void setUp() {
+        mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        Random random = new Random(42);
+        user = Fixtures.user(1);
+        User actor = Fixtures.user(2);
+        blog = Fixtures.blog(1, user, random, words);
+        notification = Fixtures.notification(1, user, actor);
+        page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            page.add(Fixtures.blog(i + 10, actor, random, words));
+        }
+    }
+
+    @Benchmark
+    public byte[] blog() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(blog);
+    }
+
+    @Benchmark
+    public byte[] blogPage() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] user() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] notification() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(notification);
+    }
+}
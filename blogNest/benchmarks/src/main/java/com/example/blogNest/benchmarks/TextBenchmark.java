@@ -0,0 +1,72 @@
+package com.example.blogNest.benchmarks;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.domain.text.TextStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Word count, reading time and excerpt of blog content
+ *
+ * setContent is what every create and edit pays (statistics plus fingerprint);
+ * getEffectiveSummary is what every listing pays per blog.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextBenchmark {
+
+    @Param({"300", "1500", "8000"})
+    public int words;
+
+    private String content;
+    private Blog blog;
+    private Blog blogWithSummary;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        User author = Fixtures.user(1);
+        content = Fixtures.text(random, words);
+        blog = Fixtures.blog(1, author, random, words);
+        blogWithSummary = Fixtures.blog(2, author, random, words);
+        blogWithSummary.setSummary("A short hand-written summary");
+    }
+
+    @Benchmark
+    public TextStatistics textStatistics() {
+        return TextStatistics.of(content);
+    }
+
+    @Benchmark
+    public Blog setContent() {
+        blog.setContent(content);
+        return blog;
+    }
+
+    @Benchmark
+    public String effectiveSummaryFromExcerpt() {
+        return blog.getEffectiveSummary();
+    }
+
+    @Benchmark
+    public String effectiveSummaryFromSummary() {
+        return blogWithSummary.getEffectiveSummary();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.blogNest.benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ids 1..n with Zipf-distributed popularity
+ *
+ * The k-th most popular id is drawn with probability proportional to 1/k^exponent.
+ * Popularity ranks are shuffled over the ids with the given seed, so popular users and
+ * blogs are spread over the id range rather than being the lowest ids.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+    private final int[] idByRank;
+
+    ZipfSampler(int n, double exponent, long seed) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+
+        idByRank = new int[n];
+        for (int i = 0; i < n; i++) {
+            idByRank[i] = i + 1;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = idByRank[i];
+            idByRank[i] = idByRank[j];
+            idByRank[j] = swap;
+        }
+    }
+
+    /**
+     * Next id, 1-based
+     */
+    int next(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return idByRank[Math.min(rank, idByRank.length - 1)];
+    }
+
+    int size() {
+        return idByRank.length;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.blogNest;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -21,6 +22,7 @@ import java.util.TimeZone;
  * - JPA Auditing for automatic createdAt/updatedAt timestamps
  * - Async processing for non-blocking operations (email, notifications)
  * - Scheduling for background tasks (cleanup, analytics)
+ * - Caching for frequently read, rarely changed data (profile statistics)
  * - Transaction management for data consistency
  *
  * @author BlogNest Team
@@ -31,6 +33,7 @@ import java.util.TimeZone;
 @EnableJpaAuditing(auditorAwareRef = "auditorAware")
 @EnableAsync
 @EnableScheduling
+@EnableCaching
 @EnableTransactionManagement
 public class BlogNestApplication {
 
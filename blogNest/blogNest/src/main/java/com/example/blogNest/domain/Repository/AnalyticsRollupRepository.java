@@ -0,0 +1,42 @@
+package com.example.blogNest.domain.Repository;
+
+import com.example.blogNest.domain.model.entity.AnalyticsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for analytics rollup rows
+ *
+ * Provides data access methods for:
+ * - Time series reads for dashboards
+ * - Range deletes for backfill
+ */
+@Repository
+public interface AnalyticsRollupRepository extends JpaRepository<AnalyticsRollup, Long> {
+
+    /**
+     * Find a time series for one metric and dimension
+     */
+    @Query("SELECT r FROM AnalyticsRollup r WHERE r.metric = :metric AND r.granularity = :granularity " +
+           "AND r.dimension = :dimension AND r.dimensionId = :dimensionId " +
+           "AND r.bucketStart >= :startDate AND r.bucketStart < :endDate ORDER BY r.bucketStart ASC")
+    List<AnalyticsRollup> findSeries(@Param("metric") AnalyticsRollup.Metric metric,
+                                     @Param("granularity") AnalyticsRollup.Granularity granularity,
+                                     @Param("dimension") AnalyticsRollup.Dimension dimension,
+                                     @Param("dimensionId") Long dimensionId,
+                                     @Param("startDate") LocalDateTime startDate,
+                                     @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * Delete all rollup rows in a time range (before a backfill)
+     */
+    @Modifying
+    @Query("DELETE FROM AnalyticsRollup r WHERE r.bucketStart >= :startDate AND r.bucketStart < :endDate")
+    int deleteByBucketRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+}
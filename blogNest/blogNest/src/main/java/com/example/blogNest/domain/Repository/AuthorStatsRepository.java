@@ -0,0 +1,12 @@
+package com.example.blogNest.domain.Repository;
+
+import com.example.blogNest.domain.model.entity.AuthorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for per-author profile counters
+ */
+@Repository
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, Long> {
+}
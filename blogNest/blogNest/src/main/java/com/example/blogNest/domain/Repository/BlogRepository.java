@@ -4,15 +4,20 @@ import com.example.blogNest.domain.model.entity.Blog;
 import com.example.blogNest.domain.model.entity.User;
 import com.example.blogNest.domain.model.entity.Category;
 import com.example.blogNest.domain.model.enums.BlogStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -86,6 +91,12 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     @Query("SELECT b FROM Blog b WHERE b.status = 'SCHEDULED' AND b.scheduledAt <= :now ORDER BY b.scheduledAt ASC")
     List<Blog> findScheduledBlogsReadyToPublish(@Param("now") LocalDateTime now);
 
+    /**
+     * Find id and scheduled time of all scheduled blogs (used to load the publication wheel)
+     */
+    @Query("SELECT b.id, b.scheduledAt FROM Blog b WHERE b.status = 'SCHEDULED' AND b.scheduledAt IS NOT NULL")
+    List<Object[]> findScheduledPublications();
+
     /**
      * Find blogs awaiting approval (if moderation is enabled)
      */
@@ -216,6 +227,13 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
            "AND b.status = 'PUBLISHED' ORDER BY b.publishedAt DESC")
     Page<Blog> findBlogsFromFollowedUsers(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * Find IDs of the most recent published blogs by the given authors (id, authorId)
+     */
+    @Query("SELECT b.id, b.author.id FROM Blog b WHERE b.author.id IN :authorIds AND b.status = 'PUBLISHED' " +
+           "ORDER BY b.publishedAt DESC")
+    List<Object[]> findRecentPublishedIdsByAuthors(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
     /**
      * Find recommended blogs for user (based on liked categories and followed users)
      */
@@ -231,6 +249,17 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     @Query("SELECT b FROM Blog b WHERE b.category.id = :categoryId AND b.id != :blogId AND b.status = 'PUBLISHED' ORDER BY b.publishedAt DESC")
     Page<Blog> findSimilarBlogs(@Param("categoryId") Long categoryId, @Param("blogId") Long blogId, Pageable pageable);
 
+    /**
+     * Find tag names attached to a blog
+     * Results are held in the query cache until blog_tag or tags change
+     */
+    @Query("SELECT t.name FROM BlogTag bt JOIN bt.tag t WHERE bt.blog.id = :blogId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "tag-names")
+    })
+    List<String> findTagNamesByBlogId(@Param("blogId") Long blogId);
+
     // Statistics and analytics
 
     /**
@@ -243,6 +272,18 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
      */
     long countByAuthor(User author);
 
+    /**
+     * Count blogs by author id
+     */
+    @Query("SELECT COUNT(b) FROM Blog b WHERE b.author.id = :authorId")
+    long countByAuthorId(@Param("authorId") Long authorId);
+
+    /**
+     * Sum views across all blogs of an author
+     */
+    @Query("SELECT COALESCE(SUM(b.viewsCount), 0) FROM Blog b WHERE b.author.id = :authorId")
+    long sumViewsByAuthor(@Param("authorId") Long authorId);
+
     /**
      * Count blogs by category
      */
@@ -251,6 +292,7 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     /**
      * Get blog statistics
      */
+    @Transactional(readOnly = true)
     @Query("SELECT new map(" +
            "COUNT(b) as totalBlogs, " +
            "SUM(CASE WHEN b.status = 'PUBLISHED' THEN 1 ELSE 0 END) as publishedBlogs, " +
@@ -265,12 +307,27 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     /**
      * Get daily blog statistics for date range
      */
+    @Transactional(readOnly = true)
     @Query("SELECT DATE(b.publishedAt) as publishDate, COUNT(b) as blogCount " +
            "FROM Blog b WHERE b.status = 'PUBLISHED' AND b.publishedAt BETWEEN :startDate AND :endDate " +
            "GROUP BY DATE(b.publishedAt) ORDER BY DATE(b.publishedAt)")
     List<Object[]> getDailyBlogStats(@Param("startDate") LocalDateTime startDate,
                                     @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * Find author and category IDs for the given blogs (id, authorId, categoryId)
+     */
+    @Query("SELECT b.id, b.author.id, c.id FROM Blog b LEFT JOIN b.category c WHERE b.id IN :blogIds")
+    List<Object[]> findBlogDimensions(@Param("blogIds") Collection<Long> blogIds);
+
+    /**
+     * Find published blogs in a time range for rollup backfill (id, authorId, categoryId, publishedAt)
+     */
+    @Query("SELECT b.id, b.author.id, c.id, b.publishedAt FROM Blog b LEFT JOIN b.category c " +
+           "WHERE b.status = 'PUBLISHED' AND b.publishedAt >= :startDate AND b.publishedAt < :endDate")
+    List<Object[]> findPublishedForRollup(@Param("startDate") LocalDateTime startDate,
+                                          @Param("endDate") LocalDateTime endDate);
+
     // Update operations
 
     /**
@@ -281,28 +338,28 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     void incrementViewCount(@Param("blogId") Long blogId);
 
     /**
-     * Increment like count
+     * Increment like count on the row itself; use ShardedCounterService, which shards hot counters
      */
     @Modifying
     @Query("UPDATE Blog b SET b.likesCount = b.likesCount + 1 WHERE b.id = :blogId")
     void incrementLikeCount(@Param("blogId") Long blogId);
 
     /**
-     * Decrement like count
+     * Decrement like count on the row itself; use ShardedCounterService, which shards hot counters
      */
     @Modifying
     @Query("UPDATE Blog b SET b.likesCount = GREATEST(0, b.likesCount - 1) WHERE b.id = :blogId")
     void decrementLikeCount(@Param("blogId") Long blogId);
 
     /**
-     * Increment comment count
+     * Increment comment count on the row itself; use ShardedCounterService, which shards hot counters
      */
     @Modifying
     @Query("UPDATE Blog b SET b.commentsCount = b.commentsCount + 1 WHERE b.id = :blogId")
     void incrementCommentCount(@Param("blogId") Long blogId);
 
     /**
-     * Decrement comment count
+     * Decrement comment count on the row itself; use ShardedCounterService, which shards hot counters
      */
     @Modifying
     @Query("UPDATE Blog b SET b.commentsCount = GREATEST(0, b.commentsCount - 1) WHERE b.id = :blogId")
@@ -329,6 +386,16 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
     @Query("UPDATE Blog b SET b.status = 'PUBLISHED', b.publishedAt = CURRENT_TIMESTAMP WHERE b.status = 'SCHEDULED' AND b.scheduledAt <= :now")
     int publishScheduledBlogs(@Param("now") LocalDateTime now);
 
+    /**
+     * Publish a single scheduled blog if it is still scheduled and due
+     * Bumps version and updatedAt like an entity update, so validators and indexes see the change
+     */
+    @Modifying
+    @Query("UPDATE Blog b SET b.status = 'PUBLISHED', b.publishedAt = CURRENT_TIMESTAMP, " +
+           "b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.id = :blogId AND b.status = 'SCHEDULED' AND b.scheduledAt <= :now")
+    int publishScheduledBlog(@Param("blogId") Long blogId, @Param("now") LocalDateTime now);
+
     // Cleanup operations
 
     /**
@@ -342,4 +409,61 @@ public interface BlogRepository extends JpaRepository<Blog, Long> {
      */
     @Query("SELECT b FROM Blog b WHERE b.status = 'PUBLISHED' AND b.likesCount = 0 AND b.commentsCount = 0 AND b.viewsCount < 10 AND b.publishedAt < :cutoffDate")
     List<Blog> findLowEngagementBlogs(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // Chunked maintenance (keyset batches of ids)
+
+    /**
+     * Find next batch of old draft blog ids after the given id
+     */
+    @Query("SELECT b.id FROM Blog b WHERE b.status = 'DRAFT' AND b.updatedAt < :cutoffDate AND b.id > :afterId ORDER BY b.id ASC")
+    List<Long> findOldDraftIds(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Find next batch of low engagement blog ids after the given id
+     */
+    @Query("SELECT b.id FROM Blog b WHERE b.status = 'PUBLISHED' AND b.likesCount = 0 AND b.commentsCount = 0 AND b.viewsCount < 10 " +
+           "AND b.publishedAt < :cutoffDate AND b.id > :afterId ORDER BY b.id ASC")
+    List<Long> findLowEngagementBlogIds(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Delete draft blogs by IDs
+     */
+    @Modifying
+    @Query("DELETE FROM Blog b WHERE b.id IN :blogIds AND b.status = 'DRAFT'")
+    int deleteDraftsByIds(@Param("blogIds") List<Long> blogIds);
+
+    /**
+     * Find next batch of blog ids without stored text statistics after the given id
+     */
+    @Query("SELECT b.id FROM Blog b WHERE b.wordCount IS NULL AND b.id > :afterId ORDER BY b.id ASC")
+    List<Long> findIdsWithoutTextStatistics(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Get id and content of the given blogs
+     */
+    @Query("SELECT b.id, b.content FROM Blog b WHERE b.id IN :blogIds")
+    List<Object[]> findContentsByIds(@Param("blogIds") List<Long> blogIds);
+
+    /**
+     * Store text statistics without touching updatedAt or entity callbacks
+     */
+    @Modifying
+    @Query("UPDATE Blog b SET b.wordCount = :wordCount, b.readingTimeMinutes = :readingTime, b.excerpt = :excerpt WHERE b.id = :blogId")
+    int updateTextStatistics(@Param("blogId") Long blogId, @Param("wordCount") Integer wordCount,
+                             @Param("readingTime") Integer readingTime, @Param("excerpt") String excerpt);
+
+    /**
+     * Archive published blogs by IDs
+     */
+    @Modifying
+    @Query("UPDATE Blog b SET b.status = 'ARCHIVED', b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.id IN :blogIds AND b.status = 'PUBLISHED'")
+    int archiveByIds(@Param("blogIds") List<Long> blogIds);
+
+    /**
+     * Delete tag links of the given blogs
+     */
+    @Modifying
+    @Query("DELETE FROM BlogTag bt WHERE bt.blog.id IN :blogIds")
+    int deleteBlogTagsByBlogIds(@Param("blogIds") List<Long> blogIds);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.example.blogNest.domain.Repository;
+
+import com.example.blogNest.domain.model.entity.BlogSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for blog MinHash signatures
+ */
+@Repository
+public interface BlogSignatureRepository extends JpaRepository<BlogSignature, Long> {
+}
@@ -10,8 +10,10 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -179,6 +181,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.author.id = :userId AND c.isDeleted = false")
     long countCommentsByUser(@Param("userId") Long userId);
 
+    /**
+     * Count comments received on an author's blogs
+     */
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.blog.author.id = :authorId AND c.isDeleted = false")
+    long countCommentsReceivedByAuthor(@Param("authorId") Long authorId);
+
     /**
      * Find most liked comments
      */
@@ -200,6 +208,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * Get comment statistics
      */
+    @Transactional(readOnly = true)
     @Query("SELECT new map(" +
            "COUNT(c) as totalComments, " +
            "SUM(CASE WHEN c.isApproved = true THEN 1 ELSE 0 END) as approvedComments, " +
@@ -213,22 +222,37 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * Get daily comment counts for date range
      */
+    @Transactional(readOnly = true)
     @Query("SELECT DATE(c.createdAt) as commentDate, COUNT(c) as commentCount " +
            "FROM Comment c WHERE c.createdAt BETWEEN :startDate AND :endDate AND c.isDeleted = false " +
            "GROUP BY DATE(c.createdAt) ORDER BY DATE(c.createdAt)")
     List<Object[]> getDailyCommentStats(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    /**
+     * Find blog and author IDs for the given comments (id, blogId, authorId)
+     */
+    @Query("SELECT c.id, c.blog.id, c.author.id FROM Comment c WHERE c.id IN :commentIds")
+    List<Object[]> findCommentDimensions(@Param("commentIds") Collection<Long> commentIds);
+
+    /**
+     * Find comments in a time range for rollup backfill (blogId, createdAt)
+     */
+    @Query("SELECT c.blog.id, c.createdAt FROM Comment c " +
+           "WHERE c.isDeleted = false AND c.createdAt >= :startDate AND c.createdAt < :endDate")
+    List<Object[]> findCommentsForRollup(@Param("startDate") LocalDateTime startDate,
+                                         @Param("endDate") LocalDateTime endDate);
+
     // Update operations
 
     /**
-     * Increment like count
+     * Increment like count on the row itself; use ShardedCounterService, which shards hot counters
      */
     @Modifying
     @Query("UPDATE Comment c SET c.likesCount = c.likesCount + 1 WHERE c.id = :commentId")
     void incrementLikeCount(@Param("commentId") Long commentId);
 
     /**
-     * Decrement like count
+     * Decrement like count on the row itself; use ShardedCounterService, which shards hot counters
      */
     @Modifying
     @Query("UPDATE Comment c SET c.likesCount = GREATEST(0, c.likesCount - 1) WHERE c.id = :commentId")
@@ -311,6 +335,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.likesCount = 0 AND c.repliesCount = 0 AND c.createdAt < :cutoffDate AND c.isDeleted = false")
     List<Comment> findLowEngagementComments(@Param("cutoffDate") LocalDateTime cutoffDate);
 
+    /**
+     * Find next batch of old unapproved comment ids after the given id
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.isApproved = false AND c.isDeleted = false AND c.createdAt < :cutoffDate AND c.id > :afterId ORDER BY c.id ASC")
+    List<Long> findOldUnapprovedCommentIds(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Find next batch of low engagement comment ids after the given id
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.likesCount = 0 AND c.repliesCount = 0 AND c.createdAt < :cutoffDate AND c.isDeleted = false AND c.id > :afterId ORDER BY c.id ASC")
+    List<Long> findLowEngagementCommentIds(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * Count orphaned comments (comments whose blog was deleted)
      */
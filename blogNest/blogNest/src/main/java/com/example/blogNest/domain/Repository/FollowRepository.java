@@ -10,8 +10,11 @@ import com.example.blogNest.domain.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -73,4 +76,10 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
      * Count how many users a user is following
      */
     long countByFollower(User follower);
+
+    /**
+     * Find IDs of all users a user is following
+     */
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId")
+    List<Long> findFollowingIds(@Param("followerId") Long followerId);
 }
@@ -7,11 +7,14 @@ import com.example.blogNest.model.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -223,6 +226,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Find most liked blogs in time period
      */
+    @Transactional(readOnly = true)
     @Query("SELECT l.blog, COUNT(l) as likeCount FROM Like l WHERE l.blog IS NOT NULL AND l.createdAt >= :since " +
            "GROUP BY l.blog ORDER BY COUNT(l) DESC")
     List<Object[]> findMostLikedBlogs(@Param("since") LocalDateTime since, Pageable pageable);
@@ -230,6 +234,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Find most liked comments in time period
      */
+    @Transactional(readOnly = true)
     @Query("SELECT l.comment, COUNT(l) as likeCount FROM Like l WHERE l.comment IS NOT NULL AND l.createdAt >= :since " +
            "GROUP BY l.comment ORDER BY COUNT(l) DESC")
     List<Object[]> findMostLikedComments(@Param("since") LocalDateTime since, Pageable pageable);
@@ -237,6 +242,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Find most active likers
      */
+    @Transactional(readOnly = true)
     @Query("SELECT l.user, COUNT(l) as likeCount FROM Like l WHERE l.createdAt >= :since " +
            "GROUP BY l.user ORDER BY COUNT(l) DESC")
     List<Object[]> findMostActiveLikers(@Param("since") LocalDateTime since, Pageable pageable);
@@ -244,6 +250,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Find users who received most likes
      */
+    @Transactional(readOnly = true)
     @Query("SELECT COALESCE(l.blog.author, l.comment.author) as author, COUNT(l) as likeCount FROM Like l " +
            "WHERE l.createdAt >= :since AND COALESCE(l.blog.author, l.comment.author) IS NOT NULL " +
            "GROUP BY COALESCE(l.blog.author, l.comment.author) ORDER BY COUNT(l) DESC")
@@ -252,6 +259,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Get like statistics
      */
+    @Transactional(readOnly = true)
     @Query("SELECT new map(" +
            "COUNT(l) as totalLikes, " +
            "SUM(CASE WHEN l.blog IS NOT NULL THEN 1 ELSE 0 END) as blogLikes, " +
@@ -263,6 +271,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Get daily like counts for date range
      */
+    @Transactional(readOnly = true)
     @Query("SELECT DATE(l.createdAt) as likeDate, COUNT(l) as likeCount " +
            "FROM Like l WHERE l.createdAt BETWEEN :startDate AND :endDate " +
            "GROUP BY DATE(l.createdAt) ORDER BY DATE(l.createdAt)")
@@ -271,11 +280,20 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     /**
      * Get like distribution by hour of day
      */
+    @Transactional(readOnly = true)
     @Query("SELECT HOUR(l.createdAt) as hour, COUNT(l) as likeCount " +
            "FROM Like l WHERE l.createdAt >= :since " +
            "GROUP BY HOUR(l.createdAt) ORDER BY HOUR(l.createdAt)")
     List<Object[]> getLikeDistributionByHour(@Param("since") LocalDateTime since);
 
+    /**
+     * Find likes in a time range for rollup backfill (blogId, commentId, createdAt)
+     */
+    @Query("SELECT b.id, c.id, l.createdAt FROM Like l LEFT JOIN l.blog b LEFT JOIN l.comment c " +
+           "WHERE l.createdAt >= :startDate AND l.createdAt < :endDate")
+    List<Object[]> findLikesForRollup(@Param("startDate") LocalDateTime startDate,
+                                      @Param("endDate") LocalDateTime endDate);
+
     // User behavior analysis
 
     /**
@@ -294,6 +312,18 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
            "GROUP BY l2.user ORDER BY COUNT(l2) DESC")
     List<Object[]> findUsersWithSimilarTaste(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * Find the blogs a user liked most recently (recommendation seeds)
+     */
+    @Query("SELECT l.blog.id FROM Like l WHERE l.user.id = :userId AND l.blog IS NOT NULL ORDER BY l.createdAt DESC")
+    List<Long> findRecentlyLikedBlogIds(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Find which of the given blogs a user has liked
+     */
+    @Query("SELECT l.blog.id FROM Like l WHERE l.user.id = :userId AND l.blog.id IN :blogIds")
+    List<Long> findLikedBlogIds(@Param("userId") Long userId, @Param("blogIds") Collection<Long> blogIds);
+
     /**
      * Check if users have mutual likes (both liked each other's content)
      */
@@ -314,6 +344,13 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
            "(l.comment IS NOT NULL AND l.comment.isDeleted = true)")
     List<Like> findOrphanedLikes();
 
+    /**
+     * Find next batch of orphaned like ids after the given id
+     */
+    @Query("SELECT l.id FROM Like l LEFT JOIN l.blog b LEFT JOIN l.comment c WHERE l.id > :afterId AND " +
+           "((b IS NOT NULL AND b.status = 'ARCHIVED') OR (c IS NOT NULL AND c.isDeleted = true)) ORDER BY l.id ASC")
+    List<Long> findOrphanedLikeIds(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * Find duplicate likes (should not exist due to unique constraints, but for data integrity checks)
      */
@@ -339,6 +376,20 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      */
     void deleteByUserId(Long userId);
 
+    /**
+     * Delete likes by IDs
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.id IN :likeIds")
+    int deleteByIds(@Param("likeIds") List<Long> likeIds);
+
+    /**
+     * Delete likes on the given blogs
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.blog.id IN :blogIds")
+    int deleteByBlogIds(@Param("blogIds") List<Long> blogIds);
+
     /**
      * Count likes in the last N days
      */
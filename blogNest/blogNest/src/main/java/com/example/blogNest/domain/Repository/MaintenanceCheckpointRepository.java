@@ -0,0 +1,12 @@
+package com.example.blogNest.domain.Repository;
+
+import com.example.blogNest.domain.model.entity.MaintenanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for maintenance job checkpoints
+ */
+@Repository
+public interface MaintenanceCheckpointRepository extends JpaRepository<MaintenanceCheckpoint, String> {
+}
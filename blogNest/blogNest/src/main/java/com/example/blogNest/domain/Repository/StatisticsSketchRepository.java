@@ -0,0 +1,25 @@
+package com.example.blogNest.domain.Repository;
+
+import com.example.blogNest.domain.model.entity.StatisticsSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for shared statistics sketches
+ */
+@Repository
+public interface StatisticsSketchRepository extends JpaRepository<StatisticsSketch, String> {
+
+    /**
+     * Load a sketch and lock its row for a read-merge-write
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StatisticsSketch s WHERE s.name = :name")
+    Optional<StatisticsSketch> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,47 @@
+package com.example.blogNest.domain.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Command-line backfill for analytics rollups
+ *
+ * Usage: {@code java -jar blognest.jar --analytics.backfill=2024-01-01:2024-03-31}
+ * Rebuilds every day in the inclusive range from raw blog, like and comment rows.
+ * A single date rebuilds just that day.
+ */
+@Component
+public class AnalyticsBackfillRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsBackfillRunner.class);
+
+    static final String OPTION = "analytics.backfill";
+
+    private final AnalyticsRollupService rollupService;
+
+    public AnalyticsBackfillRunner(AnalyticsRollupService rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> values = args.getOptionValues(OPTION);
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        for (String value : values) {
+            String[] range = value.split(":");
+            LocalDate from = LocalDate.parse(range[0].trim());
+            LocalDate to = range.length > 1 ? LocalDate.parse(range[1].trim()) : from;
+            log.info("Backfilling analytics rollups from {} to {}", from, to);
+            rollupService.backfill(from, to);
+        }
+    }
+}
@@ -0,0 +1,529 @@
+package com.example.blogNest.domain.analytics;
+
+import com.example.blogNest.domain.Repository.AnalyticsRollupRepository;
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.Repository.LikeRepository;
+import com.example.blogNest.domain.config.AnalyticsConfig;
+import com.example.blogNest.domain.event.BlogPublishedEvent;
+import com.example.blogNest.domain.event.BlogUnpublishedEvent;
+import com.example.blogNest.domain.event.CommentChangedEvent;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import com.example.blogNest.domain.model.entity.AnalyticsRollup;
+import com.example.blogNest.domain.model.entity.AnalyticsRollup.Dimension;
+import com.example.blogNest.domain.model.entity.AnalyticsRollup.Granularity;
+import com.example.blogNest.domain.model.entity.AnalyticsRollup.Metric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Maintains hourly and daily analytics rollups and serves dashboard series from them
+ *
+ * Features:
+ * - Like, comment and publish events are counted in memory and flushed as coalesced upserts;
+ *   unpublishing, archiving or deleting a published blog counts it out of its publish hour
+ * - Blog, author and category dimensions are resolved in batches at flush time, off the request path
+ * - Backfill rebuilds whole days from raw rows using index-friendly range queries; events
+ *   for a day being rebuilt are held until it is written, so none is counted twice
+ * - Daily and hourly series are read from one row per bucket instead of GROUP BY DATE(...),
+ *   in read-only transactions so they can be served by a replica
+ *
+ * Buffered deltas live in memory for up to one flush interval; a crash in that window
+ * loses them until the affected days are backfilled. A flush that fails puts its deltas
+ * back into the buffer for the next one.
+ */
+@Service
+public class AnalyticsRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsRollupService.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE analytics_rollups SET event_count = event_count + ? " +
+            "WHERE metric = ? AND granularity = ? AND dimension = ? AND dimension_id = ? AND bucket_start = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO analytics_rollups (metric, granularity, dimension, dimension_id, bucket_start, event_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final AnalyticsRollupRepository rollupRepository;
+    private final BlogRepository blogRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final AnalyticsConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<PendingKey, LongAdder> buffer = new ConcurrentHashMap<>();
+    // Held by a flush and by the rebuild of a backfilled day, so neither writes over the other
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Day being rebuilt by backfill; guarded by bufferLock
+    private volatile Fence fence;
+
+    public AnalyticsRollupService(AnalyticsRollupRepository rollupRepository,
+                                  BlogRepository blogRepository,
+                                  CommentRepository commentRepository,
+                                  LikeRepository likeRepository,
+                                  AnalyticsConfig config,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.blogRepository = blogRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Incremental updates
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        record(new PendingKey(Metric.LIKES, event.blogId(), event.commentId(), null, null),
+                event.createdAt(), event.delta());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        record(new PendingKey(Metric.COMMENTS, event.blogId(), null, null, null), event.createdAt(), event.delta());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogPublished(BlogPublishedEvent event) {
+        record(new PendingKey(Metric.BLOGS_PUBLISHED, event.blogId(), null, event.authorId(), event.categoryId()),
+                event.publishedAt(), 1);
+    }
+
+    /**
+     * The blog may be gone by the next flush, so its author and category come with the event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogUnpublished(BlogUnpublishedEvent event) {
+        record(new PendingKey(Metric.BLOGS_PUBLISHED, event.blogId(), null, event.authorId(), event.categoryId()),
+                event.publishedAt(), -1);
+    }
+
+    /**
+     * Write buffered deltas to the rollup table
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:5000}")
+    public void flush() {
+        writeLock.lock();
+        try {
+            Map<PendingKey, LongAdder> pending;
+            bufferLock.writeLock().lock();
+            try {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                pending = buffer;
+                buffer = new ConcurrentHashMap<>();
+            } finally {
+                bufferLock.writeLock().unlock();
+            }
+            write(pending);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Backfill
+
+    /**
+     * Rebuild rollups for whole days from raw rows
+     *
+     * While a day is rebuilt, buffered deltas for it are dropped, since the raw rows already
+     * include them, and new ones are held and buffered again once the day is written; if
+     * the rebuild fails, both go back to the buffer. An
+     * event recorded in the instant between its transaction's commit and the start of the
+     * fence can still be counted twice.
+     *
+     * @param from first day to rebuild
+     * @param to   last day to rebuild (inclusive)
+     */
+    public void backfill(LocalDate from, LocalDate to) {
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDateTime start = day.atStartOfDay();
+            LocalDateTime end = start.plusDays(1);
+
+            writeLock.lock();
+            Fence dayFence = startFence(start, end);
+            boolean rebuilt = false;
+            try {
+                rebuild(day, start, end);
+                rebuilt = true;
+            } finally {
+                endFence(dayFence, rebuilt);
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void rebuild(LocalDate day, LocalDateTime start, LocalDateTime end) {
+        Map<RollupKey, Long> counts = new HashMap<>();
+
+        List<Object[]> blogs = blogRepository.findPublishedForRollup(start, end);
+        Map<Long, Object[]> blogDims = new HashMap<>();
+        for (Object[] row : blogs) {
+            blogDims.put((Long) row[0], new Object[]{row[0], row[1], row[2]});
+        }
+        for (Object[] row : blogs) {
+            expand(counts, Metric.BLOGS_PUBLISHED, (Long) row[0], null, (LocalDateTime) row[3], 1,
+                    blogDims, Map.of());
+        }
+
+        List<Object[]> comments = commentRepository.findCommentsForRollup(start, end);
+        List<Object[]> likes = likeRepository.findLikesForRollup(start, end);
+
+        Set<Long> blogIds = new HashSet<>();
+        Set<Long> commentIds = new HashSet<>();
+        comments.forEach(row -> blogIds.add((Long) row[0]));
+        for (Object[] row : likes) {
+            if (row[1] != null) {
+                commentIds.add((Long) row[1]);
+            } else if (row[0] != null) {
+                blogIds.add((Long) row[0]);
+            }
+        }
+        blogIds.removeAll(blogDims.keySet());
+        blogDims.putAll(lookup(blogIds, blogRepository::findBlogDimensions));
+        Map<Long, Object[]> commentDims = lookup(commentIds, commentRepository::findCommentDimensions);
+
+        for (Object[] row : comments) {
+            expand(counts, Metric.COMMENTS, (Long) row[0], null, (LocalDateTime) row[1], 1,
+                    blogDims, commentDims);
+        }
+        for (Object[] row : likes) {
+            expand(counts, Metric.LIKES, (Long) row[0], (Long) row[1], (LocalDateTime) row[2], 1,
+                    blogDims, commentDims);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rollupRepository.deleteByBucketRange(start, end);
+            insertAll(counts);
+        });
+        log.info("Backfilled analytics rollups for {}: {} rows", day, counts.size());
+    }
+
+    private Fence startFence(LocalDateTime start, LocalDateTime end) {
+        Fence dayFence = new Fence(start, end);
+        bufferLock.writeLock().lock();
+        try {
+            buffer.entrySet().removeIf(entry -> {
+                if (!dayFence.covers(entry.getKey().hour())) {
+                    return false;
+                }
+                dayFence.drained().put(entry.getKey(), entry.getValue());
+                return true;
+            });
+            fence = dayFence;
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+        return dayFence;
+    }
+
+    private void endFence(Fence dayFence, boolean rebuilt) {
+        bufferLock.writeLock().lock();
+        try {
+            fence = null;
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+        if (!rebuilt) {
+            requeue(dayFence.drained());
+        }
+        requeue(dayFence.held());
+    }
+
+    // Dashboard reads
+
+    /**
+     * Daily published blog counts, same shape as BlogRepository.getDailyBlogStats
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> getDailyBlogStats(LocalDateTime startDate, LocalDateTime endDate) {
+        return dailySeries(Metric.BLOGS_PUBLISHED, startDate, endDate);
+    }
+
+    /**
+     * Daily like counts, same shape as LikeRepository.getDailyLikeStats
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> getDailyLikeStats(LocalDateTime startDate, LocalDateTime endDate) {
+        return dailySeries(Metric.LIKES, startDate, endDate);
+    }
+
+    /**
+     * Daily comment counts, same shape as CommentRepository.getDailyCommentStats
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> getDailyCommentStats(LocalDateTime startDate, LocalDateTime endDate) {
+        return dailySeries(Metric.COMMENTS, startDate, endDate);
+    }
+
+    /**
+     * Like counts by hour of day since the given time, same shape as LikeRepository.getLikeDistributionByHour
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> getLikeDistributionByHour(LocalDateTime since) {
+        long[] byHour = new long[24];
+        for (AnalyticsRollup rollup : rollupRepository.findSeries(Metric.LIKES, Granularity.HOUR, Dimension.GLOBAL,
+                AnalyticsRollup.GLOBAL_ID, Granularity.HOUR.bucketStart(since), LocalDateTime.now().plusHours(1))) {
+            byHour[rollup.getBucketStart().getHour()] += rollup.getEventCount();
+        }
+
+        List<Object[]> result = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            if (byHour[hour] > 0) {
+                result.add(new Object[]{hour, byHour[hour]});
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Raw rollup series for any metric and dimension
+     */
+    @Transactional(readOnly = true)
+    public List<AnalyticsRollup> getSeries(Metric metric, Granularity granularity, Dimension dimension,
+                                           Long dimensionId, LocalDateTime startDate, LocalDateTime endDate) {
+        return rollupRepository.findSeries(metric, granularity, dimension,
+                dimensionId != null ? dimensionId : AnalyticsRollup.GLOBAL_ID,
+                granularity.bucketStart(startDate), endDate);
+    }
+
+    // Internal helpers
+
+    private void record(PendingKey event, LocalDateTime time, int delta) {
+        if (!config.isRollupEnabled() || time == null) {
+            return;
+        }
+        PendingKey key = event.at(Granularity.HOUR.bucketStart(time));
+        bufferLock.readLock().lock();
+        try {
+            Fence current = fence;
+            Map<PendingKey, LongAdder> target = current != null && current.covers(key.hour()) ? current.held() : buffer;
+            target.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    private void write(Map<PendingKey, LongAdder> pending) {
+        try {
+            Set<Long> blogIds = new HashSet<>();
+            Set<Long> commentIds = new HashSet<>();
+            for (PendingKey key : pending.keySet()) {
+                if (key.commentId() != null) {
+                    commentIds.add(key.commentId());
+                } else if (key.blogId() != null && key.authorId() == null) {
+                    blogIds.add(key.blogId());
+                }
+            }
+            Map<Long, Object[]> blogDims = lookup(blogIds, blogRepository::findBlogDimensions);
+            Map<Long, Object[]> commentDims = lookup(commentIds, commentRepository::findCommentDimensions);
+
+            Map<RollupKey, Long> deltas = new HashMap<>();
+            pending.forEach((key, adder) -> expand(deltas, key.metric(), key.blogId(), key.commentId(),
+                    key.hour(), adder.sum(), key.authorId() != null
+                            ? Map.of(key.blogId(), new Object[]{key.blogId(), key.authorId(), key.categoryId()})
+                            : blogDims, commentDims));
+
+            transactionTemplate.executeWithoutResult(status -> applyDeltas(deltas));
+        } catch (Exception e) {
+            log.warn("Failed to flush {} analytics rollup deltas; retrying on the next flush", pending.size(), e);
+            requeue(pending);
+        }
+    }
+
+    private void requeue(Map<PendingKey, LongAdder> pending) {
+        bufferLock.readLock().lock();
+        try {
+            pending.forEach((key, adder) -> buffer.computeIfAbsent(key, k -> new LongAdder()).add(adder.sum()));
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    private List<Object[]> dailySeries(Metric metric, LocalDateTime startDate, LocalDateTime endDate) {
+        List<Object[]> result = new ArrayList<>();
+        for (AnalyticsRollup rollup : rollupRepository.findSeries(metric, Granularity.DAY, Dimension.GLOBAL,
+                AnalyticsRollup.GLOBAL_ID, Granularity.DAY.bucketStart(startDate),
+                Granularity.DAY.bucketStart(endDate).plusDays(1))) {
+            if (rollup.getEventCount() != 0) {
+                result.add(new Object[]{rollup.getBucketStart().toLocalDate(), rollup.getEventCount()});
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fan one event count out to every dimension and granularity it belongs to
+     * Blog-level events count for the blog, its author and its category; comment likes count
+     * for the comment author
+     */
+    private static void expand(Map<RollupKey, Long> target, Metric metric, Long blogId, Long commentId,
+                               LocalDateTime time, long delta,
+                               Map<Long, Object[]> blogDims, Map<Long, Object[]> commentDims) {
+        if (delta == 0) {
+            return;
+        }
+
+        List<Object[]> dimensions = new ArrayList<>(4);
+        dimensions.add(new Object[]{Dimension.GLOBAL, AnalyticsRollup.GLOBAL_ID});
+
+        if (commentId != null) {
+            Object[] comment = commentDims.get(commentId);
+            if (comment != null && comment[2] != null) {
+                dimensions.add(new Object[]{Dimension.AUTHOR, comment[2]});
+            }
+        } else if (blogId != null) {
+            dimensions.add(new Object[]{Dimension.BLOG, blogId});
+            Object[] blog = blogDims.get(blogId);
+            if (blog != null) {
+                if (blog[1] != null) {
+                    dimensions.add(new Object[]{Dimension.AUTHOR, blog[1]});
+                }
+                if (blog[2] != null) {
+                    dimensions.add(new Object[]{Dimension.CATEGORY, blog[2]});
+                }
+            }
+        }
+
+        for (Granularity granularity : Granularity.values()) {
+            LocalDateTime bucket = granularity.bucketStart(time);
+            for (Object[] dimension : dimensions) {
+                target.merge(new RollupKey(metric, granularity, (Dimension) dimension[0], (Long) dimension[1], bucket),
+                        delta, Long::sum);
+            }
+        }
+    }
+
+    private Map<Long, Object[]> lookup(Set<Long> ids, Function<Collection<Long>, List<Object[]>> query) {
+        Map<Long, Object[]> result = new HashMap<>();
+        List<Long> all = new ArrayList<>(ids);
+        int chunk = Math.max(1, config.getLookupBatchSize());
+        for (int i = 0; i < all.size(); i += chunk) {
+            for (Object[] row : query.apply(all.subList(i, Math.min(all.size(), i + chunk)))) {
+                result.put((Long) row[0], row);
+            }
+        }
+        return result;
+    }
+
+    private void applyDeltas(Map<RollupKey, Long> deltas) {
+        List<Map.Entry<RollupKey, Long>> entries = new ArrayList<>();
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                entries.add(Map.entry(key, delta));
+            }
+        });
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, entries.stream()
+                .map(e -> updateArgs(e.getKey(), e.getValue()))
+                .toList());
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i] > 0) {
+                continue;
+            }
+            RollupKey key = entries.get(i).getKey();
+            long delta = entries.get(i).getValue();
+            if (updated[i] == Statement.SUCCESS_NO_INFO
+                    && jdbcTemplate.update(UPDATE_SQL, updateArgs(key, delta)) > 0) {
+                // Driver rewrote the batch; this row already existed
+                continue;
+            }
+            try {
+                jdbcTemplate.update(INSERT_SQL, insertArgs(key, delta));
+            } catch (DuplicateKeyException e) {
+                // Inserted concurrently by another node
+                jdbcTemplate.update(UPDATE_SQL, updateArgs(key, delta));
+            }
+        }
+    }
+
+    private void insertAll(Map<RollupKey, Long> counts) {
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(insertArgs(key, count)));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    private static Object[] updateArgs(RollupKey key, long delta) {
+        return new Object[]{delta, key.metric().name(), key.granularity().name(), key.dimension().name(),
+                key.dimensionId(), Timestamp.valueOf(key.bucketStart())};
+    }
+
+    private static Object[] insertArgs(RollupKey key, long count) {
+        return new Object[]{key.metric().name(), key.granularity().name(), key.dimension().name(),
+                key.dimensionId(), Timestamp.valueOf(key.bucketStart()), count};
+    }
+
+    /**
+     * authorId and categoryId are set when the event carried them; otherwise they are looked up at flush time
+     */
+    private record PendingKey(Metric metric, Long blogId, Long commentId, Long authorId, Long categoryId,
+                              LocalDateTime hour) {
+
+        PendingKey(Metric metric, Long blogId, Long commentId, Long authorId, Long categoryId) {
+            this(metric, blogId, commentId, authorId, categoryId, null);
+        }
+
+        PendingKey at(LocalDateTime bucket) {
+            return new PendingKey(metric, blogId, commentId, authorId, categoryId, bucket);
+        }
+    }
+
+    /**
+     * A day being rebuilt, the deltas buffered for it before and those recorded for it meanwhile
+     */
+    private record Fence(LocalDateTime start, LocalDateTime end, Map<PendingKey, LongAdder> drained,
+                         Map<PendingKey, LongAdder> held) {
+
+        Fence(LocalDateTime start, LocalDateTime end) {
+            this(start, end, new HashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        boolean covers(LocalDateTime hour) {
+            return !hour.isBefore(start) && hour.isBefore(end);
+        }
+    }
+
+    private record RollupKey(Metric metric, Granularity granularity, Dimension dimension,
+                             Long dimensionId, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.PasswordHashingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder that hashes on its own bounded pool
+ *
+ * Features:
+ * - Hashing runs on a fixed number of threads, so a burst of sign-ins cannot occupy
+ *   every request thread's CPU; reads keep being served
+ * - A bounded queue in front of the pool; when it is full the request is rejected at once
+ *   with 503 instead of waiting behind the burst
+ * - The cost is calibrated at startup so one hash takes about the target time on this machine
+ * - Hashes made with another cost are reported for upgrade, so they are rehashed on the
+ *   next successful sign-in; a calibrated cost only ever upgrades, so nodes that calibrate
+ *   differently do not rehash the same password back and forth
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int CALIBRATION_STRENGTH = 8;
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+    private final boolean calibrated;
+    private final int queueCapacity;
+    private final long maxWaitMs;
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordHashingConfig config) {
+        this.calibrated = config.getStrength() <= 0;
+        this.strength = calibrated ? calibrate(config) : config.getStrength();
+        this.queueCapacity = Math.max(1, config.getQueueCapacity());
+        this.maxWaitMs = config.getMaxWaitMs();
+        this.delegate = new BCryptPasswordEncoder(strength);
+
+        int threads = config.getThreads() > 0
+                ? config.getThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("Password hashing: BCrypt cost {} ({}), {} threads, queue {}",
+                strength, calibrated ? "calibrated" : "configured", threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether a stored hash should be replaced on sign-in
+     *
+     * Skipped while the pool is busy: a rehash costs a second hash and can wait for a quieter sign-in.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        int stored = Integer.parseInt(matcher.group(1));
+        boolean differs = calibrated ? stored < strength : stored != strength;
+        return differs && executor.getQueue().size() < queueCapacity / 2;
+    }
+
+    /**
+     * Current BCrypt cost
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException();
+        }
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    /**
+     * Pick the cost whose hash time is closest to the target, from timings at a cheap cost
+     *
+     * Each step of the cost doubles the work, so the time at the calibration cost scales
+     * by a power of two. The fastest of a few rounds is used, after one warm-up round.
+     */
+    private static int calibrate(PasswordHashingConfig config) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        String sample = "calibration-sample";
+        probe.encode(sample);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode(sample);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double targetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getTargetHashMs()));
+        int steps = (int) Math.round(Math.log(targetNanos / Math.max(1, best)) / Math.log(2));
+        int chosen = CALIBRATION_STRENGTH + steps;
+        int min = Math.max(4, config.getMinStrength());
+        int max = Math.min(31, Math.max(min, config.getMaxStrength()));
+        return Math.max(min, Math.min(max, chosen));
+    }
+}
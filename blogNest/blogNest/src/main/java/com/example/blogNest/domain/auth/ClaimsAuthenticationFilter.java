@@ -0,0 +1,63 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.JwtConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests from the signed claims of their bearer token
+ *
+ * For a token issued by {@link JwtTokenService} whose epoch is current, the principal is
+ * built from the claims alone: the signature check is cached and the epoch check is in
+ * memory, so the request does no database I/O. A revoked token is rejected with 401. Any
+ * other token leaves the security context empty and is handled by JwtAuthenticationFilter
+ * as before.
+ */
+public class ClaimsAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenService tokenService;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final JwtConfig jwtConfig;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    public ClaimsAuthenticationFilter(JwtTokenService tokenService,
+                                      TokenRevocationRegistry revocationRegistry,
+                                      JwtConfig jwtConfig) {
+        this.tokenService = tokenService;
+        this.revocationRegistry = revocationRegistry;
+        this.jwtConfig = jwtConfig;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(jwtConfig.getHeaderName());
+        if (header != null && header.startsWith(jwtConfig.getTokenPrefix())
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            VerifiedToken token = tokenService.verify(header.substring(jwtConfig.getTokenPrefix().length()));
+            if (token != null && token.isSelfContained()
+                    && revocationRegistry.isRevoked(token.userId(), token.epoch())) {
+                // Still validly signed, so it must not reach the database path either
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has been revoked");
+                return;
+            }
+            if (token != null && token.isSelfContained()
+                    && revocationRegistry.isCurrent(token.userId(), token.epoch())) {
+                TokenPrincipal principal = new TokenPrincipal(token.userId(), token.subject(), token.role());
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                authentication.setDetails(detailsSource.buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
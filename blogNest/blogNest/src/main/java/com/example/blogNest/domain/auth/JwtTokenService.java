@@ -0,0 +1,150 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.JwtConfig;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.model.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues self-contained access tokens and verifies tokens through a cache
+ *
+ * Features:
+ * - Only tokens signed with the configured key for the configured issuer and audience
+ *   are accepted
+ * - Tokens carry the user id, role authority and token epoch next to the username,
+ *   so a request can be authenticated without loading the user
+ * - A verified token is cached under a SHA-256 of its text until it expires, so the
+ *   signature is checked once per token rather than once per request
+ * - Invalid tokens are never cached; the cache is bounded and swept of expired entries
+ */
+@Component
+public class JwtTokenService {
+
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_EPOCH = "ep";
+
+    private final JwtConfig config;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final ConcurrentHashMap<String, VerifiedToken> verified = new ConcurrentHashMap<>();
+
+    // MessageDigest.getInstance costs more than hashing a token
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    public JwtTokenService(JwtConfig config) {
+        this.config = config;
+        this.key = Keys.hmacShaKeyFor(config.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .requireIssuer(config.getIssuer())
+                .requireAudience(config.getAudience())
+                .build();
+    }
+
+    /**
+     * Create an access token for a user
+     */
+    public String issue(User user) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(user.getUsername())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().getAuthority())
+                .claim(CLAIM_EPOCH, user.getTokenEpoch())
+                .setIssuer(config.getIssuer())
+                .setAudience(config.getAudience())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + config.getExpiration()))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Claims of a validly signed, unexpired token for the configured issuer and audience, or null
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        String cacheKey = hash(token);
+        VerifiedToken cached = verified.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAtMs() > now) {
+                return cached;
+            }
+            verified.remove(cacheKey, cached);
+            return null;
+        }
+
+        VerifiedToken result;
+        try {
+            result = toVerifiedToken(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        if (verified.size() >= config.getVerificationCacheSize()) {
+            sweep();
+        }
+        if (verified.size() < config.getVerificationCacheSize()) {
+            verified.put(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Drop cached tokens that have expired
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        verified.values().removeIf(token -> token.expiresAtMs() <= now);
+    }
+
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        String authority = claims.get(CLAIM_ROLE, String.class);
+        Number epoch = claims.get(CLAIM_EPOCH, Number.class);
+        Role role = null;
+        if (authority != null) {
+            try {
+                role = Role.fromAuthority(authority);
+            } catch (IllegalArgumentException e) {
+                // Unknown role: fall back to the database path
+            }
+        }
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                role,
+                epoch != null ? epoch.longValue() : 0L,
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    private static String hash(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
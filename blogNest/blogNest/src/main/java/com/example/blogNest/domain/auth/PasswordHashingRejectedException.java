@@ -0,0 +1,22 @@
+package com.example.blogNest.domain.auth;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Raised when the password hashing pool is saturated; answered with 503 and Retry-After
+ */
+public class PasswordHashingRejectedException extends ResponseStatusException {
+
+    public PasswordHashingRejectedException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Too many sign-in attempts, try again shortly");
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return headers;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.cache.EntityCacheEvictor;
+import com.example.blogNest.domain.model.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores a password rehashed at the current cost after a successful sign-in
+ *
+ * The hash is swapped in place only if the stored hash is still the one that was verified,
+ * so a password change made meanwhile is never overwritten. The column is written directly
+ * rather than through User.setPassword: the password itself has not changed, so issued
+ * tokens stay valid. The user is then evicted from the second-level cache.
+ */
+@Service
+public class PasswordRehashService implements UserDetailsPasswordService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET password = ? WHERE password = ? AND (username = ? OR email = ?)";
+    private static final String SELECT_ID_SQL = "SELECT id FROM users WHERE username = ? OR email = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor cacheEvictor;
+
+    public PasswordRehashService(JdbcTemplate jdbcTemplate, EntityCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    /**
+     * Replace the stored hash; the principal is returned unchanged to keep its type
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        try {
+            if (jdbcTemplate.update(UPDATE_SQL, newPassword, user.getPassword(), user.getUsername(), user.getUsername()) > 0) {
+                cacheEvictor.evict(User.class,
+                        jdbcTemplate.queryForList(SELECT_ID_SQL, Long.class, user.getUsername(), user.getUsername()));
+            }
+        } catch (Exception e) {
+            // The old hash still verifies; the next sign-in tries again
+            log.warn("Could not store rehashed password for {}", user.getUsername(), e);
+        }
+        return user;
+    }
+}
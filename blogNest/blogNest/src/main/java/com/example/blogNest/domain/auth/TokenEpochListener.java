@@ -0,0 +1,44 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.model.entity.User;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that publishes token epoch changes to the local registry
+ *
+ * Applied after commit, so a rolled-back password or role change revokes nothing.
+ * The registry is looked up on first use: Hibernate creates this listener while the
+ * EntityManagerFactory is being built, before the registry's JdbcTemplate can exist.
+ */
+@Component
+public class TokenEpochListener {
+
+    private final ObjectProvider<TokenRevocationRegistry> registry;
+
+    public TokenEpochListener(ObjectProvider<TokenRevocationRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @PostUpdate
+    public void afterUpdate(User user) {
+        Long userId = user.getId();
+        Long epoch = user.getTokenEpoch();
+        if (userId == null || epoch == null || epoch == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registry.getObject().update(userId, epoch);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registry.getObject().update(userId, epoch);
+            }
+        });
+    }
+}
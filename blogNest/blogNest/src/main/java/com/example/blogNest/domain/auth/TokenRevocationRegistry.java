@@ -0,0 +1,133 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.JwtConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current token epoch of every user, held in memory
+ *
+ * Features:
+ * - Only users whose epoch was ever bumped are stored, so the map stays small
+ * - Epoch changes made on this node apply as soon as their transaction commits
+ * - Changes made on other nodes are pulled from users.updated_at every few seconds
+ * - Until the first load, or when pulls keep failing, no token is vouched for and
+ *   callers fall back to loading the user
+ */
+@Service
+public class TokenRevocationRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(10);
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String LOAD_SQL =
+            "SELECT id, token_epoch FROM users WHERE token_epoch > 0";
+    private static final String SYNC_SQL =
+            "SELECT id, token_epoch, updated_at FROM users " +
+            "WHERE updated_at > ? OR (updated_at = ? AND id > ?) " +
+            "ORDER BY updated_at, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtConfig config;
+
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+    private volatile LocalDateTime syncedUntil;
+    private volatile long lastSyncMs;
+
+    public TokenRevocationRegistry(JdbcTemplate jdbcTemplate, JwtConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            LocalDateTime started = LocalDateTime.now();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                update(rs.getLong(1), rs.getLong(2));
+            });
+            syncedUntil = started;
+            lastSyncMs = System.currentTimeMillis();
+            log.info("Loaded token epochs for {} users", epochs.size());
+        } catch (Exception e) {
+            log.warn("Could not load token epochs; tokens are checked against the database", e);
+        }
+    }
+
+    /**
+     * Whether a token with the given epoch is known to be current for the user
+     *
+     * @return false if it was revoked, or if revocations are not known to be up to date
+     */
+    public boolean isCurrent(long userId, long epoch) {
+        if (syncedUntil == null || System.currentTimeMillis() - lastSyncMs > config.getRevocationSyncIntervalMs() * 3) {
+            return false;
+        }
+        return epoch >= epochs.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Whether a token with the given epoch is known to have been revoked
+     */
+    public boolean isRevoked(long userId, long epoch) {
+        return epoch < epochs.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Record a user's epoch; epochs only move forward
+     */
+    public void update(long userId, long epoch) {
+        if (epoch > 0) {
+            epochs.merge(userId, epoch, Math::max);
+        }
+    }
+
+    /**
+     * Pull epoch changes written by other nodes
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-interval-ms:5000}")
+    public void sync() {
+        if (syncedUntil == null) {
+            return;
+        }
+        try {
+            Timestamp afterTime = Timestamp.valueOf(syncedUntil.minus(SYNC_OVERLAP));
+            long afterId = 0;
+            LocalDateTime newest = syncedUntil;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SYNC_SQL,
+                        (rs, n) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getTimestamp(3)},
+                        afterTime, afterTime, afterId, BATCH_SIZE);
+                for (Object[] row : rows) {
+                    update((Long) row[0], (Long) row[1]);
+                    afterTime = (Timestamp) row[2];
+                    afterId = (Long) row[0];
+                }
+                if (!rows.isEmpty() && afterTime.toLocalDateTime().isAfter(newest)) {
+                    newest = afterTime.toLocalDateTime();
+                }
+                if (rows.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            syncedUntil = newest;
+            lastSyncMs = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("Token epoch sync failed", e);
+        }
+    }
+}
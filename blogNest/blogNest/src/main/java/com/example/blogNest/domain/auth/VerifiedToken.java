@@ -0,0 +1,19 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.model.enums.Role;
+
+/**
+ * Claims of a token whose signature and expiry have been checked
+ *
+ * userId and role are null for tokens issued without them; those cannot authenticate
+ * on claims alone.
+ */
+public record VerifiedToken(String subject, Long userId, Role role, long epoch, long expiresAtMs) {
+
+    /**
+     * Whether the token carries everything needed to build a principal without the database
+     */
+    public boolean isSelfContained() {
+        return userId != null && role != null;
+    }
+}
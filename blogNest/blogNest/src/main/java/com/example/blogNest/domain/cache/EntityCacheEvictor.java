@@ -0,0 +1,99 @@
+package com.example.blogNest.domain.cache;
+
+import com.example.blogNest.domain.config.ReplicaConfig;
+import com.example.blogNest.domain.config.SecondLevelCacheConfig;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evicts second-level cache entries for rows written with plain SQL
+ *
+ * Writes through the entity manager keep the cache current on their own; UPDATEs issued
+ * through JdbcTemplate do not. Entries are evicted right away, again once the current
+ * transaction completes, so a concurrent reader that cached the old row in between does
+ * not keep it, and a last time after the eviction hold, so a read served by a replica
+ * that had not caught up does not keep the old row either. Does nothing when the cache
+ * is disabled.
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final long holdMs;
+    private final ScheduledExecutorService executor;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory, SecondLevelCacheConfig config,
+                              ReplicaConfig replicaConfig) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = config.isEnabled();
+        // Measured lag can be off by one heartbeat interval
+        this.holdMs = replicaConfig.isEnabled()
+                ? Math.max(config.getEvictionHoldMs(), replicaConfig.getMaxLagMs() + replicaConfig.getHeartbeatIntervalMs())
+                : config.getEvictionHoldMs();
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-eviction-hold");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void evict(Class<?> entityClass, Object id) {
+        evict(entityClass, List.of(id));
+    }
+
+    public void evict(Class<?> entityClass, Collection<?> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        afterWrite(() -> ids.forEach(id -> cache.evict(entityClass, id)));
+    }
+
+    /**
+     * Evict every cached row of an entity, for statements that touch the whole table
+     */
+    public void evictAll(Class<?> entityClass) {
+        if (!enabled) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        afterWrite(() -> cache.evict(entityClass));
+    }
+
+    private void afterWrite(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                    holdThenEvict(eviction);
+                }
+            });
+        } else {
+            holdThenEvict(eviction);
+        }
+    }
+
+    private void holdThenEvict(Runnable eviction) {
+        if (holdMs > 0) {
+            executor.schedule(eviction, holdMs, TimeUnit.MILLISECONDS);
+        }
+    }
+}
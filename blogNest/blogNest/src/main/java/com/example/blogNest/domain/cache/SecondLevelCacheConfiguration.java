@@ -0,0 +1,42 @@
+package com.example.blogNest.domain.cache;
+
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level and query cache, switched on with app.l2-cache.enabled=true
+ *
+ * Configures:
+ * - hibernate-jcache with Caffeine's JCache provider; each region is sized in hibernate-cache.conf
+ * - Startup fails for a region missing from that file, so no region runs unbounded by accident
+ * - Caching only for entities and collections marked @Cacheable / @Cache
+ * - The query cache, used by queries that carry the cacheable hint
+ * - Eviction of cached one-to-many collections when a child row is inserted or deleted
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.l2-cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfiguration {
+
+    static final String PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+    static final String CONFIG_URI = "classpath:hibernate-cache.conf";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.PROVIDER, PROVIDER);
+            properties.put(ConfigSettings.CONFIG_URI, CONFIG_URI);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+}
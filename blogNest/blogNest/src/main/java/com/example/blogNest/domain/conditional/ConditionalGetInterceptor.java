@@ -0,0 +1,68 @@
+package com.example.blogNest.domain.conditional;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Answers conditional GETs of public resources before their controllers run
+ *
+ * The current stamp comes from {@link VersionIndex}; when If-None-Match or If-Modified-Since
+ * matches it, a 304 is sent and the entity is never loaded or serialised. Otherwise the ETag and
+ * Last-Modified headers are set and the request continues.
+ *
+ * Only anonymous requests are handled, as responses to signed-in users may carry per-user fields.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final Map<PathPattern, Function<Map<String, String>, VersionStamp>> resources;
+
+    public ConditionalGetInterceptor(VersionIndex versionIndex) {
+        this.resources = Map.of(
+                PARSER.parse("/api/blogs"), vars -> versionIndex.publishedBlogs(),
+                PARSER.parse("/api/blogs/{id:\\d+}"), vars -> versionIndex.blog(Long.parseLong(vars.get("id"))),
+                PARSER.parse("/api/users/{id:\\d+}/profile"), vars -> versionIndex.profile(Long.parseLong(vars.get("id"))),
+                PARSER.parse("/api/categories"), vars -> versionIndex.catalog(VersionIndex.Catalog.CATEGORIES),
+                PARSER.parse("/api/tags"), vars -> versionIndex.catalog(VersionIndex.Catalog.TAGS));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        if (request.getHeader(HttpHeaders.AUTHORIZATION) != null) {
+            return true;
+        }
+
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (Map.Entry<PathPattern, Function<Map<String, String>, VersionStamp>> resource : resources.entrySet()) {
+            PathPattern.PathMatchInfo match = resource.getKey().matchAndExtract(path);
+            if (match == null) {
+                continue;
+            }
+            VersionStamp stamp = resource.getValue().apply(match.getUriVariables());
+            if (stamp == null) {
+                return true;
+            }
+            // Cacheable, but must be revalidated; keeps Spring Security from marking it no-store
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+            long lastModified = stamp.lastModifiedMs() > 0 ? stamp.lastModifiedMs() : -1;
+            return !new ServletWebRequest(request, response).checkNotModified(stamp.etag(), lastModified);
+        }
+        return true;
+    }
+}
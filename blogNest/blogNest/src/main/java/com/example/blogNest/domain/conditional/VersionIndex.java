@@ -0,0 +1,131 @@
+package com.example.blogNest.domain.conditional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Current validators of cacheable resources, read without loading entities
+ *
+ * Each lookup is a single query over indexed columns and small tables, so a conditional
+ * request can be answered before the controller loads, maps and serialises anything.
+ * Every part comes from the database, so all nodes give the same tag for the same state.
+ *
+ * Tags are derived from the @Version counters of everything a representation shows (the
+ * blog, its author, its category and its tags) plus the counters that bulk updates change
+ * without bumping a version (likes, comments). View counts are left out: every view changes
+ * them, so a tag including them would never match. The tags are therefore weak: two bodies
+ * that differ only in their view count share one. Last-Modified is the latest updated_at of
+ * the same rows; it cannot see removals or counter changes, which only If-None-Match (which
+ * takes precedence) does.
+ */
+@Service
+public class VersionIndex {
+
+    private static final String BLOG_SQL =
+            "SELECT b.version, b.updated_at, b.likes_count, b.comments_count, " +
+            "u.version, u.updated_at, c.id, c.version, c.updated_at, " +
+            "g.tag_count, g.link_ids, g.tag_versions, g.updated_at " +
+            "FROM blogs b JOIN users u ON u.id = b.author_id " +
+            "LEFT JOIN categories c ON c.id = b.category_id " +
+            "LEFT JOIN (SELECT bt.blog_id, COUNT(*) AS tag_count, SUM(bt.id) AS link_ids, " +
+            "COALESCE(SUM(t.version), 0) AS tag_versions, MAX(t.updated_at) AS updated_at " +
+            "FROM blog_tag bt JOIN tags t ON t.id = bt.tag_id WHERE bt.blog_id = ? GROUP BY bt.blog_id) g " +
+            "ON g.blog_id = b.id " +
+            "WHERE b.id = ? AND b.status = 'PUBLISHED'";
+    private static final String PROFILE_SQL =
+            "SELECT u.version, u.updated_at, s.blog_count, s.likes_on_blogs, s.comments_received, s.updated_at " +
+            "FROM users u LEFT JOIN author_stats s ON s.user_id = u.id WHERE u.id = ?";
+    private static final String PUBLISHED_SQL =
+            "SELECT (SELECT MAX(updated_at) FROM blogs WHERE status = 'PUBLISHED'), " +
+            "(SELECT MAX(updated_at) FROM users), " +
+            "(SELECT MAX(updated_at) FROM categories), (SELECT COALESCE(SUM(version), 0) FROM categories), " +
+            "(SELECT MAX(updated_at) FROM tags), (SELECT COALESCE(SUM(version), 0) FROM tags), " +
+            "(SELECT COUNT(*) FROM blog_tag), (SELECT COALESCE(MAX(id), 0) FROM blog_tag), " +
+            "(SELECT stat_value FROM platform_statistics WHERE stat_key = 'BLOGS_PUBLISHED'), " +
+            "(SELECT stat_value FROM platform_statistics WHERE stat_key = 'BLOG_LIKES'), " +
+            "(SELECT stat_value FROM platform_statistics WHERE stat_key = 'BLOG_COMMENTS')";
+
+    /**
+     * Small reference tables whose listings are validated as a whole
+     */
+    public enum Catalog {
+        CATEGORIES("categories"),
+        TAGS("tags");
+
+        private final String sql;
+
+        Catalog(String table) {
+            this.sql = "SELECT COUNT(*), MAX(updated_at), COALESCE(SUM(version), 0) FROM " + table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VersionIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stamp of a published blog, or null if there is no such blog
+     */
+    public VersionStamp blog(long blogId) {
+        List<VersionStamp> stamps = jdbcTemplate.query(BLOG_SQL, (rs, n) -> VersionStamp.of("blog-" + blogId,
+                latest(rs.getTimestamp(2), rs.getTimestamp(6), rs.getTimestamp(9), rs.getTimestamp(13)),
+                rs.getLong(1), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(7), rs.getLong(8),
+                rs.getLong(10), rs.getLong(11), rs.getLong(12)), blogId, blogId);
+        return stamps.isEmpty() ? null : stamps.get(0);
+    }
+
+    /**
+     * Stamp of a user's public profile, including the author counters shown on it
+     */
+    public VersionStamp profile(long userId) {
+        List<VersionStamp> stamps = jdbcTemplate.query(PROFILE_SQL, (rs, n) -> VersionStamp.of("profile-" + userId,
+                latest(rs.getTimestamp(2), rs.getTimestamp(6)),
+                rs.getLong(1), rs.getLong(3), rs.getLong(4), rs.getLong(5)), userId);
+        return stamps.isEmpty() ? null : stamps.get(0);
+    }
+
+    /**
+     * Aggregate stamp shared by every page of the published blog listings
+     *
+     * Any publish, edit, unpublish or delete of a blog, any change to a user, category, tag
+     * or blog-tag link, and any like or comment changes it. It is coarse (one change
+     * invalidates all pages), but it holds for every filter, sort and page size. The
+     * published, like and comment totals are the shared rows of platform_statistics, so a
+     * like or comment reaches the tag within one statistics flush interval.
+     */
+    public VersionStamp publishedBlogs() {
+        return jdbcTemplate.queryForObject(PUBLISHED_SQL, (rs, n) -> VersionStamp.of("blogs",
+                latest(rs.getTimestamp(1), rs.getTimestamp(2), rs.getTimestamp(3), rs.getTimestamp(5)),
+                millis(rs.getTimestamp(1)), millis(rs.getTimestamp(2)), millis(rs.getTimestamp(3)), rs.getLong(4),
+                millis(rs.getTimestamp(5)), rs.getLong(6), rs.getLong(7), rs.getLong(8),
+                rs.getLong(9), rs.getLong(10), rs.getLong(11)));
+    }
+
+    /**
+     * Aggregate stamp of a whole reference table
+     */
+    public VersionStamp catalog(Catalog catalog) {
+        return jdbcTemplate.queryForObject(catalog.sql, (rs, n) -> {
+            long lastModified = millis(rs.getTimestamp(2));
+            return VersionStamp.of(catalog.name().toLowerCase(), lastModified,
+                    rs.getLong(1), lastModified, rs.getLong(3));
+        });
+    }
+
+    private static long latest(Timestamp... timestamps) {
+        long latest = 0L;
+        for (Timestamp timestamp : timestamps) {
+            latest = Math.max(latest, millis(timestamp));
+        }
+        return latest;
+    }
+
+    private static long millis(Timestamp timestamp) {
+        return timestamp != null ? timestamp.getTime() : 0L;
+    }
+}
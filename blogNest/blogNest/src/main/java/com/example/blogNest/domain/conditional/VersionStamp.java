@@ -0,0 +1,29 @@
+package com.example.blogNest.domain.conditional;
+
+/**
+ * Validators of one HTTP representation: a weak entity tag and its last modification time
+ *
+ * Tags are weak because they leave out parts of the body that change on every read (view
+ * counts); conditional GETs compare tags weakly, so they still produce 304s.
+ */
+public record VersionStamp(String etag, long lastModifiedMs) {
+
+    /**
+     * Stamp whose tag is built from a resource key and the parts that identify its version
+     */
+    public static VersionStamp of(String key, long lastModifiedMs, long... parts) {
+        StringBuilder tag = new StringBuilder(key.length() + 26).append("W/\"").append(key);
+        long hash = 0x9E3779B97F4A7C15L;
+        for (long part : parts) {
+            hash = mix64(hash ^ part);
+        }
+        tag.append('-').append(Long.toHexString(hash)).append('"');
+        return new VersionStamp(tag.toString(), lastModifiedMs);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Analytics Rollup Configuration Properties
+ *
+ * Controls the incremental rollup pipeline behind the dashboard statistics
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsConfig {
+
+    /**
+     * Enable incremental rollup updates from domain events
+     */
+    private boolean rollupEnabled = true;
+
+    /**
+     * How often buffered deltas are written to analytics_rollups
+     * Default: 5 seconds
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Maximum ids per dimension lookup query during flush and backfill
+     */
+    private int lookupBatchSize = 500;
+
+    // Getters and Setters
+
+    public boolean isRollupEnabled() {
+        return rollupEnabled;
+    }
+
+    public void setRollupEnabled(boolean rollupEnabled) {
+        this.rollupEnabled = rollupEnabled;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getLookupBatchSize() {
+        return lookupBatchSize;
+    }
+
+    public void setLookupBatchSize(int lookupBatchSize) {
+        this.lookupBatchSize = lookupBatchSize;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * User Counter Configuration Properties
+ *
+ * Controls how follower, following and blog count deltas reach the users table
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.counters")
+public class CounterConfig {
+
+    /**
+     * Buffer committed deltas and write them together; when false each delta is an
+     * UPDATE in the caller's transaction
+     * Default: true
+     */
+    private boolean coalesce = true;
+
+    /**
+     * How often buffered deltas are written
+     * Default: 1 second
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Maximum rows per batched UPDATE
+     */
+    private int batchSize = 500;
+
+    // Getters and Setters
+
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    public void setCoalesce(boolean coalesce) {
+        this.coalesce = coalesce;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -55,6 +55,17 @@ public class JwtConfig {
      */
     private String audience = "BlogNest-Users";
 
+    /**
+     * Maximum number of verified tokens kept, so repeat requests skip signature checks
+     */
+    private int verificationCacheSize = 100_000;
+
+    /**
+     * How often token revocations made on other nodes are pulled in
+     * Default: 5 seconds
+     */
+    private long revocationSyncIntervalMs = 5_000;
+
     // Getters and Setters
 
     public String getSecret() {
@@ -113,6 +124,22 @@ public class JwtConfig {
         this.audience = audience;
     }
 
+    public int getVerificationCacheSize() {
+        return verificationCacheSize;
+    }
+
+    public void setVerificationCacheSize(int verificationCacheSize) {
+        this.verificationCacheSize = verificationCacheSize;
+    }
+
+    public long getRevocationSyncIntervalMs() {
+        return revocationSyncIntervalMs;
+    }
+
+    public void setRevocationSyncIntervalMs(long revocationSyncIntervalMs) {
+        this.revocationSyncIntervalMs = revocationSyncIntervalMs;
+    }
+
     /**
      * Get expiration time in seconds (for JWT library compatibility)
      */
@@ -0,0 +1,85 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Like Pipeline Configuration Properties
+ *
+ * Controls how like and unlike toggles are collected and written
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.likes")
+public class LikeConfig {
+
+    /**
+     * Collect toggles and write them once per window; when false each toggle is
+     * written on its own right away
+     * Default: true
+     */
+    private boolean batched = true;
+
+    /**
+     * How long toggles are collected before they are written
+     * Default: 100 milliseconds
+     */
+    private long windowMs = 100;
+
+    /**
+     * Maximum toggles written in one transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * Windows in which a toggle that fails on its own is tried before it is dropped;
+     * failures the database may recover from, such as a lost connection, do not count
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Notify authors of new likes on their blogs and comments
+     */
+    private boolean notify = true;
+
+    // Getters and Setters
+
+    public boolean isBatched() {
+        return batched;
+    }
+
+    public void setBatched(boolean batched) {
+        this.batched = batched;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public boolean isNotify() {
+        return notify;
+    }
+
+    public void setNotify(boolean notify) {
+        this.notify = notify;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Like Membership Index Configuration Properties
+ *
+ * Controls the in-memory bitmaps that answer "has this user liked this blog or comment"
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.like-index")
+public class LikeIndexConfig {
+
+    /**
+     * Answer like checks from memory; when false every check is a query
+     */
+    private boolean enabled = true;
+
+    /**
+     * Memory budget for the bitmaps; least recently used blogs and comments are evicted above it
+     * Default: 64 MB
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Longest a bitmap answers without a reload, which bounds how long a like written on
+     * another node can be missed; reloads start in the background at half this age
+     * Default: 1 minute
+     */
+    private long maxAgeMs = 60000;
+
+    /**
+     * Directory for the snapshot written on shutdown and periodically
+     */
+    private String directory = "like-index";
+
+    /**
+     * How often the snapshot is written
+     * Default: 5 minutes
+     */
+    private long snapshotIntervalMs = 300000;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public long getMaxAgeMs() {
+        return maxAgeMs;
+    }
+
+    public void setMaxAgeMs(long maxAgeMs) {
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public long getSnapshotIntervalMs() {
+        return snapshotIntervalMs;
+    }
+
+    public void setSnapshotIntervalMs(long snapshotIntervalMs) {
+        this.snapshotIntervalMs = snapshotIntervalMs;
+    }
+}
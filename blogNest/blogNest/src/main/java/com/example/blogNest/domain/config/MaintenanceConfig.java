@@ -0,0 +1,139 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintenance Job Configuration Properties
+ *
+ * Controls the chunked cleanup jobs for old drafts, orphaned likes
+ * and stale comments
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.maintenance")
+public class MaintenanceConfig {
+
+    /**
+     * Enable scheduled maintenance runs
+     */
+    private boolean enabled = true;
+
+    /**
+     * Names of the jobs that run on schedule
+     */
+    private List<String> jobs = new ArrayList<>(List.of("old-drafts", "orphaned-likes", "old-unapproved-comments", "blog-text-statistics"));
+
+    /**
+     * Number of ids per batch (one short transaction each)
+     */
+    private int batchSize = 500;
+
+    /**
+     * Fraction of wall time a job may spend inside database batches (0-1]
+     * Default: 0.25, i.e. sleep three times as long as each batch took
+     */
+    private double targetLoad = 0.25;
+
+    /**
+     * Maximum duration of a single run in minutes; unfinished work resumes next run
+     */
+    private long maxRunMinutes = 30;
+
+    /**
+     * Drafts untouched for longer than this are deleted
+     */
+    private int draftRetentionDays = 180;
+
+    /**
+     * Unapproved comments older than this are removed
+     */
+    private int unapprovedCommentRetentionDays = 30;
+
+    /**
+     * Blogs and comments older than this with no engagement are cleaned up
+     */
+    private int lowEngagementAgeDays = 365;
+
+    /**
+     * Keep copying follows from the legacy user_followers table, which nodes older than the
+     * follows table still write; set to false once every node is upgraded
+     */
+    private boolean followLegacySync = true;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<String> jobs) {
+        this.jobs = jobs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public double getTargetLoad() {
+        return targetLoad;
+    }
+
+    public void setTargetLoad(double targetLoad) {
+        this.targetLoad = targetLoad;
+    }
+
+    public long getMaxRunMinutes() {
+        return maxRunMinutes;
+    }
+
+    public void setMaxRunMinutes(long maxRunMinutes) {
+        this.maxRunMinutes = maxRunMinutes;
+    }
+
+    public int getDraftRetentionDays() {
+        return draftRetentionDays;
+    }
+
+    public void setDraftRetentionDays(int draftRetentionDays) {
+        this.draftRetentionDays = draftRetentionDays;
+    }
+
+    public int getUnapprovedCommentRetentionDays() {
+        return unapprovedCommentRetentionDays;
+    }
+
+    public void setUnapprovedCommentRetentionDays(int unapprovedCommentRetentionDays) {
+        this.unapprovedCommentRetentionDays = unapprovedCommentRetentionDays;
+    }
+
+    public int getLowEngagementAgeDays() {
+        return lowEngagementAgeDays;
+    }
+
+    public void setLowEngagementAgeDays(int lowEngagementAgeDays) {
+        this.lowEngagementAgeDays = lowEngagementAgeDays;
+    }
+
+    public boolean isFollowLegacySync() {
+        return followLegacySync;
+    }
+
+    public void setFollowLegacySync(boolean followLegacySync) {
+        this.followLegacySync = followLegacySync;
+    }
+}
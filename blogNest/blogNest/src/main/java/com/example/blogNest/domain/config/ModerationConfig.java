@@ -0,0 +1,122 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Moderation Configuration Properties
+ *
+ * Controls SimHash near-duplicate detection for comments and blogs
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.moderation")
+public class ModerationConfig {
+
+    /**
+     * Route copy-paste comments to the approval queue
+     */
+    private boolean spamDetectionEnabled = true;
+
+    /**
+     * Largest Hamming distance between fingerprints treated as the same text
+     */
+    private int maxDistance = 6;
+
+    /**
+     * Near-duplicates on other blogs needed before a comment is held for approval
+     */
+    private int duplicateThreshold = 2;
+
+    /**
+     * How far back comment fingerprints are compared
+     * Default: 7 days
+     */
+    private long windowHours = 168;
+
+    /**
+     * Recent comment fingerprints kept in memory
+     */
+    private int commentCapacity = 1_000_000;
+
+    /**
+     * Blog fingerprints kept in memory
+     */
+    private int blogCapacity = 200_000;
+
+    /**
+     * How often fingerprints written by other nodes are pulled in
+     * Default: 10 seconds
+     */
+    private long syncIntervalMs = 10_000;
+
+    /**
+     * Rows per page when loading fingerprints
+     */
+    private int batchSize = 5000;
+
+    // Getters and Setters
+
+    public boolean isSpamDetectionEnabled() {
+        return spamDetectionEnabled;
+    }
+
+    public void setSpamDetectionEnabled(boolean spamDetectionEnabled) {
+        this.spamDetectionEnabled = spamDetectionEnabled;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public void setMaxDistance(int maxDistance) {
+        this.maxDistance = maxDistance;
+    }
+
+    public int getDuplicateThreshold() {
+        return duplicateThreshold;
+    }
+
+    public void setDuplicateThreshold(int duplicateThreshold) {
+        this.duplicateThreshold = duplicateThreshold;
+    }
+
+    public long getWindowHours() {
+        return windowHours;
+    }
+
+    public void setWindowHours(long windowHours) {
+        this.windowHours = windowHours;
+    }
+
+    public int getCommentCapacity() {
+        return commentCapacity;
+    }
+
+    public void setCommentCapacity(int commentCapacity) {
+        this.commentCapacity = commentCapacity;
+    }
+
+    public int getBlogCapacity() {
+        return blogCapacity;
+    }
+
+    public void setBlogCapacity(int blogCapacity) {
+        this.blogCapacity = blogCapacity;
+    }
+
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Password Hashing Configuration Properties
+ *
+ * Controls the BCrypt cost and the pool that hashes and verifies passwords
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingConfig {
+
+    /**
+     * Fixed BCrypt cost; 0 calibrates the cost at startup to the target latency
+     */
+    private int strength = 0;
+
+    /**
+     * Time one hash should take on this machine when the cost is calibrated
+     * Default: 250 milliseconds
+     */
+    private long targetHashMs = 250;
+
+    /**
+     * Lowest cost calibration may choose
+     */
+    private int minStrength = 10;
+
+    /**
+     * Highest cost calibration may choose
+     */
+    private int maxStrength = 14;
+
+    /**
+     * Threads hashing passwords; 0 uses half of the available processors
+     */
+    private int threads = 0;
+
+    /**
+     * Hashes allowed to wait for a thread; further requests are rejected at once
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Longest a request waits for its hash before it is rejected
+     * Default: 5 seconds
+     */
+    private long maxWaitMs = 5_000;
+
+    // Getters and Setters
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    public long getTargetHashMs() {
+        return targetHashMs;
+    }
+
+    public void setTargetHashMs(long targetHashMs) {
+        this.targetHashMs = targetHashMs;
+    }
+
+    public int getMinStrength() {
+        return minStrength;
+    }
+
+    public void setMinStrength(int minStrength) {
+        this.minStrength = minStrength;
+    }
+
+    public int getMaxStrength() {
+        return maxStrength;
+    }
+
+    public void setMaxStrength(int maxStrength) {
+        this.maxStrength = maxStrength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitMs;
+    }
+
+    public void setMaxWaitMs(long maxWaitMs) {
+        this.maxWaitMs = maxWaitMs;
+    }
+}
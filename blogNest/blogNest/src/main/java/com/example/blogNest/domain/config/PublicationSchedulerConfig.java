@@ -0,0 +1,85 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Scheduled Publication Configuration Properties
+ *
+ * Controls the in-memory timing wheel that publishes SCHEDULED blogs
+ * at their scheduledAt time
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.scheduling.publication")
+public class PublicationSchedulerConfig {
+
+    /**
+     * Enable the timing-wheel publisher
+     */
+    private boolean enabled = true;
+
+    /**
+     * Wheel tick in milliseconds - the publication precision
+     * Default: 1 second
+     */
+    private long tickMs = 1000;
+
+    /**
+     * Slots per wheel level
+     */
+    private int wheelSize = 64;
+
+    /**
+     * How often the leader lease is renewed and SCHEDULED blogs are re-read
+     * Default: 1 minute
+     */
+    private long resyncIntervalMs = 60000;
+
+    /**
+     * Leader lease duration; must be longer than the resync interval
+     * Default: 3 minutes
+     */
+    private long leaseMs = 180000;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    public void setTickMs(long tickMs) {
+        this.tickMs = tickMs;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public long getResyncIntervalMs() {
+        return resyncIntervalMs;
+    }
+
+    public void setResyncIntervalMs(long resyncIntervalMs) {
+        this.resyncIntervalMs = resyncIntervalMs;
+    }
+
+    public long getLeaseMs() {
+        return leaseMs;
+    }
+
+    public void setLeaseMs(long leaseMs) {
+        this.leaseMs = leaseMs;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate Limit Configuration Properties
+ *
+ * Controls the per-client token buckets applied to API requests
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitConfig {
+
+    /**
+     * Enforce the limits
+     */
+    private boolean enabled = false;
+
+    /**
+     * Sustained request budget per client; a full minute's budget may be spent as a burst
+     */
+    private RequestsPerMinute requestsPerMinute = new RequestsPerMinute();
+
+    /**
+     * Tokens taken by requests matching a path pattern; other requests take one
+     * Bind with brackets, e.g. app.rate-limit.route-costs.[/api/search/**]=5
+     */
+    private Map<String, Integer> routeCosts = new LinkedHashMap<>(Map.of(
+            "/api/search/**", 5,
+            "/api/blogs/search/**", 5,
+            "/api/feed/**", 3,
+            "/api/auth/**", 3));
+
+    /**
+     * Maximum number of clients tracked at once; past it the most idle buckets are dropped
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * Share bucket usage between nodes through the rate_limit_counters table
+     */
+    private boolean shared = false;
+
+    /**
+     * How often usage is exchanged with other nodes in shared mode
+     * Default: 1 second
+     */
+    private long syncIntervalMs = 1_000;
+
+    /**
+     * Requests per minute for each kind of client
+     */
+    public static class RequestsPerMinute {
+
+        /**
+         * Budget of a client with a valid token, keyed by its subject
+         */
+        private int authenticated = 100;
+
+        /**
+         * Budget of an anonymous client, keyed by remote address
+         */
+        private int anonymous = 20;
+
+        public int getAuthenticated() {
+            return authenticated;
+        }
+
+        public void setAuthenticated(int authenticated) {
+            this.authenticated = authenticated;
+        }
+
+        public int getAnonymous() {
+            return anonymous;
+        }
+
+        public void setAnonymous(int anonymous) {
+            this.anonymous = anonymous;
+        }
+    }
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public RequestsPerMinute getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public void setRequestsPerMinute(RequestsPerMinute requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+    }
+
+    public Map<String, Integer> getRouteCosts() {
+        return routeCosts;
+    }
+
+    public void setRouteCosts(Map<String, Integer> routeCosts) {
+        this.routeCosts = routeCosts;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    public void setShared(boolean shared) {
+        this.shared = shared;
+    }
+
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+}
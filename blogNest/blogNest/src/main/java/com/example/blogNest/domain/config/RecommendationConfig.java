@@ -0,0 +1,148 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Recommendation Engine Configuration Properties
+ *
+ * Controls the item-item co-like index behind "recommended for you"
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.recommendation")
+public class RecommendationConfig {
+
+    /**
+     * Build the co-like index and serve recommendations from it
+     */
+    private boolean enabled = true;
+
+    /**
+     * Neighbours kept per blog
+     */
+    private int neighbours = 20;
+
+    /**
+     * Minimum users that must like both blogs before they count as similar
+     */
+    private int minCoLikes = 2;
+
+    /**
+     * Users with more likes than this are left out of the co-like counts
+     */
+    private int maxLikesPerUser = 500;
+
+    /**
+     * Likes read per keyset page while building
+     */
+    private int scanBatchSize = 5000;
+
+    /**
+     * How often to check whether the index needs a rebuild
+     * Default: 5 minutes
+     */
+    private long checkIntervalMs = 300_000;
+
+    /**
+     * Local like changes that trigger an early rebuild
+     */
+    private int rebuildAfterChanges = 1000;
+
+    /**
+     * Maximum index age before a rebuild regardless of local changes
+     * Default: 1 hour
+     */
+    private long maxIndexAgeMs = 3_600_000;
+
+    /**
+     * Most recent likes of a user used as recommendation seeds
+     */
+    private int seedLikes = 50;
+
+    /**
+     * Score added to blogs by authors the user follows
+     */
+    private double followWeight = 0.5;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getNeighbours() {
+        return neighbours;
+    }
+
+    public void setNeighbours(int neighbours) {
+        this.neighbours = neighbours;
+    }
+
+    public int getMinCoLikes() {
+        return minCoLikes;
+    }
+
+    public void setMinCoLikes(int minCoLikes) {
+        this.minCoLikes = minCoLikes;
+    }
+
+    public int getMaxLikesPerUser() {
+        return maxLikesPerUser;
+    }
+
+    public void setMaxLikesPerUser(int maxLikesPerUser) {
+        this.maxLikesPerUser = maxLikesPerUser;
+    }
+
+    public int getScanBatchSize() {
+        return scanBatchSize;
+    }
+
+    public void setScanBatchSize(int scanBatchSize) {
+        this.scanBatchSize = scanBatchSize;
+    }
+
+    public long getCheckIntervalMs() {
+        return checkIntervalMs;
+    }
+
+    public void setCheckIntervalMs(long checkIntervalMs) {
+        this.checkIntervalMs = checkIntervalMs;
+    }
+
+    public int getRebuildAfterChanges() {
+        return rebuildAfterChanges;
+    }
+
+    public void setRebuildAfterChanges(int rebuildAfterChanges) {
+        this.rebuildAfterChanges = rebuildAfterChanges;
+    }
+
+    public long getMaxIndexAgeMs() {
+        return maxIndexAgeMs;
+    }
+
+    public void setMaxIndexAgeMs(long maxIndexAgeMs) {
+        this.maxIndexAgeMs = maxIndexAgeMs;
+    }
+
+    public int getSeedLikes() {
+        return seedLikes;
+    }
+
+    public void setSeedLikes(int seedLikes) {
+        this.seedLikes = seedLikes;
+    }
+
+    public double getFollowWeight() {
+        return followWeight;
+    }
+
+    public void setFollowWeight(double followWeight) {
+        this.followWeight = followWeight;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rendered Body Configuration Properties
+ *
+ * Controls the store of pre-rendered, pre-compressed blog bodies
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rendering")
+public class RenderingConfig {
+
+    /**
+     * Serve blog bodies from the rendered store
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory for rendered bodies on local disk
+     */
+    private String directory = "rendered";
+
+    /**
+     * Off-heap memory budget for rendered bodies, in bytes
+     * Default: 256 MB
+     */
+    private long maxOffHeapBytes = 256L * 1024 * 1024;
+
+    /**
+     * Bodies smaller than this are not compressed
+     */
+    private int minCompressSize = 1024;
+
+    /**
+     * Deflate level for the gzip variant (1-9); paid once per edit, not per request
+     */
+    private int compressionLevel = 9;
+
+    /**
+     * Responses at least this large are handed to the connector's sendfile when available
+     */
+    private int sendfileThreshold = 48 * 1024;
+
+    /**
+     * A cached body is re-checked against the blog row once it is older than this,
+     * which bounds how long edits and deletes made on other nodes stay invisible
+     * Default: 5 seconds
+     */
+    private long revalidateAfterMs = 5_000;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public long getMaxOffHeapBytes() {
+        return maxOffHeapBytes;
+    }
+
+    public void setMaxOffHeapBytes(long maxOffHeapBytes) {
+        this.maxOffHeapBytes = maxOffHeapBytes;
+    }
+
+    public int getMinCompressSize() {
+        return minCompressSize;
+    }
+
+    public void setMinCompressSize(int minCompressSize) {
+        this.minCompressSize = minCompressSize;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public int getSendfileThreshold() {
+        return sendfileThreshold;
+    }
+
+    public void setSendfileThreshold(int sendfileThreshold) {
+        this.sendfileThreshold = sendfileThreshold;
+    }
+
+    public long getRevalidateAfterMs() {
+        return revalidateAfterMs;
+    }
+
+    public void setRevalidateAfterMs(long revalidateAfterMs) {
+        this.revalidateAfterMs = revalidateAfterMs;
+    }
+}
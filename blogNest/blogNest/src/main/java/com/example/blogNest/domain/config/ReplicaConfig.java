@@ -0,0 +1,136 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read Replica Configuration Properties
+ *
+ * Controls routing of read-only transactions to replicas of the primary database
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.replicas")
+public class ReplicaConfig {
+
+    /**
+     * Route @Transactional(readOnly = true) work to replicas; everything else stays on the primary
+     */
+    private boolean enabled = false;
+
+    /**
+     * Replica connection settings; username and password default to spring.datasource.*
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Largest replication lag a replica may have and still serve reads
+     * Default: 2 seconds
+     */
+    private long maxLagMs = 2000;
+
+    /**
+     * How often the heartbeat is written on the primary and read back from each replica
+     * Default: 1 second
+     */
+    private long heartbeatIntervalMs = 1000;
+
+    /**
+     * How long a client's reads stay on the primary after one of its writes commits
+     * The write time travels in the last_write cookie and X-Last-Write header, so every node
+     * honours it. Keep above max-lag-ms so clients always see their own writes
+     * Default: 5 seconds
+     */
+    private long primaryPinMs = 5000;
+
+    /**
+     * Connection pool size per replica
+     */
+    private int maxPoolSize = 10;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    public long getMaxLagMs() {
+        return maxLagMs;
+    }
+
+    public void setMaxLagMs(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+
+    public long getHeartbeatIntervalMs() {
+        return heartbeatIntervalMs;
+    }
+
+    public void setHeartbeatIntervalMs(long heartbeatIntervalMs) {
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    public long getPrimaryPinMs() {
+        return primaryPinMs;
+    }
+
+    public void setPrimaryPinMs(long primaryPinMs) {
+        this.primaryPinMs = primaryPinMs;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * One replica
+     */
+    public static class Node {
+
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
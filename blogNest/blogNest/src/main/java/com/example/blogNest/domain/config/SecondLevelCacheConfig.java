@@ -0,0 +1,46 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Second-Level Cache Configuration Properties
+ *
+ * Controls the Hibernate entity, collection and query caches; region sizes live in
+ * hibernate-cache.conf
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.l2-cache")
+public class SecondLevelCacheConfig {
+
+    /**
+     * Cache entities marked @Cacheable and queries marked cacheable
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay before a row evicted after a plain SQL write is evicted again
+     * Covers reads served by a replica that has not applied the write yet; raised to
+     * app.replicas.max-lag-ms plus one heartbeat interval when replicas are enabled
+     * Default: 1 second
+     */
+    private long evictionHoldMs = 1_000;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getEvictionHoldMs() {
+        return evictionHoldMs;
+    }
+
+    public void setEvictionHoldMs(long evictionHoldMs) {
+        this.evictionHoldMs = evictionHoldMs;
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.blogNest.domain.config;
 
+import com.example.blogNest.domain.auth.BoundedPasswordEncoder;
+import com.example.blogNest.domain.auth.ClaimsAuthenticationFilter;
+import com.example.blogNest.domain.auth.JwtTokenService;
+import com.example.blogNest.domain.auth.PasswordRehashService;
+import com.example.blogNest.domain.auth.TokenRevocationRegistry;
+import com.example.blogNest.domain.ratelimit.RateLimitFilter;
+import com.example.blogNest.domain.ratelimit.RateLimiter;
 import com.example.blogNest.security.JwtAuthenticationEntryPoint;
 import com.example.blogNest.security.JwtAuthenticationFilter;
 import com.example.blogNest.security.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,7 +22,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -29,10 +36,11 @@ import java.util.List;
  * Security Configuration for BlogNest Application
  *
  * Configures:
- * - JWT-based authentication
+ * - JWT-based authentication, from signed claims when the token carries them
  * - CORS settings for frontend integration
  * - Public and protected endpoints
- * - Password encryption
+ * - Per-client rate limits ahead of authentication
+ * - Password encryption on a bounded pool, rehashed on sign-in when the cost changes
  * - Session management (stateless)
  */
 @Configuration
@@ -50,14 +58,64 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint unauthorizedHandler;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private RateLimitConfig rateLimitConfig;
+
+    @Autowired
+    private JwtConfig jwtConfig;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private PasswordHashingConfig passwordHashingConfig;
+
+    @Autowired
+    private PasswordRehashService passwordRehashService;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
     }
 
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter(rateLimiter, rateLimitConfig, jwtConfig, jwtTokenService);
+    }
+
+    @Bean
+    public ClaimsAuthenticationFilter claimsAuthenticationFilter() {
+        return new ClaimsAuthenticationFilter(jwtTokenService, tokenRevocationRegistry, jwtConfig);
+    }
+
+    /**
+     * Keep the rate limit and claims filters out of the servlet filter chain; they run inside the security chain
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClaimsAuthenticationFilter> claimsAuthenticationFilterRegistration(
+            ClaimsAuthenticationFilter claimsAuthenticationFilter) {
+        FilterRegistrationBean<ClaimsAuthenticationFilter> registration =
+                new FilterRegistrationBean<>(claimsAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(passwordHashingConfig);
     }
 
     @Bean
@@ -65,6 +123,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(passwordRehashService);
         return authProvider;
     }
 
@@ -107,6 +166,8 @@ public class SecurityConfig {
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(rateLimitFilter(), JwtAuthenticationFilter.class);
+        http.addFilterBefore(claimsAuthenticationFilter(), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -128,7 +189,7 @@ public class SecurityConfig {
         configuration.setAllowCredentials(true);
 
         // Expose specific headers to frontend
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Total-Count"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Total-Count", "X-Last-Write"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
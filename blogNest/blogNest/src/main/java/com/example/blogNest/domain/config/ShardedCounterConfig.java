@@ -0,0 +1,122 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sharded Counter Configuration Properties
+ *
+ * Controls when like and comment counters of a blog or comment move to shard rows
+ * and back. Activity is measured per node over one window.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.sharded-counters")
+public class ShardedCounterConfig {
+
+    /**
+     * Promote hot counters to shards; when false every write goes to the owning row
+     */
+    private boolean enabled = true;
+
+    /**
+     * Shard rows per hot counter
+     */
+    private int shards = 16;
+
+    /**
+     * Length of one activity window; shards are also folded back once per window
+     * Default: 10 seconds
+     */
+    private long windowMs = 10000;
+
+    /**
+     * Writes to one counter within a window that promote it
+     */
+    private int promoteWrites = 500;
+
+    /**
+     * Writes slower than contended-write-ms within a window that promote a counter
+     */
+    private int promoteContendedWrites = 20;
+
+    /**
+     * A single-row write taking longer than this waited on the row lock
+     */
+    private long contendedWriteMs = 50;
+
+    /**
+     * A hot counter with fewer writes than this in a window is quiet
+     */
+    private int demoteWrites = 50;
+
+    /**
+     * Consecutive quiet windows after which a counter goes back to its owning row
+     */
+    private int demoteAfterWindows = 3;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getPromoteWrites() {
+        return promoteWrites;
+    }
+
+    public void setPromoteWrites(int promoteWrites) {
+        this.promoteWrites = promoteWrites;
+    }
+
+    public int getPromoteContendedWrites() {
+        return promoteContendedWrites;
+    }
+
+    public void setPromoteContendedWrites(int promoteContendedWrites) {
+        this.promoteContendedWrites = promoteContendedWrites;
+    }
+
+    public long getContendedWriteMs() {
+        return contendedWriteMs;
+    }
+
+    public void setContendedWriteMs(long contendedWriteMs) {
+        this.contendedWriteMs = contendedWriteMs;
+    }
+
+    public int getDemoteWrites() {
+        return demoteWrites;
+    }
+
+    public void setDemoteWrites(int demoteWrites) {
+        this.demoteWrites = demoteWrites;
+    }
+
+    public int getDemoteAfterWindows() {
+        return demoteAfterWindows;
+    }
+
+    public void setDemoteAfterWindows(int demoteAfterWindows) {
+        this.demoteAfterWindows = demoteAfterWindows;
+    }
+}
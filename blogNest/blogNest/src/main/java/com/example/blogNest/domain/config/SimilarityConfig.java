@@ -0,0 +1,134 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Similar Posts Configuration Properties
+ *
+ * Controls the MinHash/LSH index behind "similar posts"
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.similarity")
+public class SimilarityConfig {
+
+    /**
+     * Maintain the index and serve similar posts from it
+     */
+    private boolean enabled = true;
+
+    /**
+     * MinHash values over title and content shingles
+     */
+    private int contentHashes = 64;
+
+    /**
+     * MinHash values over tag names
+     */
+    private int tagHashes = 32;
+
+    /**
+     * Signature values per LSH band; fewer rows find more (and weaker) candidates
+     */
+    private int rowsPerBand = 4;
+
+    /**
+     * Words per content shingle
+     */
+    private int shingleSize = 3;
+
+    /**
+     * Share of the final score taken by tag similarity (the rest is content)
+     */
+    private double tagWeight = 0.4;
+
+    /**
+     * Candidates scoring below this are not returned
+     */
+    private double minScore = 0.05;
+
+    /**
+     * How often signatures written by other nodes are pulled in
+     * Default: 1 minute
+     */
+    private long syncIntervalMs = 60_000;
+
+    /**
+     * Rows per page when loading signatures or backfilling blogs
+     */
+    private int batchSize = 1000;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getContentHashes() {
+        return contentHashes;
+    }
+
+    public void setContentHashes(int contentHashes) {
+        this.contentHashes = contentHashes;
+    }
+
+    public int getTagHashes() {
+        return tagHashes;
+    }
+
+    public void setTagHashes(int tagHashes) {
+        this.tagHashes = tagHashes;
+    }
+
+    public int getRowsPerBand() {
+        return rowsPerBand;
+    }
+
+    public void setRowsPerBand(int rowsPerBand) {
+        this.rowsPerBand = rowsPerBand;
+    }
+
+    public int getShingleSize() {
+        return shingleSize;
+    }
+
+    public void setShingleSize(int shingleSize) {
+        this.shingleSize = shingleSize;
+    }
+
+    public double getTagWeight() {
+        return tagWeight;
+    }
+
+    public void setTagWeight(double tagWeight) {
+        this.tagWeight = tagWeight;
+    }
+
+    public double getMinScore() {
+        return minScore;
+    }
+
+    public void setMinScore(double minScore) {
+        this.minScore = minScore;
+    }
+
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
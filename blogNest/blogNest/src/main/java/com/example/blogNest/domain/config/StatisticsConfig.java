@@ -0,0 +1,85 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Platform Statistics Configuration Properties
+ *
+ * Controls the constant-time statistics registry behind the admin dashboard
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.statistics")
+public class StatisticsConfig {
+
+    /**
+     * How often local deltas are written to platform_statistics and the
+     * shared counters are re-read
+     * Default: 5 seconds
+     */
+    private long flushIntervalMs = 5000;
+
+    /**
+     * Cron for the exact recompute that corrects drift from bulk updates
+     * Default: every hour
+     */
+    private String recomputeCron = "0 15 * * * *";
+
+    /**
+     * Lease held by the node running the exact recompute
+     * Default: 30 minutes
+     */
+    private long recomputeLeaseMs = 1_800_000;
+
+    /**
+     * HyperLogLog precision for the unique likers estimate (2^precision registers)
+     */
+    private int hllPrecision = 14;
+
+    /**
+     * Maximum ids per blog/comment author lookup when flushing author stats
+     */
+    private int lookupBatchSize = 500;
+
+    // Getters and Setters
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public String getRecomputeCron() {
+        return recomputeCron;
+    }
+
+    public void setRecomputeCron(String recomputeCron) {
+        this.recomputeCron = recomputeCron;
+    }
+
+    public long getRecomputeLeaseMs() {
+        return recomputeLeaseMs;
+    }
+
+    public void setRecomputeLeaseMs(long recomputeLeaseMs) {
+        this.recomputeLeaseMs = recomputeLeaseMs;
+    }
+
+    public int getHllPrecision() {
+        return hllPrecision;
+    }
+
+    public void setHllPrecision(int hllPrecision) {
+        this.hllPrecision = hllPrecision;
+    }
+
+    public int getLookupBatchSize() {
+        return lookupBatchSize;
+    }
+
+    public void setLookupBatchSize(int lookupBatchSize) {
+        this.lookupBatchSize = lookupBatchSize;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.blogNest.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Threading Configuration Properties
+ *
+ * Controls whether requests, @Async work and @Scheduled tasks run on virtual threads
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.threads")
+public class ThreadingConfig {
+
+    /**
+     * Run on virtual threads; needs Java 21 (build with -Pjava21), ignored on older runtimes
+     */
+    private boolean virtual = false;
+
+    /**
+     * Connections that may be checked out at once in virtual mode
+     * Keep at or below the connection pool's maximum size
+     */
+    private int maxConcurrentDbWork = 20;
+
+    /**
+     * Longest a thread waits for a connection permit before failing
+     * Default: 20 seconds
+     */
+    private long dbAcquireTimeoutMs = 20_000;
+
+    // Getters and Setters
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public void setVirtual(boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public int getMaxConcurrentDbWork() {
+        return maxConcurrentDbWork;
+    }
+
+    public void setMaxConcurrentDbWork(int maxConcurrentDbWork) {
+        this.maxConcurrentDbWork = maxConcurrentDbWork;
+    }
+
+    public long getDbAcquireTimeoutMs() {
+        return dbAcquireTimeoutMs;
+    }
+
+    public void setDbAcquireTimeoutMs(long dbAcquireTimeoutMs) {
+        this.dbAcquireTimeoutMs = dbAcquireTimeoutMs;
+    }
+}
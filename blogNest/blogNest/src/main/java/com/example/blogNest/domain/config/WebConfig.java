@@ -1,6 +1,7 @@
 package com.example.blogNest.domain.config;
 
 
+import com.example.blogNest.domain.conditional.ConditionalGetInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -21,6 +23,7 @@ import java.util.Optional;
  *
  * Configures:
  * - CORS mappings
+ * - Conditional GET handling for public resources
  * - Static resource handling
  * - File upload settings
  * - JPA Auditing with current user detection
@@ -33,6 +36,15 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.file.upload-dir:uploads}")
     private String uploadDir;
 
+    @Value("${app.http.conditional-get-enabled:true}")
+    private boolean conditionalGetEnabled;
+
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
+    public WebConfig(ConditionalGetInterceptor conditionalGetInterceptor) {
+        this.conditionalGetInterceptor = conditionalGetInterceptor;
+    }
+
     /**
      * Configure CORS mappings for cross-origin requests
      */
@@ -46,6 +58,17 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    /**
+     * Answer If-None-Match / If-Modified-Since from the version index before controllers run
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (conditionalGetEnabled) {
+            registry.addInterceptor(conditionalGetInterceptor)
+                    .addPathPatterns("/api/blogs", "/api/blogs/*", "/api/users/*/profile", "/api/categories", "/api/tags");
+        }
+    }
+
     /**
      * Configure static resource handlers
      * Maps URL paths to physical file locations
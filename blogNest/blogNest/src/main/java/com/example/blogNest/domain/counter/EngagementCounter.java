@@ -0,0 +1,27 @@
+package com.example.blogNest.domain.counter;
+
+/**
+ * Like and comment counts that can be sharded while their blog or comment is hot
+ */
+public enum EngagementCounter {
+
+    BLOG_LIKES("blogs", "likes_count"),
+    BLOG_COMMENTS("blogs", "comments_count"),
+    COMMENT_LIKES("comments", "likes_count");
+
+    private final String table;
+    private final String column;
+
+    EngagementCounter(String table, String column) {
+        this.table = table;
+        this.column = column;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
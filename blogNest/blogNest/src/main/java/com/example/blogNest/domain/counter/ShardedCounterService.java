@@ -0,0 +1,367 @@
+package com.example.blogNest.domain.counter;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.config.ShardedCounterConfig;
+import com.example.blogNest.domain.event.CommentChangedEvent;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Like and comment counters that stop serializing on one row when a post goes viral
+ *
+ * Features:
+ * - Writes go to the blog or comment row through the repository update methods until
+ *   the counter gets hot: many writes in one window, or writes that waited on the row lock
+ * - A hot counter is spread over N rows in counter_shards; each write updates one
+ *   shard picked at random, so concurrent likes rarely wait on each other
+ * - Once per window the node holding the fold lock adds every shard's delta to the
+ *   owning row, so likes_count and comments_count lag by at most one window
+ * - A counter that stays quiet for a few windows goes back to its owning row; its
+ *   shards are deleted by the first fold that finds them all idle
+ * - Blog likes and comment likes are written by LikeService; comments_count follows
+ *   committed comment inserts, deletes and soft deletes
+ *
+ * {@link #count} is exact at any time: the owning row plus the deltas not yet folded.
+ * Counts read from loaded entities lag a hot counter by up to one window.
+ * Hot counters are tracked per node; a shard row missing on this node's write (deleted
+ * by a fold) sends that write to the owning row instead.
+ */
+@Service
+public class ShardedCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedCounterService.class);
+
+    private static final String FOLD_LOCK = "counter-shard-fold";
+
+    private static final String UPDATE_SHARD_SQL =
+            "UPDATE counter_shards SET delta = delta + ? WHERE counter_name = ? AND entity_id = ? AND shard = ?";
+    private static final String EXISTING_SHARDS_SQL =
+            "SELECT shard FROM counter_shards WHERE counter_name = ? AND entity_id = ?";
+    private static final String INSERT_SHARD_SQL =
+            "INSERT INTO counter_shards (counter_name, entity_id, shard, delta) VALUES (?, ?, ?, 0)";
+    private static final String SHARDED_SQL =
+            "SELECT DISTINCT counter_name, entity_id FROM counter_shards";
+    private static final String LOCK_SHARDS_SQL =
+            "SELECT id, delta FROM counter_shards WHERE counter_name = ? AND entity_id = ? FOR UPDATE";
+    private static final String RESET_SHARD_SQL = "UPDATE counter_shards SET delta = 0 WHERE id = ?";
+    private static final String DELETE_SHARD_SQL = "DELETE FROM counter_shards WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogRepository blogRepository;
+    private final CommentRepository commentRepository;
+    private final ShardedCounterConfig config;
+    private final LeaderLock leaderLock;
+    private final PlatformStatisticsService platformStatistics;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock activityLock = new ReentrantReadWriteLock();
+    private volatile Map<Key, Activity> activity = new ConcurrentHashMap<>();
+
+    // Hot counters on this node, mapped to the number of quiet windows in a row
+    private final Map<Key, Integer> hot = new ConcurrentHashMap<>();
+
+    public ShardedCounterService(JdbcTemplate jdbcTemplate, BlogRepository blogRepository,
+                                 CommentRepository commentRepository, ShardedCounterConfig config,
+                                 LeaderLock leaderLock, PlatformStatisticsService platformStatistics,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blogRepository = blogRepository;
+        this.commentRepository = commentRepository;
+        this.config = config;
+        this.leaderLock = leaderLock;
+        this.platformStatistics = platformStatistics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Writes
+
+    @Transactional
+    public void increment(EngagementCounter counter, Long entityId) {
+        write(counter, entityId, 1);
+    }
+
+    @Transactional
+    public void decrement(EngagementCounter counter, Long entityId) {
+        write(counter, entityId, -1);
+    }
+
+    /**
+     * Apply an aggregated delta as one write, e.g. the net likes of a batch
+     */
+    @Transactional
+    public void add(EngagementCounter counter, Long entityId, long delta) {
+        if (delta != 0) {
+            write(counter, entityId, delta);
+        }
+    }
+
+    /**
+     * Count a committed comment on its blog; the update bypasses entity events, so the platform
+     * total is recorded here too
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.blogId() == null || event.delta() == 0) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    write(EngagementCounter.BLOG_COMMENTS, event.blogId(), event.delta()));
+            platformStatistics.recordBlogComments(event.delta());
+        } catch (Exception e) {
+            log.warn("Failed to count comment {} on blog {}", event.commentId(), event.blogId(), e);
+        }
+    }
+
+    private void write(EngagementCounter counter, Long entityId, long delta) {
+        Key key = new Key(counter, entityId);
+        if (hot.containsKey(key)) {
+            int shard = ThreadLocalRandom.current().nextInt(Math.max(1, config.getShards()));
+            if (jdbcTemplate.update(UPDATE_SHARD_SQL, delta, counter.name(), entityId, shard) > 0) {
+                record(key, false);
+                return;
+            }
+        }
+        long started = System.nanoTime();
+        writeOwningRow(counter, entityId, delta);
+        if (config.isEnabled()) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            record(key, elapsedMs >= config.getContendedWriteMs());
+        }
+    }
+
+    private void writeOwningRow(EngagementCounter counter, Long entityId, long delta) {
+        if (delta != 1 && delta != -1) {
+            addToOwningRow(counter, entityId, delta);
+            return;
+        }
+        switch (counter) {
+            case BLOG_LIKES -> {
+                if (delta > 0) {
+                    blogRepository.incrementLikeCount(entityId);
+                } else {
+                    blogRepository.decrementLikeCount(entityId);
+                }
+            }
+            case BLOG_COMMENTS -> {
+                if (delta > 0) {
+                    blogRepository.incrementCommentCount(entityId);
+                } else {
+                    blogRepository.decrementCommentCount(entityId);
+                }
+            }
+            case COMMENT_LIKES -> {
+                if (delta > 0) {
+                    commentRepository.incrementLikeCount(entityId);
+                } else {
+                    commentRepository.decrementLikeCount(entityId);
+                }
+            }
+        }
+    }
+
+    private void record(Key key, boolean contended) {
+        activityLock.readLock().lock();
+        try {
+            Activity current = activity.computeIfAbsent(key, k -> new Activity());
+            current.writes.increment();
+            if (contended) {
+                current.contended.increment();
+            }
+        } finally {
+            activityLock.readLock().unlock();
+        }
+    }
+
+    // Reads
+
+    /**
+     * Exact count: the owning row plus every shard not folded into it yet
+     */
+    @Transactional(readOnly = true)
+    public long count(EngagementCounter counter, Long entityId) {
+        Long total = jdbcTemplate.query("SELECT " + counter.getColumn() +
+                        " + COALESCE((SELECT SUM(s.delta) FROM counter_shards s WHERE s.counter_name = ? AND s.entity_id = ?), 0)" +
+                        " FROM " + counter.getTable() + " WHERE id = ?",
+                rs -> rs.next() ? rs.getLong(1) : 0L,
+                counter.name(), entityId, entityId);
+        return total != null ? Math.max(0L, total) : 0L;
+    }
+
+    // Promotion, demotion and folding
+
+    /**
+     * Close the current activity window: fold shards into their owning rows if this node
+     * holds the lock, then promote counters that got hot and demote those that stayed quiet
+     */
+    @Scheduled(fixedDelayString = "${app.sharded-counters.window-ms:10000}")
+    public void evaluate() {
+        fold();
+
+        Map<Key, Activity> window;
+        activityLock.writeLock().lock();
+        try {
+            window = activity;
+            activity = new ConcurrentHashMap<>();
+        } finally {
+            activityLock.writeLock().unlock();
+        }
+
+        if (config.isEnabled()) {
+            window.forEach((key, current) -> {
+                long writes = current.writes.sum();
+                long contended = current.contended.sum();
+                if (!hot.containsKey(key)
+                        && (writes >= config.getPromoteWrites() || contended >= config.getPromoteContendedWrites())) {
+                    promote(key, writes, contended);
+                }
+            });
+        }
+
+        for (Key key : new ArrayList<>(hot.keySet())) {
+            Activity current = window.get(key);
+            long writes = current != null ? current.writes.sum() : 0L;
+            if (config.isEnabled() && writes >= config.getDemoteWrites()) {
+                hot.put(key, 0);
+                ensureShards(key);
+            } else if (!config.isEnabled() || hot.merge(key, 1, Integer::sum) >= config.getDemoteAfterWindows()) {
+                hot.remove(key);
+                log.info("Counter {} of {} {} is back on its row after {} quiet windows",
+                        key.counter().getColumn(), key.counter().getTable(), key.entityId(), config.getDemoteAfterWindows());
+            } else {
+                ensureShards(key);
+            }
+        }
+    }
+
+    private void promote(Key key, long writes, long contended) {
+        if (!ensureShards(key)) {
+            return;
+        }
+        hot.put(key, 0);
+        log.info("Sharding counter {} of {} {} over {} rows after {} writes ({} contended) in one window",
+                key.counter().getColumn(), key.counter().getTable(), key.entityId(), config.getShards(), writes, contended);
+    }
+
+    /**
+     * Create whichever shard rows of a counter are missing
+     *
+     * @return false if the rows could not be created; the next window tries again
+     */
+    private boolean ensureShards(Key key) {
+        try {
+            Set<Integer> existing = new HashSet<>(jdbcTemplate.queryForList(EXISTING_SHARDS_SQL, Integer.class,
+                    key.counter().name(), key.entityId()));
+            List<Object[]> missing = new ArrayList<>();
+            for (int shard = 0; shard < config.getShards(); shard++) {
+                if (!existing.contains(shard)) {
+                    missing.add(new Object[]{key.counter().name(), key.entityId(), shard});
+                }
+            }
+            if (!missing.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SHARD_SQL, missing));
+            }
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another node created some of them concurrently
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to create shards for {} {}", key.counter(), key.entityId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Add every shard's delta to its owning row; a counter whose shards were all idle since
+     * the last fold is no longer hot on any node and its shards are deleted
+     */
+    private void fold() {
+        if (!leaderLock.tryAcquire(FOLD_LOCK, Duration.ofMillis(Math.max(60_000, config.getWindowMs() * 3)))) {
+            return;
+        }
+        try {
+            List<Key> sharded = jdbcTemplate.query(SHARDED_SQL, (rs, rowNum) -> {
+                try {
+                    return new Key(EngagementCounter.valueOf(rs.getString(1)), rs.getLong(2));
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            });
+            for (Key key : sharded) {
+                if (key == null) {
+                    continue;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> fold(key));
+                } catch (Exception e) {
+                    log.warn("Failed to fold shards of {} {}; retrying next window", key.counter(), key.entityId(), e);
+                }
+            }
+        } finally {
+            leaderLock.release(FOLD_LOCK);
+        }
+    }
+
+    private void fold(Key key) {
+        List<long[]> shards = jdbcTemplate.query(LOCK_SHARDS_SQL,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)},
+                key.counter().name(), key.entityId());
+        long total = 0;
+        List<Object[]> written = new ArrayList<>();
+        for (long[] shard : shards) {
+            total += shard[1];
+            if (shard[1] != 0) {
+                written.add(new Object[]{shard[0]});
+            }
+        }
+        if (written.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SHARD_SQL, shards.stream().map(shard -> new Object[]{shard[0]}).toList());
+            return;
+        }
+        if (total != 0) {
+            addToOwningRow(key.counter(), key.entityId(), total);
+        }
+        jdbcTemplate.batchUpdate(RESET_SHARD_SQL, written);
+    }
+
+    private void addToOwningRow(EngagementCounter counter, Long entityId, long delta) {
+        String column = counter.getColumn();
+        jdbcTemplate.update("UPDATE " + counter.getTable() + " SET " + column + " = GREATEST(0, " +
+                column + " + ?) WHERE id = ?", delta, entityId);
+    }
+
+    // Internal types
+
+    private record Key(EngagementCounter counter, long entityId) {}
+
+    private static final class Activity {
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+    }
+}
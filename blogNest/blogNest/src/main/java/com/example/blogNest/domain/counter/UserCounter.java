@@ -0,0 +1,24 @@
+package com.example.blogNest.domain.counter;
+
+/**
+ * Denormalized per-user counters kept in the users table
+ */
+public enum UserCounter {
+
+    FOLLOWERS("followers_count"),
+    FOLLOWING("following_count"),
+    BLOGS("blogs_count");
+
+    private final String column;
+
+    UserCounter(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Get the users column holding this counter
+     */
+    public String getColumn() {
+        return column;
+    }
+}
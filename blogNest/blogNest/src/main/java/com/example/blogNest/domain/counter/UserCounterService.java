@@ -0,0 +1,264 @@
+package com.example.blogNest.domain.counter;
+
+import com.example.blogNest.domain.cache.EntityCacheEvictor;
+import com.example.blogNest.domain.config.CounterConfig;
+import com.example.blogNest.domain.model.entity.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Follower, following and blog counts on users, written without loading User entities
+ *
+ * Features:
+ * - Deltas are collected per transaction and only buffered once it commits
+ * - Buffered deltas are coalesced per user: a celebrity gaining 1000 followers between two
+ *   flushes costs one UPDATE, and a follow undone before the flush costs none
+ * - Each flush is a batched UPDATE ... SET c = c + ?, in user id order so concurrent
+ *   flushes on different nodes lock rows in the same order
+ * - Deltas are never clamped: an unfollow flushed before the follow it undoes (on another
+ *   node) leaves the sum briefly negative and the follow brings it back. Clamping would drop
+ *   that -1 for good, so readers clamp instead (see the User getters)
+ * - The counter columns are not updatable through the entity and are excluded from its
+ *   version, so social actions never conflict with profile edits
+ * - {@link #recount} recomputes one user's, or one batch of users', counters exactly from follows and blogs
+ * - Users whose counters were written are evicted from the second-level cache
+ *
+ * Buffered deltas are lost if the node dies before a flush; recount corrects such users.
+ * With app.counters.coalesce=false each delta is applied in the caller's transaction instead.
+ */
+@Service
+public class UserCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserCounterService.class);
+
+    private static final String UPDATE_SQL;
+
+    static {
+        StringBuilder update = new StringBuilder("UPDATE users SET ");
+        for (UserCounter counter : UserCounter.values()) {
+            if (counter.ordinal() > 0) {
+                update.append(", ");
+            }
+            update.append(counter.getColumn()).append(" = ").append(counter.getColumn()).append(" + ?");
+        }
+        UPDATE_SQL = update.append(" WHERE id = ?").toString();
+    }
+
+    private static final String RECOUNT_SQL =
+            "UPDATE users SET " +
+            "followers_count = (SELECT COUNT(*) FROM follows f WHERE f.following_id = users.id), " +
+            "following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = users.id), " +
+            "blogs_count = (SELECT COUNT(*) FROM blogs b WHERE b.author_id = users.id) " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CounterConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityCacheEvictor cacheEvictor;
+
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, LongAdder[]> buffer = new ConcurrentHashMap<>();
+
+    public UserCounterService(JdbcTemplate jdbcTemplate, CounterConfig config,
+                              PlatformTransactionManager transactionManager, EntityCacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.cacheEvictor = cacheEvictor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Writes
+
+    /**
+     * Add a delta to a user's counter once the current transaction commits
+     */
+    public void add(Long userId, UserCounter counter, long delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        if (!config.isCoalesce()) {
+            jdbcTemplate.update("UPDATE users SET " + counter.getColumn() + " = " +
+                    counter.getColumn() + " + ? WHERE id = ?", delta, userId);
+            cacheEvictor.evict(User.class, userId);
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCommitted(Map.of(userId, single(counter, delta)));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, long[]> pending = (Map<Long, long[]>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    @SuppressWarnings("unchecked")
+                    Map<Long, long[]> collected = (Map<Long, long[]>)
+                            TransactionSynchronizationManager.unbindResourceIfPossible(UserCounterService.this);
+                    if (status == STATUS_COMMITTED && collected != null) {
+                        applyCommitted(collected);
+                    }
+                }
+            });
+        }
+        pending.computeIfAbsent(userId, k -> new long[UserCounter.values().length])[counter.ordinal()] += delta;
+    }
+
+    /**
+     * Buffer deltas that are already committed
+     */
+    public void applyCommitted(Map<Long, long[]> deltas) {
+        bufferLock.readLock().lock();
+        try {
+            deltas.forEach((userId, counters) -> {
+                LongAdder[] adders = buffer.computeIfAbsent(userId, k -> newAdders());
+                for (int i = 0; i < counters.length; i++) {
+                    if (counters[i] != 0) {
+                        adders[i].add(counters[i]);
+                    }
+                }
+            });
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Delta buffered for a user but not written yet; add it to a loaded count for read-your-writes
+     */
+    public long pending(Long userId, UserCounter counter) {
+        LongAdder[] adders = buffer.get(userId);
+        return adders != null ? adders[counter.ordinal()].sum() : 0L;
+    }
+
+    /**
+     * Write buffered deltas to the users table
+     */
+    @Scheduled(fixedDelayString = "${app.counters.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Long, LongAdder[]> drained;
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            drained = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        // Sorted by id for a consistent lock order; rows whose deltas cancelled out are skipped
+        TreeMap<Long, long[]> rows = new TreeMap<>();
+        drained.forEach((userId, adders) -> {
+            long[] counters = new long[adders.length];
+            boolean changed = false;
+            for (int i = 0; i < adders.length; i++) {
+                counters[i] = adders[i].sum();
+                changed |= counters[i] != 0;
+            }
+            if (changed) {
+                rows.put(userId, counters);
+            }
+        });
+
+        List<Map.Entry<Long, long[]>> entries = new ArrayList<>(rows.entrySet());
+        int chunk = Math.max(1, config.getBatchSize());
+        for (int i = 0; i < entries.size(); i += chunk) {
+            List<Map.Entry<Long, long[]>> batch = entries.subList(i, Math.min(entries.size(), i + chunk));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, batch.stream().map(UserCounterService::updateArgs).toList());
+                    cacheEvictor.evict(User.class, batch.stream().map(Map.Entry::getKey).toList());
+                });
+            } catch (Exception e) {
+                log.warn("Failed to write counters for {} users; retrying on the next flush", batch.size(), e);
+                Map<Long, long[]> retry = new HashMap<>();
+                batch.forEach(entry -> retry.put(entry.getKey(), entry.getValue()));
+                applyCommitted(retry);
+            }
+        }
+    }
+
+    /**
+     * Recompute one user's counters exactly from the source tables, replacing buffered deltas
+     */
+    public void recount(Long userId) {
+        buffer.remove(userId);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(RECOUNT_SQL, userId);
+            cacheEvictor.evict(User.class, userId);
+        });
+    }
+
+    /**
+     * Recompute a batch of users' counters in the caller's transaction, replacing buffered deltas
+     */
+    public int recount(List<Long> userIds) {
+        userIds.forEach(buffer::remove);
+        int[][] updated = jdbcTemplate.batchUpdate(RECOUNT_SQL, userIds, userIds.size(),
+                (ps, userId) -> ps.setLong(1, userId));
+        cacheEvictor.evict(User.class, userIds);
+        int rows = 0;
+        for (int[] batch : updated) {
+            for (int n : batch) {
+                rows += Math.max(n, 0);
+            }
+        }
+        return rows;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // Internal helpers
+
+    private static long[] single(UserCounter counter, long delta) {
+        long[] counters = new long[UserCounter.values().length];
+        counters[counter.ordinal()] = delta;
+        return counters;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[UserCounter.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static Object[] updateArgs(Map.Entry<Long, long[]> entry) {
+        long[] counters = entry.getValue();
+        Object[] args = new Object[counters.length + 1];
+        for (int i = 0; i < counters.length; i++) {
+            args[i] = counters[i];
+        }
+        args[counters.length] = entry.getKey();
+        return args;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.blogNest.domain.event;
+
+/**
+ * Published when a blog row or one of its tag links is inserted, updated or deleted
+ * Consumers reload the blog to see its current state
+ */
+public record BlogChangedEvent(Long blogId) {
+}
@@ -0,0 +1,10 @@
+package com.example.blogNest.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a blog transitions to PUBLISHED
+ * authorId and categoryId may be null when the publisher only knows the blog id
+ */
+public record BlogPublishedEvent(Long blogId, Long authorId, Long categoryId, LocalDateTime publishedAt) {
+}
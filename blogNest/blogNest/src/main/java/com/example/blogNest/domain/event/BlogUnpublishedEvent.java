@@ -0,0 +1,11 @@
+package com.example.blogNest.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a PUBLISHED blog is unpublished, archived or deleted
+ * publishedAt is when the blog had been published, so consumers can reverse what they
+ * counted for its BlogPublishedEvent
+ */
+public record BlogUnpublishedEvent(Long blogId, Long authorId, Long categoryId, LocalDateTime publishedAt) {
+}
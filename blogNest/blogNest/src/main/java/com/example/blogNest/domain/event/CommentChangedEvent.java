@@ -0,0 +1,10 @@
+package com.example.blogNest.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a comment row is inserted or restored (delta +1), or deleted or soft-deleted (delta -1)
+ */
+public record CommentChangedEvent(Long commentId, Long authorId, Long blogId, Long parentId,
+                                  LocalDateTime createdAt, int delta) {
+}
@@ -0,0 +1,128 @@
+package com.example.blogNest.domain.event;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.BlogTag;
+import com.example.blogNest.domain.model.entity.Comment;
+import com.example.blogNest.domain.model.entity.Like;
+import com.example.blogNest.domain.model.enums.BlogStatus;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity listener that turns row-level changes into Spring application events
+ *
+ * Events carry ids only, so no lazy association is initialised inside the flush.
+ * Consumers should use {@code @TransactionalEventListener} so they only see
+ * committed changes. Bulk JPQL updates bypass this listener; code issuing them
+ * publishes the matching event itself.
+ */
+@Component
+public class DomainEventListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DomainEventListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Like like) {
+            eventPublisher.publishEvent(likeEvent(like, 1));
+        } else if (entity instanceof Comment comment) {
+            eventPublisher.publishEvent(commentEvent(comment, 1));
+        } else if (entity instanceof Blog blog) {
+            publishIfPublished(blog);
+            eventPublisher.publishEvent(new BlogChangedEvent(blog.getId()));
+        } else if (entity instanceof BlogTag blogTag) {
+            publishBlogChanged(blogTag);
+        }
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        if (entity instanceof Comment comment) {
+            // A soft delete counts as a removal and a restore as an insert, as in the rollup backfill
+            int delta = comment.takeDeletionChange();
+            if (delta != 0) {
+                eventPublisher.publishEvent(commentEvent(comment, delta));
+            }
+        } else if (entity instanceof Blog blog) {
+            publishIfUnpublished(blog, blog.takeUnpublishedFrom());
+            publishIfPublished(blog);
+            eventPublisher.publishEvent(new BlogChangedEvent(blog.getId()));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Like like) {
+            eventPublisher.publishEvent(likeEvent(like, -1));
+        } else if (entity instanceof Comment comment) {
+            // A soft-deleted comment was already counted out when it was deleted
+            if (!Boolean.TRUE.equals(comment.getIsDeleted())) {
+                eventPublisher.publishEvent(commentEvent(comment, -1));
+            }
+        } else if (entity instanceof Blog blog) {
+            publishIfUnpublished(blog, blog.takeUnpublishedFrom());
+            // A publication still waiting for its event was never counted
+            if (blog.getStatus() == BlogStatus.PUBLISHED && !blog.takePublishTransition()) {
+                publishIfUnpublished(blog, blog.getPublishedAt());
+            }
+            eventPublisher.publishEvent(new BlogChangedEvent(blog.getId()));
+        } else if (entity instanceof BlogTag blogTag) {
+            publishBlogChanged(blogTag);
+        }
+    }
+
+    private void publishBlogChanged(BlogTag blogTag) {
+        if (blogTag.getBlog() != null) {
+            eventPublisher.publishEvent(new BlogChangedEvent(blogTag.getBlog().getId()));
+        }
+    }
+
+    private void publishIfPublished(Blog blog) {
+        if (blog.takePublishTransition()) {
+            eventPublisher.publishEvent(new BlogPublishedEvent(
+                    blog.getId(),
+                    blog.getAuthor() != null ? blog.getAuthor().getId() : null,
+                    blog.getCategory() != null ? blog.getCategory().getId() : null,
+                    blog.getPublishedAt()));
+        }
+    }
+
+    private void publishIfUnpublished(Blog blog, LocalDateTime publishedAt) {
+        if (publishedAt != null) {
+            eventPublisher.publishEvent(new BlogUnpublishedEvent(
+                    blog.getId(),
+                    blog.getAuthor() != null ? blog.getAuthor().getId() : null,
+                    blog.getCategory() != null ? blog.getCategory().getId() : null,
+                    publishedAt));
+        }
+    }
+
+    private static LikeChangedEvent likeEvent(Like like, int delta) {
+        return new LikeChangedEvent(
+                like.getId(),
+                like.getUser() != null ? like.getUser().getId() : null,
+                like.getBlog() != null ? like.getBlog().getId() : null,
+                like.getComment() != null ? like.getComment().getId() : null,
+                like.getCreatedAt(),
+                delta);
+    }
+
+    private static CommentChangedEvent commentEvent(Comment comment, int delta) {
+        return new CommentChangedEvent(
+                comment.getId(),
+                comment.getAuthor() != null ? comment.getAuthor().getId() : null,
+                comment.getBlog() != null ? comment.getBlog().getId() : null,
+                comment.getParent() != null ? comment.getParent().getId() : null,
+                comment.getCreatedAt(),
+                delta);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.blogNest.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a like row is inserted (delta +1) or deleted (delta -1)
+ * Exactly one of blogId and commentId is set
+ * likeId is null for likes inserted in a batch by LikeService
+ */
+public record LikeChangedEvent(Long likeId, Long userId, Long blogId, Long commentId,
+                               LocalDateTime createdAt, int delta) {
+
+    public boolean isBlogLike() {
+        return blogId != null;
+    }
+}
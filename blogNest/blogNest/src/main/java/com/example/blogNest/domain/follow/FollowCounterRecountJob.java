@@ -0,0 +1,48 @@
+package com.example.blogNest.domain.follow;
+
+import com.example.blogNest.domain.counter.UserCounterService;
+import com.example.blogNest.domain.maintenance.MaintenanceJob;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Recomputes every user's counters from follows and blogs, one batch of users at a time
+ */
+@Component
+public class FollowCounterRecountJob implements MaintenanceJob {
+
+    static final String NAME = "follow-counter-recount";
+
+    private static final String NEXT_IDS_SQL = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCounterService userCounters;
+
+    public FollowCounterRecountJob(JdbcTemplate jdbcTemplate, UserCounterService userCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCounters = userCounters;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now;
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, afterId, batchSize);
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        return userCounters.recount(ids);
+    }
+}
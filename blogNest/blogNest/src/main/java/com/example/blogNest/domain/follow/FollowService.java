@@ -0,0 +1,120 @@
+package com.example.blogNest.domain.follow;
+
+import com.example.blogNest.domain.Repository.FollowRepository;
+import com.example.blogNest.domain.counter.UserCounter;
+import com.example.blogNest.domain.counter.UserCounterService;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Single write path for follow relationships
+ *
+ * Features:
+ * - One row per edge in the follows table, unique on (follower_id, following_id)
+ * - Follow and unfollow are one conditional statement each, idempotent under retries and races
+ * - followers_count / following_count deltas go to {@link UserCounterService}, only when an
+ *   edge was actually added or removed, and are applied once the transaction commits
+ * - Nothing loads a user's follower or following collection or the User rows themselves
+ * - While {@link FollowStorageMigration} still copies user_followers, unfollow removes the
+ *   legacy edge as well, so an old node's write is not copied back
+ */
+@Service
+public class FollowService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO follows (follower_id, following_id, is_notification_sent, created_at, updated_at, version) " +
+            "SELECT ?, ?, FALSE, ?, ?, 0 FROM users WHERE id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM follows WHERE follower_id = ? AND following_id = ?)";
+
+    private static final String DELETE_SQL = "DELETE FROM follows WHERE follower_id = ? AND following_id = ?";
+
+    private final FollowRepository followRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCounterService userCounters;
+    private final FollowStorageMigration storageMigration;
+
+    public FollowService(FollowRepository followRepository, JdbcTemplate jdbcTemplate,
+                         UserCounterService userCounters, FollowStorageMigration storageMigration) {
+        this.followRepository = followRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCounters = userCounters;
+        this.storageMigration = storageMigration;
+    }
+
+    /**
+     * Follow a user
+     *
+     * @return true if the edge was created, false if it already existed or the user is gone
+     */
+    @Transactional
+    public boolean follow(Long followerId, Long followingId) {
+        validate(followerId, followingId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(INSERT_SQL, followerId, followingId, now, now,
+                    followingId, followerId, followingId);
+        } catch (DuplicateKeyException e) {
+            // A concurrent request created the same edge
+            return false;
+        }
+        if (inserted == 0) {
+            return false;
+        }
+        adjustCounters(followerId, followingId, 1);
+        return true;
+    }
+
+    /**
+     * Unfollow a user
+     *
+     * @return true if an edge was removed
+     */
+    @Transactional
+    public boolean unfollow(Long followerId, Long followingId) {
+        validate(followerId, followingId);
+        storageMigration.removeLegacyEdge(followerId, followingId);
+        if (jdbcTemplate.update(DELETE_SQL, followerId, followingId) == 0) {
+            return false;
+        }
+        adjustCounters(followerId, followingId, -1);
+        return true;
+    }
+
+    /**
+     * Check if one user follows another; one lookup on the unique index
+     */
+    @Transactional(readOnly = true)
+    public boolean isFollowing(Long followerId, Long followingId) {
+        return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+    }
+
+    /**
+     * Check if two users follow each other
+     */
+    @Transactional(readOnly = true)
+    public boolean isMutualFollow(Long userId, Long otherUserId) {
+        return isFollowing(userId, otherUserId) && isFollowing(otherUserId, userId);
+    }
+
+    // Internal helpers
+
+    private void adjustCounters(Long followerId, Long followingId, int delta) {
+        userCounters.add(followingId, UserCounter.FOLLOWERS, delta);
+        userCounters.add(followerId, UserCounter.FOLLOWING, delta);
+    }
+
+    private static void validate(Long followerId, Long followingId) {
+        if (followerId == null || followingId == null) {
+            throw new IllegalArgumentException("Both follower and following users must be provided");
+        }
+        if (followerId.equals(followingId)) {
+            throw new IllegalArgumentException("User cannot follow themselves");
+        }
+    }
+}
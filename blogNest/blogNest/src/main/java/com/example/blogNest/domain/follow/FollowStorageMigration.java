@@ -0,0 +1,137 @@
+package com.example.blogNest.domain.follow;
+
+import com.example.blogNest.domain.Repository.MaintenanceCheckpointRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import com.example.blogNest.domain.maintenance.ChunkedMaintenanceRunner;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+/**
+ * Reconciles the legacy user_followers join table into follows
+ *
+ * Follows used to be written twice, as Follow rows and through the User.followers
+ * many-to-many. Nodes of that version keep writing user_followers during a rolling deploy,
+ * so the copy ({@link LegacyFollowCopyJob}) is repeated on an interval for as long as
+ * app.maintenance.follow-legacy-sync is on. Counters are recomputed once
+ * ({@link FollowCounterRecountJob}), after the first full copy; later copies keep them right
+ * by themselves. Both run through {@link ChunkedMaintenanceRunner} in short batches,
+ * on the node holding the leader lock, and resume from their checkpoints.
+ *
+ * While the sync is on, unfollows also remove the legacy edge, or the next copy would
+ * restore it. Once every node runs this version, turn the sync off; user_followers is no
+ * longer read and can then be dropped.
+ */
+@Component
+public class FollowStorageMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(FollowStorageMigration.class);
+
+    private static final String JOB_NAME = "follow-storage-migration";
+    private static final String LEGACY_TABLE = "user_followers";
+
+    private static final String LEGACY_DELETE_SQL = "DELETE FROM user_followers WHERE follower_id = ? AND user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MaintenanceCheckpointRepository checkpointRepository;
+    private final LeaderLock leaderLock;
+    private final ChunkedMaintenanceRunner runner;
+    private final LegacyFollowCopyJob copyJob;
+    private final FollowCounterRecountJob recountJob;
+    private final MaintenanceConfig config;
+
+    private volatile boolean legacyTablePresent;
+
+    public FollowStorageMigration(JdbcTemplate jdbcTemplate,
+                                  MaintenanceCheckpointRepository checkpointRepository,
+                                  LeaderLock leaderLock,
+                                  ChunkedMaintenanceRunner runner,
+                                  LegacyFollowCopyJob copyJob,
+                                  FollowCounterRecountJob recountJob,
+                                  MaintenanceConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.leaderLock = leaderLock;
+        this.runner = runner;
+        this.copyJob = copyJob;
+        this.recountJob = recountJob;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void detectLegacyTable() {
+        legacyTablePresent = legacyTableExists();
+    }
+
+    /**
+     * True while legacy edges are copied, and unfollows must remove them too
+     */
+    public boolean isSyncing() {
+        return legacyTablePresent && config.isFollowLegacySync();
+    }
+
+    /**
+     * Remove a legacy edge in the caller's transaction, so the next copy cannot restore it
+     */
+    public void removeLegacyEdge(Long followerId, Long followingId) {
+        if (isSyncing()) {
+            jdbcTemplate.update(LEGACY_DELETE_SQL, followerId, followingId);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.maintenance.follow-legacy-sync-initial-delay-ms:60000}",
+            fixedDelayString = "${app.maintenance.follow-legacy-sync-interval-ms:600000}")
+    public void reconcile() {
+        legacyTablePresent = legacyTableExists();
+        boolean copy = isSyncing();
+        if (!config.isEnabled() || (!copy && isComplete(recountJob.getName()))) {
+            return;
+        }
+        Duration lease = Duration.ofMinutes(config.getMaxRunMinutes() * 2 + 5);
+        if (!leaderLock.tryAcquire(JOB_NAME, lease)) {
+            return;
+        }
+        try {
+            boolean copied = !copy || runner.run(copyJob).completed();
+            if (copied && !isComplete(recountJob.getName())) {
+                runner.run(recountJob);
+            }
+        } catch (Exception e) {
+            log.error("Follow storage reconciliation failed; it resumes from its checkpoint on the next run", e);
+        } finally {
+            leaderLock.release(JOB_NAME);
+        }
+    }
+
+    private boolean isComplete(String jobName) {
+        return checkpointRepository.findById(jobName)
+                .map(checkpoint -> checkpoint.getCompletedAt() != null)
+                .orElse(false);
+    }
+
+    private boolean legacyTableExists() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // Unquoted names are stored upper case by H2 and lower case by MySQL and PostgreSQL
+            for (String name : new String[]{LEGACY_TABLE, LEGACY_TABLE.toUpperCase()}) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
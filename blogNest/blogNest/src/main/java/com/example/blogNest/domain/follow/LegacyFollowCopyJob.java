@@ -0,0 +1,89 @@
+package com.example.blogNest.domain.follow;
+
+import com.example.blogNest.domain.counter.UserCounter;
+import com.example.blogNest.domain.counter.UserCounterService;
+import com.example.blogNest.domain.maintenance.MaintenanceJob;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Copies user_followers edges missing from follows, one batch of followed users at a time
+ *
+ * Each copied edge adds to both users' counters like a follow, so the counts stay right
+ * however often the copy runs. A pass that finds nothing to copy affects no rows.
+ */
+@Component
+public class LegacyFollowCopyJob implements MaintenanceJob {
+
+    static final String NAME = "follow-legacy-copy";
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT DISTINCT user_id FROM user_followers WHERE user_id > ? ORDER BY user_id LIMIT ?";
+
+    private static final String MISSING_SQL =
+            "SELECT DISTINCT uf.follower_id, uf.user_id FROM user_followers uf " +
+            "WHERE uf.follower_id <> uf.user_id " +
+            "AND NOT EXISTS (SELECT 1 FROM follows f WHERE f.follower_id = uf.follower_id AND f.following_id = uf.user_id) " +
+            "AND uf.user_id IN (";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO follows (follower_id, following_id, is_notification_sent, created_at, updated_at, version) " +
+            "SELECT ?, ?, TRUE, ?, ?, 0 FROM users WHERE id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM follows WHERE follower_id = ? AND following_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCounterService userCounters;
+
+    public LegacyFollowCopyJob(JdbcTemplate jdbcTemplate, UserCounterService userCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCounters = userCounters;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now;
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, afterId, batchSize);
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        List<long[]> edges = jdbcTemplate.query(
+                MISSING_SQL + String.join(",", Collections.nCopies(ids.size(), "?")) + ")",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, ids.toArray());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int copied = 0;
+        for (long[] edge : edges) {
+            long followerId = edge[0];
+            long followingId = edge[1];
+            int inserted;
+            try {
+                inserted = jdbcTemplate.update(INSERT_SQL, followerId, followingId, now, now,
+                        followingId, followerId, followingId);
+            } catch (DuplicateKeyException e) {
+                // Followed through the new path since the lookup
+                continue;
+            }
+            if (inserted > 0) {
+                userCounters.add(followingId, UserCounter.FOLLOWERS, 1);
+                userCounters.add(followerId, UserCounter.FOLLOWING, 1);
+                copied++;
+            }
+        }
+        return copied;
+    }
+}
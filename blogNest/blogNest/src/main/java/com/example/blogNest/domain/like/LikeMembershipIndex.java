@@ -0,0 +1,463 @@
+package com.example.blogNest.domain.like;
+
+import com.example.blogNest.domain.Repository.LikeRepository;
+import com.example.blogNest.domain.config.LikeIndexConfig;
+import com.example.blogNest.domain.counter.EngagementCounter;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory answers to "has this user liked this blog or comment"
+ *
+ * Features:
+ * - One {@link LikerBitmap} of liker ids per blog or comment; a check is a hash lookup
+ *   and a binary search, with no query and no lock in the common case
+ * - A check on a blog or comment that is not indexed yet is answered by a query and
+ *   queues a background load of its likers, so only targets that are asked about get memory
+ * - Committed like events from this node update loaded bitmaps in place; a bitmap is
+ *   reloaded in the background once it is half max-age-ms old to pick up other nodes, and
+ *   past max-age-ms it no longer answers, so checks fall back to the query until it is
+ * - Memory stays within max-bytes by evicting the least recently used bitmaps
+ * - Loaded bitmaps are snapshotted to disk periodically and on shutdown; after a restart
+ *   they are reloaded in the background, most recently used first, and answer once reloaded
+ *
+ * Events arriving while a target loads are replayed onto the loaded bitmap in order, so a
+ * like committed during the load is never lost. Likes removed by bulk SQL without events
+ * are picked up by the max-age reload.
+ */
+@Service
+public class LikeMembershipIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeMembershipIndex.class);
+
+    private static final List<EngagementCounter> TARGETS =
+            List.of(EngagementCounter.BLOG_LIKES, EngagementCounter.COMMENT_LIKES);
+
+    private static final String SNAPSHOT_FILE = "likers.bin";
+    private static final int SNAPSHOT_MAGIC = 0x4C494B31;
+    private static final int MAX_QUEUED_LOADS = 1000;
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeRepository likeRepository;
+    private final LikeIndexConfig config;
+    private final Path directory;
+
+    private final Map<Target, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // Targets being loaded, with the events received meanwhile
+    private final Map<Target, Loading> loading = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    public LikeMembershipIndex(JdbcTemplate jdbcTemplate, LikeRepository likeRepository, LikeIndexConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.likeRepository = likeRepository;
+        this.config = config;
+        this.directory = Paths.get(config.getDirectory()).toAbsolutePath();
+    }
+
+    /**
+     * Restore the last snapshot and start background loading once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "like-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Target> restored = readSnapshot();
+        restored.forEach(target -> scheduleLoad(target, true));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            writeSnapshot();
+        }
+    }
+
+    // Lookups
+
+    public boolean isBlogLiked(Long userId, Long blogId) {
+        return isLiked(EngagementCounter.BLOG_LIKES, userId, blogId);
+    }
+
+    public boolean isCommentLiked(Long userId, Long commentId) {
+        return isLiked(EngagementCounter.COMMENT_LIKES, userId, commentId);
+    }
+
+    /**
+     * Which of a page of blogs the user has liked; one query at most, for those not indexed
+     */
+    public Set<Long> likedBlogIds(Long userId, Collection<Long> blogIds) {
+        return likedIds(EngagementCounter.BLOG_LIKES, userId, blogIds);
+    }
+
+    public Set<Long> likedCommentIds(Long userId, Collection<Long> commentIds) {
+        return likedIds(EngagementCounter.COMMENT_LIKES, userId, commentIds);
+    }
+
+    private boolean isLiked(EngagementCounter counter, Long userId, Long targetId) {
+        if (userId == null || targetId == null) {
+            return false;
+        }
+        Boolean indexed = lookup(new Target(counter, targetId), userId);
+        if (indexed != null) {
+            return indexed;
+        }
+        return counter == EngagementCounter.BLOG_LIKES
+                ? likeRepository.existsByUserIdAndBlogId(userId, targetId)
+                : likeRepository.existsByUserIdAndCommentId(userId, targetId);
+    }
+
+    private Set<Long> likedIds(EngagementCounter counter, Long userId, Collection<Long> targetIds) {
+        Set<Long> liked = new HashSet<>();
+        if (userId == null) {
+            return liked;
+        }
+        List<Long> unknown = new ArrayList<>();
+        for (Long targetId : targetIds) {
+            if (targetId == null) {
+                continue;
+            }
+            Boolean indexed = lookup(new Target(counter, targetId), userId);
+            if (indexed == null) {
+                unknown.add(targetId);
+            } else if (indexed) {
+                liked.add(targetId);
+            }
+        }
+        for (int i = 0; i < unknown.size(); i += LOOKUP_CHUNK) {
+            List<Long> chunk = unknown.subList(i, Math.min(unknown.size(), i + LOOKUP_CHUNK));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(userId);
+            args.addAll(chunk);
+            liked.addAll(jdbcTemplate.queryForList("SELECT " + column(counter) + " FROM likes WHERE user_id = ? AND "
+                            + column(counter) + " IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")",
+                    Long.class, args.toArray()));
+        }
+        return liked;
+    }
+
+    /**
+     * Answer from the bitmap, or null when the target is not indexed or its bitmap is too old
+     */
+    private Boolean lookup(Target target, long userId) {
+        if (!config.isEnabled() || executor == null || !LikerBitmap.fits(userId)) {
+            return null;
+        }
+        Entry entry = entries.get(target);
+        if (entry == null) {
+            scheduleLoad(target, false);
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (entry.lastUsedMs != now) {
+            entry.lastUsedMs = now;
+        }
+        long age = now - entry.loadedAtMs;
+        if (age > config.getMaxAgeMs() / 2) {
+            scheduleLoad(target, false);
+        }
+        if (age > config.getMaxAgeMs()) {
+            return null;
+        }
+        return entry.bitmap.contains(userId);
+    }
+
+    // Keeping bitmaps current
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        Target target = event.isBlogLike()
+                ? new Target(EngagementCounter.BLOG_LIKES, event.blogId())
+                : new Target(EngagementCounter.COMMENT_LIKES, event.commentId());
+        if (target.id() == null) {
+            return;
+        }
+
+        Loading pending = loading.get(target);
+        if (pending != null) {
+            synchronized (pending) {
+                if (!pending.done) {
+                    pending.changes.add(event);
+                    return;
+                }
+            }
+        }
+        Entry entry = entries.get(target);
+        if (entry != null) {
+            long before = entry.sizeBytes;
+            apply(entry.bitmap, event);
+            entry.sizeBytes = entry.bitmap.sizeInBytes();
+            if (bytes.addAndGet(entry.sizeBytes - before) > config.getMaxBytes()) {
+                evict();
+            }
+        }
+    }
+
+    private static void apply(LikerBitmap bitmap, LikeChangedEvent change) {
+        if (change.delta() > 0) {
+            bitmap.add(change.userId());
+        } else {
+            bitmap.remove(change.userId());
+        }
+    }
+
+    private void scheduleLoad(Target target, boolean force) {
+        if (executor == null || (!force && loading.size() >= MAX_QUEUED_LOADS)) {
+            return;
+        }
+        Loading pending = new Loading();
+        if (loading.putIfAbsent(target, pending) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> load(target, pending));
+        } catch (RejectedExecutionException e) {
+            loading.remove(target, pending);
+        }
+    }
+
+    private void load(Target target, Loading pending) {
+        try {
+            long loadedAt = System.currentTimeMillis();
+            long[][] ids = {new long[64]};
+            int[] count = {0};
+            jdbcTemplate.query("SELECT user_id FROM likes WHERE " + column(target.counter()) + " = ?", rs -> {
+                if (count[0] == ids[0].length) {
+                    ids[0] = Arrays.copyOf(ids[0], count[0] * 2);
+                }
+                ids[0][count[0]++] = rs.getLong(1);
+            }, target.id());
+            LikerBitmap bitmap = LikerBitmap.of(ids[0], count[0]);
+
+            synchronized (pending) {
+                pending.changes.forEach(change -> apply(bitmap, change));
+                pending.done = true;
+                Entry previous = entries.get(target);
+                install(target, new Entry(bitmap, loadedAt, previous != null ? previous.lastUsedMs : loadedAt));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load likers of {} {}", target.counter(), target.id(), e);
+        } finally {
+            loading.remove(target, pending);
+        }
+    }
+
+    // Memory budget
+
+    private void install(Target target, Entry entry) {
+        if (entry.sizeBytes > config.getMaxBytes()) {
+            Entry removed = entries.remove(target);
+            if (removed != null) {
+                bytes.addAndGet(-removed.sizeBytes);
+            }
+            return;
+        }
+        Entry previous = entries.put(target, entry);
+        long total = bytes.addAndGet(entry.sizeBytes - (previous != null ? previous.sizeBytes : 0));
+        if (total > config.getMaxBytes()) {
+            evict();
+        }
+    }
+
+    /**
+     * Drop least recently used bitmaps until the index is 10% under budget
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Used> all = byLastUse();
+            long total = 0;
+            for (Used used : all) {
+                total += used.entry().sizeBytes;
+            }
+            if (total > config.getMaxBytes()) {
+                long target = config.getMaxBytes() / 10 * 9;
+                int evicted = 0;
+                for (Used used : all) {
+                    if (total <= target) {
+                        break;
+                    }
+                    if (entries.remove(used.target(), used.entry())) {
+                        total -= used.entry().sizeBytes;
+                        evicted++;
+                    }
+                }
+                log.debug("Evicted {} like bitmaps; {} remain in {} bytes", evicted, entries.size(), total);
+            }
+            // Recounted here so drift from concurrent updates never accumulates
+            bytes.set(total);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Snapshots
+
+    /**
+     * Write every loaded bitmap to disk, most recently used first
+     */
+    @Scheduled(fixedDelayString = "${app.like-index.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.like-index.snapshot-interval-ms:300000}")
+    public void writeSnapshot() {
+        if (!config.isEnabled() || executor == null) {
+            return;
+        }
+        List<Used> all = byLastUse();
+        Collections.reverse(all);
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "likers-", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(all.size());
+                for (Used used : all) {
+                    out.writeByte(used.target().counter().ordinal());
+                    out.writeLong(used.target().id());
+                    used.entry().bitmap.writeTo(out);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote {} like bitmaps to {}", all.size(), file);
+        } catch (IOException e) {
+            log.warn("Cannot write like index snapshot to {}", file, e);
+        }
+    }
+
+    /**
+     * Restore bitmaps from the last snapshot, within the memory budget
+     *
+     * @return the restored targets, most recently used first
+     */
+    private List<Target> readSnapshot() {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        List<Target> restored = new ArrayList<>();
+        if (!Files.isRegularFile(file)) {
+            return restored;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                log.warn("Ignoring {}: not a like index snapshot", file);
+                return restored;
+            }
+            int count = in.readInt();
+            long total = 0;
+            // Snapshot entries count as stale, so they do not answer until reloaded
+            long restoredAt = System.currentTimeMillis() - config.getMaxAgeMs() - 1;
+            for (int i = 0; i < count; i++) {
+                int ordinal = in.readUnsignedByte();
+                long id = in.readLong();
+                LikerBitmap bitmap = LikerBitmap.readFrom(in);
+                Entry entry = new Entry(bitmap, restoredAt, restoredAt - i);
+                if (ordinal >= EngagementCounter.values().length || total + entry.sizeBytes > config.getMaxBytes()) {
+                    continue;
+                }
+                Target target = new Target(EngagementCounter.values()[ordinal], id);
+                if (!TARGETS.contains(target.counter())) {
+                    continue;
+                }
+                entries.put(target, entry);
+                total += entry.sizeBytes;
+                restored.add(target);
+            }
+            bytes.set(total);
+            log.info("Restored {} like bitmaps ({} bytes) from {}", restored.size(), total, file);
+        } catch (IOException e) {
+            log.warn("Cannot read like index snapshot {}; starting empty", file, e);
+            entries.clear();
+            bytes.set(0);
+            restored.clear();
+        }
+        return restored;
+    }
+
+    // Internal helpers
+
+    private static String column(EngagementCounter counter) {
+        return counter == EngagementCounter.BLOG_LIKES ? "blog_id" : "comment_id";
+    }
+
+    /**
+     * Entries, least recently used first; use times are copied before sorting because
+     * readers keep updating them and a comparator over live values can break the sort
+     */
+    private List<Used> byLastUse() {
+        List<Used> all = new ArrayList<>(entries.size());
+        entries.forEach((target, entry) -> all.add(new Used(target, entry, entry.lastUsedMs)));
+        all.sort(Comparator.comparingLong(Used::lastUsedMs));
+        return all;
+    }
+
+    // Internal types
+
+    private record Target(EngagementCounter counter, Long id) {}
+
+    private record Used(Target target, Entry entry, long lastUsedMs) {}
+
+    private static final class Entry {
+        private final LikerBitmap bitmap;
+        private final long loadedAtMs;
+        private volatile long lastUsedMs;
+        private volatile long sizeBytes;
+
+        Entry(LikerBitmap bitmap, long loadedAtMs, long lastUsedMs) {
+            this.bitmap = bitmap;
+            this.loadedAtMs = loadedAtMs;
+            this.lastUsedMs = lastUsedMs;
+            this.sizeBytes = bitmap.sizeInBytes();
+        }
+    }
+
+    private static final class Loading {
+        private final List<LikeChangedEvent> changes = new ArrayList<>();
+        private boolean done;
+    }
+}
@@ -0,0 +1,490 @@
+package com.example.blogNest.domain.like;
+
+import com.example.blogNest.domain.config.LikeConfig;
+import com.example.blogNest.domain.counter.EngagementCounter;
+import com.example.blogNest.domain.counter.ShardedCounterService;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import com.example.blogNest.domain.model.enums.NotificationType;
+import com.example.blogNest.domain.statistics.AuthorStatsService;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Like and unlike writes, collected for a short window and applied together
+ *
+ * Features:
+ * - A toggle only records the user's desired state for a blog or comment; toggles by the
+ *   same user on the same target within one window (double clicks) collapse into the last
+ * - Each window is one transaction: batched conditional INSERTs that skip existing likes
+ *   and missing users or targets, batched DELETEs, one counter write per target through
+ *   {@link ShardedCounterService} and batched notifications for new likes
+ * - Toggles not written yet are an overlay on {@link #isBlogLiked}, the per-page checks and
+ *   the like counts, so callers see their own writes; written likes are checked in
+ *   {@link LikeMembershipIndex}
+ * - Rows are written with plain SQL, so the like events and statistics deltas the entity
+ *   listeners would produce are published from here; events are published inside the
+ *   transaction, so their listeners still only see committed likes
+ * - A batch that fails is split until the failing toggles are isolated; those are retried
+ *   a limited number of times and then dropped with an error log
+ *
+ * The count overlay assumes each toggle changes the state, which holds for toggles made
+ * from the state shown to the user. With app.likes.batched=false each toggle is written
+ * on its own right away.
+ */
+@Service
+public class LikeService {
+
+    private static final Logger log = LoggerFactory.getLogger(LikeService.class);
+
+    private static final List<EngagementCounter> TARGETS =
+            List.of(EngagementCounter.BLOG_LIKES, EngagementCounter.COMMENT_LIKES);
+
+    private static final String INSERT_BLOG_LIKE_SQL =
+            "INSERT INTO likes (user_id, blog_id, created_at, updated_at, version) " +
+            "SELECT u.id, b.id, ?, ?, 0 FROM users u, blogs b WHERE u.id = ? AND b.id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.user_id = u.id AND l.blog_id = b.id)";
+    private static final String INSERT_COMMENT_LIKE_SQL =
+            "INSERT INTO likes (user_id, comment_id, created_at, updated_at, version) " +
+            "SELECT u.id, c.id, ?, ?, 0 FROM users u, comments c WHERE u.id = ? AND c.id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM likes l WHERE l.user_id = u.id AND l.comment_id = c.id)";
+    private static final String DELETE_SQL = "DELETE FROM likes WHERE id = ?";
+
+    private static final String NOTIFY_BLOG_SQL =
+            "INSERT INTO notifications (uuid, type, title, message, action_url, is_read, is_email_sent, " +
+            "related_blog_id, recipient_id, actor_id, created_at, updated_at, version) " +
+            "SELECT ?, ?, ?, CONCAT(u.username, ?), CONCAT('/blogs/', b.id), FALSE, FALSE, " +
+            "b.id, b.author_id, u.id, ?, ?, 0 FROM blogs b, users u " +
+            "WHERE b.id = ? AND u.id = ? AND b.author_id <> u.id";
+    private static final String NOTIFY_COMMENT_SQL =
+            "INSERT INTO notifications (uuid, type, title, message, action_url, is_read, is_email_sent, " +
+            "related_comment_id, recipient_id, actor_id, created_at, updated_at, version) " +
+            "SELECT ?, ?, ?, CONCAT(u.username, ?), CONCAT('/blogs/', c.blog_id), FALSE, FALSE, " +
+            "c.id, c.author_id, u.id, ?, ?, 0 FROM comments c, users u " +
+            "WHERE c.id = ? AND u.id = ? AND c.author_id <> u.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeMembershipIndex membershipIndex;
+    private final ShardedCounterService shardedCounters;
+    private final PlatformStatisticsService platformStatistics;
+    private final AuthorStatsService authorStats;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock windowLock = new ReentrantReadWriteLock();
+    private volatile Window collecting = new Window();
+    // Window being written; still part of the overlay until its transaction ends
+    private volatile Window applying = new Window();
+
+    public LikeService(JdbcTemplate jdbcTemplate, LikeMembershipIndex membershipIndex,
+                       ShardedCounterService shardedCounters, PlatformStatisticsService platformStatistics,
+                       AuthorStatsService authorStats, ApplicationEventPublisher eventPublisher,
+                       LikeConfig config, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.membershipIndex = membershipIndex;
+        this.shardedCounters = shardedCounters;
+        this.platformStatistics = platformStatistics;
+        this.authorStats = authorStats;
+        this.eventPublisher = eventPublisher;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Toggles
+
+    public void likeBlog(Long userId, Long blogId) {
+        toggle(new Key(userId, EngagementCounter.BLOG_LIKES, blogId), true);
+    }
+
+    public void unlikeBlog(Long userId, Long blogId) {
+        toggle(new Key(userId, EngagementCounter.BLOG_LIKES, blogId), false);
+    }
+
+    public void likeComment(Long userId, Long commentId) {
+        toggle(new Key(userId, EngagementCounter.COMMENT_LIKES, commentId), true);
+    }
+
+    public void unlikeComment(Long userId, Long commentId) {
+        toggle(new Key(userId, EngagementCounter.COMMENT_LIKES, commentId), false);
+    }
+
+    private void toggle(Key key, boolean liked) {
+        if (key.userId() == null || key.targetId() == null) {
+            throw new IllegalArgumentException("Both user and liked target must be provided");
+        }
+        if (!config.isBatched()) {
+            write(List.of(Map.entry(key, liked)));
+            return;
+        }
+        windowLock.readLock().lock();
+        try {
+            Window window = collecting;
+            Boolean previous = window.toggles.put(key, liked);
+            window.adjust(key, signum(liked) - (previous != null ? signum(previous) : 0));
+        } finally {
+            windowLock.readLock().unlock();
+        }
+    }
+
+    // Reads
+
+    public boolean isBlogLiked(Long userId, Long blogId) {
+        return isLiked(new Key(userId, EngagementCounter.BLOG_LIKES, blogId));
+    }
+
+    public boolean isCommentLiked(Long userId, Long commentId) {
+        return isLiked(new Key(userId, EngagementCounter.COMMENT_LIKES, commentId));
+    }
+
+    /**
+     * Which of a page of blogs the user has liked, including toggles not written yet
+     */
+    public Set<Long> likedBlogIds(Long userId, Collection<Long> blogIds) {
+        return likedIds(EngagementCounter.BLOG_LIKES, userId, blogIds,
+                membershipIndex.likedBlogIds(userId, blogIds));
+    }
+
+    public Set<Long> likedCommentIds(Long userId, Collection<Long> commentIds) {
+        return likedIds(EngagementCounter.COMMENT_LIKES, userId, commentIds,
+                membershipIndex.likedCommentIds(userId, commentIds));
+    }
+
+    public long getBlogLikeCount(Long blogId) {
+        return likeCount(EngagementCounter.BLOG_LIKES, blogId);
+    }
+
+    public long getCommentLikeCount(Long commentId) {
+        return likeCount(EngagementCounter.COMMENT_LIKES, commentId);
+    }
+
+    private boolean isLiked(Key key) {
+        Boolean state = pendingState(key);
+        if (state != null) {
+            return state;
+        }
+        return key.counter() == EngagementCounter.BLOG_LIKES
+                ? membershipIndex.isBlogLiked(key.userId(), key.targetId())
+                : membershipIndex.isCommentLiked(key.userId(), key.targetId());
+    }
+
+    private Set<Long> likedIds(EngagementCounter counter, Long userId, Collection<Long> targetIds, Set<Long> stored) {
+        Set<Long> liked = new HashSet<>(stored);
+        for (Long targetId : targetIds) {
+            Boolean state = pendingState(new Key(userId, counter, targetId));
+            if (state != null) {
+                if (state) {
+                    liked.add(targetId);
+                } else {
+                    liked.remove(targetId);
+                }
+            }
+        }
+        return liked;
+    }
+
+    private Boolean pendingState(Key key) {
+        Boolean state = collecting.toggles.get(key);
+        return state != null ? state : applying.toggles.get(key);
+    }
+
+    private long likeCount(EngagementCounter counter, Long targetId) {
+        Target target = new Target(counter, targetId);
+        long count = shardedCounters.count(counter, targetId) + collecting.delta(target) + applying.delta(target);
+        return Math.max(0L, count);
+    }
+
+    // Writing windows
+
+    /**
+     * Write the toggles collected since the last window
+     */
+    @Scheduled(fixedDelayString = "${app.likes.window-ms:100}")
+    public void flush() {
+        Window window;
+        windowLock.writeLock().lock();
+        try {
+            if (collecting.toggles.isEmpty()) {
+                return;
+            }
+            window = collecting;
+            applying = window;
+            collecting = new Window();
+        } finally {
+            windowLock.writeLock().unlock();
+        }
+
+        try {
+            List<Map.Entry<Key, Boolean>> toggles = new ArrayList<>(window.toggles.entrySet());
+            int chunk = Math.max(1, config.getBatchSize());
+            for (int i = 0; i < toggles.size(); i += chunk) {
+                writeOrSplit(window, toggles.subList(i, Math.min(toggles.size(), i + chunk)));
+            }
+        } finally {
+            applying = new Window();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Write a batch; when it fails for a lasting reason, halve it until the failing toggles
+     * are on their own, so one bad toggle does not hold back the rest of its batch
+     *
+     * A failure the database may recover from (a lost connection, a lock timeout) requeues the
+     * whole batch as it is. A single toggle is retried in later windows up to
+     * app.likes.max-attempts times, then dropped and logged as dead.
+     */
+    private void writeOrSplit(Window window, List<Map.Entry<Key, Boolean>> batch) {
+        try {
+            write(batch);
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                log.warn("Failed to write {} like toggles; retrying in the next window", batch.size(), e);
+                batch.forEach(toggle -> requeue(toggle.getKey(), toggle.getValue(), window.attempts(toggle.getKey())));
+            } else if (batch.size() > 1) {
+                int half = batch.size() / 2;
+                writeOrSplit(window, batch.subList(0, half));
+                writeOrSplit(window, batch.subList(half, batch.size()));
+            } else {
+                Map.Entry<Key, Boolean> toggle = batch.get(0);
+                Key key = toggle.getKey();
+                int attempts = window.attempts(key) + 1;
+                if (attempts < config.getMaxAttempts()) {
+                    log.warn("Failed to write like toggle {} (attempt {}); retrying in the next window", key, attempts, e);
+                    requeue(key, toggle.getValue(), attempts);
+                } else {
+                    log.error("Dropping like toggle {} liked={} after {} failed attempts", key, toggle.getValue(), attempts, e);
+                }
+            }
+        }
+    }
+
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void write(List<Map.Entry<Key, Boolean>> toggles) {
+        List<LikeChangedEvent> changes;
+        try {
+            changes = transactionTemplate.execute(status -> apply(toggles));
+        } catch (DuplicateKeyException e) {
+            // Another node inserted one of these likes concurrently; the conditional INSERTs now skip it
+            changes = transactionTemplate.execute(status -> apply(toggles));
+        }
+        if (changes != null && !changes.isEmpty()) {
+            recordStatistics(changes);
+        }
+    }
+
+    /**
+     * Toggles that failed to write go back into the collecting window unless the user
+     * has toggled the same target again since
+     */
+    private void requeue(Key key, boolean liked, int attempts) {
+        windowLock.readLock().lock();
+        try {
+            Window window = collecting;
+            if (window.toggles.putIfAbsent(key, liked) == null) {
+                window.adjust(key, signum(liked));
+                if (attempts > 0) {
+                    window.failures.put(key, attempts);
+                }
+            }
+        } finally {
+            windowLock.readLock().unlock();
+        }
+    }
+
+    private List<LikeChangedEvent> apply(List<Map.Entry<Key, Boolean>> toggles) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<LikeChangedEvent> changes = new ArrayList<>();
+
+        for (EngagementCounter counter : TARGETS) {
+            List<Key> likes = keys(toggles, counter, true);
+            if (!likes.isEmpty()) {
+                insertLikes(counter, likes, now, timestamp, changes);
+            }
+            List<Key> unlikes = keys(toggles, counter, false);
+            if (!unlikes.isEmpty()) {
+                deleteLikes(counter, unlikes, changes);
+            }
+        }
+
+        // One counter write per target, in a fixed order so concurrent windows lock rows alike
+        Map<Target, Long> deltas = new HashMap<>();
+        changes.forEach(change -> deltas.merge(target(change), (long) change.delta(), Long::sum));
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Target::counter).thenComparing(Target::id)))
+                .forEach(entry -> shardedCounters.add(entry.getKey().counter(), entry.getKey().id(), entry.getValue()));
+
+        changes.forEach(eventPublisher::publishEvent);
+        return changes;
+    }
+
+    private void insertLikes(EngagementCounter counter, List<Key> likes, LocalDateTime now,
+                             Timestamp timestamp, List<LikeChangedEvent> changes) {
+        boolean blog = counter == EngagementCounter.BLOG_LIKES;
+        int[] inserted = jdbcTemplate.batchUpdate(blog ? INSERT_BLOG_LIKE_SQL : INSERT_COMMENT_LIKE_SQL,
+                likes.stream().map(key -> new Object[]{timestamp, timestamp, key.userId(), key.targetId()}).toList());
+
+        List<Key> created = new ArrayList<>();
+        for (int i = 0; i < likes.size(); i++) {
+            if (inserted[i] > 0) {
+                Key key = likes.get(i);
+                created.add(key);
+                changes.add(new LikeChangedEvent(null, key.userId(), blog ? key.targetId() : null,
+                        blog ? null : key.targetId(), now, 1));
+            }
+        }
+
+        if (config.isNotify() && !created.isEmpty()) {
+            NotificationType type = blog ? NotificationType.BLOG_LIKED : NotificationType.COMMENT_LIKED;
+            String message = blog ? " liked your post" : " liked your comment";
+            jdbcTemplate.batchUpdate(blog ? NOTIFY_BLOG_SQL : NOTIFY_COMMENT_SQL, created.stream()
+                    .map(key -> new Object[]{UUID.randomUUID().toString(), type.name(), type.getDisplayName(),
+                            message, timestamp, timestamp, key.targetId(), key.userId()})
+                    .toList());
+        }
+    }
+
+    /**
+     * The rows are read before they are deleted so the events carry their id and creation time
+     */
+    private void deleteLikes(EngagementCounter counter, List<Key> unlikes, List<LikeChangedEvent> changes) {
+        boolean blog = counter == EngagementCounter.BLOG_LIKES;
+        String column = blog ? "blog_id" : "comment_id";
+        List<Object> args = new ArrayList<>(unlikes.size() * 2);
+        unlikes.forEach(key -> {
+            args.add(key.userId());
+            args.add(key.targetId());
+        });
+        List<LikeChangedEvent> existing = jdbcTemplate.query(
+                "SELECT id, user_id, " + column + ", created_at FROM likes WHERE (user_id, " + column + ") IN ("
+                        + String.join(", ", Collections.nCopies(unlikes.size(), "(?, ?)")) + ")",
+                (rs, rowNum) -> new LikeChangedEvent(rs.getLong(1), rs.getLong(2),
+                        blog ? rs.getLong(3) : null, blog ? null : rs.getLong(3),
+                        rs.getTimestamp(4).toLocalDateTime(), -1),
+                args.toArray());
+        if (existing.isEmpty()) {
+            return;
+        }
+
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_SQL,
+                existing.stream().map(change -> new Object[]{change.likeId()}).toList());
+        for (int i = 0; i < existing.size(); i++) {
+            if (deleted[i] > 0) {
+                changes.add(existing.get(i));
+            }
+        }
+    }
+
+    private void recordStatistics(List<LikeChangedEvent> changes) {
+        long blogLikes = 0;
+        long commentLikes = 0;
+        Map<Long, Long> byBlog = new HashMap<>();
+        Map<Long, Long> byComment = new HashMap<>();
+        List<Long> likerIds = new ArrayList<>();
+        for (LikeChangedEvent change : changes) {
+            if (change.isBlogLike()) {
+                blogLikes += change.delta();
+                byBlog.merge(change.blogId(), (long) change.delta(), Long::sum);
+            } else {
+                commentLikes += change.delta();
+                byComment.merge(change.commentId(), (long) change.delta(), Long::sum);
+            }
+            if (change.delta() > 0) {
+                likerIds.add(change.userId());
+            }
+        }
+        platformStatistics.recordLikes(blogLikes, commentLikes, likerIds);
+        authorStats.recordLikes(byBlog, byComment);
+    }
+
+    // Internal helpers
+
+    private static List<Key> keys(List<Map.Entry<Key, Boolean>> toggles, EngagementCounter counter, boolean liked) {
+        return toggles.stream()
+                .filter(toggle -> toggle.getKey().counter() == counter && toggle.getValue() == liked)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Target target(LikeChangedEvent change) {
+        return change.isBlogLike()
+                ? new Target(EngagementCounter.BLOG_LIKES, change.blogId())
+                : new Target(EngagementCounter.COMMENT_LIKES, change.commentId());
+    }
+
+    private static int signum(boolean liked) {
+        return liked ? 1 : -1;
+    }
+
+    // Internal types
+
+    private record Key(Long userId, EngagementCounter counter, Long targetId) {}
+
+    private record Target(EngagementCounter counter, Long id) {}
+
+    /**
+     * Toggles collected in one window, with their expected effect on each target's count
+     */
+    private static final class Window {
+        private final Map<Key, Boolean> toggles = new ConcurrentHashMap<>();
+        private final Map<Target, LongAdder> counts = new ConcurrentHashMap<>();
+        private final Map<Key, Integer> failures = new ConcurrentHashMap<>();
+
+        void adjust(Key key, long change) {
+            if (change != 0) {
+                counts.computeIfAbsent(new Target(key.counter(), key.targetId()), k -> new LongAdder()).add(change);
+            }
+        }
+
+        long delta(Target target) {
+            LongAdder adder = counts.get(target);
+            return adder != null ? adder.sum() : 0L;
+        }
+
+        int attempts(Key key) {
+            return failures.getOrDefault(key, 0);
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.example.blogNest.domain.like;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Compressed set of user ids, laid out like a roaring bitmap
+ *
+ * An id is split into a high and a low 16-bit half. Each high half present owns a
+ * container of low halves: a sorted char array while it holds up to 4096 values, a
+ * 65536-bit bitmap above that. A blog liked by 300 users takes under 1 KB; a million
+ * likers with ids in a dense range take about 130 KB.
+ *
+ * Ids must fit in 32 unsigned bits. Writers are serialized; readers take an optimistic
+ * stamp and only fall back to the read lock when a write raced with them.
+ */
+final class LikerBitmap {
+
+    static final long MAX_ID = 0xFFFFFFFFL;
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int cardinality;
+
+    static boolean fits(long id) {
+        return id >= 0 && id <= MAX_ID;
+    }
+
+    /**
+     * Build a bitmap from ids in any order; ids that do not fit are skipped
+     */
+    static LikerBitmap of(long[] ids, int count) {
+        long[] sorted = Arrays.copyOf(ids, count);
+        Arrays.sort(sorted);
+        LikerBitmap bitmap = new LikerBitmap();
+        int start = 0;
+        while (start < sorted.length && sorted[start] < 0) {
+            start++;
+        }
+        int end = sorted.length;
+        while (end > start && sorted[end - 1] > MAX_ID) {
+            end--;
+        }
+
+        char[] keys = new char[16];
+        Container[] containers = new Container[16];
+        int containerCount = 0;
+        int i = start;
+        while (i < end) {
+            char high = high(sorted[i]);
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[4];
+            BitmapContainer bitmapContainer = null;
+            for (; i < end && high(sorted[i]) == high; i++) {
+                if (i > start && sorted[i] == sorted[i - 1]) {
+                    continue;
+                }
+                if (bitmapContainer != null) {
+                    bitmapContainer.add(low(sorted[i]));
+                    continue;
+                }
+                if (array.size == array.values.length) {
+                    array.values = Arrays.copyOf(array.values, array.size * 2);
+                }
+                array.values[array.size++] = low(sorted[i]);
+                if (array.size > ARRAY_MAX) {
+                    bitmapContainer = array.toBitmap();
+                }
+            }
+            if (containerCount == keys.length) {
+                keys = Arrays.copyOf(keys, containerCount * 2);
+                containers = Arrays.copyOf(containers, containerCount * 2);
+            }
+            keys[containerCount] = high;
+            containers[containerCount++] = bitmapContainer != null ? bitmapContainer : array;
+            bitmap.cardinality += containers[containerCount - 1].cardinality();
+        }
+        bitmap.keys = Arrays.copyOf(keys, containerCount);
+        bitmap.containers = Arrays.copyOf(containers, containerCount);
+        return bitmap;
+    }
+
+    // Reads
+
+    boolean contains(long id) {
+        if (!fits(id)) {
+            return false;
+        }
+        long stamp = lock.tryOptimisticRead();
+        boolean found;
+        try {
+            found = containsUnlocked(id);
+        } catch (RuntimeException e) {
+            // Arrays replaced mid-read by a concurrent write
+            found = false;
+            stamp = 0L;
+        }
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                found = containsUnlocked(id);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return found;
+    }
+
+    private boolean containsUnlocked(long id) {
+        char[] currentKeys = keys;
+        Container[] currentContainers = containers;
+        int index = Arrays.binarySearch(currentKeys, high(id));
+        return index >= 0 && currentContainers[index].contains(low(id));
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Approximate heap footprint
+     */
+    long sizeInBytes() {
+        long stamp = lock.readLock();
+        try {
+            long size = 48L + keys.length * 2L + containers.length * 8L;
+            for (Container container : containers) {
+                size += container.sizeInBytes();
+            }
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Writes
+
+    /**
+     * @return true if the id was not present
+     */
+    boolean add(long id) {
+        if (!fits(id)) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            char high = high(id);
+            int index = Arrays.binarySearch(keys, high);
+            if (index < 0) {
+                index = -index - 1;
+                keys = insert(keys, index, high);
+                containers = insert(containers, index, new ArrayContainer());
+            }
+            Container container = containers[index];
+            if (!container.add(low(id))) {
+                return false;
+            }
+            if (container instanceof ArrayContainer array && array.size > ARRAY_MAX) {
+                containers[index] = array.toBitmap();
+            }
+            cardinality++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return true if the id was present
+     */
+    boolean remove(long id) {
+        if (!fits(id)) {
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int index = Arrays.binarySearch(keys, high(id));
+            if (index < 0) {
+                return false;
+            }
+            Container container = containers[index];
+            if (!container.remove(low(id))) {
+                return false;
+            }
+            cardinality--;
+            if (container.cardinality() == 0) {
+                keys = delete(keys, index);
+                containers = delete(containers, index);
+            } else if (container instanceof BitmapContainer bitmap && bitmap.cardinality <= ARRAY_MAX / 2) {
+                // Hysteresis so an id toggling at the boundary does not convert back and forth
+                containers[index] = bitmap.toArray();
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Serialization
+
+    void writeTo(DataOutput out) throws IOException {
+        long stamp = lock.readLock();
+        try {
+            out.writeInt(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                out.writeChar(keys[i]);
+                containers[i].writeTo(out);
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    static LikerBitmap readFrom(DataInput in) throws IOException {
+        LikerBitmap bitmap = new LikerBitmap();
+        int count = in.readInt();
+        if (count < 0 || count > 65536) {
+            throw new IOException("Corrupt bitmap: " + count + " containers");
+        }
+        bitmap.keys = new char[count];
+        bitmap.containers = new Container[count];
+        for (int i = 0; i < count; i++) {
+            bitmap.keys[i] = in.readChar();
+            bitmap.containers[i] = in.readBoolean() ? BitmapContainer.readFrom(in) : ArrayContainer.readFrom(in);
+            bitmap.cardinality += bitmap.containers[i].cardinality();
+        }
+        return bitmap;
+    }
+
+    // Internal helpers
+
+    private static char high(long id) {
+        return (char) (id >>> 16);
+    }
+
+    private static char low(long id) {
+        return (char) id;
+    }
+
+    private static char[] insert(char[] array, int index, char value) {
+        char[] grown = new char[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    private static Container[] insert(Container[] array, int index, Container value) {
+        Container[] grown = new Container[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    private static char[] delete(char[] array, int index) {
+        char[] shrunk = new char[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, index);
+        System.arraycopy(array, index + 1, shrunk, index, shrunk.length - index);
+        return shrunk;
+    }
+
+    private static Container[] delete(Container[] array, int index) {
+        Container[] shrunk = new Container[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, index);
+        System.arraycopy(array, index + 1, shrunk, index, shrunk.length - index);
+        return shrunk;
+    }
+
+    // Containers
+
+    private abstract static class Container {
+        abstract boolean contains(char low);
+
+        abstract boolean add(char low);
+
+        abstract boolean remove(char low);
+
+        abstract int cardinality();
+
+        abstract long sizeInBytes();
+
+        abstract void writeTo(DataOutput out) throws IOException;
+    }
+
+    /**
+     * Sorted low halves; binary searched
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        boolean add(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return false;
+            }
+            index = -index - 1;
+            // Writes build a new array so optimistic readers never see a half-shifted one
+            char[] next = size == values.length ? new char[values.length * 2] : values.clone();
+            System.arraycopy(values, 0, next, 0, index);
+            next[index] = low;
+            System.arraycopy(values, index, next, index + 1, size - index);
+            values = next;
+            size++;
+            return true;
+        }
+
+        @Override
+        boolean remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index < 0) {
+                return false;
+            }
+            char[] next = values.clone();
+            System.arraycopy(values, index + 1, next, index, size - index - 1);
+            values = next;
+            size--;
+            return true;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 32L + values.length * 2L;
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeBoolean(false);
+            out.writeShort(size - 1);
+            for (int i = 0; i < size; i++) {
+                out.writeChar(values[i]);
+            }
+        }
+
+        static ArrayContainer readFrom(DataInput in) throws IOException {
+            ArrayContainer array = new ArrayContainer();
+            array.size = in.readUnsignedShort() + 1;
+            array.values = new char[array.size];
+            for (int i = 0; i < array.size; i++) {
+                array.values[i] = in.readChar();
+            }
+            return array;
+        }
+    }
+
+    /**
+     * One bit per low half
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        boolean add(char low) {
+            long word = words[low >>> 6];
+            long updated = word | (1L << low);
+            if (updated == word) {
+                return false;
+            }
+            words[low >>> 6] = updated;
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        boolean remove(char low) {
+            long word = words[low >>> 6];
+            long updated = word & ~(1L << low);
+            if (updated == word) {
+                return false;
+            }
+            words[low >>> 6] = updated;
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 32L + BITMAP_WORDS * 8L;
+        }
+
+        ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(4, cardinality)];
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.size++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeBoolean(true);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+
+        static BitmapContainer readFrom(DataInput in) throws IOException {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                bitmap.words[i] = in.readLong();
+                bitmap.cardinality += Long.bitCount(bitmap.words[i]);
+            }
+            return bitmap;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.text.TextStatistics;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fills word count, reading time and excerpt for blogs written before they were stored
+ */
+@Component
+public class BlogTextStatisticsBackfillJob implements MaintenanceJob {
+
+    private final BlogRepository blogRepository;
+
+    public BlogTextStatisticsBackfillJob(BlogRepository blogRepository) {
+        this.blogRepository = blogRepository;
+    }
+
+    @Override
+    public String getName() {
+        return "blog-text-statistics";
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now;
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return blogRepository.findIdsWithoutTextStatistics(afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        int updated = 0;
+        for (Object[] row : blogRepository.findContentsByIds(ids)) {
+            TextStatistics statistics = TextStatistics.of((String) row[1]);
+            updated += blogRepository.updateTextStatistics((Long) row[0], statistics.getWordCount(),
+                    statistics.getReadingTimeMinutes(), statistics.getExcerpt());
+        }
+        return updated;
+    }
+}
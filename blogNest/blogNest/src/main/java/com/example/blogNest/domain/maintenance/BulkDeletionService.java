@@ -0,0 +1,341 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.counter.EngagementCounter;
+import com.example.blogNest.domain.counter.ShardedCounterService;
+import com.example.blogNest.domain.counter.UserCounter;
+import com.example.blogNest.domain.counter.UserCounterService;
+import com.example.blogNest.domain.event.BlogChangedEvent;
+import com.example.blogNest.domain.event.BlogUnpublishedEvent;
+import com.example.blogNest.domain.event.CommentChangedEvent;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import com.example.blogNest.domain.statistics.AuthorStat;
+import com.example.blogNest.domain.statistics.AuthorStatsService;
+import com.example.blogNest.domain.statistics.PlatformStat;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk deletes and archives for maintenance jobs with the bookkeeping that entity
+ * removal or update would do
+ *
+ * Bulk statements bypass the entity listeners, so for each batch this service:
+ * - reads what the listeners would have seen, and counts only rows its own statements changed
+ * - moves blogs.likes_count and comments.likes_count through the sharded counters
+ * - publishes Like/Comment/BlogChangedEvents, so comments_count, the analytics rollups
+ *   and the like index follow after commit
+ * - records platform and author statistics, and users.blogs_count, after commit
+ *
+ * Author statistics are attributed to authors directly: the blogs and comments they would
+ * otherwise be resolved through may be gone by the next flush. All methods must run inside
+ * the caller's transaction.
+ */
+@Service
+public class BulkDeletionService {
+
+    private static final String LIKE_COLUMNS =
+            "SELECT l.id, l.user_id, l.blog_id, l.comment_id, l.created_at, COALESCE(b.author_id, c.author_id) " +
+            "FROM likes l LEFT JOIN blogs b ON b.id = l.blog_id LEFT JOIN comments c ON c.id = l.comment_id ";
+    private static final String DELETE_LIKE_SQL = "DELETE FROM likes WHERE id = ?";
+    private static final String SOFT_DELETE_COMMENT_SQL =
+            "UPDATE comments SET is_deleted = TRUE, content = '[Comment deleted]', content_fingerprint = NULL, " +
+            "updated_at = ?, version = version + 1 WHERE id = ? AND is_deleted = FALSE";
+    private static final String COMMENT_COLUMNS =
+            "SELECT c.id, c.author_id, c.blog_id, c.parent_id, c.created_at, c.is_deleted, c.is_approved, b.author_id " +
+            "FROM comments c JOIN blogs b ON b.id = c.blog_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlogRepository blogRepository;
+    private final ShardedCounterService shardedCounters;
+    private final UserCounterService userCounters;
+    private final PlatformStatisticsService platformStatistics;
+    private final AuthorStatsService authorStats;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkDeletionService(JdbcTemplate jdbcTemplate, BlogRepository blogRepository,
+                               ShardedCounterService shardedCounters, UserCounterService userCounters,
+                               PlatformStatisticsService platformStatistics, AuthorStatsService authorStats,
+                               ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blogRepository = blogRepository;
+        this.shardedCounters = shardedCounters;
+        this.userCounters = userCounters;
+        this.platformStatistics = platformStatistics;
+        this.authorStats = authorStats;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Soft delete the given comments that are not deleted yet
+     *
+     * @return number of comments deleted
+     */
+    public int softDeleteComments(List<Long> commentIds) {
+        List<CommentRow> candidates = jdbcTemplate.query(COMMENT_COLUMNS + "WHERE c.id IN (" + placeholders(commentIds)
+                + ") AND c.is_deleted = FALSE", BulkDeletionService::commentRow, commentIds.toArray());
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] updated = jdbcTemplate.batchUpdate(SOFT_DELETE_COMMENT_SQL,
+                candidates.stream().map(comment -> new Object[]{now, comment.id()}).toList());
+        List<CommentRow> comments = changed(candidates, updated);
+
+        Map<PlatformStat, Long> stats = new EnumMap<>(PlatformStat.class);
+        Map<Long, Map<AuthorStat, Long>> authors = new HashMap<>();
+        for (CommentRow comment : comments) {
+            eventPublisher.publishEvent(comment.event());
+            add(stats, PlatformStat.COMMENTS_DELETED, 1);
+            addAuthor(authors, comment.authorId(), AuthorStat.COMMENTS_WRITTEN, -1);
+            addAuthor(authors, comment.blogAuthorId(), AuthorStat.COMMENTS_RECEIVED, -1);
+        }
+        afterCommit(() -> record(stats, authors));
+        return comments.size();
+    }
+
+    /**
+     * Delete the given likes
+     *
+     * @return number of likes deleted
+     */
+    public int deleteLikes(List<Long> likeIds) {
+        return deleteLikes(LIKE_COLUMNS + "WHERE l.id IN (" + placeholders(likeIds) + ")", likeIds.toArray());
+    }
+
+    /**
+     * Delete the given blogs that are still drafts, with their likes, comments, notifications
+     * and tag links
+     *
+     * @return number of drafts deleted
+     */
+    public int deleteDrafts(List<Long> blogIds) {
+        List<DraftRow> drafts = jdbcTemplate.query("SELECT id, author_id, views_count, is_featured FROM blogs " +
+                        "WHERE id IN (" + placeholders(blogIds) + ") AND status = 'DRAFT' FOR UPDATE",
+                (rs, n) -> new DraftRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getBoolean(4)),
+                blogIds.toArray());
+        if (drafts.isEmpty()) {
+            return 0;
+        }
+        List<Long> draftIds = drafts.stream().map(DraftRow::id).toList();
+        String in = placeholders(draftIds);
+        Object[] args = draftIds.toArray();
+
+        // Dependent rows first: likes, notifications, then comments with their reply links cut
+        deleteLikes(LIKE_COLUMNS + "WHERE l.blog_id IN (" + in + ") OR l.comment_id IN " +
+                "(SELECT id FROM comments WHERE blog_id IN (" + in + "))", concat(args, args));
+        List<CommentRow> comments = jdbcTemplate.query(COMMENT_COLUMNS + "WHERE c.blog_id IN (" + in + ")",
+                BulkDeletionService::commentRow, args);
+        jdbcTemplate.update("DELETE FROM notifications WHERE related_blog_id IN (" + in + ") OR related_comment_id IN " +
+                "(SELECT id FROM comments WHERE blog_id IN (" + in + "))", concat(args, args));
+        if (!comments.isEmpty()) {
+            jdbcTemplate.update("UPDATE comments SET parent_id = NULL WHERE blog_id IN (" + in + ") AND parent_id IS NOT NULL", args);
+            jdbcTemplate.update("DELETE FROM comments WHERE blog_id IN (" + in + ")", args);
+        }
+        blogRepository.deleteBlogTagsByBlogIds(draftIds);
+        int deleted = blogRepository.deleteDraftsByIds(draftIds);
+
+        Map<PlatformStat, Long> stats = new EnumMap<>(PlatformStat.class);
+        Map<Long, Map<AuthorStat, Long>> authors = new HashMap<>();
+        for (CommentRow comment : comments) {
+            // Live comments leave comments_count and BLOG_COMMENTS through their event
+            if (!comment.deleted()) {
+                eventPublisher.publishEvent(comment.event());
+                addAuthor(authors, comment.authorId(), AuthorStat.COMMENTS_WRITTEN, -1);
+                addAuthor(authors, comment.blogAuthorId(), AuthorStat.COMMENTS_RECEIVED, -1);
+            }
+            add(stats, PlatformStat.COMMENTS_TOTAL, -1);
+            add(stats, PlatformStat.COMMENTS_APPROVED, comment.approved() ? -1 : 0);
+            add(stats, PlatformStat.COMMENTS_DELETED, comment.deleted() ? -1 : 0);
+            add(stats, comment.parentId() != null ? PlatformStat.COMMENTS_REPLIES : PlatformStat.COMMENTS_TOP_LEVEL, -1);
+        }
+        Map<Long, long[]> blogCounts = new HashMap<>();
+        for (DraftRow draft : drafts) {
+            eventPublisher.publishEvent(new BlogChangedEvent(draft.id()));
+            add(stats, PlatformStat.BLOGS_TOTAL, -1);
+            add(stats, PlatformStat.BLOGS_DRAFT, -1);
+            add(stats, PlatformStat.BLOGS_FEATURED, draft.featured() ? -1 : 0);
+            add(stats, PlatformStat.BLOG_VIEWS, -draft.views());
+            addAuthor(authors, draft.authorId(), AuthorStat.BLOG_COUNT, -1);
+            addAuthor(authors, draft.authorId(), AuthorStat.TOTAL_VIEWS, -draft.views());
+            blogCounts.computeIfAbsent(draft.authorId(), k -> new long[UserCounter.values().length])
+                    [UserCounter.BLOGS.ordinal()]--;
+        }
+        afterCommit(() -> {
+            record(stats, authors);
+            userCounters.applyCommitted(blogCounts);
+        });
+        return deleted;
+    }
+
+    /**
+     * Archive the given blogs that are still published
+     *
+     * Archiving only takes blogs out of the published count and the BLOGS_PUBLISHED rollups;
+     * author statistics and users.blogs_count count blogs of every status and do not change.
+     *
+     * @return number of blogs archived
+     */
+    public int archivePublished(List<Long> blogIds) {
+        List<BlogUnpublishedEvent> published = jdbcTemplate.query("SELECT id, author_id, category_id, published_at " +
+                        "FROM blogs WHERE id IN (" + placeholders(blogIds) + ") AND status = 'PUBLISHED' FOR UPDATE",
+                (rs, n) -> new BlogUnpublishedEvent(rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class),
+                        toLocalDateTime(rs.getTimestamp(4))),
+                blogIds.toArray());
+        if (published.isEmpty()) {
+            return 0;
+        }
+        int archived = blogRepository.archiveByIds(published.stream().map(BlogUnpublishedEvent::blogId).toList());
+
+        Map<PlatformStat, Long> stats = new EnumMap<>(PlatformStat.class);
+        for (BlogUnpublishedEvent blog : published) {
+            // The rows are locked, so every one read was archived
+            if (blog.publishedAt() != null) {
+                eventPublisher.publishEvent(blog);
+            }
+            eventPublisher.publishEvent(new BlogChangedEvent(blog.blogId()));
+            add(stats, PlatformStat.BLOGS_PUBLISHED, -1);
+        }
+        afterCommit(() -> platformStatistics.recordDeltas(stats));
+        return archived;
+    }
+
+    /**
+     * The rows are read before they are deleted so the events carry their id, owner and creation time;
+     * likes removed concurrently by an unlike are left to that unlike's bookkeeping
+     */
+    private int deleteLikes(String selectSql, Object[] args) {
+        List<LikeRow> candidates = jdbcTemplate.query(selectSql, (rs, n) -> new LikeRow(new LikeChangedEvent(
+                rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class), rs.getObject(4, Long.class),
+                rs.getTimestamp(5).toLocalDateTime(), -1), rs.getLong(6)), args);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_LIKE_SQL,
+                candidates.stream().map(like -> new Object[]{like.event().likeId()}).toList());
+        List<LikeRow> likes = changed(candidates, deleted);
+
+        // One counter write per target, in a fixed order so concurrent batches lock rows alike
+        Map<Target, Long> deltas = new HashMap<>();
+        long blogLikes = 0;
+        long commentLikes = 0;
+        Map<Long, Map<AuthorStat, Long>> authors = new HashMap<>();
+        for (LikeRow like : likes) {
+            LikeChangedEvent event = like.event();
+            if (event.isBlogLike()) {
+                deltas.merge(new Target(EngagementCounter.BLOG_LIKES, event.blogId()), -1L, Long::sum);
+                blogLikes--;
+                addAuthor(authors, like.ownerId(), AuthorStat.LIKES_ON_BLOGS, -1);
+            } else {
+                deltas.merge(new Target(EngagementCounter.COMMENT_LIKES, event.commentId()), -1L, Long::sum);
+                commentLikes--;
+                addAuthor(authors, like.ownerId(), AuthorStat.LIKES_ON_COMMENTS, -1);
+            }
+            eventPublisher.publishEvent(event);
+        }
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Target::counter).thenComparing(Target::id)))
+                .forEach(entry -> shardedCounters.add(entry.getKey().counter(), entry.getKey().id(), entry.getValue()));
+
+        long removedBlogLikes = blogLikes;
+        long removedCommentLikes = commentLikes;
+        afterCommit(() -> {
+            platformStatistics.recordLikes(removedBlogLikes, removedCommentLikes, List.of());
+            authorStats.recordAuthorDeltas(authors);
+        });
+        return likes.size();
+    }
+
+    // Internal helpers
+
+    private static <T> List<T> changed(List<T> rows, int[] counts) {
+        List<T> changed = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] > 0) {
+                changed.add(rows.get(i));
+            }
+        }
+        return changed;
+    }
+
+    private void record(Map<PlatformStat, Long> stats, Map<Long, Map<AuthorStat, Long>> authors) {
+        platformStatistics.recordDeltas(stats);
+        authorStats.recordAuthorDeltas(authors);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static CommentRow commentRow(ResultSet rs, int rowNum) throws SQLException {
+        return new CommentRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getObject(4, Long.class),
+                rs.getTimestamp(5).toLocalDateTime(), rs.getBoolean(6), rs.getBoolean(7), rs.getLong(8));
+    }
+
+    private static void add(Map<PlatformStat, Long> stats, PlatformStat stat, long delta) {
+        if (delta != 0) {
+            stats.merge(stat, delta, Long::sum);
+        }
+    }
+
+    private static void addAuthor(Map<Long, Map<AuthorStat, Long>> authors, Long authorId, AuthorStat stat, long delta) {
+        if (authorId != null && delta != 0) {
+            authors.computeIfAbsent(authorId, k -> new EnumMap<>(AuthorStat.class)).merge(stat, delta, Long::sum);
+        }
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    private static Object[] concat(Object[] first, Object[] second) {
+        List<Object> args = new ArrayList<>(first.length + second.length);
+        Collections.addAll(args, first);
+        Collections.addAll(args, second);
+        return args.toArray();
+    }
+
+    // Internal types
+
+    private record Target(EngagementCounter counter, Long id) {}
+
+    private record LikeRow(LikeChangedEvent event, Long ownerId) {}
+
+    private record DraftRow(Long id, Long authorId, long views, boolean featured) {}
+
+    private record CommentRow(Long id, Long authorId, Long blogId, Long parentId, LocalDateTime createdAt,
+                              boolean deleted, boolean approved, Long blogAuthorId) {
+
+        CommentChangedEvent event() {
+            return new CommentChangedEvent(id, authorId, blogId, parentId, createdAt, -1);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.MaintenanceCheckpointRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import com.example.blogNest.domain.model.entity.MaintenanceCheckpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Runs maintenance jobs as a stream of small keyset batches
+ *
+ * Features:
+ * - Only ids are loaded, never whole entities
+ * - Each batch is processed and checkpointed in its own short transaction
+ * - Sleeps between batches to hold the job to a target share of database time
+ * - Resumes an interrupted run from the last checkpointed id
+ * - Publishes row and batch timing metrics per job
+ */
+@Component
+public class ChunkedMaintenanceRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedMaintenanceRunner.class);
+
+    private final MaintenanceCheckpointRepository checkpointRepository;
+    private final MaintenanceConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public ChunkedMaintenanceRunner(MaintenanceCheckpointRepository checkpointRepository,
+                                    MaintenanceConfig config,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.checkpointRepository = checkpointRepository;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Run a job until it is finished or the run time budget is spent
+     */
+    public MaintenanceRunResult run(MaintenanceJob job) {
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + Duration.ofMinutes(config.getMaxRunMinutes()).toNanos();
+        int batchSize = Math.max(1, config.getBatchSize());
+        double targetLoad = Math.min(1.0, Math.max(0.01, config.getTargetLoad()));
+
+        MaintenanceCheckpoint checkpoint = checkpointRepository.findById(job.getName())
+                .orElseGet(() -> new MaintenanceCheckpoint(job.getName()));
+        if (checkpoint.isInProgress()) {
+            log.info("Resuming maintenance job {} after id {}", job.getName(), checkpoint.getLastProcessedId());
+        } else {
+            checkpoint.startRun(job.computeCutoff(LocalDateTime.now()));
+            checkpoint = checkpointRepository.save(checkpoint);
+        }
+
+        long rows = 0;
+        long batches = 0;
+        boolean completed = false;
+
+        while (System.nanoTime() < deadlineNanos) {
+            final MaintenanceCheckpoint current = checkpoint;
+            List<Long> ids = readOnlyTemplate.execute(status ->
+                    job.findNextIds(current.getCutoffDate(), current.getLastProcessedId(), batchSize));
+
+            if (ids == null || ids.isEmpty()) {
+                current.complete();
+                checkpoint = checkpointRepository.save(current);
+                completed = true;
+                break;
+            }
+
+            long batchStart = System.nanoTime();
+            int affected = transactionTemplate.execute(status -> {
+                int n = job.processBatch(ids);
+                current.advance(ids.get(ids.size() - 1), n);
+                checkpointRepository.save(current);
+                return n;
+            });
+            long batchNanos = System.nanoTime() - batchStart;
+
+            rows += affected;
+            batches++;
+            meterRegistry.counter("blognest.maintenance.rows", "job", job.getName()).increment(affected);
+            meterRegistry.timer("blognest.maintenance.batch", "job", job.getName()).record(Duration.ofNanos(batchNanos));
+
+            if (ids.size() < batchSize) {
+                continue;
+            }
+            if (!throttle(batchNanos, targetLoad)) {
+                break;
+            }
+        }
+
+        MaintenanceRunResult result = new MaintenanceRunResult(job.getName(), rows, batches,
+                Duration.ofNanos(System.nanoTime() - startedNanos).toMillis(), completed);
+        log.info("Maintenance job {} {}: {} rows in {} batches, {} ms ({} rows/s)",
+                job.getName(), completed ? "completed" : "paused", rows, batches,
+                result.elapsedMs(), String.format("%.1f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Sleep long enough that batch time stays at the target share of wall time
+     *
+     * @return false if the thread was interrupted
+     */
+    private boolean throttle(long batchNanos, double targetLoad) {
+        long pauseNanos = (long) (batchNanos * (1.0 - targetLoad) / targetLoad);
+        if (pauseNanos <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(Duration.ofNanos(pauseNanos).toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Archives old published blogs that never received any engagement
+ */
+@Component
+public class LowEngagementBlogArchiveJob implements MaintenanceJob {
+
+    private final BlogRepository blogRepository;
+    private final BulkDeletionService bulkDeletions;
+    private final MaintenanceConfig config;
+
+    public LowEngagementBlogArchiveJob(BlogRepository blogRepository, BulkDeletionService bulkDeletions, MaintenanceConfig config) {
+        this.blogRepository = blogRepository;
+        this.bulkDeletions = bulkDeletions;
+        this.config = config;
+    }
+
+    @Override
+    public String getName() {
+        return "low-engagement-blogs";
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now.minusDays(config.getLowEngagementAgeDays());
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return blogRepository.findLowEngagementBlogIds(cutoff, afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        return bulkDeletions.archivePublished(ids);
+    }
+}
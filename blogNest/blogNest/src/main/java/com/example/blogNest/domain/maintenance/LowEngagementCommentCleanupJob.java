@@ -0,0 +1,48 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Soft deletes old comments with no likes and no replies
+ * Not in the default job list; enable it explicitly via app.maintenance.jobs
+ */
+@Component
+public class LowEngagementCommentCleanupJob implements MaintenanceJob {
+
+    private final CommentRepository commentRepository;
+    private final BulkDeletionService bulkDeletions;
+    private final MaintenanceConfig config;
+
+    public LowEngagementCommentCleanupJob(CommentRepository commentRepository, BulkDeletionService bulkDeletions,
+                                          MaintenanceConfig config) {
+        this.commentRepository = commentRepository;
+        this.bulkDeletions = bulkDeletions;
+        this.config = config;
+    }
+
+    @Override
+    public String getName() {
+        return "low-engagement-comments";
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now.minusDays(config.getLowEngagementAgeDays());
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return commentRepository.findLowEngagementCommentIds(cutoff, afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        return bulkDeletions.softDeleteComments(ids);
+    }
+}
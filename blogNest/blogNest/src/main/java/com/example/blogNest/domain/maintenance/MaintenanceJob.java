@@ -0,0 +1,35 @@
+package com.example.blogNest.domain.maintenance;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A cleanup job that processes matching rows in keyset batches of ids
+ *
+ * Implementations only describe what to select and what to do with one batch;
+ * {@link ChunkedMaintenanceRunner} owns transactions, throttling and checkpoints.
+ */
+public interface MaintenanceJob {
+
+    /**
+     * Unique job name, used for the checkpoint row, metrics and configuration
+     */
+    String getName();
+
+    /**
+     * Compute the cutoff date for a new run
+     */
+    LocalDateTime computeCutoff(LocalDateTime now);
+
+    /**
+     * Find the next ids matching the job criteria, in ascending order, after the given id
+     */
+    List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize);
+
+    /**
+     * Delete or update one batch; called inside its own transaction
+     *
+     * @return number of rows affected
+     */
+    int processBatch(List<Long> ids);
+}
@@ -0,0 +1,16 @@
+package com.example.blogNest.domain.maintenance;
+
+/**
+ * Outcome of one invocation of a maintenance job
+ *
+ * @param completed false if the run stopped early and will resume from its checkpoint
+ */
+public record MaintenanceRunResult(String jobName, long rows, long batches, long elapsedMs, boolean completed) {
+
+    /**
+     * Rows processed per second during this invocation
+     */
+    public double getRowsPerSecond() {
+        return elapsedMs > 0 ? rows * 1000.0 / elapsedMs : rows;
+    }
+}
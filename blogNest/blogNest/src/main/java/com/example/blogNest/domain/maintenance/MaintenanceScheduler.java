@@ -0,0 +1,78 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Nightly trigger for the enabled maintenance jobs
+ * Runs on one node only, guarded by the scheduler_locks lease row
+ */
+@Component
+public class MaintenanceScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(MaintenanceScheduler.class);
+
+    static final String LOCK_NAME = "maintenance";
+
+    private final Map<String, MaintenanceJob> jobs;
+    private final ChunkedMaintenanceRunner runner;
+    private final LeaderLock leaderLock;
+    private final MaintenanceConfig config;
+
+    public MaintenanceScheduler(List<MaintenanceJob> jobs,
+                                ChunkedMaintenanceRunner runner,
+                                LeaderLock leaderLock,
+                                MaintenanceConfig config) {
+        this.jobs = jobs.stream().collect(Collectors.toMap(MaintenanceJob::getName, Function.identity()));
+        this.runner = runner;
+        this.leaderLock = leaderLock;
+        this.config = config;
+    }
+
+    @Scheduled(cron = "${app.maintenance.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Duration lease = Duration.ofMinutes(config.getMaxRunMinutes() * Math.max(1, config.getJobs().size()) + 5);
+        if (!leaderLock.tryAcquire(LOCK_NAME, lease)) {
+            return;
+        }
+        try {
+            runAll();
+        } finally {
+            leaderLock.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * Run every enabled job once
+     */
+    public List<MaintenanceRunResult> runAll() {
+        List<MaintenanceRunResult> results = new ArrayList<>();
+        for (String name : config.getJobs()) {
+            MaintenanceJob job = jobs.get(name);
+            if (job == null) {
+                log.warn("Unknown maintenance job '{}'", name);
+                continue;
+            }
+            try {
+                results.add(runner.run(job));
+            } catch (Exception e) {
+                log.error("Maintenance job {} failed; it will resume from its checkpoint", name, e);
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes drafts that have not been touched within the retention period
+ */
+@Component
+public class OldDraftCleanupJob implements MaintenanceJob {
+
+    private final BlogRepository blogRepository;
+    private final BulkDeletionService bulkDeletions;
+    private final MaintenanceConfig config;
+
+    public OldDraftCleanupJob(BlogRepository blogRepository, BulkDeletionService bulkDeletions, MaintenanceConfig config) {
+        this.blogRepository = blogRepository;
+        this.bulkDeletions = bulkDeletions;
+        this.config = config;
+    }
+
+    @Override
+    public String getName() {
+        return "old-drafts";
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now.minusDays(config.getDraftRetentionDays());
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return blogRepository.findOldDraftIds(cutoff, afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        return bulkDeletions.deleteDrafts(ids);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.LikeRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes likes on archived blogs and deleted comments
+ */
+@Component
+public class OrphanedLikeCleanupJob implements MaintenanceJob {
+
+    private final LikeRepository likeRepository;
+    private final BulkDeletionService bulkDeletions;
+
+    public OrphanedLikeCleanupJob(LikeRepository likeRepository, BulkDeletionService bulkDeletions) {
+        this.likeRepository = likeRepository;
+        this.bulkDeletions = bulkDeletions;
+    }
+
+    @Override
+    public String getName() {
+        return "orphaned-likes";
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now;
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return likeRepository.findOrphanedLikeIds(afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        return bulkDeletions.deleteLikes(ids);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Soft deletes comments that stayed unapproved past the retention period
+ */
+@Component
+public class UnapprovedCommentCleanupJob implements MaintenanceJob {
+
+    private final CommentRepository commentRepository;
+    private final BulkDeletionService bulkDeletions;
+    private final MaintenanceConfig config;
+
+    public UnapprovedCommentCleanupJob(CommentRepository commentRepository, BulkDeletionService bulkDeletions,
+                                       MaintenanceConfig config) {
+        this.commentRepository = commentRepository;
+        this.bulkDeletions = bulkDeletions;
+        this.config = config;
+    }
+
+    @Override
+    public String getName() {
+        return "old-unapproved-comments";
+    }
+
+    @Override
+    public LocalDateTime computeCutoff(LocalDateTime now) {
+        return now.minusDays(config.getUnapprovedCommentRetentionDays());
+    }
+
+    @Override
+    public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+        return commentRepository.findOldUnapprovedCommentIds(cutoff, afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int processBatch(List<Long> ids) {
+        return bulkDeletions.softDeleteComments(ids);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AnalyticsRollup Entity - Pre-aggregated event count for one metric, dimension and time bucket
+ *
+ * Features:
+ * - Hourly and daily buckets for blogs published, likes and comments
+ * - Global, per-blog, per-author and per-category dimensions
+ * - Maintained incrementally from domain events, rebuilt by the backfill command
+ * - Dashboard series are a single index range scan with one row per bucket
+ */
+@Entity
+@Table(name = "analytics_rollups",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_bucket",
+                columnNames = {"metric", "granularity", "dimension", "dimension_id", "bucket_start"})
+    },
+    indexes = {
+        @Index(name = "idx_rollup_bucket_start", columnList = "bucket_start")
+    }
+)
+public class AnalyticsRollup {
+
+    /**
+     * Dimension id used for GLOBAL rows
+     */
+    public static final long GLOBAL_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 30)
+    private Metric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId = GLOBAL_ID;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "event_count", nullable = false)
+    private Long eventCount = 0L;
+
+    // Constructors
+    public AnalyticsRollup() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(Metric metric) {
+        this.metric = metric;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(Granularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Dimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public Long getDimensionId() {
+        return dimensionId;
+    }
+
+    public void setDimensionId(Long dimensionId) {
+        this.dimensionId = dimensionId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(Long eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalyticsRollup{" +
+                "metric=" + metric +
+                ", granularity=" + granularity +
+                ", dimension=" + dimension +
+                ", dimensionId=" + dimensionId +
+                ", bucketStart=" + bucketStart +
+                ", eventCount=" + eventCount +
+                '}';
+    }
+
+    /**
+     * Counted event types
+     */
+    public enum Metric {
+        BLOGS_PUBLISHED,
+        LIKES,
+        COMMENTS
+    }
+
+    /**
+     * Bucket width
+     */
+    public enum Granularity {
+        HOUR,
+        DAY;
+
+        /**
+         * Start of the bucket containing the given time
+         */
+        public LocalDateTime bucketStart(LocalDateTime time) {
+            LocalDateTime hour = time.withMinute(0).withSecond(0).withNano(0);
+            return this == HOUR ? hour : hour.withHour(0);
+        }
+    }
+
+    /**
+     * What the count is grouped by
+     */
+    public enum Dimension {
+        GLOBAL,
+        BLOG,
+        AUTHOR,
+        CATEGORY
+    }
+}
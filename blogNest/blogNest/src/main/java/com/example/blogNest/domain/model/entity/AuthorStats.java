@@ -0,0 +1,136 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AuthorStats Entity - Denormalized profile counters for one user
+ *
+ * Replaces the like/comment join counts on profile pages with a single
+ * primary-key lookup. Rows are adjusted incrementally by the statistics
+ * pipeline and can be rebuilt exactly with AuthorStatsService.rebuild.
+ */
+@Entity
+@Table(name = "author_stats")
+public class AuthorStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "blog_count", nullable = false)
+    private Long blogCount = 0L;
+
+    @Column(name = "total_views", nullable = false)
+    private Long totalViews = 0L;
+
+    @Column(name = "likes_on_blogs", nullable = false)
+    private Long likesOnBlogs = 0L;
+
+    @Column(name = "likes_on_comments", nullable = false)
+    private Long likesOnComments = 0L;
+
+    @Column(name = "comments_received", nullable = false)
+    private Long commentsReceived = 0L;
+
+    @Column(name = "comments_written", nullable = false)
+    private Long commentsWritten = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public AuthorStats() {}
+
+    public AuthorStats(Long userId) {
+        this.userId = userId;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getBlogCount() {
+        return blogCount;
+    }
+
+    public void setBlogCount(Long blogCount) {
+        this.blogCount = blogCount;
+    }
+
+    public Long getTotalViews() {
+        return totalViews;
+    }
+
+    public void setTotalViews(Long totalViews) {
+        this.totalViews = totalViews;
+    }
+
+    public Long getLikesOnBlogs() {
+        return likesOnBlogs;
+    }
+
+    public void setLikesOnBlogs(Long likesOnBlogs) {
+        this.likesOnBlogs = likesOnBlogs;
+    }
+
+    public Long getLikesOnComments() {
+        return likesOnComments;
+    }
+
+    public void setLikesOnComments(Long likesOnComments) {
+        this.likesOnComments = likesOnComments;
+    }
+
+    public Long getCommentsReceived() {
+        return commentsReceived;
+    }
+
+    public void setCommentsReceived(Long commentsReceived) {
+        this.commentsReceived = commentsReceived;
+    }
+
+    public Long getCommentsWritten() {
+        return commentsWritten;
+    }
+
+    public void setCommentsWritten(Long commentsWritten) {
+        this.commentsWritten = commentsWritten;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Helper methods
+
+    /**
+     * Total likes received on the user's blogs and comments
+     */
+    public long getLikesReceived() {
+        return likesOnBlogs + likesOnComments;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthorStats{" +
+                "userId=" + userId +
+                ", blogCount=" + blogCount +
+                ", totalViews=" + totalViews +
+                ", likesOnBlogs=" + likesOnBlogs +
+                ", likesOnComments=" + likesOnComments +
+                ", commentsReceived=" + commentsReceived +
+                ", commentsWritten=" + commentsWritten +
+                '}';
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.blogNest.domain.model.entity;
 
+import com.example.blogNest.domain.event.DomainEventListener;
+import com.example.blogNest.domain.moderation.SimHash;
+import com.example.blogNest.domain.moderation.SpamFingerprintListener;
+import com.example.blogNest.domain.scheduling.BlogScheduleListener;
+import com.example.blogNest.domain.text.TextStatistics;
 import com.example.blogNest.model.enums.BlogStatus;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,14 +35,16 @@ import java.util.Set;
  */
 @Getter
 @Entity
+@EntityListeners({BlogScheduleListener.class, DomainEventListener.class, SpamFingerprintListener.class})
 @Table(name = "blogs", indexes = {
         @Index(name = "idx_blog_status", columnList = "status"),
         @Index(name = "idx_blog_author", columnList = "author_id"),
         @Index(name = "idx_blog_category", columnList = "category_id"),
         @Index(name = "idx_blog_slug", columnList = "slug"),
-        @Index(name = "idx_blog_published_at", columnList = "published_at")
+        @Index(name = "idx_blog_published_at", columnList = "published_at"),
+        @Index(name = "idx_blog_status_updated_at", columnList = "status, updated_at")
 })
-public class Blog extends AuditableEntity {
+public class Blog extends KeyedEntity {
 
     // Getters and Setters
     @Id
@@ -84,12 +94,24 @@ public class Blog extends AuditableEntity {
     @Column(name = "reading_time_minutes")
     private Integer readingTimeMinutes;
 
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    // Plain-text opening of the content, used when no summary is set
+    @Column(name = "excerpt", length = TextStatistics.EXCERPT_LENGTH + 10)
+    private String excerpt;
+
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
     @Column(name = "scheduled_at")
     private LocalDateTime scheduledAt;
 
+    // SimHash of the content for near-duplicate detection
+    @JsonIgnore
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
     @Size(max = 160)
     @Column(name = "meta_title")
     private String metaTitle;
@@ -123,10 +145,24 @@ public class Blog extends AuditableEntity {
     private List<Like> likes = new ArrayList<>();
 
     // Many-to-Many relationship with Tag through BlogTag
+    // Cached as ids; the BlogTag and Tag rows come from their own regions
     @OneToMany(mappedBy = "blog", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "blog-tag-lists")
     @JsonIgnore
     private List<BlogTag> blogTags = new ArrayList<>();
 
+    // Set when the blog becomes PUBLISHED, cleared once the domain event is sent
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private transient boolean publishTransition;
+
+    // Publish time of a publication this blog left (unpublished or archived), cleared once the domain event is sent
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private transient LocalDateTime unpublishedFrom;
+
     // Constructors
     public Blog() {}
 
@@ -134,7 +170,8 @@ public class Blog extends AuditableEntity {
         this.title = title;
         this.content = content;
         this.author = author;
-        this.readingTimeMinutes = calculateReadingTime(content);
+        applyTextStatistics(content);
+        this.contentFingerprint = SimHash.fingerprint(content);
     }
 
     public void setId(Long id) {
@@ -155,7 +192,8 @@ public class Blog extends AuditableEntity {
 
     public void setContent(String content) {
         this.content = content;
-        this.readingTimeMinutes = calculateReadingTime(content);
+        applyTextStatistics(content);
+        this.contentFingerprint = SimHash.fingerprint(content);
     }
 
     public void setFeaturedImageUrl(String featuredImageUrl) {
@@ -163,6 +201,11 @@ public class Blog extends AuditableEntity {
     }
 
     public void setStatus(BlogStatus status) {
+        if (status == BlogStatus.PUBLISHED && this.status != BlogStatus.PUBLISHED) {
+            this.publishTransition = true;
+        } else if (status != BlogStatus.PUBLISHED) {
+            leavePublished();
+        }
         this.status = status;
         if (status == BlogStatus.PUBLISHED && publishedAt == null) {
             this.publishedAt = LocalDateTime.now();
@@ -260,15 +303,55 @@ public class Blog extends AuditableEntity {
      * Publish the blog
      */
     public void publish() {
+        if (this.status != BlogStatus.PUBLISHED) {
+            this.publishTransition = true;
+        }
         this.status = BlogStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
         this.scheduledAt = null;
     }
 
+    /**
+     * Check and clear the pending PUBLISHED transition
+     * Returns true once after the blog became published; used by the domain event listener
+     */
+    public boolean takePublishTransition() {
+        boolean pending = publishTransition;
+        publishTransition = false;
+        return pending;
+    }
+
+    /**
+     * Check and clear a pending transition out of PUBLISHED
+     * Returns the publish time being reversed once after the blog left PUBLISHED, otherwise null;
+     * used by the domain event listener
+     */
+    public LocalDateTime takeUnpublishedFrom() {
+        LocalDateTime pending = unpublishedFrom;
+        unpublishedFrom = null;
+        return pending;
+    }
+
+    /**
+     * Called before the status moves away from PUBLISHED; a publication that was never
+     * flushed is simply cancelled
+     */
+    private void leavePublished() {
+        if (status != BlogStatus.PUBLISHED) {
+            return;
+        }
+        if (publishTransition) {
+            publishTransition = false;
+        } else if (unpublishedFrom == null) {
+            unpublishedFrom = publishedAt;
+        }
+    }
+
     /**
      * Schedule the blog for future publishing
      */
     public void schedule(LocalDateTime scheduledTime) {
+        leavePublished();
         this.status = BlogStatus.SCHEDULED;
         this.scheduledAt = scheduledTime;
     }
@@ -277,6 +360,7 @@ public class Blog extends AuditableEntity {
      * Archive the blog
      */
     public void archive() {
+        leavePublished();
         this.status = BlogStatus.ARCHIVED;
     }
 
@@ -284,6 +368,7 @@ public class Blog extends AuditableEntity {
      * Move blog to draft
      */
     public void makeDraft() {
+        leavePublished();
         this.status = BlogStatus.DRAFT;
         this.publishedAt = null;
         this.scheduledAt = null;
@@ -325,22 +410,14 @@ public class Blog extends AuditableEntity {
     }
 
     /**
-     * Calculate reading time based on content length
-     * Assumes average reading speed of 200 words per minute
+     * Store word count, reading time and excerpt of the content
+     * Computed once per content change instead of on every read
      */
-    private Integer calculateReadingTime(String content) {
-        if (content == null || content.trim().isEmpty()) {
-            return 1;
-        }
-
-        // Remove HTML tags and count words
-        String plainText = content.replaceAll("<[^>]+>", " ");
-        String[] words = plainText.trim().split("\\s+");
-        int wordCount = words.length;
-
-        // Calculate reading time (minimum 1 minute)
-        int readingTime = Math.max(1, Math.round((float) wordCount / 200));
-        return readingTime;
+    private void applyTextStatistics(String content) {
+        TextStatistics statistics = TextStatistics.of(content);
+        this.wordCount = statistics.getWordCount();
+        this.readingTimeMinutes = statistics.getReadingTimeMinutes();
+        this.excerpt = statistics.getExcerpt();
     }
 
     /**
@@ -351,13 +428,12 @@ public class Blog extends AuditableEntity {
             return summary;
         }
 
-        // Generate summary from first 150 characters of content
-        if (content != null && content.length() > 150) {
-            String plainText = content.replaceAll("<[^>]+>", " ");
-            return plainText.substring(0, 150) + "...";
+        if (excerpt != null) {
+            return excerpt;
         }
 
-        return content != null ? content : "";
+        // Rows written before the excerpt column existed
+        return TextStatistics.of(content).getExcerpt();
     }
 
     /**
@@ -375,20 +451,6 @@ public class Blog extends AuditableEntity {
                 metaDescription : getEffectiveSummary();
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-
-        Blog blog = (Blog) obj;
-        return id != null && id.equals(blog.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return getClass().hashCode();
-    }
-
     @Override
     public String toString() {
         return "Blog{" +
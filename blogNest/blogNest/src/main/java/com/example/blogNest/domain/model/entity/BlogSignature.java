@@ -0,0 +1,117 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+/**
+ * BlogSignature Entity - MinHash signature of a published blog
+ *
+ * Lets every node rebuild its similar-posts index from compact rows instead of blog
+ * content. Unpublished or deleted blogs keep an inactive row so other nodes see the
+ * removal on their next sync.
+ */
+@Entity
+@Table(name = "blog_signatures", indexes = {
+        @Index(name = "idx_blog_signatures_updated", columnList = "updated_at, blog_id")
+})
+public class BlogSignature {
+
+    @Id
+    @Column(name = "blog_id")
+    private Long blogId;
+
+    @Lob
+    @Column(name = "signature", nullable = false)
+    private byte[] signature;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public BlogSignature() {}
+
+    public BlogSignature(Long blogId) {
+        this.blogId = blogId;
+    }
+
+    // Getters and Setters
+    public Long getBlogId() {
+        return blogId;
+    }
+
+    public void setBlogId(Long blogId) {
+        this.blogId = blogId;
+    }
+
+    public byte[] getSignature() {
+        return signature;
+    }
+
+    public void setSignature(byte[] signature) {
+        this.signature = signature;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Utility methods
+
+    /**
+     * Signature values as ints
+     */
+    public int[] getValues() {
+        return decode(signature);
+    }
+
+    /**
+     * Store a new signature and mark the row active
+     */
+    public void update(int[] values) {
+        this.signature = encode(values);
+        this.active = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark the blog as no longer indexed
+     */
+    public void deactivate() {
+        this.active = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static byte[] encode(int[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static int[] decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] values = new int[bytes.length / Integer.BYTES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt();
+        }
+        return values;
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.blogNest.domain.model.entity;
 
+import com.example.blogNest.domain.event.DomainEventListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "blog-tags")
+@EntityListeners(DomainEventListener.class)
 public class BlogTag extends AuditableEntity {
 
     @Id
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,12 +19,15 @@ import java.util.List;
  * - Color coding for UI
  * - Blog count tracking
  * - Hierarchical structure support (parent-child categories)
+ * - Held in the second-level cache: blog cards resolve their category without a query
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
 @Table(name = "categories", uniqueConstraints = {
         @UniqueConstraint(columnNames = "slug")
 })
-public class Category extends AuditableEntity {
+public class Category extends KeyedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -326,20 +331,6 @@ public class Category extends AuditableEntity {
         return total;
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-
-        Category category = (Category) obj;
-        return id != null && id.equals(category.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return getClass().hashCode();
-    }
-
     @Override
     public String toString() {
         return "Category{" +
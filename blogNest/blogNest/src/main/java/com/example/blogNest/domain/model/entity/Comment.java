@@ -1,5 +1,8 @@
 package com.example.blogNest.domain.model.entity;
 
+import com.example.blogNest.domain.event.DomainEventListener;
+import com.example.blogNest.domain.moderation.SimHash;
+import com.example.blogNest.domain.moderation.SpamFingerprintListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
@@ -21,6 +24,7 @@ import java.util.Objects;
  * - Reply threading
  */
 @Entity
+@EntityListeners({DomainEventListener.class, SpamFingerprintListener.class})
 @Table(name = "comments", indexes = {
         @Index(name = "idx_comment_blog", columnList = "blog_id"),
         @Index(name = "idx_comment_author", columnList = "author_id"),
@@ -56,6 +60,11 @@ public class Comment extends AuditableEntity {
     @Column(name = "edit_reason")
     private String editReason;
 
+    // SimHash of the content for near-duplicate detection; null for very short comments
+    @JsonIgnore
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+
     // Many-to-One relationship with Blog
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "blog_id", nullable = false)
@@ -80,17 +89,29 @@ public class Comment extends AuditableEntity {
     @JsonIgnore
     private List<Like> likes = new ArrayList<>();
 
+    // Set when the content changes, cleared once the spam check has seen it
+    @Transient
+    @JsonIgnore
+    private transient boolean contentChanged;
+
+    // Net change of isDeleted since the last update event: -1 deleted, +1 restored
+    @Transient
+    @JsonIgnore
+    private transient int deletionChange;
+
     // Constructors
     public Comment() {}
 
     public Comment(String content, Blog blog, User author) {
         this.content = content;
+        this.contentFingerprint = SimHash.fingerprint(content);
         this.blog = blog;
         this.author = author;
     }
 
     public Comment(String content, Blog blog, User author, Comment parent) {
         this.content = content;
+        this.contentFingerprint = SimHash.fingerprint(content);
         this.blog = blog;
         this.author = author;
         this.parent = parent;
@@ -111,6 +132,12 @@ public class Comment extends AuditableEntity {
 
     public void setContent(String content) {
         this.content = content;
+        this.contentFingerprint = SimHash.fingerprint(content);
+        this.contentChanged = true;
+    }
+
+    public Long getContentFingerprint() {
+        return contentFingerprint;
     }
 
     public Boolean getIsDeleted() {
@@ -118,6 +145,11 @@ public class Comment extends AuditableEntity {
     }
 
     public void setIsDeleted(Boolean deleted) {
+        if (!Boolean.TRUE.equals(isDeleted) && Boolean.TRUE.equals(deleted)) {
+            deletionChange--;
+        } else if (Boolean.TRUE.equals(isDeleted) && !Boolean.TRUE.equals(deleted)) {
+            deletionChange++;
+        }
         isDeleted = deleted;
     }
 
@@ -235,8 +267,29 @@ public class Comment extends AuditableEntity {
     }
 
     public void softDelete() {
-        this.isDeleted = true;
+        setIsDeleted(true);
         this.content = "[Comment deleted]";
+        this.contentFingerprint = null;
+    }
+
+    /**
+     * Check and clear the pending content change
+     * Returns true once after setContent; used by the spam fingerprint listener
+     */
+    public boolean takeContentChanged() {
+        boolean pending = contentChanged;
+        contentChanged = false;
+        return pending;
+    }
+
+    /**
+     * Check and clear the pending deletion change
+     * Returns -1 after a soft delete, +1 after a restore and 0 otherwise; used by the domain event listener
+     */
+    public int takeDeletionChange() {
+        int pending = deletionChange;
+        deletionChange = 0;
+        return pending;
     }
 
     public void markAsEdited(String reason) {
@@ -0,0 +1,86 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * CounterShard Entity - One slice of a hot like or comment counter
+ *
+ * While a blog or comment is hot its count is the value on its own row plus the
+ * deltas of its shards. Shards are written by plain SQL and periodically folded
+ * back into the owning row; they are deleted once all of them sat idle between two folds.
+ */
+@Entity
+@Table(name = "counter_shards",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_counter_shard", columnNames = {"counter_name", "entity_id", "shard"})
+    }
+)
+public class CounterShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "counter_name", nullable = false, length = 32)
+    private String counterName;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "shard", nullable = false)
+    private Integer shard;
+
+    // Not yet folded into the owning row; negative after more decrements than increments
+    @Column(name = "delta", nullable = false)
+    private Long delta = 0L;
+
+    // Constructors
+    public CounterShard() {}
+
+    public CounterShard(String counterName, Long entityId, Integer shard) {
+        this.counterName = counterName;
+        this.entityId = entityId;
+        this.shard = shard;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCounterName() {
+        return counterName;
+    }
+
+    public void setCounterName(String counterName) {
+        this.counterName = counterName;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
+    public Long getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Long delta) {
+        this.delta = delta;
+    }
+}
@@ -10,7 +10,7 @@ import jakarta.validation.constraints.NotNull;
  * - User-to-User following relationships
  * - Prevents duplicate follows
  * - Tracks follow timestamp
- * - Supports mutual following detection
+ * - The only store of follow edges; follower counters are kept by FollowService
  * - Follow/unfollow notifications
  */
 @Entity
@@ -212,20 +212,4 @@ public class Follow extends AuditableEntity {
         
         return new Follow(follower, following);
     }
-
-    /**
-     * Check if two users have a mutual follow relationship
-     */
-    public static boolean isMutualFollow(User user1, User user2) {
-        if (user1 == null || user2 == null) {
-            return false;
-        }
-        
-        // This would typically be checked at the service level with repository queries
-        // Here we're providing the logic structure
-        boolean user1FollowsUser2 = user1.getFollowing().contains(user2);
-        boolean user2FollowsUser1 = user2.getFollowing().contains(user1);
-        
-        return user1FollowsUser2 && user2FollowsUser1;
-    }
 }
\ No newline at end of file
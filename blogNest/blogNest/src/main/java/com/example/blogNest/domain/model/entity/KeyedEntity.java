@@ -0,0 +1,54 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+/**
+ * Base class for entities that are kept in hash-based collections
+ *
+ * Each instance gets a random key when it is constructed, and the key is stored with the row.
+ * Equality and hash code use that key instead of the database id:
+ * - The key exists before persist, so a new entity keeps its hash once the database assigns its id
+ * - A loaded copy reads the stored key, so it is equal to and hashes like the instance it was saved from
+ * - Keys spread entities over buckets, so large sets stay constant-time
+ */
+@MappedSuperclass
+public abstract class KeyedEntity extends AuditableEntity {
+
+    /**
+     * Key fixed at construction; never updated, so it does not depend on the id
+     */
+    @JdbcTypeCode(SqlTypes.CHAR)
+    @Column(name = "uuid", length = 36, nullable = false, unique = true, updatable = false)
+    private UUID uuid = UUID.randomUUID();
+
+    protected KeyedEntity() {
+        super();
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public void setUuid(UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        KeyedEntity that = (KeyedEntity) obj;
+        return uuid.equals(that.uuid);
+    }
+
+    @Override
+    public final int hashCode() {
+        return uuid.hashCode();
+    }
+}
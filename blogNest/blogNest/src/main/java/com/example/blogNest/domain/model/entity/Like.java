@@ -1,5 +1,6 @@
 package com.example.blogNest.model.entity;
 
+import com.example.blogNest.domain.event.DomainEventListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
@@ -13,6 +14,7 @@ import jakarta.validation.constraints.NotNull;
  * - Supports both blog likes and comment likes
  */
 @Entity
+@EntityListeners(DomainEventListener.class)
 @Table(name = "likes", 
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_user_blog_like", columnNames = {"user_id", "blog_id"}),
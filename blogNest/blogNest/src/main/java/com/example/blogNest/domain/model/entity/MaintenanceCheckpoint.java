@@ -0,0 +1,165 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * MaintenanceCheckpoint Entity - Progress of a chunked maintenance job
+ *
+ * Features:
+ * - Keyset cursor (last processed id) so an interrupted run resumes where it stopped
+ * - Cutoff date frozen at the start of a run so resumed batches use the same criteria
+ * - Running totals for throughput reporting
+ */
+@Entity
+@Table(name = "maintenance_checkpoints")
+public class MaintenanceCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId = 0L;
+
+    @Column(name = "cutoff_date")
+    private LocalDateTime cutoffDate;
+
+    @Column(name = "rows_processed", nullable = false)
+    private Long rowsProcessed = 0L;
+
+    @Column(name = "batches_processed", nullable = false)
+    private Long batchesProcessed = 0L;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public MaintenanceCheckpoint() {}
+
+    public MaintenanceCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // Getters and Setters
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public Long getLastProcessedId() {
+        return lastProcessedId;
+    }
+
+    public void setLastProcessedId(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+
+    public LocalDateTime getCutoffDate() {
+        return cutoffDate;
+    }
+
+    public void setCutoffDate(LocalDateTime cutoffDate) {
+        this.cutoffDate = cutoffDate;
+    }
+
+    public Long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public void setRowsProcessed(Long rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    public Long getBatchesProcessed() {
+        return batchesProcessed;
+    }
+
+    public void setBatchesProcessed(Long batchesProcessed) {
+        this.batchesProcessed = batchesProcessed;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    // Utility methods
+
+    /**
+     * Check if a run was started and has not finished yet
+     */
+    public boolean isInProgress() {
+        return startedAt != null && completedAt == null;
+    }
+
+    /**
+     * Begin a new run from the first id
+     */
+    public void startRun(LocalDateTime cutoffDate) {
+        this.lastProcessedId = 0L;
+        this.cutoffDate = cutoffDate;
+        this.rowsProcessed = 0L;
+        this.batchesProcessed = 0L;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+        this.completedAt = null;
+    }
+
+    /**
+     * Record a processed batch
+     */
+    public void advance(Long lastId, int rows) {
+        this.lastProcessedId = lastId;
+        this.rowsProcessed += rows;
+        this.batchesProcessed++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark the current run as finished
+     */
+    public void complete() {
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MaintenanceCheckpoint{" +
+                "jobName='" + jobName + '\'' +
+                ", lastProcessedId=" + lastProcessedId +
+                ", rowsProcessed=" + rowsProcessed +
+                ", completedAt=" + completedAt +
+                '}';
+    }
+}
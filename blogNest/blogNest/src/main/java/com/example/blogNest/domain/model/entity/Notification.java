@@ -22,7 +22,7 @@ import jakarta.validation.constraints.Size;
     @Index(name = "idx_notification_read", columnList = "is_read"),
     @Index(name = "idx_notification_created", columnList = "created_at")
 })
-public class Notification extends AuditableEntity {
+public class Notification extends KeyedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -336,20 +336,6 @@ public class Notification extends AuditableEntity {
         return notification;
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-
-        Notification that = (Notification) obj;
-        return id != null && id.equals(that.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return getClass().hashCode();
-    }
-
     @Override
     public String toString() {
         return "Notification{" +
@@ -0,0 +1,62 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * PlatformStatistic Entity - One platform-wide counter
+ *
+ * Rows are adjusted with atomic "value = value + delta" UPDATEs by the statistics
+ * registry and overwritten by the periodic exact recompute.
+ */
+@Entity
+@Table(name = "platform_statistics")
+public class PlatformStatistic {
+
+    @Id
+    @Column(name = "stat_key", length = 50)
+    private String statKey;
+
+    @Column(name = "stat_value", nullable = false)
+    private Long statValue = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public PlatformStatistic() {}
+
+    // Getters and Setters
+    public String getStatKey() {
+        return statKey;
+    }
+
+    public void setStatKey(String statKey) {
+        this.statKey = statKey;
+    }
+
+    public Long getStatValue() {
+        return statValue;
+    }
+
+    public void setStatValue(Long statValue) {
+        this.statValue = statValue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PlatformStatistic{" +
+                "statKey='" + statKey + '\'' +
+                ", statValue=" + statValue +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * RateLimitCounter Entity - Requests made by one client in one minute, summed over all nodes
+ *
+ * Only used when rate limits are shared between nodes. Rows are written by the periodic
+ * usage exchange, never per request, and are deleted a few minutes after their window.
+ */
+@Entity
+@Table(name = "rate_limit_counters",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rate_limit_window", columnNames = {"limit_key", "window_start"})
+    },
+    indexes = {
+        @Index(name = "idx_rate_limit_window_start", columnList = "window_start")
+    }
+)
+public class RateLimitCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "limit_key", nullable = false, length = 128)
+    private String limitKey;
+
+    // Minutes since the epoch
+    @Column(name = "window_start", nullable = false)
+    private Long windowStart;
+
+    @Column(name = "used", nullable = false)
+    private Long used = 0L;
+
+    // Constructors
+    public RateLimitCounter() {}
+
+    public RateLimitCounter(String limitKey, Long windowStart) {
+        this.limitKey = limitKey;
+        this.windowStart = windowStart;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getLimitKey() {
+        return limitKey;
+    }
+
+    public void setLimitKey(String limitKey) {
+        this.limitKey = limitKey;
+    }
+
+    public Long getWindowStart() {
+        return windowStart;
+    }
+
+    public void setWindowStart(Long windowStart) {
+        this.windowStart = windowStart;
+    }
+
+    public Long getUsed() {
+        return used;
+    }
+
+    public void setUsed(Long used) {
+        this.used = used;
+    }
+}
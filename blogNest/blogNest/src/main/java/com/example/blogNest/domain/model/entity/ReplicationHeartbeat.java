@@ -0,0 +1,67 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * ReplicationHeartbeat Entity - Timestamp written on the primary and read back from replicas
+ *
+ * Features:
+ * - A single row, rewritten by one node every heartbeat interval
+ * - beat_ms is the writer's clock in epoch milliseconds; replication lag is the difference
+ *   between the value on the primary and the value a replica currently shows
+ * - Rows are written with plain conditional UPDATEs, never through the entity manager
+ *
+ * The entity exists so the table is created and validated together with the rest of the schema.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    public static final int SINGLE_ROW_ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "beat_ms", nullable = false)
+    private Long beatMs;
+
+    @Column(name = "writer", nullable = false, length = 200)
+    private String writer;
+
+    // Constructors
+    public ReplicationHeartbeat() {}
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getBeatMs() {
+        return beatMs;
+    }
+
+    public void setBeatMs(Long beatMs) {
+        this.beatMs = beatMs;
+    }
+
+    public String getWriter() {
+        return writer;
+    }
+
+    public void setWriter(String writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationHeartbeat{" +
+                "beatMs=" + beatMs +
+                ", writer='" + writer + '\'' +
+                '}';
+    }
+}
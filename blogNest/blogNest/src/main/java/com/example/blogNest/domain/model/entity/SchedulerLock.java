@@ -0,0 +1,85 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * SchedulerLock Entity - Lease row used for leader election between application nodes
+ *
+ * Features:
+ * - One row per named background job
+ * - Owner node id and lease expiry
+ * - Rows are written with plain conditional UPDATEs, never through the entity manager
+ *
+ * The entity exists so the table is created and validated together with the rest of the schema.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "owner", nullable = false, length = 200)
+    private String owner;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // Constructors
+    public SchedulerLock() {}
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public LocalDateTime getLockedAt() {
+        return lockedAt;
+    }
+
+    public void setLockedAt(LocalDateTime lockedAt) {
+        this.lockedAt = lockedAt;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * Check if the lease has run out
+     */
+    public boolean isExpired() {
+        return lockedUntil == null || lockedUntil.isBefore(LocalDateTime.now());
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerLock{" +
+                "name='" + name + '\'' +
+                ", owner='" + owner + '\'' +
+                ", lockedUntil=" + lockedUntil +
+                '}';
+    }
+}
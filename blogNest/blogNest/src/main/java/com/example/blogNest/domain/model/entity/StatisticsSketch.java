@@ -0,0 +1,61 @@
+package com.example.blogNest.domain.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * StatisticsSketch Entity - Serialized probabilistic sketch shared between nodes
+ *
+ * Used for the HyperLogLog of unique likers; nodes merge their local registers
+ * into this row under a pessimistic lock.
+ */
+@Entity
+@Table(name = "statistics_sketches")
+public class StatisticsSketch {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Lob
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public StatisticsSketch() {}
+
+    public StatisticsSketch(String name, byte[] data) {
+        this.name = name;
+        this.data = data;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,12 +20,15 @@ import java.util.List;
  * - Usage count tracking
  * - Color coding for UI
  * - Many-to-Many relationship with blogs through BlogTag
+ * - Held in the second-level cache: blog cards resolve their tags without a query
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 @Table(name = "tags", uniqueConstraints = {
         @UniqueConstraint(columnNames = "slug")
 })
-public class Tag extends AuditableEntity {
+public class Tag extends KeyedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -202,20 +207,6 @@ public class Tag extends AuditableEntity {
         return usageCount == 0;
     }
 
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-
-        Tag tag = (Tag) obj;
-        return id != null && id.equals(tag.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return getClass().hashCode();
-    }
-
     @Override
     public String toString() {
         return "Tag{" +
@@ -1,16 +1,18 @@
 package com.example.blogNest.domain.model.entity;
 
+import com.example.blogNest.domain.auth.TokenEpochListener;
 import com.example.blogNest.model.enums.Role;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.HashSet;
 
 /**
  * User Entity - Represents a user in the BlogNest platform
@@ -20,14 +22,21 @@ import java.util.HashSet;
  * - Authentication details (password, email verification)
  * - Profile information (bio, avatar, social links)
  * - Role-based access control
- * - Relationships with blogs, comments, likes, follows
+ * - Relationships with blogs, comments and likes; follows live in the follows table
+ * - Held in the second-level cache; code that writes users with plain SQL evicts the rows
+ *   through EntityCacheEvictor
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(TokenEpochListener.class)
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
+}, indexes = {
+        @Index(name = "idx_user_updated_at", columnList = "updated_at")
 })
-public class User extends AuditableEntity {
+public class User extends KeyedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -95,15 +104,25 @@ public class User extends AuditableEntity {
     @Column(name = "password_reset_token")
     private String passwordResetToken;
 
-    @Column(name = "followers_count", nullable = false)
+    // Counters are written only by UserCounterService; saving a profile never touches or versions them.
+    // The stored sums can dip below zero while another node's deltas are in flight, so getters clamp
+    @Column(name = "followers_count", nullable = false, updatable = false)
+    @OptimisticLock(excluded = true)
     private Long followersCount = 0L;
 
-    @Column(name = "following_count", nullable = false)
+    @Column(name = "following_count", nullable = false, updatable = false)
+    @OptimisticLock(excluded = true)
     private Long followingCount = 0L;
 
-    @Column(name = "blogs_count", nullable = false)
+    @Column(name = "blogs_count", nullable = false, updatable = false)
+    @OptimisticLock(excluded = true)
     private Long blogsCount = 0L;
 
+    // Tokens issued with a lower epoch are rejected; bumped when credentials or role change
+    @JsonIgnore
+    @Column(name = "token_epoch", nullable = false)
+    private Long tokenEpoch = 0L;
+
     // One-to-Many relationship with Blog
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
@@ -119,20 +138,6 @@ public class User extends AuditableEntity {
     @JsonIgnore
     private List<Like> likes = new ArrayList<>();
 
-    // Many-to-Many relationship with User (followers/following)
-    @ManyToMany(fetch = FetchType.LAZY)
-    @JoinTable(
-            name = "user_followers",
-            joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "follower_id")
-    )
-    @JsonIgnore
-    private Set<User> followers = new HashSet<>();
-
-    @ManyToMany(mappedBy = "followers", fetch = FetchType.LAZY)
-    @JsonIgnore
-    private Set<User> following = new HashSet<>();
-
     // One-to-Many relationship with Notification (as recipient)
     @OneToMany(mappedBy = "recipient", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
@@ -179,6 +184,9 @@ public class User extends AuditableEntity {
     }
 
     public void setPassword(String password) {
+        if (id != null && this.password != null && !this.password.equals(password)) {
+            revokeTokens();
+        }
         this.password = password;
     }
 
@@ -251,6 +259,9 @@ public class User extends AuditableEntity {
     }
 
     public void setRole(Role role) {
+        if (id != null && this.role != role) {
+            revokeTokens();
+        }
         this.role = role;
     }
 
@@ -259,9 +270,16 @@ public class User extends AuditableEntity {
     }
 
     public void setIsActive(Boolean active) {
+        if (id != null && Boolean.TRUE.equals(isActive) && !Boolean.TRUE.equals(active)) {
+            revokeTokens();
+        }
         isActive = active;
     }
 
+    public Long getTokenEpoch() {
+        return tokenEpoch;
+    }
+
     public Boolean getEmailVerified() {
         return emailVerified;
     }
@@ -287,7 +305,7 @@ public class User extends AuditableEntity {
     }
 
     public Long getFollowersCount() {
-        return followersCount;
+        return followersCount != null ? Math.max(0L, followersCount) : null;
     }
 
     public void setFollowersCount(Long followersCount) {
@@ -295,7 +313,7 @@ public class User extends AuditableEntity {
     }
 
     public Long getFollowingCount() {
-        return followingCount;
+        return followingCount != null ? Math.max(0L, followingCount) : null;
     }
 
     public void setFollowingCount(Long followingCount) {
@@ -303,7 +321,7 @@ public class User extends AuditableEntity {
     }
 
     public Long getBlogsCount() {
-        return blogsCount;
+        return blogsCount != null ? Math.max(0L, blogsCount) : null;
     }
 
     public void setBlogsCount(Long blogsCount) {
@@ -334,22 +352,6 @@ public class User extends AuditableEntity {
         this.likes = likes;
     }
 
-    public Set<User> getFollowers() {
-        return followers;
-    }
-
-    public void setFollowers(Set<User> followers) {
-        this.followers = followers;
-    }
-
-    public Set<User> getFollowing() {
-        return following;
-    }
-
-    public void setFollowing(Set<User> following) {
-        this.following = following;
-    }
-
     public List<Notification> getNotifications() {
         return notifications;
     }
@@ -389,65 +391,10 @@ public class User extends AuditableEntity {
     }
 
     /**
-     * Add a follower
+     * Invalidate every token issued so far
      */
-    public void addFollower(User follower) {
-        this.followers.add(follower);
-        follower.getFollowing().add(this);
-        this.followersCount++;
-        follower.followingCount++;
-    }
-
-    /**
-     * Remove a follower
-     */
-    public void removeFollower(User follower) {
-        this.followers.remove(follower);
-        follower.getFollowing().remove(this);
-        this.followersCount = Math.max(0, this.followersCount - 1);
-        follower.followingCount = Math.max(0, follower.followingCount - 1);
-    }
-
-    /**
-     * Check if user is following another user
-     */
-    public boolean isFollowing(User user) {
-        return this.following.contains(user);
-    }
-
-    /**
-     * Check if user is followed by another user
-     */
-    public boolean isFollowedBy(User user) {
-        return this.followers.contains(user);
-    }
-
-    /**
-     * Increment blog count
-     */
-    public void incrementBlogCount() {
-        this.blogsCount++;
-    }
-
-    /**
-     * Decrement blog count
-     */
-    public void decrementBlogCount() {
-        this.blogsCount = Math.max(0, this.blogsCount - 1);
-    }
-
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-
-        User user = (User) obj;
-        return id != null && id.equals(user.id);
-    }
-
-    @Override
-    public int hashCode() {
-        return getClass().hashCode();
+    public void revokeTokens() {
+        this.tokenEpoch = (tokenEpoch != null ? tokenEpoch : 0L) + 1;
     }
 
     @Override
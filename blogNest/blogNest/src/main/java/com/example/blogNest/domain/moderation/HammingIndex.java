@@ -0,0 +1,146 @@
+package com.example.blogNest.domain.moderation;
+
+import java.util.Arrays;
+
+/**
+ * Bounded multi-index table for Hamming-distance lookups over 64-bit fingerprints
+ *
+ * By the pigeonhole principle two fingerprints within distance k agree exactly on at least
+ * one of k + 1 disjoint bit blocks. Every entry is therefore chained under each of its block
+ * values, and a query only verifies entries sharing a block with it.
+ *
+ * Entries live in a ring buffer of primitive arrays; when full, the oldest entry is
+ * overwritten. Chains are newest-first singly linked lists with lazy unlinking: a walk stops
+ * at the first slot that is not older than the one before it, since everything past that
+ * point has already been recycled.
+ */
+public class HammingIndex {
+
+    private static final int HEAD_BITS = 16;
+    private static final int HEAD_MASK = (1 << HEAD_BITS) - 1;
+
+    private final int maxDistance;
+    private final int blocks;
+    private final int[] blockShift;
+    private final long[] blockMask;
+
+    private final int capacity;
+    private final long[] fingerprints;
+    private final long[] ids;
+    private final long[] groups;
+    private final long[] times;
+    private final long[] sequences;
+    private final int[][] heads;
+    private final int[][] next;
+    private long sequence;
+
+    /**
+     * @param maxDistance largest Hamming distance a lookup must find
+     * @param capacity    entries kept before the oldest are overwritten
+     */
+    public HammingIndex(int maxDistance, int capacity) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and 15");
+        }
+        this.maxDistance = maxDistance;
+        this.blocks = maxDistance + 1;
+        this.blockShift = new int[blocks];
+        this.blockMask = new long[blocks];
+        for (int b = 0; b < blocks; b++) {
+            int from = b * 64 / blocks;
+            int to = (b + 1) * 64 / blocks;
+            blockShift[b] = from;
+            blockMask[b] = to - from == 64 ? -1L : (1L << (to - from)) - 1;
+        }
+
+        this.capacity = capacity;
+        this.fingerprints = new long[capacity];
+        this.ids = new long[capacity];
+        this.groups = new long[capacity];
+        this.times = new long[capacity];
+        this.sequences = new long[capacity];
+        this.heads = new int[blocks][1 << HEAD_BITS];
+        this.next = new int[blocks][capacity];
+        for (int[] head : heads) {
+            Arrays.fill(head, -1);
+        }
+    }
+
+    /**
+     * Add a fingerprint
+     *
+     * @param id     owner id (comment or blog)
+     * @param group  grouping id used to tell copies apart (e.g. the blog a comment is on)
+     * @param timeMs creation time, used to ignore entries outside a lookup window
+     */
+    public synchronized void add(long fingerprint, long id, long group, long timeMs) {
+        int slot = (int) (sequence % capacity);
+        fingerprints[slot] = fingerprint;
+        ids[slot] = id;
+        groups[slot] = group;
+        times[slot] = timeMs;
+        sequences[slot] = ++sequence;
+        for (int b = 0; b < blocks; b++) {
+            int head = headIndex(fingerprint, b);
+            next[b][slot] = heads[b][head];
+            heads[b][head] = slot;
+        }
+    }
+
+    /**
+     * Visit stored entries within {@code maxDistance} of the fingerprint and newer than
+     * {@code sinceMs}; an entry matching on several blocks is reported once
+     */
+    public synchronized void forEachMatch(long fingerprint, long sinceMs, MatchConsumer consumer) {
+        for (int b = 0; b < blocks; b++) {
+            long block = (fingerprint >>> blockShift[b]) & blockMask[b];
+            int slot = heads[b][headIndex(fingerprint, b)];
+            long previousSequence = Long.MAX_VALUE;
+            while (slot >= 0 && sequences[slot] < previousSequence) {
+                previousSequence = sequences[slot];
+                long stored = fingerprints[slot];
+                if (times[slot] < sinceMs) {
+                    // Chains are newest-first; the rest is older still
+                    break;
+                }
+                if (((stored >>> blockShift[b]) & blockMask[b]) == block
+                        && firstMatchingBlock(stored, fingerprint) == b
+                        && Long.bitCount(stored ^ fingerprint) <= maxDistance) {
+                    consumer.accept(ids[slot], groups[slot], Long.bitCount(stored ^ fingerprint));
+                }
+                slot = next[b][slot];
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return (int) Math.min(sequence, capacity);
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    private int firstMatchingBlock(long a, long b) {
+        for (int i = 0; i < blocks; i++) {
+            if (((a >>> blockShift[i]) & blockMask[i]) == ((b >>> blockShift[i]) & blockMask[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int headIndex(long fingerprint, int block) {
+        long value = (fingerprint >>> blockShift[block]) & blockMask[block];
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> (64 - HEAD_BITS)) & HEAD_MASK;
+    }
+
+    /**
+     * Primitive callback for lookup results
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        void accept(long id, long group, int distance);
+    }
+}
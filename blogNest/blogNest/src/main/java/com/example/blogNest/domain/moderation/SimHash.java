@@ -0,0 +1,96 @@
+package com.example.blogNest.domain.moderation;
+
+/**
+ * 64-bit SimHash fingerprints of text
+ *
+ * Near-identical texts get fingerprints that differ in only a few bits, so copy-paste
+ * content with small edits can be found by Hamming distance. Features are words and word bigrams,
+ * hashed in a single pass over the characters with markup between angle brackets skipped
+ * and no intermediate strings.
+ */
+public final class SimHash {
+
+    /**
+     * Texts with fewer words get no fingerprint; short replies ("thanks!") repeat legitimately
+     */
+    public static final int MIN_WORDS = 5;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {}
+
+    /**
+     * Fingerprint of the text, or null if it has fewer than {@link #MIN_WORDS} words
+     */
+    public static Long fingerprint(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+
+        int[] weights = new int[64];
+        int words = 0;
+        long previous = 0;
+        long word = FNV_OFFSET;
+        boolean inWord = false;
+        boolean inMarkup = false;
+
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (inMarkup) {
+                inMarkup = c != '>';
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                word = (word ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inWord = true;
+                continue;
+            }
+            if (inWord) {
+                accumulate(weights, mix64(word));
+                if (words > 0) {
+                    accumulate(weights, mix64(previous * 31 + word));
+                }
+                previous = word;
+                words++;
+                word = FNV_OFFSET;
+                inWord = false;
+            }
+            inMarkup = c == '<';
+        }
+
+        if (words < MIN_WORDS) {
+            return null;
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Number of differing bits between two fingerprints
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    private static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.blogNest.domain.moderation;
+
+import com.example.blogNest.domain.config.ModerationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Near-duplicate detection over SimHash fingerprints
+ *
+ * Features:
+ * - Recent comment fingerprints and all blog fingerprints are held in {@link HammingIndex} tables
+ * - A new comment is flagged when near-copies already appear on enough other blogs
+ *   (the copy-paste campaign pattern); flagged comments wait in the approval queue
+ * - New comments and blogs from other nodes are pulled in by a keyset sync on id; blog edits
+ *   made elsewhere are seen after a restart
+ *
+ * Lookups touch only the chains sharing a fingerprint block, typically a few microseconds.
+ */
+@Service
+public class SpamDetectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SpamDetectionService.class);
+
+    private static final String COMMENT_SYNC_SQL =
+            "SELECT id, blog_id, content_fingerprint, created_at FROM comments " +
+            "WHERE id > ? AND content_fingerprint IS NOT NULL ORDER BY id LIMIT ?";
+    private static final String COMMENT_WINDOW_START_SQL =
+            "SELECT MIN(id) FROM comments WHERE created_at >= ?";
+    private static final String BLOG_SYNC_SQL =
+            "SELECT id, content_fingerprint FROM blogs " +
+            "WHERE id > ? AND content_fingerprint IS NOT NULL ORDER BY id LIMIT ?";
+
+    private final ModerationConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final HammingIndex comments;
+    private final HammingIndex blogs;
+
+    // Latest fingerprint per blog, so re-saving an unchanged blog adds nothing to the ring
+    private final Map<Long, Long> blogFingerprints = new ConcurrentHashMap<>();
+    private final Set<Long> registeredComments = ConcurrentHashMap.newKeySet();
+    private volatile long lastCommentId = -1;
+    private volatile long lastBlogId;
+
+    public SpamDetectionService(ModerationConfig config, JdbcTemplate jdbcTemplate) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.comments = new HammingIndex(config.getMaxDistance(), config.getCommentCapacity());
+        this.blogs = new HammingIndex(config.getMaxDistance(), config.getBlogCapacity());
+    }
+
+    /**
+     * Load recent fingerprints once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!config.isSpamDetectionEnabled()) {
+            return;
+        }
+        try {
+            Long firstId = jdbcTemplate.queryForObject(COMMENT_WINDOW_START_SQL, Long.class,
+                    Timestamp.valueOf(LocalDateTime.now().minusHours(config.getWindowHours())));
+            lastCommentId = firstId != null ? firstId - 1 : 0;
+            sync();
+            log.info("Loaded {} comment and {} blog fingerprints", comments.size(), blogs.size());
+        } catch (Exception e) {
+            log.warn("Could not load fingerprints; spam detection starts empty", e);
+            lastCommentId = Math.max(lastCommentId, 0);
+        }
+    }
+
+    // Checks
+
+    /**
+     * Whether a comment looks like part of a copy-paste campaign
+     *
+     * @param fingerprint the comment's SimHash, null for short comments
+     * @param blogId      blog the comment is posted on; copies on the same blog do not count
+     */
+    public boolean isLikelySpam(Long fingerprint, Long blogId) {
+        if (!config.isSpamDetectionEnabled() || fingerprint == null) {
+            return false;
+        }
+        long other = blogId != null ? blogId : -1;
+        Set<Long> otherBlogs = new HashSet<>();
+        comments.forEachMatch(fingerprint, windowStartMs(), (id, group, distance) -> {
+            if (group != other) {
+                otherBlogs.add(group);
+            }
+        });
+        return otherBlogs.size() >= config.getDuplicateThreshold();
+    }
+
+    /**
+     * IDs of recent comments whose text is a near-copy of the fingerprint
+     */
+    public List<Long> findNearDuplicateComments(long fingerprint) {
+        Set<Long> ids = new LinkedHashSet<>();
+        comments.forEachMatch(fingerprint, windowStartMs(), (id, group, distance) -> ids.add(id));
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * IDs of blogs whose content is a near-copy of the fingerprint
+     */
+    public List<Long> findNearDuplicateBlogs(long fingerprint, Long excludeBlogId) {
+        Set<Long> ids = new LinkedHashSet<>();
+        blogs.forEachMatch(fingerprint, Long.MIN_VALUE, (id, group, distance) -> {
+            // Ring entries for older versions of a blog are skipped via the latest fingerprint
+            Long current = blogFingerprints.get(id);
+            if (current != null && SimHash.distance(current, fingerprint) <= blogs.getMaxDistance()
+                    && (excludeBlogId == null || id != excludeBlogId)) {
+                ids.add(id);
+            }
+        });
+        return new ArrayList<>(ids);
+    }
+
+    // Registration
+
+    /**
+     * Add a committed comment's fingerprint
+     */
+    public void registerComment(Long commentId, Long blogId, Long fingerprint, LocalDateTime createdAt) {
+        if (commentId == null || fingerprint == null || !registeredComments.add(commentId)) {
+            return;
+        }
+        comments.add(fingerprint, commentId, blogId != null ? blogId : -1, toEpochMillis(createdAt));
+    }
+
+    /**
+     * Add or update a committed blog's fingerprint
+     */
+    public void registerBlog(Long blogId, Long fingerprint) {
+        if (blogId == null || fingerprint == null) {
+            return;
+        }
+        Long previous = blogFingerprints.put(blogId, fingerprint);
+        if (!fingerprint.equals(previous)) {
+            blogs.add(fingerprint, blogId, blogId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Pull fingerprints committed since the last sync, on this or any other node
+     */
+    @Scheduled(fixedDelayString = "${app.moderation.sync-interval-ms:10000}")
+    public void sync() {
+        if (!config.isSpamDetectionEnabled() || lastCommentId < 0) {
+            return;
+        }
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(COMMENT_SYNC_SQL,
+                    (rs, n) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getTimestamp(4)},
+                    lastCommentId, config.getBatchSize());
+            for (Object[] row : rows) {
+                Timestamp createdAt = (Timestamp) row[3];
+                registerComment((Long) row[0], (Long) row[1], (Long) row[2],
+                        createdAt != null ? createdAt.toLocalDateTime() : null);
+                lastCommentId = (Long) row[0];
+            }
+            if (rows.size() < config.getBatchSize()) {
+                break;
+            }
+        }
+        // Ids at or below the sync point can no longer arrive twice
+        registeredComments.removeIf(id -> id <= lastCommentId);
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(BLOG_SYNC_SQL,
+                    (rs, n) -> new Object[]{rs.getLong(1), rs.getLong(2)},
+                    lastBlogId, config.getBatchSize());
+            for (Object[] row : rows) {
+                registerBlog((Long) row[0], (Long) row[1]);
+                lastBlogId = (Long) row[0];
+            }
+            if (rows.size() < config.getBatchSize()) {
+                break;
+            }
+        }
+    }
+
+    private long windowStartMs() {
+        return System.currentTimeMillis() - TimeUnit.HOURS.toMillis(config.getWindowHours());
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : System.currentTimeMillis();
+    }
+}
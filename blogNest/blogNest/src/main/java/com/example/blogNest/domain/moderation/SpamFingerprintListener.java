@@ -0,0 +1,87 @@
+package com.example.blogNest.domain.moderation;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.Comment;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that checks and records content fingerprints
+ *
+ * New or edited comments that look like copy-paste spam are marked unapproved before
+ * the row is written, which puts them in the findCommentsAwaitingApproval queue.
+ * Fingerprints are added to the lookup tables only after the transaction commits.
+ *
+ * Hibernate creates this listener while the EntityManagerFactory is being built, and the
+ * detection service depends on repositories, so the service is looked up on first use.
+ */
+@Component
+public class SpamFingerprintListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SpamFingerprintListener.class);
+
+    private final ObjectProvider<SpamDetectionService> spamDetection;
+
+    public SpamFingerprintListener(ObjectProvider<SpamDetectionService> spamDetection) {
+        this.spamDetection = spamDetection;
+    }
+
+    @PrePersist
+    public void beforePersist(Object entity) {
+        if (entity instanceof Comment comment) {
+            comment.takeContentChanged();
+            holdIfSpam(comment);
+        }
+    }
+
+    @PreUpdate
+    public void beforeUpdate(Object entity) {
+        if (entity instanceof Comment comment && comment.takeContentChanged()) {
+            holdIfSpam(comment);
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void afterWrite(Object entity) {
+        if (entity instanceof Comment comment && comment.getContentFingerprint() != null) {
+            Long blogId = comment.getBlog() != null ? comment.getBlog().getId() : null;
+            afterCommit(() -> spamDetection.getObject().registerComment(
+                    comment.getId(), blogId, comment.getContentFingerprint(), comment.getCreatedAt()));
+        } else if (entity instanceof Blog blog && blog.getContentFingerprint() != null) {
+            afterCommit(() -> spamDetection.getObject().registerBlog(blog.getId(), blog.getContentFingerprint()));
+        }
+    }
+
+    private void holdIfSpam(Comment comment) {
+        if (!Boolean.TRUE.equals(comment.getIsApproved())) {
+            return;
+        }
+        Long blogId = comment.getBlog() != null ? comment.getBlog().getId() : null;
+        if (spamDetection.getObject().isLikelySpam(comment.getContentFingerprint(), blogId)) {
+            comment.setIsApproved(false);
+            log.info("Held comment on blog {} for approval: near-duplicate of comments on other blogs", blogId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
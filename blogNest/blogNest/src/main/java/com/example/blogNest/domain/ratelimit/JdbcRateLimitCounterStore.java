@@ -0,0 +1,102 @@
+package com.example.blogNest.domain.ratelimit;
+
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared counters in the rate_limit_counters table
+ *
+ * Written once per sync interval with the usage each node collected locally, so the
+ * database sees a handful of statements per second rather than one per request.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "shared", havingValue = "true")
+public class JdbcRateLimitCounterStore implements RateLimitCounterStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcRateLimitCounterStore.class);
+
+    private static final String CLEANUP_LOCK = "rate-limit-cleanup";
+    private static final int LOOKUP_CHUNK = 500;
+
+    private static final String UPDATE_SQL =
+            "UPDATE rate_limit_counters SET used = used + ? WHERE limit_key = ? AND window_start = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO rate_limit_counters (limit_key, window_start, used) VALUES (?, ?, ?)";
+    private static final String CLEANUP_SQL =
+            "DELETE FROM rate_limit_counters WHERE window_start < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaderLock leaderLock;
+
+    public JdbcRateLimitCounterStore(JdbcTemplate jdbcTemplate, LeaderLock leaderLock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderLock = leaderLock;
+    }
+
+    @Override
+    public Map<String, Long> addAndGet(long window, Map<String, Long> deltas) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, entries.stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey(), window})
+                .toList());
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i] != 0) {
+                continue;
+            }
+            Map.Entry<String, Long> entry = entries.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, entry.getKey(), window, entry.getValue());
+            } catch (DuplicateKeyException e) {
+                // Inserted concurrently by another node
+                jdbcTemplate.update(UPDATE_SQL, entry.getValue(), entry.getKey(), window);
+            }
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        for (int i = 0; i < entries.size(); i += LOOKUP_CHUNK) {
+            List<Map.Entry<String, Long>> chunk = entries.subList(i, Math.min(entries.size(), i + LOOKUP_CHUNK));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(window);
+            chunk.forEach(e -> args.add(e.getKey()));
+            jdbcTemplate.query("SELECT limit_key, used FROM rate_limit_counters WHERE window_start = ? AND limit_key IN ("
+                            + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")",
+                    rs -> {
+                        totals.put(rs.getString(1), rs.getLong(2));
+                    },
+                    args.toArray());
+        }
+        return totals;
+    }
+
+    /**
+     * Delete windows that no node can still be filling
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void cleanup() {
+        if (!leaderLock.tryAcquire(CLEANUP_LOCK, Duration.ofMinutes(5))) {
+            return;
+        }
+        try {
+            long currentWindow = System.currentTimeMillis() / 60_000;
+            int deleted = jdbcTemplate.update(CLEANUP_SQL, currentWindow - 2);
+            if (deleted > 0) {
+                log.debug("Deleted {} expired rate limit counters", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Rate limit counter cleanup failed", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.blogNest.domain.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory stand-in for the shared counters
+ *
+ * Several limiters handed the same instance behave like nodes sharing the database table,
+ * which is how shared mode is exercised in tests and on a single machine.
+ */
+public class LocalRateLimitCounterStore implements RateLimitCounterStore {
+
+    private final ConcurrentMap<Long, ConcurrentMap<String, AtomicLong>> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, Long> addAndGet(long window, Map<String, Long> deltas) {
+        // Older windows can no longer be asked for
+        windows.keySet().removeIf(w -> w < window - 1);
+
+        ConcurrentMap<String, AtomicLong> counters = windows.computeIfAbsent(window, w -> new ConcurrentHashMap<>());
+        Map<String, Long> totals = new HashMap<>();
+        deltas.forEach((key, delta) ->
+                totals.put(key, counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta)));
+        return totals;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.blogNest.domain.ratelimit;
+
+import java.util.Map;
+
+/**
+ * Usage counters shared by all nodes, one per client key and minute
+ */
+public interface RateLimitCounterStore {
+
+    /**
+     * Add this node's usage to a window and return the totals over all nodes
+     *
+     * @param window minutes since the epoch
+     * @param deltas tokens spent per client key on this node since the last call
+     * @return total tokens spent per client key in the window, for the keys given
+     */
+    Map<String, Long> addAndGet(long window, Map<String, Long> deltas);
+}
@@ -0,0 +1,115 @@
+package com.example.blogNest.domain.ratelimit;
+
+import com.example.blogNest.domain.auth.JwtTokenService;
+import com.example.blogNest.domain.auth.VerifiedToken;
+import com.example.blogNest.domain.config.JwtConfig;
+import com.example.blogNest.domain.config.RateLimitConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Applies the per-client request budgets before authentication
+ *
+ * Clients with a validly signed token are limited by token subject, everyone else by remote
+ * address. The signature is checked here (through the verified-token cache) because an unchecked subject would let a client
+ * spread its requests over made-up identities or drain another user's budget. Each request
+ * takes the cost of the first matching route pattern, so search costs more than a blog GET.
+ * A route cost above a tier's budget could never be paid and is rejected at startup.
+ *
+ * The remote address is the client's own when server.forward-headers-strategy lets the
+ * container resolve X-Forwarded-For from trusted proxies; otherwise all clients behind a
+ * load balancer would share its address and one anonymous budget.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitConfig config;
+    private final JwtConfig jwtConfig;
+    private final JwtTokenService tokenService;
+    private final Map<PathPattern, Integer> routeCosts = new LinkedHashMap<>();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitConfig config, JwtConfig jwtConfig,
+                           JwtTokenService tokenService) {
+        this.rateLimiter = rateLimiter;
+        this.config = config;
+        this.jwtConfig = jwtConfig;
+        this.tokenService = tokenService;
+        int maxCost = Math.min(rateLimiter.capacity(RateLimiter.Tier.AUTHENTICATED),
+                rateLimiter.capacity(RateLimiter.Tier.ANONYMOUS));
+        config.getRouteCosts().forEach((pattern, cost) -> {
+            if (cost > maxCost) {
+                throw new IllegalArgumentException("app.rate-limit.route-costs[" + pattern + "]=" + cost
+                        + " exceeds the smallest per-minute budget " + maxCost);
+            }
+            routeCosts.put(PARSER.parse(pattern), cost);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled()
+                || "OPTIONS".equals(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + "/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String subject = verifiedSubject(request);
+        RateLimiter.Decision decision = subject != null
+                ? rateLimiter.tryAcquire(RateLimiter.Tier.AUTHENTICATED, "user:" + subject, cost(request))
+                : rateLimiter.tryAcquire(RateLimiter.Tier.ANONYMOUS, "ip:" + request.getRemoteAddr(), cost(request));
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"status\":429,\"error\":\"Too Many Requests\","
+                + "\"message\":\"Rate limit exceeded, retry in " + decision.retryAfterSeconds() + " seconds\"}");
+    }
+
+    private int cost(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (Map.Entry<PathPattern, Integer> route : routeCosts.entrySet()) {
+            if (route.getKey().matches(path)) {
+                return Math.max(1, route.getValue());
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Subject of a validly signed, unexpired bearer token, or null
+     */
+    private String verifiedSubject(HttpServletRequest request) {
+        String header = request.getHeader(jwtConfig.getHeaderName());
+        if (header == null || !header.startsWith(jwtConfig.getTokenPrefix())) {
+            return null;
+        }
+        VerifiedToken token = tokenService.verify(header.substring(jwtConfig.getTokenPrefix().length()));
+        return token != null ? token.subject() : null;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.blogNest.domain.ratelimit;
+
+import com.example.blogNest.domain.config.RateLimitConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-client token buckets
+ *
+ * Features:
+ * - One lock-free bucket per client key; taking tokens is a single compare-and-set
+ * - Buckets that have refilled completely are dropped, so idle clients cost no memory
+ * - The number of tracked clients is bounded; past the bound, the buckets closest to full
+ *   (the most idle) are dropped, so every client keeps a bucket of its own
+ * - In shared mode, usage is exchanged with other nodes every second and the usage seen
+ *   elsewhere is debited from the local buckets, so limits hold across the cluster
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final long REFILL_PERIOD_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Kind of client, which decides the budget
+     */
+    public enum Tier {
+        AUTHENTICATED,
+        ANONYMOUS
+    }
+
+    /**
+     * Outcome of one request
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long retryAfterSeconds) {
+    }
+
+    private final RateLimitConfig config;
+    private final RateLimitCounterStore store;
+
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    // Usage not yet exchanged with other nodes; swapped out under the write lock
+    private final ReadWriteLock pendingLock = new ReentrantReadWriteLock();
+    private Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // Last cluster-wide total seen per key: {window, total}
+    private final Map<String, long[]> synced = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitConfig config, ObjectProvider<RateLimitCounterStore> store) {
+        this.config = config;
+        this.store = config.isShared() ? store.getIfAvailable() : null;
+    }
+
+    /**
+     * Budget of one client of the tier per minute; no single request may cost more
+     */
+    public int capacity(Tier tier) {
+        RateLimitConfig.RequestsPerMinute limits = config.getRequestsPerMinute();
+        return Math.max(1, tier == Tier.AUTHENTICATED ? limits.getAuthenticated() : limits.getAnonymous());
+    }
+
+    /**
+     * Take tokens for one request of the given client
+     */
+    public Decision tryAcquire(Tier tier, String key, int cost) {
+        long now = System.nanoTime();
+        TokenBucket bucket = bucket(tier, key, now);
+        long waitNanos = bucket.tryConsume(cost, now);
+        if (waitNanos > 0) {
+            return new Decision(false, bucket.getCapacity(), bucket.remaining(now),
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+        }
+        if (store != null) {
+            pendingLock.readLock().lock();
+            try {
+                pending.computeIfAbsent(key, k -> new LongAdder()).add(cost);
+            } finally {
+                pendingLock.readLock().unlock();
+            }
+        }
+        return new Decision(true, bucket.getCapacity(), bucket.remaining(now), 0);
+    }
+
+    /**
+     * Number of clients with a bucket
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucket(Tier tier, String key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= config.getMaxClients()) {
+            sweep(now);
+            if (buckets.size() >= config.getMaxClients()) {
+                evictIdlest();
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity(tier), REFILL_PERIOD_NANOS, now));
+    }
+
+    // Housekeeping
+
+    /**
+     * Drop buckets that have refilled completely
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        sweep(System.nanoTime());
+        long window = currentWindow();
+        synced.values().removeIf(state -> state[0] < window);
+    }
+
+    /**
+     * Drop the tenth of the buckets that will be full soonest
+     *
+     * Dropping a bucket refills it, so these lose the least: clients that have been idle
+     * longest, or spent little. A client cycling through new addresses leaves buckets that
+     * are each nearly full and goes first; a throttled client keeps its debt.
+     */
+    private void evictIdlest() {
+        // Another thread is already making room; the map briefly runs over its bound
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            // fullAt values are copied first; sorting on the live buckets could see them change mid-sort
+            List<Map.Entry<String, Long>> all = new ArrayList<>(buckets.size());
+            buckets.forEach((key, bucket) -> all.add(Map.entry(key, bucket.fullAt())));
+            all.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+            int excess = all.size() - (config.getMaxClients() - Math.max(1, config.getMaxClients() / 10));
+            for (int i = 0; i < excess; i++) {
+                buckets.remove(all.get(i).getKey());
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Exchange usage with other nodes and debit what they spent from the local buckets
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        if (store == null) {
+            return;
+        }
+
+        Map<String, LongAdder> drained;
+        pendingLock.writeLock().lock();
+        try {
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            pendingLock.writeLock().unlock();
+        }
+
+        Map<String, Long> deltas = new HashMap<>();
+        drained.forEach((key, adder) -> deltas.put(key, adder.sum()));
+        long window = currentWindow();
+        // Clients active here this minute keep learning what other nodes let them spend
+        synced.forEach((key, state) -> {
+            if (state[0] == window && buckets.containsKey(key)) {
+                deltas.putIfAbsent(key, 0L);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Long> totals = store.addAndGet(window, deltas);
+            long now = System.nanoTime();
+            totals.forEach((key, total) -> {
+                long[] previous = synced.put(key, new long[]{window, total});
+                long seen = previous != null && previous[0] == window ? previous[1] : 0;
+                long remote = total - seen - deltas.getOrDefault(key, 0L);
+                TokenBucket bucket = buckets.get(key);
+                if (remote > 0 && bucket != null) {
+                    bucket.debit(remote, now);
+                }
+            });
+        } catch (Exception e) {
+            // Limits stay node-local until the store is reachable again
+            log.warn("Rate limit usage exchange failed", e);
+        }
+    }
+
+    private static long currentWindow() {
+        return System.currentTimeMillis() / 60_000;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.blogNest.domain.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket
+ *
+ * Kept in the equivalent "theoretical arrival time" form: the whole state is the instant at
+ * which the bucket would be full again, so one compare-and-set updates it and refill needs
+ * no timer. A bucket whose instant has passed is indistinguishable from a new one and can be
+ * dropped.
+ */
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final int capacity;
+
+    // Instant (System.nanoTime) at which the bucket is full again
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = refillPeriodNanos / capacity;
+        this.capacityNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take tokens if available
+     *
+     * @return 0 if taken, otherwise nanoseconds until enough tokens have refilled
+     * @throws IllegalArgumentException if more tokens are asked for than the bucket holds,
+     *                                  which could never succeed
+     */
+    long tryConsume(int tokens, long nowNanos) {
+        if (tokens > capacity) {
+            throw new IllegalArgumentException("Cost " + tokens + " exceeds bucket capacity " + capacity);
+        }
+        long cost = tokens * nanosPerToken;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + cost;
+            long overflow = next - nowNanos - capacityNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Remove tokens spent elsewhere (on other nodes), without letting the debt exceed one refill
+     */
+    void debit(long tokens, long nowNanos) {
+        long cost = Math.min(tokens, capacity) * nanosPerToken;
+        fullAt.accumulateAndGet(nowNanos, (current, now) ->
+                Math.min(Math.max(current, now) + cost, now + capacityNanos));
+    }
+
+    int remaining(long nowNanos) {
+        long used = Math.max(0, fullAt.get() - nowNanos);
+        return (int) Math.max(0, (capacityNanos - used) / nanosPerToken);
+    }
+
+    boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+
+    /**
+     * Instant at which the bucket is full again; the bucket that gets there first has the
+     * least debt to lose when it is dropped
+     */
+    long fullAt() {
+        return fullAt.get();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.blogNest.domain.recommendation;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Immutable item-item similarity index built from blog likes
+ *
+ * Stores the top-N most similar blogs for every liked blog in flat primitive arrays
+ * (compressed sparse rows): blog ids sorted for binary search, one offset per blog and
+ * parallel neighbour id / score arrays. About 12 bytes per neighbour, no per-entry objects.
+ */
+public final class CoLikeIndex {
+
+    private static final CoLikeIndex EMPTY =
+            new CoLikeIndex(new long[0], new int[]{0}, new long[0], new float[0], 0, 0, null);
+
+    private final long[] blogIds;
+    private final int[] offsets;
+    private final long[] neighbourIds;
+    private final float[] scores;
+    private final int userCount;
+    private final int likeCount;
+    private final LocalDateTime builtAt;
+
+    CoLikeIndex(long[] blogIds, int[] offsets, long[] neighbourIds, float[] scores,
+                int userCount, int likeCount, LocalDateTime builtAt) {
+        this.blogIds = blogIds;
+        this.offsets = offsets;
+        this.neighbourIds = neighbourIds;
+        this.scores = scores;
+        this.userCount = userCount;
+        this.likeCount = likeCount;
+        this.builtAt = builtAt;
+    }
+
+    public static CoLikeIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Visit the precomputed neighbours of a blog, most similar first
+     */
+    public void forEachNeighbour(long blogId, NeighbourConsumer consumer) {
+        int row = Arrays.binarySearch(blogIds, blogId);
+        if (row < 0) {
+            return;
+        }
+        for (int i = offsets[row]; i < offsets[row + 1]; i++) {
+            consumer.accept(neighbourIds[i], scores[i]);
+        }
+    }
+
+    /**
+     * Number of neighbours stored for a blog
+     */
+    public int neighbourCount(long blogId) {
+        int row = Arrays.binarySearch(blogIds, blogId);
+        return row < 0 ? 0 : offsets[row + 1] - offsets[row];
+    }
+
+    public boolean isEmpty() {
+        return neighbourIds.length == 0;
+    }
+
+    public int getBlogCount() {
+        return blogIds.length;
+    }
+
+    public int getNeighbourCount() {
+        return neighbourIds.length;
+    }
+
+    public int getUserCount() {
+        return userCount;
+    }
+
+    public int getLikeCount() {
+        return likeCount;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Approximate heap footprint of the index arrays
+     */
+    public long getMemoryBytes() {
+        return (long) blogIds.length * Long.BYTES + (long) offsets.length * Integer.BYTES
+                + (long) neighbourIds.length * Long.BYTES + (long) scores.length * Float.BYTES;
+    }
+
+    /**
+     * Primitive callback for neighbour iteration
+     */
+    @FunctionalInterface
+    public interface NeighbourConsumer {
+        void accept(long blogId, float score);
+    }
+
+    @Override
+    public String toString() {
+        return "CoLikeIndex{" +
+                "blogs=" + blogIds.length +
+                ", neighbours=" + neighbourIds.length +
+                ", users=" + userCount +
+                ", likes=" + likeCount +
+                ", builtAt=" + builtAt +
+                '}';
+    }
+}
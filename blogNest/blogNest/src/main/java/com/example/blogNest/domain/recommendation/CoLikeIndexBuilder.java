@@ -0,0 +1,201 @@
+package com.example.blogNest.domain.recommendation;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Builds a {@link CoLikeIndex} from (user, blog) like pairs
+ *
+ * Features:
+ * - Ids are mapped to dense ints and both directions are stored as CSR int arrays
+ * - Co-like counts for one blog at a time are accumulated in a single reusable int[]
+ *   (sparse accumulator), so memory stays linear in the number of likes
+ * - Similarity is cosine over like sets: co(i, j) / sqrt(likes(i) * likes(j))
+ * - Users with more than {@code maxLikesPerUser} likes are skipped; they add little signal
+ *   but dominate the quadratic cost
+ *
+ * Not thread-safe; one builder per rebuild.
+ */
+final class CoLikeIndexBuilder {
+
+    private final int neighbours;
+    private final int minCoLikes;
+    private final int maxLikesPerUser;
+
+    private final LongIntHashMap userIndex = new LongIntHashMap(1024);
+    private final LongIntHashMap blogIndex = new LongIntHashMap(1024);
+    private int[] likeUsers = new int[1024];
+    private int[] likeBlogs = new int[1024];
+    private int likeCount;
+
+    CoLikeIndexBuilder(int neighbours, int minCoLikes, int maxLikesPerUser) {
+        this.neighbours = neighbours;
+        this.minCoLikes = Math.max(1, minCoLikes);
+        this.maxLikesPerUser = maxLikesPerUser;
+    }
+
+    /**
+     * Add one like of a blog by a user
+     */
+    void add(long userId, long blogId) {
+        if (likeCount == likeUsers.length) {
+            likeUsers = Arrays.copyOf(likeUsers, likeCount << 1);
+            likeBlogs = Arrays.copyOf(likeBlogs, likeCount << 1);
+        }
+        likeUsers[likeCount] = userIndex.getOrAssignNext(userId);
+        likeBlogs[likeCount] = blogIndex.getOrAssignNext(blogId);
+        likeCount++;
+    }
+
+    CoLikeIndex build() {
+        int users = userIndex.size();
+        int blogs = blogIndex.size();
+
+        // User -> blogs and blog -> users adjacency, skipping heavy users
+        int[] userDegree = new int[users];
+        for (int i = 0; i < likeCount; i++) {
+            userDegree[likeUsers[i]]++;
+        }
+        int[] blogDegree = new int[blogs];
+        for (int i = 0; i < likeCount; i++) {
+            if (userDegree[likeUsers[i]] <= maxLikesPerUser) {
+                blogDegree[likeBlogs[i]]++;
+            }
+        }
+        int[] userOffsets = offsets(userDegree, maxLikesPerUser);
+        int[] blogOffsets = offsets(blogDegree, Integer.MAX_VALUE);
+        int[] userBlogs = new int[userOffsets[users]];
+        int[] blogUsers = new int[blogOffsets[blogs]];
+        int[] userFill = Arrays.copyOf(userOffsets, users);
+        int[] blogFill = Arrays.copyOf(blogOffsets, blogs);
+        for (int i = 0; i < likeCount; i++) {
+            int user = likeUsers[i];
+            if (userDegree[user] > maxLikesPerUser) {
+                continue;
+            }
+            int blog = likeBlogs[i];
+            userBlogs[userFill[user]++] = blog;
+            blogUsers[blogFill[blog]++] = user;
+        }
+        likeUsers = null;
+        likeBlogs = null;
+
+        // Sorted blog ids so the index can binary search; rows are emitted in that order
+        long[] denseToId = blogIndex.keysByValue();
+        long[] rowIds = denseToId.clone();
+        Arrays.sort(rowIds);
+
+        int[] rowOffsets = new int[blogs + 1];
+        long[] neighbourIds = new long[Math.max(16, Math.min(likeCount, 1 << 20))];
+        float[] neighbourScores = new float[neighbourIds.length];
+        int written = 0;
+
+        int[] coCounts = new int[blogs];
+        int[] touched = new int[blogs];
+        int[] heapBlogs = new int[neighbours];
+        float[] heapScores = new float[neighbours];
+
+        for (int r = 0; r < blogs; r++) {
+            int blog = blogIndex.get(rowIds[r]);
+            rowOffsets[r] = written;
+            if (blogDegree[blog] == 0) {
+                continue;
+            }
+
+            int touchedCount = 0;
+            for (int u = blogOffsets[blog]; u < blogOffsets[blog + 1]; u++) {
+                int user = blogUsers[u];
+                for (int b = userOffsets[user]; b < userOffsets[user + 1]; b++) {
+                    int other = userBlogs[b];
+                    if (other != blog && coCounts[other]++ == 0) {
+                        touched[touchedCount++] = other;
+                    }
+                }
+            }
+
+            int heapSize = 0;
+            for (int t = 0; t < touchedCount; t++) {
+                int other = touched[t];
+                int co = coCounts[other];
+                coCounts[other] = 0;
+                if (co < minCoLikes) {
+                    continue;
+                }
+                float score = (float) (co / Math.sqrt((double) blogDegree[blog] * blogDegree[other]));
+                if (heapSize < neighbours) {
+                    heapBlogs[heapSize] = other;
+                    heapScores[heapSize] = score;
+                    siftUp(heapBlogs, heapScores, heapSize++);
+                } else if (score > heapScores[0]) {
+                    heapBlogs[0] = other;
+                    heapScores[0] = score;
+                    siftDown(heapBlogs, heapScores, heapSize);
+                }
+            }
+
+            if (written + heapSize > neighbourIds.length) {
+                int capacity = Math.max(written + heapSize, neighbourIds.length << 1);
+                neighbourIds = Arrays.copyOf(neighbourIds, capacity);
+                neighbourScores = Arrays.copyOf(neighbourScores, capacity);
+            }
+
+            // Drain the min-heap backwards so the row is ordered by descending score
+            for (int i = heapSize - 1; i >= 0; i--) {
+                neighbourIds[written + i] = denseToId[heapBlogs[0]];
+                neighbourScores[written + i] = heapScores[0];
+                heapBlogs[0] = heapBlogs[i];
+                heapScores[0] = heapScores[i];
+                siftDown(heapBlogs, heapScores, i);
+            }
+            written += heapSize;
+        }
+        rowOffsets[blogs] = written;
+
+        return new CoLikeIndex(rowIds, rowOffsets, Arrays.copyOf(neighbourIds, written),
+                Arrays.copyOf(neighbourScores, written), users, likeCount, LocalDateTime.now());
+    }
+
+    private static int[] offsets(int[] degree, int maxDegree) {
+        int[] offsets = new int[degree.length + 1];
+        for (int i = 0; i < degree.length; i++) {
+            offsets[i + 1] = offsets[i] + (degree[i] <= maxDegree ? degree[i] : 0);
+        }
+        return offsets;
+    }
+
+    private static void siftUp(int[] ids, float[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (scores[parent] <= scores[index]) {
+                return;
+            }
+            swap(ids, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] ids, float[] scores, int size) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[index] <= scores[smallest]) {
+                return;
+            }
+            swap(ids, scores, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] ids, float[] scores, int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        float score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
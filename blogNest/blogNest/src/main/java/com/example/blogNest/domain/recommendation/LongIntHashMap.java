@@ -0,0 +1,96 @@
+package com.example.blogNest.domain.recommendation;
+
+/**
+ * Open-addressing map from positive long keys to int values
+ *
+ * Used to assign dense indices to user and blog ids without boxing. Key 0 marks an
+ * empty slot, which is safe for database identity values.
+ */
+final class LongIntHashMap {
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Value for the key, or -1 if absent
+     */
+    int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Value for the key, inserting {@code size()} as the value if absent
+     */
+    int getOrAssignNext(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        int assigned = size++;
+        keys[slot] = key;
+        values[slot] = assigned;
+        if (size * 2 > keys.length) {
+            grow();
+        }
+        return assigned;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Keys ordered by their assigned value
+     */
+    long[] keysByValue() {
+        long[] result = new long[size];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result[values[i]] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldKeys.length << 1];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
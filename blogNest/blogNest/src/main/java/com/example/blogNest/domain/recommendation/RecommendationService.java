@@ -0,0 +1,237 @@
+package com.example.blogNest.domain.recommendation;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.FollowRepository;
+import com.example.blogNest.domain.Repository.LikeRepository;
+import com.example.blogNest.domain.config.RecommendationConfig;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import com.example.blogNest.domain.model.entity.Blog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "Recommended for you" from a precomputed item-item co-like index
+ *
+ * Features:
+ * - Each node builds a {@link CoLikeIndex} in the background from a keyset scan of blog likes
+ * - Rebuilds when enough local like changes accumulate or the index gets too old
+ * - A request seeds from the user's recent likes, sums neighbour scores, boosts and adds
+ *   recent posts by followed authors, then loads only the final page of blogs
+ *
+ * Replaces the likes self-join of LikeRepository.findUsersWithSimilarTaste and the nested
+ * IN subqueries of BlogRepository.findRecommendedBlogs on the recommendation path.
+ */
+@Service
+public class RecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    private static final String SCAN_SQL =
+            "SELECT l.id, l.user_id, l.blog_id FROM likes l JOIN blogs b ON b.id = l.blog_id " +
+            "WHERE l.id > ? AND b.status = 'PUBLISHED' ORDER BY l.id LIMIT ?";
+
+    private final BlogRepository blogRepository;
+    private final LikeRepository likeRepository;
+    private final FollowRepository followRepository;
+    private final RecommendationConfig config;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong changesSinceBuild = new AtomicLong();
+    private volatile CoLikeIndex index = CoLikeIndex.empty();
+    private volatile long lastBuildMs;
+    private ScheduledExecutorService executor;
+
+    public RecommendationService(BlogRepository blogRepository,
+                                 LikeRepository likeRepository,
+                                 FollowRepository followRepository,
+                                 RecommendationConfig config,
+                                 JdbcTemplate jdbcTemplate) {
+        this.blogRepository = blogRepository;
+        this.likeRepository = likeRepository;
+        this.followRepository = followRepository;
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Build the first index in the background once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "co-like-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::rebuildIfStale, 0, config.getCheckIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.isBlogLike()) {
+            changesSinceBuild.incrementAndGet();
+        }
+    }
+
+    // Recommendations
+
+    /**
+     * Recommended published blogs for a user, best first
+     *
+     * @return an empty list when the user has no likes and follows nobody
+     */
+    public List<Blog> getRecommendedBlogs(Long userId, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+
+        // Co-like neighbours of recently liked blogs
+        List<Long> seeds = likeRepository.findRecentlyLikedBlogIds(userId, PageRequest.of(0, config.getSeedLikes()));
+        CoLikeIndex current = index;
+        for (Long seed : seeds) {
+            current.forEachNeighbour(seed, (blogId, score) -> scores.merge(blogId, (double) score, Double::sum));
+        }
+
+        // Recent posts by followed authors join the candidates with the follow weight
+        Set<Long> followed = new HashSet<>(followRepository.findFollowingIds(userId));
+        Set<Long> fromFollows = new HashSet<>();
+        if (!followed.isEmpty()) {
+            List<Object[]> recent = blogRepository.findRecentPublishedIdsByAuthors(followed, PageRequest.of(0, limit * 2));
+            for (int i = 0; i < recent.size(); i++) {
+                // Newer posts get a slightly larger share of the weight so they win ties
+                double weight = config.getFollowWeight() * (1.0 - (double) i / (2.0 * recent.size()));
+                Long blogId = (Long) recent.get(i)[0];
+                scores.merge(blogId, weight, Double::sum);
+                fromFollows.add(blogId);
+            }
+        }
+        seeds.forEach(scores::remove);
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        // Author lookup for the follow boost and to drop the user's own posts
+        Set<Long> liked = new HashSet<>(likeRepository.findLikedBlogIds(userId, scores.keySet()));
+        for (Object[] row : blogRepository.findBlogDimensions(scores.keySet())) {
+            Long blogId = (Long) row[0];
+            Long authorId = (Long) row[1];
+            if (userId.equals(authorId) || liked.contains(blogId)) {
+                scores.remove(blogId);
+            } else if (followed.contains(authorId) && !fromFollows.contains(blogId)) {
+                scores.merge(blogId, config.getFollowWeight(), Double::sum);
+            }
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(limit * 2L)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        Map<Long, Blog> blogs = new HashMap<>();
+        blogRepository.findAllById(ranked).forEach(blog -> blogs.put(blog.getId(), blog));
+        List<Blog> result = new ArrayList<>(limit);
+        for (Long blogId : ranked) {
+            Blog blog = blogs.get(blogId);
+            if (blog != null && blog.isPublished()) {
+                result.add(blog);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Blogs similar to the given blog by co-likes, best first
+     */
+    public List<Long> getSimilarBlogIds(Long blogId, int limit) {
+        List<Long> result = new ArrayList<>(limit);
+        index.forEachNeighbour(blogId, (neighbourId, score) -> {
+            if (result.size() < limit) {
+                result.add(neighbourId);
+            }
+        });
+        return result;
+    }
+
+    public CoLikeIndex getIndex() {
+        return index;
+    }
+
+    // Index maintenance
+
+    private void rebuildIfStale() {
+        boolean stale = lastBuildMs == 0
+                || changesSinceBuild.get() >= config.getRebuildAfterChanges()
+                || System.currentTimeMillis() - lastBuildMs >= config.getMaxIndexAgeMs();
+        if (!stale) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Co-like index rebuild failed; keeping the previous index", e);
+        }
+    }
+
+    /**
+     * Rebuild the co-like index from all likes on published blogs
+     */
+    public CoLikeIndex rebuild() {
+        long started = System.currentTimeMillis();
+        long changesAtStart = changesSinceBuild.get();
+        CoLikeIndexBuilder builder = new CoLikeIndexBuilder(
+                config.getNeighbours(), config.getMinCoLikes(), config.getMaxLikesPerUser());
+
+        long lastId = 0;
+        while (true) {
+            long[] maxId = {lastId};
+            int[] rows = {0};
+            jdbcTemplate.query(SCAN_SQL, rs -> {
+                maxId[0] = rs.getLong(1);
+                builder.add(rs.getLong(2), rs.getLong(3));
+                rows[0]++;
+            }, lastId, config.getScanBatchSize());
+            if (rows[0] < config.getScanBatchSize()) {
+                break;
+            }
+            lastId = maxId[0];
+        }
+
+        CoLikeIndex built = builder.build();
+        index = built;
+        lastBuildMs = System.currentTimeMillis();
+        changesSinceBuild.addAndGet(-changesAtStart);
+        log.info("Built co-like index in {} ms: {} ({} KB)",
+                lastBuildMs - started, built, built.getMemoryBytes() / 1024);
+        return built;
+    }
+}
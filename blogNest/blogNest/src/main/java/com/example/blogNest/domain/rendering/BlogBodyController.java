@@ -0,0 +1,90 @@
+package com.example.blogNest.domain.rendering;
+
+import com.example.blogNest.domain.config.RenderingConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Serves published blog bodies from the rendered store
+ *
+ * The stored variant matching Accept-Encoding is written as-is with its Content-Encoding.
+ * If-None-Match and If-Modified-Since are checked against the stored version first.
+ * Large variants go through the connector's sendfile when it is available; the rest are
+ * written straight from the off-heap buffer.
+ */
+@RestController
+@RequestMapping("/api/blogs")
+public class BlogBodyController {
+
+    // Tomcat request attributes for sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final RenderedBodyStore store;
+    private final int sendfileThreshold;
+
+    public BlogBodyController(RenderedBodyStore store, RenderingConfig config) {
+        this.store = store;
+        this.sendfileThreshold = config.getSendfileThreshold();
+    }
+
+    /**
+     * Rendered body of a published blog
+     */
+    @GetMapping("/{id}/body")
+    public void getBody(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        RenderedBody body = store.get(id);
+        if (body == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Blog not found");
+        }
+
+        ContentEncoding encoding = body.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        int length = body.length(encoding);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(body.etag(encoding), body.getVersion())) {
+            return;
+        }
+        if (encoding.getToken() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+        response.setContentLength(length);
+
+        Path file = body.file(encoding);
+        if (file != null && length >= sendfileThreshold
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && Files.isReadable(file)) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, (long) length);
+            return;
+        }
+
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        ByteBuffer content = body.content(encoding);
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+}
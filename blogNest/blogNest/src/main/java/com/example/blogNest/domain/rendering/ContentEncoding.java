@@ -0,0 +1,68 @@
+package com.example.blogNest.domain.rendering;
+
+/**
+ * Stored variants of a rendered body
+ *
+ * Brotli is not listed: the JDK has no Brotli encoder and the native bindings
+ * are not a dependency of this project.
+ */
+public enum ContentEncoding {
+
+    IDENTITY(null, ".json"),
+    GZIP("gzip", ".json.gz");
+
+    private final String token;
+    private final String fileSuffix;
+
+    ContentEncoding(String token, String fileSuffix) {
+        this.token = token;
+        this.fileSuffix = fileSuffix;
+    }
+
+    /**
+     * Content-Encoding header value, or null for the uncompressed body
+     */
+    public String getToken() {
+        return token;
+    }
+
+    public String getFileSuffix() {
+        return fileSuffix;
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows this encoding
+     * Honours "q=0" exclusions and the "*" wildcard; identity is always acceptable
+     */
+    public boolean isAcceptedBy(String acceptEncoding) {
+        if (token == null) {
+            return true;
+        }
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim();
+            boolean excluded = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        excluded = Double.parseDouble(param.substring(2).trim()) <= 0;
+                    } catch (NumberFormatException e) {
+                        excluded = true;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase(token)) {
+                return !excluded;
+            }
+            if (coding.equals("*")) {
+                wildcard = !excluded;
+            }
+        }
+        return wildcard;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.blogNest.domain.rendering;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One rendered version of a blog body with its encoded variants
+ *
+ * Variants live in read-only direct buffers, so the bytes stay off the heap and are
+ * written to the response without copying them into a byte array first. The files
+ * on disk hold the same bytes for sendfile and for reloading after a restart.
+ */
+public final class RenderedBody {
+
+    private final long blogId;
+    private final long version;
+    private final Map<ContentEncoding, ByteBuffer> buffers;
+    private final Map<ContentEncoding, Path> files;
+    private final long sizeBytes;
+    private volatile long validatedAtMs;
+
+    RenderedBody(long blogId, long version, Map<ContentEncoding, ByteBuffer> buffers,
+                 Map<ContentEncoding, Path> files, long validatedAtMs) {
+        this.blogId = blogId;
+        this.version = version;
+        this.buffers = new EnumMap<>(buffers);
+        this.files = files.isEmpty() ? Map.of() : new EnumMap<>(files);
+        this.sizeBytes = this.buffers.values().stream().mapToLong(ByteBuffer::capacity).sum();
+        this.validatedAtMs = validatedAtMs;
+    }
+
+    public long getBlogId() {
+        return blogId;
+    }
+
+    /**
+     * Epoch milliseconds of the blog's updatedAt when it was rendered
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Best stored encoding allowed by an Accept-Encoding header
+     */
+    public ContentEncoding negotiate(String acceptEncoding) {
+        if (buffers.containsKey(ContentEncoding.GZIP) && ContentEncoding.GZIP.isAcceptedBy(acceptEncoding)) {
+            return ContentEncoding.GZIP;
+        }
+        return ContentEncoding.IDENTITY;
+    }
+
+    /**
+     * Bytes of a variant as a new read-only view; callers may consume it freely
+     */
+    public ByteBuffer content(ContentEncoding encoding) {
+        return buffers.get(encoding).duplicate();
+    }
+
+    public int length(ContentEncoding encoding) {
+        return buffers.get(encoding).capacity();
+    }
+
+    /**
+     * File holding a variant, or null if it could not be written to disk
+     */
+    public Path file(ContentEncoding encoding) {
+        return files.get(encoding);
+    }
+
+    /**
+     * Strong validator for a variant; encodings get distinct tags as they are different bytes
+     */
+    public String etag(ContentEncoding encoding) {
+        String tag = blogId + "-" + Long.toHexString(version);
+        return "\"" + (encoding.getToken() == null ? tag : tag + "-" + encoding.getToken()) + "\"";
+    }
+
+    long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    long getValidatedAtMs() {
+        return validatedAtMs;
+    }
+
+    void markValidated(long nowMs) {
+        this.validatedAtMs = nowMs;
+    }
+}
@@ -0,0 +1,365 @@
+package com.example.blogNest.domain.rendering;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.config.RenderingConfig;
+import com.example.blogNest.domain.event.BlogChangedEvent;
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.model.enums.BlogStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-rendered, pre-compressed blog bodies
+ *
+ * Features:
+ * - A published blog's body is serialised to JSON once per edit, not once per view
+ * - The gzip variant is compressed once at a high level, so responses need no per-request compression
+ * - Variants are kept in an off-heap LRU within a byte budget and in versioned files on local disk
+ * - Blogs are re-rendered in the background after they are published or edited
+ * - Cached bodies are re-checked against the blog row every few seconds, which picks up
+ *   edits and deletes made on other nodes
+ *
+ * File names carry the blog's updatedAt, so a stale file can never be served for a newer version.
+ */
+@Service
+public class RenderedBodyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RenderedBodyStore.class);
+
+    private static final String VERSION_SQL =
+            "SELECT updated_at FROM blogs WHERE id = ? AND status = 'PUBLISHED'";
+
+    private final BlogRepository blogRepository;
+    private final RenderingConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    // Access-ordered for LRU eviction; guarded by itself
+    private final LinkedHashMap<Long, RenderedBody> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryBytes;
+
+    // Renders that started before a blog's last invalidation must not be cached
+    private final AtomicLong epoch = new AtomicLong();
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+
+    public RenderedBodyStore(BlogRepository blogRepository,
+                             RenderingConfig config,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper) {
+        this.blogRepository = blogRepository;
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(config.getDirectory()).toAbsolutePath();
+    }
+
+    /**
+     * Start background rendering once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.warn("Cannot create {}; rendered bodies are kept in memory only", directory, e);
+        }
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "rendered-bodies");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Drop the cached body and render the new version in the background
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (event.blogId() == null) {
+            return;
+        }
+        invalidate(event.blogId());
+        if (executor == null || !queued.add(event.blogId())) {
+            return;
+        }
+        executor.execute(() -> {
+            queued.remove(event.blogId());
+            try {
+                load(event.blogId(), null);
+            } catch (Exception e) {
+                log.warn("Failed to render blog {}", event.blogId(), e);
+            }
+        });
+    }
+
+    // Lookups
+
+    /**
+     * Current rendered body of a published blog, or null if the blog is not published
+     */
+    public RenderedBody get(Long blogId) {
+        if (!config.isEnabled() || blogId == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        RenderedBody body = cached(blogId);
+        if (body != null && now - body.getValidatedAtMs() < config.getRevalidateAfterMs()) {
+            return body;
+        }
+
+        List<Timestamp> versions = jdbcTemplate.queryForList(VERSION_SQL, Timestamp.class, blogId);
+        if (versions.isEmpty() || versions.get(0) == null) {
+            evict(blogId);
+            return null;
+        }
+        long version = versions.get(0).getTime();
+        if (body != null && body.getVersion() == version) {
+            body.markValidated(now);
+            return body;
+        }
+        return load(blogId, version);
+    }
+
+    /**
+     * Drop the cached body of a blog; its files are replaced when the next version is rendered
+     */
+    public void invalidate(Long blogId) {
+        invalidatedAt.put(blogId, epoch.incrementAndGet());
+        evict(blogId);
+    }
+
+    // Loading and rendering
+
+    /**
+     * Load the given version from disk, or render the current version
+     */
+    private RenderedBody load(long blogId, Long version) {
+        long startedAt = epoch.get();
+        RenderedBody body = version != null ? readFiles(blogId, version) : null;
+        if (body == null) {
+            body = render(blogId);
+        }
+        if (body == null) {
+            deleteFiles(blogId, null);
+            return null;
+        }
+        Long invalidated = invalidatedAt.get(blogId);
+        if (invalidated == null || invalidated <= startedAt) {
+            put(body);
+        }
+        return body;
+    }
+
+    private RenderedBody render(long blogId) {
+        BlogBody view = readOnlyTemplate.execute(status -> blogRepository.findById(blogId)
+                .filter(blog -> blog.getStatus() == BlogStatus.PUBLISHED)
+                .map(BlogBody::of)
+                .orElse(null));
+        if (view == null) {
+            return null;
+        }
+
+        Map<ContentEncoding, byte[]> variants = new EnumMap<>(ContentEncoding.class);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(view);
+            variants.put(ContentEncoding.IDENTITY, json);
+            if (json.length >= config.getMinCompressSize()) {
+                byte[] gzip = gzip(json, config.getCompressionLevel());
+                if (gzip.length < json.length) {
+                    variants.put(ContentEncoding.GZIP, gzip);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot render blog " + blogId, e);
+        }
+
+        long version = Timestamp.valueOf(view.updatedAt()).getTime();
+        Map<ContentEncoding, ByteBuffer> buffers = new EnumMap<>(ContentEncoding.class);
+        variants.forEach((encoding, bytes) -> buffers.put(encoding,
+                ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer()));
+        Map<ContentEncoding, Path> files = writeFiles(blogId, version, variants);
+        return new RenderedBody(blogId, version, buffers, files, System.currentTimeMillis());
+    }
+
+    private static byte[] gzip(byte[] bytes, int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    // Disk tier
+
+    private Path file(long blogId, long version, ContentEncoding encoding) {
+        return directory.resolve(String.format("%02x", blogId & 0xff))
+                .resolve(blogId + "-" + version + encoding.getFileSuffix());
+    }
+
+    private Map<ContentEncoding, Path> writeFiles(long blogId, long version, Map<ContentEncoding, byte[]> variants) {
+        Map<ContentEncoding, Path> files = new EnumMap<>(ContentEncoding.class);
+        try {
+            for (Map.Entry<ContentEncoding, byte[]> variant : variants.entrySet()) {
+                Path target = file(blogId, version, variant.getKey());
+                Files.createDirectories(target.getParent());
+                Path temp = Files.createTempFile(target.getParent(), blogId + "-", ".tmp");
+                Files.write(temp, variant.getValue());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                files.put(variant.getKey(), target);
+            }
+            deleteFiles(blogId, version);
+        } catch (IOException e) {
+            log.warn("Cannot write rendered blog {} to disk", blogId, e);
+            return Map.of();
+        }
+        return files;
+    }
+
+    private RenderedBody readFiles(long blogId, long version) {
+        Map<ContentEncoding, ByteBuffer> buffers = new EnumMap<>(ContentEncoding.class);
+        Map<ContentEncoding, Path> files = new EnumMap<>(ContentEncoding.class);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            Path path = file(blogId, version, encoding);
+            if (!Files.isRegularFile(path)) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size());
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        throw new EOFException(path.toString());
+                    }
+                }
+                buffers.put(encoding, buffer.flip().asReadOnlyBuffer());
+                files.put(encoding, path);
+            } catch (IOException e) {
+                log.debug("Cannot read {}", path, e);
+            }
+        }
+        if (!buffers.containsKey(ContentEncoding.IDENTITY)) {
+            return null;
+        }
+        return new RenderedBody(blogId, version, buffers, files, System.currentTimeMillis());
+    }
+
+    /**
+     * Delete the files of a blog except those of the version to keep
+     */
+    private void deleteFiles(long blogId, Long keepVersion) {
+        Path shard = directory.resolve(String.format("%02x", blogId & 0xff));
+        if (!Files.isDirectory(shard)) {
+            return;
+        }
+        String keep = keepVersion != null ? blogId + "-" + keepVersion + "." : null;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shard, blogId + "-*")) {
+            for (Path path : stream) {
+                if (keep == null || !path.getFileName().toString().startsWith(keep)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Cannot delete old renders of blog {}", blogId, e);
+        }
+    }
+
+    // Memory tier
+
+    private RenderedBody cached(long blogId) {
+        synchronized (memory) {
+            return memory.get(blogId);
+        }
+    }
+
+    private void put(RenderedBody body) {
+        if (body.getSizeBytes() > config.getMaxOffHeapBytes()) {
+            return;
+        }
+        synchronized (memory) {
+            RenderedBody previous = memory.put(body.getBlogId(), body);
+            memoryBytes += body.getSizeBytes() - (previous != null ? previous.getSizeBytes() : 0);
+            var eldest = memory.entrySet().iterator();
+            while (memoryBytes > config.getMaxOffHeapBytes() && eldest.hasNext()) {
+                memoryBytes -= eldest.next().getValue().getSizeBytes();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void evict(long blogId) {
+        synchronized (memory) {
+            RenderedBody removed = memory.remove(blogId);
+            if (removed != null) {
+                memoryBytes -= removed.getSizeBytes();
+            }
+        }
+    }
+
+    /**
+     * JSON shape of a rendered body; counters are left out as they change on every view
+     */
+    record BlogBody(Long id, String title, String slug, String content, String excerpt,
+                    Integer wordCount, Integer readingTimeMinutes,
+                    LocalDateTime publishedAt, LocalDateTime updatedAt) {
+
+        static BlogBody of(Blog blog) {
+            return new BlogBody(blog.getId(), blog.getTitle(), blog.getSlug(), blog.getContent(),
+                    blog.getEffectiveSummary(), blog.getWordCount(), blog.getReadingTimeMinutes(),
+                    blog.getPublishedAt(), blog.getUpdatedAt());
+        }
+    }
+}
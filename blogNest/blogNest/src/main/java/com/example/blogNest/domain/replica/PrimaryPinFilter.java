@@ -0,0 +1,124 @@
+package com.example.blogNest.domain.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Carries the time of a client's last committed write between requests
+ *
+ * The time is read from the X-Last-Write header, or the last_write cookie, and bound to the
+ * request thread for {@link ReplicaRegistry#isPinned()}. When a write of this request commits,
+ * the new time is sent back in both, so the client's next requests stay on the primary on
+ * whichever node serves them. Browsers return the cookie by themselves; API clients echo the
+ * header. A write that commits after the response is committed cannot pin the client.
+ */
+public class PrimaryPinFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Last-Write";
+    public static final String COOKIE = "last_write";
+
+    private static final ThreadLocal<Client> CURRENT = new ThreadLocal<>();
+
+    private final long pinMs;
+
+    public PrimaryPinFilter(long pinMs) {
+        this.pinMs = pinMs;
+    }
+
+    /**
+     * Client of the request on this thread, or null for background work
+     */
+    static Client currentClient() {
+        return CURRENT.get();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Client previous = CURRENT.get();
+        CURRENT.set(new Client(lastWrite(request), request.isSecure(), response));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    private static long lastWrite(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                    break;
+                }
+            }
+        }
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * One request's view of its client's writes
+     */
+    final class Client {
+
+        private final boolean secure;
+        private final HttpServletResponse response;
+        private volatile long lastWriteMs;
+        private boolean cookieSent;
+
+        private Client(long lastWriteMs, boolean secure, HttpServletResponse response) {
+            this.lastWriteMs = lastWriteMs;
+            this.secure = secure;
+            this.response = response;
+        }
+
+        long getLastWriteMs() {
+            return lastWriteMs;
+        }
+
+        long getPinMs() {
+            return pinMs;
+        }
+
+        synchronized void wrote(long nowMs) {
+            lastWriteMs = nowMs;
+            if (response.isCommitted()) {
+                return;
+            }
+            response.setHeader(HEADER, Long.toString(nowMs));
+            if (!cookieSent) {
+                // Later writes of the same request are at most its duration newer
+                cookieSent = true;
+                response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(nowMs))
+                        .path("/")
+                        .httpOnly(true)
+                        .secure(secure)
+                        .sameSite("Lax")
+                        .maxAge(Duration.ofMillis(pinMs).plusSeconds(1))
+                        .build()
+                        .toString());
+            }
+        }
+    }
+}
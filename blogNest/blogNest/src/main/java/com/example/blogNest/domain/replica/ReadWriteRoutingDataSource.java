@@ -0,0 +1,124 @@
+package com.example.blogNest.domain.replica;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that sends read-only transactions to a replica and everything else to the primary
+ *
+ * The decision is made when the physical connection is fetched, so this must sit behind a
+ * LazyConnectionDataSourceProxy: only then has the transaction manager marked the
+ * transaction read-only by the time its first statement runs. Reads fall back to the
+ * primary when no replica is within the lag limit, when the replica cannot be reached,
+ * and for a client that has just written.
+ *
+ * Primary connections of web requests watch their statements; the first write pins the
+ * client to the primary once the transaction commits.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> WRITE_METHODS = Set.of("executeUpdate", "executeLargeUpdate", "executeBatch",
+            "executeLargeBatch");
+
+    private final DataSource primary;
+    private final ReplicaRegistry registry;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaRegistry registry) {
+        this.primary = primary;
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !registry.isPinned()) {
+            ReplicaRegistry.Replica replica = registry.choose();
+            if (replica != null) {
+                try {
+                    return replica.getDataSource().getConnection();
+                } catch (SQLException e) {
+                    registry.markUnreachable(replica, e);
+                }
+            }
+        }
+        Connection connection = primary.getConnection();
+        return registry.isTracked() ? trackWrites(connection) : connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Internal helpers
+
+    private Connection trackWrites(Connection connection) {
+        AtomicBoolean recorded = new AtomicBoolean();
+        Runnable onWrite = () -> {
+            if (recorded.compareAndSet(false, true)) {
+                registry.recordWrite();
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && STATEMENT_FACTORIES.contains(method.getName())) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return trackWrites(statement, method.getReturnType(), sql, onWrite);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object trackWrites(Statement statement, Class<?> type, String preparedSql, Runnable onWrite) {
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Object result = invoke(statement, method, args);
+                    if (isWrite(method, args, preparedSql)) {
+                        onWrite.run();
+                    }
+                    return result;
+                });
+    }
+
+    private static boolean isWrite(Method method, Object[] args, String preparedSql) {
+        String name = method.getName();
+        if (WRITE_METHODS.contains(name)) {
+            return true;
+        }
+        if (!"execute".equals(name)) {
+            return false;
+        }
+        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+        return sql == null || !isQuery(sql);
+    }
+
+    private static boolean isQuery(String sql) {
+        String head = sql.stripLeading();
+        while (head.startsWith("(")) {
+            head = head.substring(1).stripLeading();
+        }
+        head = head.toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("with") || head.startsWith("show")
+                || head.startsWith("explain") || head.startsWith("values");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.blogNest.domain.replica;
+
+import com.example.blogNest.domain.config.ReplicaConfig;
+import com.example.blogNest.domain.model.entity.ReplicationHeartbeat;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Measures how far each replica is behind the primary
+ *
+ * One node, elected through {@link LeaderLock}, writes its clock to the replication_heartbeat
+ * row on the primary every interval. Every node then reads the row from the primary and from
+ * each replica; the difference is that replica's lag. Both values come from the same writer,
+ * so clock skew between nodes does not matter. The measurement is off by up to one heartbeat
+ * interval either way, so keep app.replicas.max-lag-ms well above the interval.
+ *
+ * When the heartbeat on the primary stops advancing, lag can no longer be told apart from
+ * a quiet primary, and all replicas are taken out of rotation until it moves again.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LOCK_NAME = "replica-heartbeat";
+    private static final String SELECT_SQL = "SELECT beat_ms FROM replication_heartbeat WHERE id = ?";
+
+    private final ReplicaRegistry registry;
+    private final ReplicaConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaderLock leaderLock;
+
+    private long lastPrimaryBeat = -1;
+    private long primaryBeatChangedAt = System.currentTimeMillis();
+
+    public ReplicaLagMonitor(ReplicaRegistry registry, ReplicaConfig config, JdbcTemplate jdbcTemplate,
+                             LeaderLock leaderLock) {
+        this.registry = registry;
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderLock = leaderLock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.replicas.heartbeat-interval-ms:1000}")
+    public void check() {
+        List<ReplicaRegistry.Replica> replicas = registry.getReplicas();
+        if (replicas.isEmpty()) {
+            return;
+        }
+
+        Long primaryBeat;
+        try {
+            beat();
+            primaryBeat = readBeat(jdbcTemplate);
+        } catch (Exception e) {
+            log.warn("Could not write or read the replication heartbeat on the primary", e);
+            primaryBeat = null;
+        }
+        long now = System.currentTimeMillis();
+        if (primaryBeat != null && primaryBeat != lastPrimaryBeat) {
+            lastPrimaryBeat = primaryBeat;
+            primaryBeatChangedAt = now;
+        }
+        boolean stalled = primaryBeat == null
+                || now - primaryBeatChangedAt > config.getHeartbeatIntervalMs() * 3 + config.getMaxLagMs();
+
+        for (ReplicaRegistry.Replica replica : replicas) {
+            Long replicaBeat;
+            try {
+                replicaBeat = readBeat(replica.getJdbcTemplate());
+            } catch (Exception e) {
+                registry.markUnreachable(replica, e);
+                continue;
+            }
+            if (stalled || replicaBeat == null) {
+                registry.recordLag(replica, -1);
+            } else {
+                registry.recordLag(replica, Math.max(0, primaryBeat - replicaBeat));
+            }
+        }
+    }
+
+    // Internal helpers
+
+    private void beat() {
+        Duration lease = Duration.ofMillis(config.getHeartbeatIntervalMs() * 3);
+        if (!leaderLock.tryAcquire(LOCK_NAME, lease)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int updated = jdbcTemplate.update("UPDATE replication_heartbeat SET beat_ms = ?, writer = ? WHERE id = ?",
+                now, leaderLock.getNodeId(), ReplicationHeartbeat.SINGLE_ROW_ID);
+        if (updated == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_ms, writer) VALUES (?, ?, ?)",
+                        ReplicationHeartbeat.SINGLE_ROW_ID, now, leaderLock.getNodeId());
+            } catch (DuplicateKeyException e) {
+                // Another node created the row first
+            }
+        }
+    }
+
+    private static Long readBeat(JdbcTemplate template) {
+        List<Long> beats = template.queryForList(SELECT_SQL, Long.class, ReplicationHeartbeat.SINGLE_ROW_ID);
+        return beats.isEmpty() ? null : beats.get(0);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.blogNest.domain.replica;
+
+import com.example.blogNest.domain.config.ReplicaConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica connection pools, their last measured lag and the sessions pinned to the primary
+ *
+ * A replica serves reads only while its last lag check is recent, succeeded and found it
+ * within app.replicas.max-lag-ms. Replicas take turns; when none qualifies reads go to the
+ * primary. A client whose write committed stays on the primary for app.replicas.primary-pin-ms
+ * so it reads its own writes; the pin travels with the client (see {@link PrimaryPinFilter}),
+ * so every node honours it.
+ */
+public class ReplicaRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRegistry.class);
+
+    // Lag checks missed before a replica's last measurement is no longer trusted
+    private static final int MISSED_CHECKS = 3;
+
+    private final ReplicaConfig config;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRegistry(ReplicaConfig config, DataSourceProperties primary) {
+        this.config = config;
+        List<ReplicaConfig.Node> nodes = config.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            replicas.add(new Replica("replica-" + i, createPool("replica-" + i, nodes.get(i), primary)));
+        }
+        if (replicas.isEmpty()) {
+            log.warn("app.replicas.enabled is set but no app.replicas.nodes are configured; all reads use the primary");
+        } else {
+            log.info("Routing read-only transactions to {} replica(s) within {} ms of the primary",
+                    replicas.size(), config.getMaxLagMs());
+        }
+    }
+
+    // Routing
+
+    /**
+     * Next replica allowed to serve reads, or null to use the primary
+     */
+    public Replica choose() {
+        int count = replicas.size();
+        if (count == 0) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        long trustedFor = config.getHeartbeatIntervalMs() * MISSED_CHECKS;
+        int start = Math.floorMod(cursor.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (replica.eligible && now - replica.checkedAtMs <= trustedFor) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take a replica out of rotation until its next successful lag check
+     */
+    public void markUnreachable(Replica replica, Exception cause) {
+        if (replica.eligible || replica.reachable) {
+            log.warn("Replica {} is unavailable; reads fall back to the primary: {}", replica.name, cause.getMessage());
+        }
+        replica.reachable = false;
+        replica.eligible = false;
+    }
+
+    /**
+     * Record a lag measurement; lagMs < 0 means the lag could not be determined
+     */
+    public void recordLag(Replica replica, long lagMs) {
+        boolean eligible = lagMs >= 0 && lagMs <= config.getMaxLagMs();
+        if (eligible != replica.eligible) {
+            if (eligible) {
+                log.info("Replica {} serves reads again, {} ms behind the primary", replica.name, lagMs);
+            } else if (lagMs < 0) {
+                log.warn("Replica {} excluded from reads: replication lag unknown", replica.name);
+            } else {
+                log.warn("Replica {} excluded from reads: {} ms behind the primary", replica.name, lagMs);
+            }
+        }
+        replica.lagMs = lagMs;
+        replica.reachable = true;
+        replica.eligible = eligible;
+        replica.checkedAtMs = System.currentTimeMillis();
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // Read-your-writes
+
+    /**
+     * Whether reads on this thread must use the primary because the client wrote less than
+     * app.replicas.primary-pin-ms ago; the write time comes with the request, so all nodes agree
+     */
+    public boolean isPinned() {
+        PrimaryPinFilter.Client client = PrimaryPinFilter.currentClient();
+        if (client == null) {
+            return false;
+        }
+        long lastWriteMs = client.getLastWriteMs();
+        long now = System.currentTimeMillis();
+        // Times far ahead of this node's clock are not from a node; they would pin the client for good
+        return lastWriteMs > now - client.getPinMs() && lastWriteMs <= now + client.getPinMs();
+    }
+
+    /**
+     * Whether this thread serves a request whose writes pin its client
+     */
+    public boolean isTracked() {
+        return PrimaryPinFilter.currentClient() != null;
+    }
+
+    /**
+     * Pin the client of this thread to the primary once the current transaction commits, or now outside one
+     */
+    public void recordWrite() {
+        PrimaryPinFilter.Client client = PrimaryPinFilter.currentClient();
+        if (client == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            client.wrote(System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                client.wrote(System.currentTimeMillis());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    // Internal helpers
+
+    private HikariDataSource createPool(String name, ReplicaConfig.Node node, DataSourceProperties primary) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername() != null ? node.getUsername() : primary.determineUsername());
+        pool.setPassword(node.getPassword() != null ? node.getPassword() : primary.determinePassword());
+        if (primary.getDriverClassName() != null) {
+            pool.setDriverClassName(primary.getDriverClassName());
+        }
+        pool.setMaximumPoolSize(config.getMaxPoolSize());
+        pool.setMinimumIdle(1);
+        pool.setReadOnly(true);
+        // A replica that is down at startup is left out of rotation instead of failing the application
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+
+    /**
+     * One replica and its last lag check
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+
+        private volatile long lagMs = -1;
+        private volatile long checkedAtMs;
+        private volatile boolean reachable;
+        private volatile boolean eligible;
+
+        private Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public HikariDataSource getDataSource() {
+            return dataSource;
+        }
+
+        public JdbcTemplate getJdbcTemplate() {
+            return jdbcTemplate;
+        }
+
+        /**
+         * Last measured lag in milliseconds, -1 if unknown
+         */
+        public long getLagMs() {
+            return lagMs;
+        }
+
+        public boolean isEligible() {
+            return eligible;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.blogNest.domain.replica;
+
+import com.example.blogNest.domain.config.ReplicaConfig;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write splitting, switched on with app.replicas.enabled=true
+ *
+ * Configures:
+ * - The application DataSource wrapped as LazyConnectionDataSourceProxy over
+ *   {@link ReadWriteRoutingDataSource}, so @Transactional(readOnly = true) work reads from
+ *   a replica; everything else, including queries outside a read-only transaction, uses
+ *   the primary
+ * - The filter that carries each client's last write time, so reads after a write stay
+ *   on the primary on every node
+ * - One connection pool per replica in app.replicas.nodes
+ * - The heartbeat that measures each replica's lag and takes lagging ones out of rotation
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    // Bean name of the auto-configured primary connection pool
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    @Bean
+    public ReplicaRegistry replicaRegistry(ReplicaConfig config, DataSourceProperties dataSourceProperties) {
+        return new ReplicaRegistry(config, dataSourceProperties);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRegistry registry, ReplicaConfig config,
+                                               JdbcTemplate jdbcTemplate, LeaderLock leaderLock) {
+        return new ReplicaLagMonitor(registry, config, jdbcTemplate, leaderLock);
+    }
+
+    @Bean
+    public FilterRegistrationBean<PrimaryPinFilter> primaryPinFilter(ReplicaConfig config) {
+        FilterRegistrationBean<PrimaryPinFilter> registration =
+                new FilterRegistrationBean<>(new PrimaryPinFilter(config.getPrimaryPinMs()));
+        // Outside the security chain, so authentication lookups see the pin too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor readWriteRoutingDataSourcePostProcessor(ObjectProvider<ReplicaRegistry> registry) {
+        return new RoutingPostProcessor(registry);
+    }
+
+    /**
+     * Wraps the primary pool bean only, before any other DataSource wrapper sees it
+     */
+    private static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ReplicaRegistry> registry;
+
+        private RoutingPostProcessor(ObjectProvider<ReplicaRegistry> registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (PRIMARY_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(dataSource, registry.getObject()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
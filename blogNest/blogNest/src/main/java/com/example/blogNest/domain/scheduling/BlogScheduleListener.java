@@ -0,0 +1,32 @@
+package com.example.blogNest.domain.scheduling;
+
+import com.example.blogNest.domain.model.entity.Blog;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that announces scheduled blogs to the publication scheduler
+ *
+ * Fires after a blog row is written with SCHEDULED status (i.e. after {@code Blog.schedule()}
+ * has been flushed). The event is consumed after commit, so rolled-back schedules never
+ * reach the timing wheel.
+ */
+@Component
+public class BlogScheduleListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BlogScheduleListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onBlogWritten(Blog blog) {
+        if (blog.isScheduled() && blog.getScheduledAt() != null) {
+            eventPublisher.publishEvent(new BlogScheduledEvent(blog.getId(), blog.getScheduledAt()));
+        }
+    }
+}
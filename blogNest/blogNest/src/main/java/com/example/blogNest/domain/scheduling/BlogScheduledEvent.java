@@ -0,0 +1,9 @@
+package com.example.blogNest.domain.scheduling;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a blog is saved in SCHEDULED status
+ */
+public record BlogScheduledEvent(Long blogId, LocalDateTime scheduledAt) {
+}
@@ -0,0 +1,179 @@
+package com.example.blogNest.domain.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical Timing Wheel - In-memory timer structure for large numbers of deadlines
+ *
+ * Features:
+ * - O(1) insertion regardless of how far in the future the deadline is
+ * - Coarser levels are created on demand, so the horizon is unbounded
+ * - Entries cascade from coarse to fine levels as the clock advances
+ * - Single-threaded advancement driven by the caller's clock
+ *
+ * Level i has slots of tickMs * wheelSize^i milliseconds. An entry is placed on the
+ * finest level whose span still covers its deadline, and moves down one level each
+ * time the slot it sits in becomes current.
+ *
+ * @param <T> payload type fired when the deadline expires
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMs, tickMs);
+        this.levels.add(new Level<>(tickMs, wheelSize));
+    }
+
+    /**
+     * Add an entry to the wheel
+     *
+     * @return false if the deadline has already passed; the caller should fire it directly
+     */
+    public synchronized boolean add(T item, long deadlineMs) {
+        if (Math.floorDiv(deadlineMs, tickMs) <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(item, deadlineMs));
+        size++;
+        return true;
+    }
+
+    /**
+     * Advance the clock to the given time and collect every entry that expired on the way
+     */
+    public synchronized List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            long nowTickMs = currentTick * tickMs;
+
+            // Cascade coarse slots that just became current, highest level first
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level<T> level = levels.get(i);
+                if (nowTickMs % level.slotMs == 0) {
+                    for (Entry<T> entry : level.drain(nowTickMs)) {
+                        if (Math.floorDiv(entry.deadlineMs, tickMs) <= currentTick) {
+                            expired.add(entry.item);
+                            size--;
+                        } else {
+                            place(entry);
+                        }
+                    }
+                }
+            }
+
+            for (Entry<T> entry : levels.get(0).drain(nowTickMs)) {
+                expired.add(entry.item);
+                size--;
+            }
+        }
+
+        return expired;
+    }
+
+    /**
+     * Remove every entry from the wheel
+     */
+    public synchronized void clear() {
+        levels.clear();
+        levels.add(new Level<>(tickMs, wheelSize));
+        size = 0;
+    }
+
+    /**
+     * Remove every entry and move the clock to the given time without expiring anything
+     */
+    public synchronized void reset(long nowMs) {
+        clear();
+        currentTick = Math.floorDiv(nowMs, tickMs);
+    }
+
+    /**
+     * Number of entries waiting in the wheel
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Current wheel time, aligned to the tick
+     */
+    public synchronized long currentTimeMs() {
+        return currentTick * tickMs;
+    }
+
+    private void place(Entry<T> entry) {
+        long nowMs = currentTick * tickMs;
+        int index = 0;
+
+        while (true) {
+            if (index == levels.size()) {
+                Level<T> coarsest = levels.get(index - 1);
+                levels.add(new Level<>(coarsest.slotMs * wheelSize, wheelSize));
+            }
+
+            Level<T> level = levels.get(index);
+            long distance = Math.floorDiv(entry.deadlineMs, level.slotMs) - Math.floorDiv(nowMs, level.slotMs);
+            if (distance < wheelSize) {
+                level.add(entry);
+                return;
+            }
+            index++;
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final long deadlineMs;
+
+        private Entry(T item, long deadlineMs) {
+            this.item = item;
+            this.deadlineMs = deadlineMs;
+        }
+    }
+
+    private static final class Level<T> {
+        private final long slotMs;
+        private final List<List<Entry<T>>> slots;
+
+        private Level(long slotMs, int wheelSize) {
+            this.slotMs = slotMs;
+            this.slots = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                slots.add(new ArrayList<>());
+            }
+        }
+
+        private void add(Entry<T> entry) {
+            slots.get(slotIndex(entry.deadlineMs)).add(entry);
+        }
+
+        private List<Entry<T>> drain(long nowMs) {
+            int index = slotIndex(nowMs);
+            List<Entry<T>> drained = slots.get(index);
+            if (drained.isEmpty()) {
+                return drained;
+            }
+            slots.set(index, new ArrayList<>());
+            return drained;
+        }
+
+        private int slotIndex(long timeMs) {
+            return (int) Math.floorMod(Math.floorDiv(timeMs, slotMs), (long) slots.size());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.blogNest.domain.scheduling;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Database-backed leader election for background jobs
+ *
+ * Each named lock is a row in scheduler_locks. A node owns the lock while its lease
+ * has not expired and renews it by calling {@link #tryAcquire} again before expiry.
+ * Acquisition is a single conditional UPDATE, falling back to an INSERT for the
+ * first node that ever asks for the lock.
+ */
+@Component
+public class LeaderLock {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+
+    public LeaderLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Acquire or renew the named lock for this node
+     *
+     * @return true if this node holds the lock for the next lease period
+     */
+    public boolean tryAcquire(String lockName, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp until = Timestamp.valueOf(now.plus(lease));
+
+        int updated = jdbcTemplate.update(
+                "UPDATE scheduler_locks SET owner = ?, locked_at = ?, locked_until = ? " +
+                "WHERE name = ? AND (owner = ? OR locked_until <= ?)",
+                nodeId, nowTs, until, lockName, nodeId, nowTs);
+        if (updated > 0) {
+            return true;
+        }
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO scheduler_locks (name, owner, locked_at, locked_until) VALUES (?, ?, ?, ?)",
+                    lockName, nodeId, nowTs, until);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another node holds a live lease
+            return false;
+        }
+    }
+
+    /**
+     * Give up the named lock if this node holds it
+     */
+    public void release(String lockName) {
+        jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_until = ? WHERE name = ? AND owner = ?",
+                Timestamp.valueOf(LocalDateTime.now()), lockName, nodeId);
+    }
+
+    /**
+     * Identifier of this node as written to the owner column
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.blogNest.domain.scheduling;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.config.PublicationSchedulerConfig;
+import com.example.blogNest.domain.event.BlogChangedEvent;
+import com.example.blogNest.domain.event.BlogPublishedEvent;
+import com.example.blogNest.domain.statistics.PlatformStat;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes SCHEDULED blogs at their exact scheduledAt time
+ *
+ * Features:
+ * - Hierarchical timing wheel loaded from SCHEDULED blogs, no polling queries per tick
+ * - New schedules are added as soon as {@code Blog.schedule()} is committed
+ * - Each blog is published by its own single-row conditional UPDATE
+ * - Database lease row so only one node publishes
+ * - Catch-up sweep for blogs that fell due while no node was leader
+ * - A blog whose publish fails is retried on the next resync instead of being lost, and a
+ *   failure never stops the tick
+ * - The UPDATE bypasses entity listeners, so each publish sends the BlogPublishedEvent and
+ *   BlogChangedEvent and the published-blogs statistic an entity update would produce
+ */
+@Service
+public class ScheduledPublicationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledPublicationService.class);
+
+    static final String LOCK_NAME = "scheduled-publication";
+
+    private final BlogRepository blogRepository;
+    private final LeaderLock leaderLock;
+    private final PublicationSchedulerConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformStatisticsService platformStatistics;
+
+    // blogId -> scheduledAt (epoch ms) of the entry currently in the wheel
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    private volatile HierarchicalTimingWheel<Long> wheel;
+    private volatile boolean leader;
+    private ScheduledExecutorService executor;
+
+    public ScheduledPublicationService(BlogRepository blogRepository,
+                                       LeaderLock leaderLock,
+                                       PublicationSchedulerConfig config,
+                                       PlatformTransactionManager transactionManager,
+                                       ApplicationEventPublisher eventPublisher,
+                                       PlatformStatisticsService platformStatistics) {
+        this.blogRepository = blogRepository;
+        this.leaderLock = leaderLock;
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.platformStatistics = platformStatistics;
+    }
+
+    /**
+     * Start the wheel once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        wheel = new HierarchicalTimingWheel<>(config.getTickMs(), config.getWheelSize(), System.currentTimeMillis());
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "scheduled-publication");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::resync, 0, config.getResyncIntervalMs(), TimeUnit.MILLISECONDS);
+        executor.scheduleAtFixedRate(this::tick, config.getTickMs(), config.getTickMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (leader) {
+            leaderLock.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * Register a blog scheduled on this node
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogScheduled(BlogScheduledEvent event) {
+        if (!leader || event.blogId() == null) {
+            // The leader picks it up on its next resync
+            return;
+        }
+        executor.execute(() -> register(event.blogId(), toEpochMillis(event.scheduledAt())));
+    }
+
+    /**
+     * Renew the lease and load schedules; on gaining leadership every overdue blog is
+     * published immediately, which is the catch-up sweep after downtime
+     */
+    void resync() {
+        try {
+            boolean acquired = leaderLock.tryAcquire(LOCK_NAME, Duration.ofMillis(config.getLeaseMs()));
+
+            if (!acquired) {
+                if (leader) {
+                    log.info("Lost scheduled-publication leadership");
+                    leader = false;
+                    wheel.clear();
+                    pending.clear();
+                }
+                return;
+            }
+
+            boolean gained = !leader;
+            if (gained) {
+                // Start from the current time rather than stepping through every tick missed while not leader
+                wheel.reset(System.currentTimeMillis());
+                pending.clear();
+            }
+            leader = true;
+
+            long nowMs = System.currentTimeMillis();
+            int overdue = 0;
+            List<Object[]> scheduled = blogRepository.findScheduledPublications();
+            for (Object[] row : scheduled) {
+                long dueAtMs = toEpochMillis((LocalDateTime) row[1]);
+                if (dueAtMs <= nowMs) {
+                    overdue++;
+                }
+                register((Long) row[0], dueAtMs);
+            }
+
+            if (gained) {
+                log.info("Acquired scheduled-publication leadership as {}, caught up {} overdue blogs",
+                        leaderLock.getNodeId(), overdue);
+            }
+        } catch (Exception e) {
+            log.warn("Scheduled-publication resync failed", e);
+        }
+    }
+
+    /**
+     * Advance the wheel and publish everything that fell due
+     */
+    void tick() {
+        if (!leader) {
+            return;
+        }
+        for (Long blogId : wheel.advance(System.currentTimeMillis())) {
+            publishSafely(blogId);
+        }
+    }
+
+    /**
+     * Number of blogs currently waiting in the wheel
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Check if this node is the active publisher
+     */
+    public boolean isLeader() {
+        return leader;
+    }
+
+    private void register(Long blogId, long dueAtMs) {
+        Long previous = pending.put(blogId, dueAtMs);
+        if (previous != null && previous == dueAtMs) {
+            return;
+        }
+        if (!wheel.add(blogId, dueAtMs)) {
+            publishSafely(blogId);
+        }
+    }
+
+    /**
+     * Publish without letting an exception escape; it would cancel the scheduled tick for good
+     * and drop the rest of the batch. Forgetting the blog lets the next resync register it again.
+     */
+    private void publishSafely(Long blogId) {
+        try {
+            publish(blogId);
+        } catch (Exception e) {
+            pending.remove(blogId);
+            log.warn("Failed to publish scheduled blog {}, retrying on next resync", blogId, e);
+        }
+    }
+
+    private void publish(Long blogId) {
+        // A rescheduled blog leaves a stale entry behind; the UPDATE guard on scheduledAt skips it
+        int updated = transactionTemplate.execute(status ->
+                blogRepository.publishScheduledBlog(blogId, LocalDateTime.now()));
+        Long dueAtMs = pending.get(blogId);
+        if (updated > 0 || dueAtMs == null || dueAtMs <= System.currentTimeMillis()) {
+            pending.remove(blogId);
+        }
+        if (updated > 0) {
+            log.debug("Published scheduled blog {}", blogId);
+            platformStatistics.recordDeltas(Map.of(PlatformStat.BLOGS_PUBLISHED, 1L));
+            eventPublisher.publishEvent(new BlogPublishedEvent(blogId, null, null, LocalDateTime.now()));
+            eventPublisher.publishEvent(new BlogChangedEvent(blogId));
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
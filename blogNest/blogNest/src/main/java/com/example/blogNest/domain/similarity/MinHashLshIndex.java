@@ -0,0 +1,136 @@
+package com.example.blogNest.domain.similarity;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locality-sensitive hash index over MinHash signatures
+ *
+ * Each signature section is cut into bands of {@code rowsPerBand} values; every band is
+ * hashed to a bucket key. Two blogs become candidates when they share at least one bucket,
+ * which happens with high probability for similar blogs and rarely for dissimilar ones.
+ *
+ * Buckets hold small copy-on-write long[] arrays of blog ids. Writes are serialized by the
+ * caller's single indexing thread; reads are lock-free.
+ */
+public class MinHashLshIndex {
+
+    private final MinHasher hasher;
+    private final int rowsPerBand;
+
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+    public MinHashLshIndex(MinHasher hasher, int rowsPerBand) {
+        this.hasher = hasher;
+        this.rowsPerBand = Math.max(1, rowsPerBand);
+    }
+
+    /**
+     * Add or replace a blog's signature
+     */
+    public synchronized void put(long blogId, int[] signature) {
+        int[] previous = signatures.put(blogId, signature);
+        if (previous != null) {
+            if (Arrays.equals(previous, signature)) {
+                return;
+            }
+            forEachBand(previous, key -> buckets.computeIfPresent(key, (k, ids) -> without(ids, blogId)));
+        }
+        forEachBand(signature, key -> buckets.merge(key, new long[]{blogId}, MinHashLshIndex::with));
+    }
+
+    /**
+     * Remove a blog from the index
+     */
+    public synchronized void remove(long blogId) {
+        int[] previous = signatures.remove(blogId);
+        if (previous != null) {
+            forEachBand(previous, key -> buckets.computeIfPresent(key, (k, ids) -> without(ids, blogId)));
+        }
+    }
+
+    public int[] getSignature(long blogId) {
+        return signatures.get(blogId);
+    }
+
+    /**
+     * Blogs sharing at least one band bucket with the given signature
+     */
+    public Set<Long> candidates(int[] signature) {
+        Set<Long> result = new HashSet<>();
+        forEachBand(signature, key -> {
+            long[] ids = buckets.get(key);
+            if (ids != null) {
+                for (long id : ids) {
+                    result.add(id);
+                }
+            }
+        });
+        return result;
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    public synchronized void clear() {
+        signatures.clear();
+        buckets.clear();
+    }
+
+    // Banding
+
+    private void forEachBand(int[] signature, BandConsumer consumer) {
+        bands(signature, 0, hasher.getContentHashes(), 0, consumer);
+        bands(signature, hasher.getContentHashes(), hasher.getTagHashes(), 1, consumer);
+    }
+
+    private void bands(int[] signature, int from, int length, int section, BandConsumer consumer) {
+        if (length == 0 || signature[from] == MinHasher.EMPTY) {
+            // Empty sections would all share the same buckets
+            return;
+        }
+        for (int band = 0; band * rowsPerBand < length; band++) {
+            long h = (section * 1_000_003L + band) * 0x9E3779B97F4A7C15L;
+            int end = Math.min(from + (band + 1) * rowsPerBand, from + length);
+            for (int i = from + band * rowsPerBand; i < end; i++) {
+                h = (h ^ signature[i]) * 0x100000001b3L;
+            }
+            consumer.accept(MinHasher.mix64(h));
+        }
+    }
+
+    private static long[] with(long[] ids, long[] added) {
+        long[] result = Arrays.copyOf(ids, ids.length + added.length);
+        System.arraycopy(added, 0, result, ids.length, added.length);
+        return result;
+    }
+
+    private static long[] without(long[] ids, long blogId) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == blogId) {
+                if (ids.length == 1) {
+                    return null;
+                }
+                long[] result = new long[ids.length - 1];
+                System.arraycopy(ids, 0, result, 0, i);
+                System.arraycopy(ids, i + 1, result, i, ids.length - i - 1);
+                return result;
+            }
+        }
+        return ids;
+    }
+
+    @FunctionalInterface
+    private interface BandConsumer {
+        void accept(long bucketKey);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.blogNest.domain.similarity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * MinHash signatures over word shingles and tags
+ *
+ * A signature is {@code contentHashes} minimum hash values over the blog's title and
+ * content word shingles followed by {@code tagHashes} values over its tag names. The
+ * fraction of equal positions between two signatures estimates the Jaccard similarity
+ * of the underlying sets.
+ *
+ * Shingling is a single pass over the text that hashes words in place (no substrings or
+ * token lists) and skips markup between angle brackets. Hash seeds are fixed so every
+ * node computes identical signatures.
+ */
+public final class MinHasher {
+
+    /**
+     * Signature value for a section with no input (no tags, empty content)
+     */
+    public static final int EMPTY = Integer.MAX_VALUE;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int contentHashes;
+    private final int tagHashes;
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int contentHashes, int tagHashes, int shingleSize) {
+        this.contentHashes = contentHashes;
+        this.tagHashes = tagHashes;
+        this.shingleSize = Math.max(1, shingleSize);
+        this.seeds = new long[contentHashes + tagHashes];
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < seeds.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix64(state);
+        }
+    }
+
+    /**
+     * Compute the signature of a blog
+     */
+    public int[] signature(String title, String content, Collection<String> tags) {
+        int[] signature = new int[contentHashes + tagHashes];
+        Arrays.fill(signature, EMPTY);
+
+        long[] window = new long[shingleSize];
+        shingle(title, window, signature);
+        shingle(content, window, signature);
+
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    update(signature, contentHashes, tagHashes, hashWord(tag.trim().toLowerCase(Locale.ROOT)));
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the content sections
+     */
+    public double contentSimilarity(int[] a, int[] b) {
+        return agreement(a, b, 0, contentHashes);
+    }
+
+    /**
+     * Estimated Jaccard similarity of the tag sections
+     */
+    public double tagSimilarity(int[] a, int[] b) {
+        return agreement(a, b, contentHashes, tagHashes);
+    }
+
+    public int getContentHashes() {
+        return contentHashes;
+    }
+
+    public int getTagHashes() {
+        return tagHashes;
+    }
+
+    // Shingling
+
+    private void shingle(String text, long[] window, int[] signature) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int words = 0;
+        long word = FNV_OFFSET;
+        boolean inWord = false;
+        boolean inMarkup = false;
+
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (inMarkup) {
+                inMarkup = c != '>';
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                word = (word ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inWord = true;
+                continue;
+            }
+            if (inWord) {
+                window[words % shingleSize] = word;
+                words++;
+                if (words >= shingleSize) {
+                    update(signature, 0, contentHashes, shingleHash(window, words));
+                }
+                word = FNV_OFFSET;
+                inWord = false;
+            }
+            inMarkup = c == '<';
+        }
+
+        if (words > 0 && words < shingleSize) {
+            // Text shorter than one shingle: hash what there is
+            update(signature, 0, contentHashes, shingleHash(window, words));
+        }
+    }
+
+    private long shingleHash(long[] window, int words) {
+        int count = Math.min(words, shingleSize);
+        long h = count;
+        for (int k = words - count; k < words; k++) {
+            h = h * 31 + window[k % shingleSize];
+        }
+        return h;
+    }
+
+    private void update(int[] signature, int from, int length, long value) {
+        for (int i = from; i < from + length; i++) {
+            int h = (int) (mix64(value ^ seeds[i]) >>> 33);
+            if (h < signature[i]) {
+                signature[i] = h;
+            }
+        }
+    }
+
+    private static long hashWord(String word) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < word.length(); i++) {
+            h = (h ^ word.charAt(i)) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    private static double agreement(int[] a, int[] b, int from, int length) {
+        if (length == 0 || a[from] == EMPTY || b[from] == EMPTY) {
+            return 0.0;
+        }
+        int equal = 0;
+        for (int i = from; i < from + length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / length;
+    }
+
+    static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
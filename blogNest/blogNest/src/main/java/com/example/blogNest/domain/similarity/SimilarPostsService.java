@@ -0,0 +1,293 @@
+package com.example.blogNest.domain.similarity;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.BlogSignatureRepository;
+import com.example.blogNest.domain.config.SimilarityConfig;
+import com.example.blogNest.domain.event.BlogChangedEvent;
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.BlogSignature;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Similar posts" from a MinHash/LSH index over tags and content shingles
+ *
+ * Features:
+ * - Blogs are re-signed in the background after they are published, edited or re-tagged
+ * - Signatures are stored in blog_signatures; nodes load them at startup and pull changes periodically
+ * - Lookups probe the LSH buckets of the blog's signature and re-rank candidates by
+ *   estimated Jaccard similarity, so no blog table is scanned
+ * - The leader signs published blogs that have no signature yet (first deployment)
+ *
+ * Replaces the same-category ordering of BlogRepository.findSimilarBlogs.
+ */
+@Service
+public class SimilarPostsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarPostsService.class);
+
+    private static final String BACKFILL_LOCK = "similar-posts-backfill";
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(10);
+
+    private static final String SYNC_SQL =
+            "SELECT blog_id, signature, active, updated_at FROM blog_signatures " +
+            "WHERE updated_at > ? OR (updated_at = ? AND blog_id > ?) " +
+            "ORDER BY updated_at, blog_id LIMIT ?";
+    private static final String UNSIGNED_SQL =
+            "SELECT b.id FROM blogs b LEFT JOIN blog_signatures s ON s.blog_id = b.id " +
+            "WHERE b.id > ? AND b.status = 'PUBLISHED' AND s.blog_id IS NULL ORDER BY b.id LIMIT ?";
+
+    private final BlogRepository blogRepository;
+    private final BlogSignatureRepository signatureRepository;
+    private final SimilarityConfig config;
+    private final LeaderLock leaderLock;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MinHasher hasher;
+    private final MinHashLshIndex index;
+
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime syncedUntil = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private ScheduledExecutorService executor;
+
+    public SimilarPostsService(BlogRepository blogRepository,
+                               BlogSignatureRepository signatureRepository,
+                               SimilarityConfig config,
+                               LeaderLock leaderLock,
+                               JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager) {
+        this.blogRepository = blogRepository;
+        this.signatureRepository = signatureRepository;
+        this.config = config;
+        this.leaderLock = leaderLock;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.hasher = new MinHasher(config.getContentHashes(), config.getTagHashes(), config.getShingleSize());
+        this.index = new MinHashLshIndex(hasher, config.getRowsPerBand());
+    }
+
+    /**
+     * Load stored signatures and start background indexing once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "similar-posts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::backfillUnsigned);
+        executor.scheduleWithFixedDelay(this::sync, 0, config.getSyncIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlogChanged(BlogChangedEvent event) {
+        if (executor == null || event.blogId() == null || !queued.add(event.blogId())) {
+            return;
+        }
+        executor.execute(() -> {
+            queued.remove(event.blogId());
+            try {
+                reindex(event.blogId());
+            } catch (Exception e) {
+                log.warn("Failed to index blog {} for similar posts", event.blogId(), e);
+            }
+        });
+    }
+
+    // Lookups
+
+    /**
+     * IDs of the blogs most similar to the given blog, best first
+     */
+    public List<Long> getSimilarBlogIds(Long blogId, int limit) {
+        int[] signature = index.getSignature(blogId);
+        if (signature == null) {
+            return List.of();
+        }
+
+        List<Map.Entry<Long, Double>> scored = new ArrayList<>();
+        for (Long candidate : index.candidates(signature)) {
+            int[] other = candidate.equals(blogId) ? null : index.getSignature(candidate);
+            if (other == null) {
+                continue;
+            }
+            double score = (1 - config.getTagWeight()) * hasher.contentSimilarity(signature, other)
+                    + config.getTagWeight() * hasher.tagSimilarity(signature, other);
+            if (score >= config.getMinScore()) {
+                scored.add(Map.entry(candidate, score));
+            }
+        }
+
+        return scored.stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Published blogs most similar to the given blog, best first
+     */
+    public List<Blog> getSimilarBlogs(Long blogId, int limit) {
+        List<Long> ids = getSimilarBlogIds(blogId, limit);
+        Map<Long, Blog> blogs = new HashMap<>();
+        blogRepository.findAllById(ids).forEach(blog -> blogs.put(blog.getId(), blog));
+        List<Blog> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Blog blog = blogs.get(id);
+            if (blog != null && blog.isPublished()) {
+                result.add(blog);
+            }
+        }
+        return result;
+    }
+
+    public int getIndexedCount() {
+        return index.size();
+    }
+
+    // Indexing
+
+    /**
+     * Recompute and store the signature of one blog, or drop it if no longer published
+     */
+    public void reindex(Long blogId) {
+        int[] signature = transactionTemplate.execute(status -> {
+            Blog blog = blogRepository.findById(blogId).orElse(null);
+            BlogSignature row = signatureRepository.findById(blogId).orElse(null);
+            if (blog == null || !blog.isPublished()) {
+                if (row != null && row.getActive()) {
+                    row.deactivate();
+                }
+                return null;
+            }
+
+            int[] values = hasher.signature(blog.getTitle(), blog.getContent(),
+                    blogRepository.findTagNamesByBlogId(blogId));
+            if (row == null) {
+                row = new BlogSignature(blogId);
+            } else if (row.getActive() && Arrays.equals(row.getValues(), values)) {
+                return values;
+            }
+            row.update(values);
+            signatureRepository.save(row);
+            return values;
+        });
+
+        if (signature == null) {
+            index.remove(blogId);
+        } else {
+            index.put(blogId, signature);
+        }
+    }
+
+    /**
+     * Apply signature rows written since the last sync, including this node's own
+     */
+    private void sync() {
+        try {
+            LocalDateTime from = syncedUntil.minus(SYNC_OVERLAP);
+            Timestamp afterTime = Timestamp.valueOf(from);
+            long afterId = 0;
+            LocalDateTime newest = syncedUntil;
+            int applied = 0;
+
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SYNC_SQL,
+                        (rs, n) -> new Object[]{rs.getLong(1), rs.getBytes(2), rs.getBoolean(3), rs.getTimestamp(4)},
+                        afterTime, afterTime, afterId, config.getBatchSize());
+                for (Object[] row : rows) {
+                    long blogId = (Long) row[0];
+                    if ((Boolean) row[2]) {
+                        index.put(blogId, BlogSignature.decode((byte[]) row[1]));
+                    } else {
+                        index.remove(blogId);
+                    }
+                    afterTime = (Timestamp) row[3];
+                    afterId = blogId;
+                    applied++;
+                }
+                if (!rows.isEmpty() && afterTime.toLocalDateTime().isAfter(newest)) {
+                    newest = afterTime.toLocalDateTime();
+                }
+                if (rows.size() < config.getBatchSize()) {
+                    break;
+                }
+            }
+            syncedUntil = newest;
+            if (applied > 0) {
+                log.debug("Applied {} signature rows; {} blogs indexed", applied, index.size());
+            }
+        } catch (Exception e) {
+            log.warn("Similar posts sync failed", e);
+        }
+    }
+
+    /**
+     * Sign published blogs that predate the index; runs on one node at a time
+     */
+    private void backfillUnsigned() {
+        if (!leaderLock.tryAcquire(BACKFILL_LOCK, Duration.ofHours(1))) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long lastId = 0;
+            int signed = 0;
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(UNSIGNED_SQL, Long.class, lastId, config.getBatchSize());
+                for (Long id : ids) {
+                    reindex(id);
+                    signed++;
+                }
+                if (ids.size() < config.getBatchSize()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+            }
+            if (signed > 0) {
+                log.info("Signed {} published blogs for similar posts in {} ms",
+                        signed, System.currentTimeMillis() - started);
+            }
+        } catch (Exception e) {
+            log.error("Similar posts backfill failed", e);
+        } finally {
+            leaderLock.release(BACKFILL_LOCK);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.blogNest.domain.statistics;
+
+/**
+ * Per-author counters kept in author_stats
+ */
+public enum AuthorStat {
+
+    BLOG_COUNT("blog_count"),
+    TOTAL_VIEWS("total_views"),
+    LIKES_ON_BLOGS("likes_on_blogs"),
+    LIKES_ON_COMMENTS("likes_on_comments"),
+    COMMENTS_RECEIVED("comments_received"),
+    COMMENTS_WRITTEN("comments_written");
+
+    private final String column;
+
+    AuthorStat(String column) {
+        this.column = column;
+    }
+
+    /**
+     * Get the author_stats column holding this counter
+     */
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,413 @@
+package com.example.blogNest.domain.statistics;
+
+import com.example.blogNest.domain.Repository.AuthorStatsRepository;
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.Repository.LikeRepository;
+import com.example.blogNest.domain.Repository.MaintenanceCheckpointRepository;
+import com.example.blogNest.domain.config.StatisticsConfig;
+import com.example.blogNest.domain.model.entity.AuthorStats;
+import com.example.blogNest.domain.model.entity.MaintenanceCheckpoint;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Per-author profile statistics served from one primary-key row
+ *
+ * Features:
+ * - Like, comment, blog and view deltas are collected after commit by the statistics listener
+ * - Deltas against a blog or comment are resolved to its author in batches at flush time
+ * - Rows are upserted with atomic increments, then evicted from the "authorStats" cache
+ * - A one-time backfill creates rows for existing users; {@link #rebuild} recomputes one row exactly
+ *
+ * Other nodes keep serving their cached copy until the cache entry expires.
+ */
+@Service
+public class AuthorStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorStatsService.class);
+
+    public static final String CACHE_NAME = "authorStats";
+    private static final String BACKFILL_JOB = "author-stats-backfill";
+
+    private static final String UPDATE_SQL;
+    private static final String INSERT_SQL;
+
+    static {
+        StringBuilder update = new StringBuilder("UPDATE author_stats SET ");
+        StringBuilder columns = new StringBuilder("user_id");
+        StringBuilder values = new StringBuilder("?");
+        for (AuthorStat stat : AuthorStat.values()) {
+            update.append(stat.getColumn()).append(" = ").append(stat.getColumn()).append(" + ?, ");
+            columns.append(", ").append(stat.getColumn());
+            values.append(", ?");
+        }
+        UPDATE_SQL = update.append("updated_at = ? WHERE user_id = ?").toString();
+        INSERT_SQL = "INSERT INTO author_stats (" + columns + ", updated_at) VALUES (" + values + ", ?)";
+    }
+
+    private static final String BACKFILL_SQL =
+            "INSERT INTO author_stats (user_id, blog_count, total_views, likes_on_blogs, likes_on_comments, " +
+            "comments_received, comments_written, updated_at) " +
+            "SELECT u.id, COALESCE(b.cnt, 0), COALESCE(b.views, 0), COALESCE(lb.cnt, 0), COALESCE(lc.cnt, 0), " +
+            "COALESCE(cr.cnt, 0), COALESCE(cw.cnt, 0), ? " +
+            "FROM users u " +
+            "LEFT JOIN (SELECT author_id, COUNT(*) cnt, SUM(views_count) views FROM blogs GROUP BY author_id) b " +
+            "ON b.author_id = u.id " +
+            "LEFT JOIN (SELECT bl.author_id, COUNT(*) cnt FROM likes l JOIN blogs bl ON bl.id = l.blog_id " +
+            "GROUP BY bl.author_id) lb ON lb.author_id = u.id " +
+            "LEFT JOIN (SELECT c.author_id, COUNT(*) cnt FROM likes l JOIN comments c ON c.id = l.comment_id " +
+            "GROUP BY c.author_id) lc ON lc.author_id = u.id " +
+            "LEFT JOIN (SELECT bl.author_id, COUNT(*) cnt FROM comments c JOIN blogs bl ON bl.id = c.blog_id " +
+            "WHERE c.is_deleted = false GROUP BY bl.author_id) cr ON cr.author_id = u.id " +
+            "LEFT JOIN (SELECT author_id, COUNT(*) cnt FROM comments WHERE is_deleted = false " +
+            "GROUP BY author_id) cw ON cw.author_id = u.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM author_stats s WHERE s.user_id = u.id)";
+
+    private final AuthorStatsRepository authorStatsRepository;
+    private final BlogRepository blogRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final MaintenanceCheckpointRepository checkpointRepository;
+    private final StatisticsConfig config;
+    private final LeaderLock leaderLock;
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<Target, LongAdder[]> buffer = new ConcurrentHashMap<>();
+    private volatile boolean backfilled;
+
+    public AuthorStatsService(AuthorStatsRepository authorStatsRepository,
+                              BlogRepository blogRepository,
+                              CommentRepository commentRepository,
+                              LikeRepository likeRepository,
+                              MaintenanceCheckpointRepository checkpointRepository,
+                              StatisticsConfig config,
+                              LeaderLock leaderLock,
+                              JdbcTemplate jdbcTemplate,
+                              CacheManager cacheManager,
+                              PlatformTransactionManager transactionManager) {
+        this.authorStatsRepository = authorStatsRepository;
+        this.blogRepository = blogRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.config = config;
+        this.leaderLock = leaderLock;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Reads
+
+    /**
+     * Profile statistics for a user; one cached primary-key lookup
+     */
+    public AuthorStats getStats(Long userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return load(userId);
+        }
+        return cache.get(userId, () -> load(userId));
+    }
+
+    private AuthorStats load(Long userId) {
+        // Users without a row have had no activity since the backfill
+        return authorStatsRepository.findById(userId).orElseGet(() -> new AuthorStats(userId));
+    }
+
+    // Writes
+
+    /**
+     * Apply committed deltas; called by the statistics listener after commit
+     */
+    void apply(Map<Target, Map<AuthorStat, Long>> deltas) {
+        bufferLock.readLock().lock();
+        try {
+            deltas.forEach((target, counters) -> {
+                LongAdder[] adders = buffer.computeIfAbsent(target, k -> newAdders());
+                counters.forEach((stat, delta) -> adders[stat.ordinal()].add(delta));
+            });
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record blog views counted outside entity updates (e.g. bulk view increments)
+     */
+    public void recordViews(Long blogId, long views) {
+        apply(Map.of(new Target(TargetType.BLOG, blogId), Map.of(AuthorStat.TOTAL_VIEWS, views)));
+    }
+
+    /**
+     * Record likes written outside entity events (e.g. the batched like pipeline), keyed by
+     * blog or comment id
+     */
+    public void recordLikes(Map<Long, Long> blogLikes, Map<Long, Long> commentLikes) {
+        Map<Target, Map<AuthorStat, Long>> deltas = new HashMap<>();
+        blogLikes.forEach((blogId, delta) ->
+                deltas.put(new Target(TargetType.BLOG, blogId), Map.of(AuthorStat.LIKES_ON_BLOGS, delta)));
+        commentLikes.forEach((commentId, delta) ->
+                deltas.put(new Target(TargetType.COMMENT, commentId), Map.of(AuthorStat.LIKES_ON_COMMENTS, delta)));
+        apply(deltas);
+    }
+
+    /**
+     * Record committed deltas already attributed to authors, e.g. from bulk deletes whose blogs
+     * and comments no longer exist to resolve at flush
+     */
+    public void recordAuthorDeltas(Map<Long, Map<AuthorStat, Long>> byAuthor) {
+        Map<Target, Map<AuthorStat, Long>> deltas = new HashMap<>();
+        byAuthor.forEach((authorId, counters) -> deltas.put(new Target(TargetType.AUTHOR, authorId), counters));
+        apply(deltas);
+    }
+
+    /**
+     * Write buffered deltas to author_stats and evict the affected cache entries
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.flush-interval-ms:5000}")
+    public void flush() {
+        if (!isBackfilled()) {
+            // Rows written now would be skipped by the backfill and miss older activity
+            return;
+        }
+
+        Map<Target, LongAdder[]> pending;
+        bufferLock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            pending = buffer;
+            buffer = new ConcurrentHashMap<>();
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        try {
+            Map<Long, long[]> byAuthor = resolveAuthors(pending);
+            transactionTemplate.executeWithoutResult(status -> applyDeltas(byAuthor));
+            evict(byAuthor.keySet());
+        } catch (Exception e) {
+            log.error("Failed to flush {} author stats deltas; rebuild affected authors", pending.size(), e);
+        }
+    }
+
+    /**
+     * Recompute one author's row exactly from the source tables
+     */
+    public AuthorStats rebuild(Long userId) {
+        AuthorStats stats = transactionTemplate.execute(status -> {
+            AuthorStats row = authorStatsRepository.findById(userId).orElseGet(() -> new AuthorStats(userId));
+            row.setBlogCount(blogRepository.countByAuthorId(userId));
+            row.setTotalViews(blogRepository.sumViewsByAuthor(userId));
+            row.setLikesOnBlogs(likeRepository.countLikesReceivedOnBlogs(userId));
+            row.setLikesOnComments(likeRepository.countLikesReceivedOnComments(userId));
+            row.setCommentsReceived(commentRepository.countCommentsReceivedByAuthor(userId));
+            row.setCommentsWritten(commentRepository.countCommentsByUser(userId));
+            row.setUpdatedAt(LocalDateTime.now());
+            return authorStatsRepository.save(row);
+        });
+        evict(Set.of(userId));
+        return stats;
+    }
+
+    // Backfill
+
+    /**
+     * Create rows for users that existed before author stats were introduced
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (isBackfilled() || !leaderLock.tryAcquire(BACKFILL_JOB, Duration.ofHours(1))) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            int rows = transactionTemplate.execute(status -> {
+                int inserted = jdbcTemplate.update(BACKFILL_SQL, Timestamp.valueOf(LocalDateTime.now()));
+                MaintenanceCheckpoint checkpoint = checkpointRepository.findById(BACKFILL_JOB)
+                        .orElseGet(() -> new MaintenanceCheckpoint(BACKFILL_JOB));
+                checkpoint.startRun(LocalDateTime.now());
+                checkpoint.advance(0L, inserted);
+                checkpoint.complete();
+                checkpointRepository.save(checkpoint);
+                return inserted;
+            });
+            backfilled = true;
+            log.info("Backfilled author stats for {} users in {} ms", rows, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("Author stats backfill failed; deltas stay buffered until it succeeds", e);
+        } finally {
+            leaderLock.release(BACKFILL_JOB);
+        }
+    }
+
+    private boolean isBackfilled() {
+        if (!backfilled) {
+            backfilled = checkpointRepository.findById(BACKFILL_JOB)
+                    .map(checkpoint -> checkpoint.getCompletedAt() != null)
+                    .orElse(false);
+        }
+        return backfilled;
+    }
+
+    // Internal helpers
+
+    private Map<Long, long[]> resolveAuthors(Map<Target, LongAdder[]> pending) {
+        Set<Long> blogIds = new HashSet<>();
+        Set<Long> commentIds = new HashSet<>();
+        for (Target target : pending.keySet()) {
+            if (target.type() == TargetType.BLOG) {
+                blogIds.add(target.id());
+            } else if (target.type() == TargetType.COMMENT) {
+                commentIds.add(target.id());
+            }
+        }
+        Map<Long, Object[]> blogDims = lookup(blogIds, blogRepository::findBlogDimensions);
+        Map<Long, Object[]> commentDims = lookup(commentIds, commentRepository::findCommentDimensions);
+
+        Map<Long, long[]> byAuthor = new HashMap<>();
+        pending.forEach((target, adders) -> {
+            Long authorId = switch (target.type()) {
+                case AUTHOR -> target.id();
+                case BLOG -> blogDims.containsKey(target.id()) ? (Long) blogDims.get(target.id())[1] : null;
+                case COMMENT -> commentDims.containsKey(target.id()) ? (Long) commentDims.get(target.id())[2] : null;
+            };
+            if (authorId == null) {
+                // Target was deleted before the flush; its author could not be resolved
+                return;
+            }
+            long[] counters = byAuthor.computeIfAbsent(authorId, k -> new long[AuthorStat.values().length]);
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] += adders[i].sum();
+            }
+        });
+        return byAuthor;
+    }
+
+    private Map<Long, Object[]> lookup(Set<Long> ids, Function<Collection<Long>, List<Object[]>> query) {
+        Map<Long, Object[]> result = new HashMap<>();
+        List<Long> all = new ArrayList<>(ids);
+        int chunk = Math.max(1, config.getLookupBatchSize());
+        for (int i = 0; i < all.size(); i += chunk) {
+            for (Object[] row : query.apply(all.subList(i, Math.min(all.size(), i + chunk)))) {
+                result.put((Long) row[0], row);
+            }
+        }
+        return result;
+    }
+
+    private void applyDeltas(Map<Long, long[]> byAuthor) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Long, long[]>> entries = new ArrayList<>(byAuthor.entrySet());
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, entries.stream()
+                .map(e -> updateArgs(e.getKey(), e.getValue(), now))
+                .toList());
+
+        for (int i = 0; i < entries.size(); i++) {
+            if (updated[i] > 0) {
+                continue;
+            }
+            Long authorId = entries.get(i).getKey();
+            long[] counters = entries.get(i).getValue();
+            if (updated[i] == Statement.SUCCESS_NO_INFO
+                    && jdbcTemplate.update(UPDATE_SQL, updateArgs(authorId, counters, now)) > 0) {
+                // Driver rewrote the batch; this row already existed
+                continue;
+            }
+            try {
+                // No row yet: the user joined after the backfill, so the delta is the full count
+                jdbcTemplate.update(INSERT_SQL, insertArgs(authorId, counters, now));
+            } catch (DuplicateKeyException e) {
+                // Inserted concurrently by another node
+                jdbcTemplate.update(UPDATE_SQL, updateArgs(authorId, counters, now));
+            }
+        }
+    }
+
+    private void evict(Collection<Long> userIds) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            userIds.forEach(cache::evict);
+        }
+    }
+
+    private static Object[] updateArgs(Long authorId, long[] counters, Timestamp now) {
+        Object[] args = new Object[counters.length + 2];
+        for (int i = 0; i < counters.length; i++) {
+            args[i] = counters[i];
+        }
+        args[counters.length] = now;
+        args[counters.length + 1] = authorId;
+        return args;
+    }
+
+    private static Object[] insertArgs(Long authorId, long[] counters, Timestamp now) {
+        Object[] args = new Object[counters.length + 2];
+        args[0] = authorId;
+        for (int i = 0; i < counters.length; i++) {
+            args[i + 1] = counters[i];
+        }
+        args[counters.length + 1] = now;
+        return args;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[AuthorStat.values().length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * What a buffered delta is attributed to; blogs and comments resolve to their author at flush
+     */
+    enum TargetType {
+        AUTHOR,
+        BLOG,
+        COMMENT
+    }
+
+    record Target(TargetType type, Long id) {
+    }
+}
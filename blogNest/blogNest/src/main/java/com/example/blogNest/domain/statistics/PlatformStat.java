@@ -0,0 +1,64 @@
+package com.example.blogNest.domain.statistics;
+
+/**
+ * Platform-wide counters kept by the statistics registry
+ *
+ * Each constant maps to one row in platform_statistics and one key in the
+ * dashboard map returned for its group (same keys as the original repository
+ * statistics queries).
+ */
+public enum PlatformStat {
+
+    // Blog statistics (BlogRepository.getBlogStatistics)
+    BLOGS_TOTAL(Group.BLOG, "totalBlogs"),
+    BLOGS_PUBLISHED(Group.BLOG, "publishedBlogs"),
+    BLOGS_DRAFT(Group.BLOG, "draftBlogs"),
+    BLOGS_FEATURED(Group.BLOG, "featuredBlogs"),
+    BLOG_VIEWS(Group.BLOG, "totalViews"),
+    BLOG_LIKES(Group.BLOG, "totalLikes"),
+    BLOG_COMMENTS(Group.BLOG, "totalComments"),
+
+    // Like statistics (LikeRepository.getLikeStatistics)
+    LIKES_TOTAL(Group.LIKE, "totalLikes"),
+    LIKES_ON_BLOGS(Group.LIKE, "blogLikes"),
+    LIKES_ON_COMMENTS(Group.LIKE, "commentLikes"),
+
+    // Comment statistics (CommentRepository.getCommentStatistics)
+    COMMENTS_TOTAL(Group.COMMENT, "totalComments"),
+    COMMENTS_APPROVED(Group.COMMENT, "approvedComments"),
+    COMMENTS_DELETED(Group.COMMENT, "deletedComments"),
+    COMMENTS_TOP_LEVEL(Group.COMMENT, "topLevelComments"),
+    COMMENTS_REPLIES(Group.COMMENT, "replies"),
+    COMMENT_LIKES(Group.COMMENT, "totalLikes");
+
+    private final Group group;
+    private final String mapKey;
+
+    PlatformStat(Group group, String mapKey) {
+        this.group = group;
+        this.mapKey = mapKey;
+    }
+
+    /**
+     * Get the dashboard group this counter belongs to
+     */
+    public Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Get the key used in the dashboard statistics map
+     */
+    public String getMapKey() {
+        return mapKey;
+    }
+
+    /**
+     * Dashboard statistics groups
+     */
+    public enum Group {
+        BLOG,
+        LIKE,
+        COMMENT
+    }
+}
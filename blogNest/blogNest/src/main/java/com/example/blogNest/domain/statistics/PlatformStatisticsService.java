@@ -0,0 +1,379 @@
+package com.example.blogNest.domain.statistics;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.Repository.LikeRepository;
+import com.example.blogNest.domain.Repository.StatisticsSketchRepository;
+import com.example.blogNest.domain.config.StatisticsConfig;
+import com.example.blogNest.domain.model.entity.StatisticsSketch;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Constant-time platform statistics for the admin dashboard
+ *
+ * Features:
+ * - Counters are maintained from entity changes after commit instead of full-table aggregates
+ * - Reads return the last shared value plus this node's unflushed deltas, O(1) per counter
+ * - Nodes flush deltas as atomic "value = value + ?" updates and re-read the shared rows
+ * - Unique likers are estimated with a HyperLogLog merged across nodes
+ * - A leader-only exact recompute replaces every counter to correct drift from bulk updates
+ *
+ * Unflushed deltas live in memory for up to one flush interval; a crash in that window
+ * loses them until the next recompute.
+ */
+@Service
+public class PlatformStatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlatformStatisticsService.class);
+
+    private static final String LOCK_NAME = "platform-statistics-recompute";
+    private static final String UNIQUE_LIKERS_SKETCH = "unique-likers";
+
+    private final BlogRepository blogRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final StatisticsSketchRepository sketchRepository;
+    private final StatisticsConfig config;
+    private final LeaderLock leaderLock;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<PlatformStat, AtomicLong> shared = new EnumMap<>(PlatformStat.class);
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+    private volatile Map<PlatformStat, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private volatile HyperLogLog sharedLikers;
+    private volatile HyperLogLog localLikers;
+
+    public PlatformStatisticsService(BlogRepository blogRepository,
+                                     LikeRepository likeRepository,
+                                     CommentRepository commentRepository,
+                                     StatisticsSketchRepository sketchRepository,
+                                     StatisticsConfig config,
+                                     LeaderLock leaderLock,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager) {
+        this.blogRepository = blogRepository;
+        this.likeRepository = likeRepository;
+        this.commentRepository = commentRepository;
+        this.sketchRepository = sketchRepository;
+        this.config = config;
+        this.leaderLock = leaderLock;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (PlatformStat stat : PlatformStat.values()) {
+            shared.put(stat, new AtomicLong());
+        }
+        this.sharedLikers = new HyperLogLog(config.getHllPrecision());
+        this.localLikers = new HyperLogLog(config.getHllPrecision());
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            boolean seeded = seedMissingRows();
+            refresh();
+            if (seeded) {
+                // First start against this database: replace the zero rows with real values
+                recompute();
+            }
+        } catch (Exception e) {
+            log.warn("Could not load platform statistics at startup; values appear after the next flush", e);
+        }
+    }
+
+    // Reads
+
+    /**
+     * Blog statistics, same keys as {@code BlogRepository.getBlogStatistics()}
+     */
+    public Map<String, Object> getBlogStatistics() {
+        return snapshot(PlatformStat.Group.BLOG);
+    }
+
+    /**
+     * Like statistics, same keys as {@code LikeRepository.getLikeStatistics()}
+     * with an estimated uniqueLikers
+     */
+    public Map<String, Object> getLikeStatistics() {
+        Map<String, Object> stats = snapshot(PlatformStat.Group.LIKE);
+        stats.put("uniqueLikers", getUniqueLikers());
+        return stats;
+    }
+
+    /**
+     * Comment statistics, same keys as {@code CommentRepository.getCommentStatistics()}
+     */
+    public Map<String, Object> getCommentStatistics() {
+        return snapshot(PlatformStat.Group.COMMENT);
+    }
+
+    /**
+     * Current value of a single counter
+     */
+    public long get(PlatformStat stat) {
+        LongAdder local = pending.get(stat);
+        return shared.get(stat).get() + (local != null ? local.sum() : 0L);
+    }
+
+    /**
+     * Estimated number of distinct users who have ever liked something
+     */
+    public long getUniqueLikers() {
+        HyperLogLog merged = new HyperLogLog(sharedLikers.getPrecision());
+        merged.merge(sharedLikers);
+        merged.merge(localLikers);
+        return merged.estimate();
+    }
+
+    private Map<String, Object> snapshot(PlatformStat.Group group) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (PlatformStat stat : PlatformStat.values()) {
+            if (stat.getGroup() == group) {
+                stats.put(stat.getMapKey(), get(stat));
+            }
+        }
+        return stats;
+    }
+
+    // Writes
+
+    /**
+     * Apply committed deltas; called by the entity listener after commit
+     */
+    void apply(Map<PlatformStat, Long> deltas, Collection<Long> likerIds) {
+        bufferLock.readLock().lock();
+        try {
+            deltas.forEach((stat, delta) -> pending.computeIfAbsent(stat, k -> new LongAdder()).add(delta));
+            HyperLogLog likers = localLikers;
+            for (Long userId : likerIds) {
+                likers.add(userId);
+            }
+        } finally {
+            bufferLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record blog views counted outside entity updates (e.g. bulk view increments)
+     */
+    public void recordViews(long views) {
+        apply(Map.of(PlatformStat.BLOG_VIEWS, views), List.of());
+    }
+
+    /**
+     * Record likes written outside entity events (e.g. the batched like pipeline)
+     */
+    public void recordLikes(long blogLikes, long commentLikes, Collection<Long> likerIds) {
+        Map<PlatformStat, Long> deltas = new EnumMap<>(PlatformStat.class);
+        deltas.put(PlatformStat.LIKES_TOTAL, blogLikes + commentLikes);
+        deltas.put(PlatformStat.LIKES_ON_BLOGS, blogLikes);
+        deltas.put(PlatformStat.LIKES_ON_COMMENTS, commentLikes);
+        deltas.put(PlatformStat.BLOG_LIKES, blogLikes);
+        deltas.put(PlatformStat.COMMENT_LIKES, commentLikes);
+        apply(deltas, likerIds);
+    }
+
+    /**
+     * Record blog comment counts changed outside entity updates (e.g. the sharded comment counter)
+     */
+    public void recordBlogComments(long delta) {
+        apply(Map.of(PlatformStat.BLOG_COMMENTS, delta), List.of());
+    }
+
+    /**
+     * Record committed deltas of bulk statements that bypass the entity listener (e.g. maintenance jobs)
+     */
+    public void recordDeltas(Map<PlatformStat, Long> deltas) {
+        apply(deltas, List.of());
+    }
+
+    /**
+     * Write local deltas to platform_statistics and re-read the shared values
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.flush-interval-ms:5000}")
+    public void flush() {
+        Map<PlatformStat, LongAdder> drained;
+        HyperLogLog likers;
+        bufferLock.writeLock().lock();
+        try {
+            drained = pending;
+            likers = localLikers;
+            pending = new ConcurrentHashMap<>();
+            localLikers = new HyperLogLog(config.getHllPrecision());
+            // Keep flushed deltas visible until the shared values are re-read
+            drained.forEach((stat, adder) -> shared.get(stat).addAndGet(adder.sum()));
+        } finally {
+            bufferLock.writeLock().unlock();
+        }
+
+        try {
+            List<Object[]> updates = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            drained.forEach((stat, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    updates.add(new Object[]{delta, now, stat.name()});
+                }
+            });
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(
+                            "UPDATE platform_statistics SET stat_value = stat_value + ?, updated_at = ? " +
+                            "WHERE stat_key = ?", updates);
+                }
+                if (!likers.isEmpty()) {
+                    mergeSketch(likers);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Failed to flush platform statistics; the next recompute corrects the counters", e);
+        }
+
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to refresh platform statistics", e);
+        }
+    }
+
+    /**
+     * Replace every counter with an exact value computed from the source tables
+     *
+     * Runs on one node at a time. Deltas flushed by other nodes while the aggregate
+     * queries run may be overwritten; the next recompute picks them up again.
+     */
+    @Scheduled(cron = "${app.statistics.recompute-cron:0 15 * * * *}")
+    public void scheduledRecompute() {
+        if (!leaderLock.tryAcquire(LOCK_NAME, Duration.ofMillis(config.getRecomputeLeaseMs()))) {
+            return;
+        }
+        try {
+            recompute();
+        } catch (Exception e) {
+            log.error("Platform statistics recompute failed", e);
+        } finally {
+            leaderLock.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * Recompute all counters and the unique likers sketch now
+     */
+    public void recompute() {
+        long started = System.currentTimeMillis();
+        Map<PlatformStat, Long> exact = new EnumMap<>(PlatformStat.class);
+        collect(exact, PlatformStat.Group.BLOG, blogRepository.getBlogStatistics());
+        collect(exact, PlatformStat.Group.LIKE, likeRepository.getLikeStatistics());
+        collect(exact, PlatformStat.Group.COMMENT, commentRepository.getCommentStatistics());
+
+        HyperLogLog likers = new HyperLogLog(config.getHllPrecision());
+        jdbcTemplate.query("SELECT DISTINCT user_id FROM likes", rs -> {
+            likers.add(rs.getLong(1));
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>();
+            exact.forEach((stat, value) -> rows.add(new Object[]{value, now, stat.name()}));
+            jdbcTemplate.batchUpdate(
+                    "UPDATE platform_statistics SET stat_value = ?, updated_at = ? WHERE stat_key = ?", rows);
+
+            StatisticsSketch sketch = sketchRepository.findForUpdate(UNIQUE_LIKERS_SKETCH)
+                    .orElseGet(() -> new StatisticsSketch(UNIQUE_LIKERS_SKETCH, null));
+            sketch.setData(likers.toBytes());
+            sketch.setUpdatedAt(LocalDateTime.now());
+            sketchRepository.save(sketch);
+        });
+
+        refresh();
+        log.info("Recomputed platform statistics in {} ms", System.currentTimeMillis() - started);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(Map<PlatformStat, Long> exact, PlatformStat.Group group, Object result) {
+        Map<String, Object> values = (Map<String, Object>) result;
+        for (PlatformStat stat : PlatformStat.values()) {
+            if (stat.getGroup() == group) {
+                Object value = values.get(stat.getMapKey());
+                exact.put(stat, value instanceof Number number ? number.longValue() : 0L);
+            }
+        }
+    }
+
+    // Shared state
+
+    private boolean seedMissingRows() {
+        boolean seeded = false;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (PlatformStat stat : PlatformStat.values()) {
+            try {
+                seeded |= jdbcTemplate.update(
+                        "INSERT INTO platform_statistics (stat_key, stat_value, updated_at) " +
+                        "SELECT ?, 0, ? FROM DUAL WHERE NOT EXISTS " +
+                        "(SELECT 1 FROM platform_statistics WHERE stat_key = ?)",
+                        stat.name(), now, stat.name()) > 0;
+            } catch (DuplicateKeyException e) {
+                // Seeded concurrently by another node
+            }
+        }
+        return seeded;
+    }
+
+    private void refresh() {
+        Map<String, Long> values = new HashMap<>();
+        jdbcTemplate.query("SELECT stat_key, stat_value FROM platform_statistics",
+                rs -> { values.put(rs.getString(1), rs.getLong(2)); });
+        for (PlatformStat stat : PlatformStat.values()) {
+            Long value = values.get(stat.name());
+            if (value != null) {
+                shared.get(stat).set(value);
+            }
+        }
+
+        sketchRepository.findById(UNIQUE_LIKERS_SKETCH)
+                .map(sketch -> HyperLogLog.fromBytes(sketch.getData()))
+                .ifPresent(sketch -> sharedLikers = sketch);
+    }
+
+    private void mergeSketch(HyperLogLog likers) {
+        StatisticsSketch sketch = sketchRepository.findForUpdate(UNIQUE_LIKERS_SKETCH).orElse(null);
+        if (sketch == null) {
+            sketchRepository.save(new StatisticsSketch(UNIQUE_LIKERS_SKETCH, likers.toBytes()));
+            return;
+        }
+        HyperLogLog merged = HyperLogLog.fromBytes(sketch.getData());
+        merged.merge(likers);
+        sketch.setData(merged.toBytes());
+        sketch.setUpdatedAt(LocalDateTime.now());
+    }
+}
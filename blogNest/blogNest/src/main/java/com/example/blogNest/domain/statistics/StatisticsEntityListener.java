@@ -0,0 +1,258 @@
+package com.example.blogNest.domain.statistics;
+
+import com.example.blogNest.domain.counter.UserCounter;
+import com.example.blogNest.domain.counter.UserCounterService;
+import com.example.blogNest.domain.model.entity.Blog;
+import com.example.blogNest.domain.model.entity.Comment;
+import com.example.blogNest.domain.model.entity.Like;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.domain.model.enums.BlogStatus;
+import com.example.blogNest.domain.statistics.AuthorStatsService.Target;
+import com.example.blogNest.domain.statistics.AuthorStatsService.TargetType;
+import org.hibernate.Hibernate;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate event listener that turns entity changes into statistics deltas
+ *
+ * Each counted entity contributes a fixed set of values to the platform counters
+ * (a published blog contributes 1 to publishedBlogs, its viewsCount to totalViews, ...).
+ * The delta of an insert, update or delete is the difference between the contribution
+ * of the new and old state, which Hibernate hands us without an extra query.
+ *
+ * The same pass attributes per-author deltas (blogs written, likes and comments received).
+ * When the liked blog or comment is already loaded its author is read directly; otherwise
+ * the delta is keyed by blog/comment id and resolved in batches by {@link AuthorStatsService}.
+ * Blogs written also move users.blogs_count through {@link UserCounterService}.
+ *
+ * Deltas are collected per transaction and only reach the registry after commit, so
+ * rolled-back changes are never counted. JPQL bulk updates bypass this listener; the
+ * periodic exact recompute corrects the drift they leave behind.
+ */
+class StatisticsEntityListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final PlatformStatisticsService registry;
+    private final AuthorStatsService authorStats;
+    private final UserCounterService userCounters;
+
+    StatisticsEntityListener(PlatformStatisticsService registry, AuthorStatsService authorStats,
+                             UserCounterService userCounters) {
+        this.registry = registry;
+        this.authorStats = authorStats;
+        this.userCounters = userCounters;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Object entity = event.getEntity();
+        if (!isCounted(entity)) {
+            return;
+        }
+        TransactionDeltas deltas = new TransactionDeltas();
+        contribute(deltas, entity, event.getPersister(), event.getState(), 1);
+        if (entity instanceof Like like && like.getUser() != null) {
+            deltas.likerIds.add(like.getUser().getId());
+        }
+        dispatch(deltas);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        if (!isCounted(entity) || event.getOldState() == null) {
+            return;
+        }
+        TransactionDeltas deltas = new TransactionDeltas();
+        contribute(deltas, entity, event.getPersister(), event.getOldState(), -1);
+        contribute(deltas, entity, event.getPersister(), event.getState(), 1);
+        dispatch(deltas);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entity = event.getEntity();
+        if (!isCounted(entity) || event.getDeletedState() == null) {
+            return;
+        }
+        TransactionDeltas deltas = new TransactionDeltas();
+        contribute(deltas, entity, event.getPersister(), event.getDeletedState(), -1);
+        dispatch(deltas);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Contributions
+
+    private static boolean isCounted(Object entity) {
+        return entity instanceof Blog || entity instanceof Comment || entity instanceof Like;
+    }
+
+    private static void contribute(TransactionDeltas deltas, Object entity,
+                                   EntityPersister persister, Object[] state, int sign) {
+        Map<PlatformStat, Long> counters = deltas.counters;
+        String[] names = persister.getPropertyNames();
+        if (entity instanceof Blog) {
+            Target author = authorTarget(value(names, state, "author"));
+            addAuthor(deltas, author, AuthorStat.BLOG_COUNT, sign);
+            addAuthor(deltas, author, AuthorStat.TOTAL_VIEWS, sign * longValue(value(names, state, "viewsCount")));
+
+            add(counters, PlatformStat.BLOGS_TOTAL, sign);
+            Object status = value(names, state, "status");
+            add(counters, PlatformStat.BLOGS_PUBLISHED, status == BlogStatus.PUBLISHED ? sign : 0);
+            add(counters, PlatformStat.BLOGS_DRAFT, status == BlogStatus.DRAFT ? sign : 0);
+            add(counters, PlatformStat.BLOGS_FEATURED, isTrue(value(names, state, "isFeatured")) ? sign : 0);
+            add(counters, PlatformStat.BLOG_VIEWS, sign * longValue(value(names, state, "viewsCount")));
+            add(counters, PlatformStat.BLOG_LIKES, sign * longValue(value(names, state, "likesCount")));
+            add(counters, PlatformStat.BLOG_COMMENTS, sign * longValue(value(names, state, "commentsCount")));
+        } else if (entity instanceof Comment) {
+            if (!isTrue(value(names, state, "isDeleted"))) {
+                addAuthor(deltas, authorTarget(value(names, state, "author")), AuthorStat.COMMENTS_WRITTEN, sign);
+                addAuthor(deltas, ownerTarget(value(names, state, "blog")), AuthorStat.COMMENTS_RECEIVED, sign);
+            }
+            add(counters, PlatformStat.COMMENTS_TOTAL, sign);
+            add(counters, PlatformStat.COMMENTS_APPROVED, isTrue(value(names, state, "isApproved")) ? sign : 0);
+            add(counters, PlatformStat.COMMENTS_DELETED, isTrue(value(names, state, "isDeleted")) ? sign : 0);
+            boolean reply = value(names, state, "parent") != null;
+            add(counters, reply ? PlatformStat.COMMENTS_REPLIES : PlatformStat.COMMENTS_TOP_LEVEL, sign);
+            add(counters, PlatformStat.COMMENT_LIKES, sign * longValue(value(names, state, "likesCount")));
+        } else {
+            Object blog = value(names, state, "blog");
+            Object comment = value(names, state, "comment");
+            if (blog != null) {
+                addAuthor(deltas, ownerTarget(blog), AuthorStat.LIKES_ON_BLOGS, sign);
+            } else if (comment != null) {
+                addAuthor(deltas, ownerTarget(comment), AuthorStat.LIKES_ON_COMMENTS, sign);
+            }
+            add(counters, PlatformStat.LIKES_TOTAL, sign);
+            add(counters, PlatformStat.LIKES_ON_BLOGS, value(names, state, "blog") != null ? sign : 0);
+            add(counters, PlatformStat.LIKES_ON_COMMENTS, value(names, state, "comment") != null ? sign : 0);
+        }
+    }
+
+    /**
+     * Author of a blog or comment; falls back to the target id when the owner is an
+     * uninitialized proxy so no lazy load happens inside the flush
+     */
+    private static Target ownerTarget(Object owner) {
+        if (owner == null) {
+            return null;
+        }
+        if (owner instanceof Blog blog) {
+            return Hibernate.isInitialized(blog) ? authorTarget(blog.getAuthor()) : new Target(TargetType.BLOG, blog.getId());
+        }
+        Comment comment = (Comment) owner;
+        return Hibernate.isInitialized(comment)
+                ? authorTarget(comment.getAuthor())
+                : new Target(TargetType.COMMENT, comment.getId());
+    }
+
+    private static Target authorTarget(Object author) {
+        // getId() on a proxy returns the identifier without initializing it
+        return author instanceof User user && user.getId() != null ? new Target(TargetType.AUTHOR, user.getId()) : null;
+    }
+
+    private static void addAuthor(TransactionDeltas deltas, Target target, AuthorStat stat, long delta) {
+        if (target != null && delta != 0) {
+            deltas.authors.computeIfAbsent(target, k -> new EnumMap<>(AuthorStat.class)).merge(stat, delta, Long::sum);
+        }
+    }
+
+    private static Object value(String[] names, Object[] state, String property) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        return null;
+    }
+
+    private static void add(Map<PlatformStat, Long> counters, PlatformStat stat, long delta) {
+        if (delta != 0) {
+            counters.merge(stat, delta, Long::sum);
+        }
+    }
+
+    private static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    private static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    // Transaction handling
+
+    private void dispatch(TransactionDeltas deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(deltas);
+            return;
+        }
+
+        TransactionDeltas pending = (TransactionDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionDeltas collected =
+                            (TransactionDeltas) TransactionSynchronizationManager.unbindResourceIfPossible(
+                                    StatisticsEntityListener.this);
+                    if (status == STATUS_COMMITTED && collected != null) {
+                        publish(collected);
+                    }
+                }
+            });
+        } else {
+            deltas.counters.forEach((stat, delta) -> pending.counters.merge(stat, delta, Long::sum));
+            pending.likerIds.addAll(deltas.likerIds);
+            deltas.authors.forEach((target, counters) -> counters.forEach((stat, delta) ->
+                    pending.authors.computeIfAbsent(target, k -> new EnumMap<>(AuthorStat.class))
+                            .merge(stat, delta, Long::sum)));
+        }
+    }
+
+    private void publish(TransactionDeltas deltas) {
+        registry.apply(deltas.counters, deltas.likerIds);
+        if (!deltas.authors.isEmpty()) {
+            authorStats.apply(deltas.authors);
+            Map<Long, long[]> blogCounts = new HashMap<>();
+            deltas.authors.forEach((target, counters) -> {
+                Long blogs = counters.get(AuthorStat.BLOG_COUNT);
+                if (target.type() == TargetType.AUTHOR && blogs != null && blogs != 0) {
+                    long[] userDeltas = new long[UserCounter.values().length];
+                    userDeltas[UserCounter.BLOGS.ordinal()] = blogs;
+                    blogCounts.put(target.id(), userDeltas);
+                }
+            });
+            if (!blogCounts.isEmpty()) {
+                userCounters.applyCommitted(blogCounts);
+            }
+        }
+    }
+
+    /**
+     * Deltas collected by one transaction
+     */
+    private static final class TransactionDeltas {
+        private final Map<PlatformStat, Long> counters = new EnumMap<>(PlatformStat.class);
+        private final List<Long> likerIds = new ArrayList<>();
+        private final Map<Target, Map<AuthorStat, Long>> authors = new HashMap<>();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.blogNest.domain.statistics;
+
+import com.example.blogNest.domain.counter.UserCounterService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers the statistics listener with Hibernate's event pipeline
+ *
+ * A native listener is used instead of JPA callbacks because the counters need the
+ * old entity state, which JPA callbacks do not expose.
+ */
+@Component
+public class StatisticsListenerRegistrar {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformStatisticsService platformStatistics;
+    private final AuthorStatsService authorStats;
+    private final UserCounterService userCounters;
+
+    public StatisticsListenerRegistrar(EntityManagerFactory entityManagerFactory,
+                                       PlatformStatisticsService platformStatistics,
+                                       AuthorStatsService authorStats,
+                                       UserCounterService userCounters) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.platformStatistics = platformStatistics;
+        this.authorStats = authorStats;
+        this.userCounters = userCounters;
+    }
+
+    @PostConstruct
+    public void register() {
+        StatisticsEntityListener listener = new StatisticsEntityListener(platformStatistics, authorStats, userCounters);
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.blogNest.domain.text;
+
+/**
+ * Word count, reading time and plain-text excerpt of a piece of content
+ *
+ * Computed in a single pass over the characters: a tag (a '<' followed by a letter, '/'
+ * or '!', up to the next '>') is treated as whitespace, any other '<' is plain text, words
+ * are runs of non-whitespace, and the excerpt is built from the first plain-text characters
+ * with whitespace collapsed. No intermediate copies of the content are made; the only
+ * allocations are the excerpt buffer and the excerpt itself.
+ */
+public final class TextStatistics {
+
+    /**
+     * Average reading speed used for the reading time
+     */
+    public static final int WORDS_PER_MINUTE = 200;
+
+    /**
+     * Maximum number of content characters in the excerpt, before the ellipsis
+     */
+    public static final int EXCERPT_LENGTH = 150;
+
+    private static final String ELLIPSIS = "...";
+
+    private static final TextStatistics EMPTY = new TextStatistics(0, 1, "");
+
+    private final int wordCount;
+    private final int readingTimeMinutes;
+    private final String excerpt;
+
+    private TextStatistics(int wordCount, int readingTimeMinutes, String excerpt) {
+        this.wordCount = wordCount;
+        this.readingTimeMinutes = readingTimeMinutes;
+        this.excerpt = excerpt;
+    }
+
+    /**
+     * Compute the statistics of the given content
+     */
+    public static TextStatistics of(String content) {
+        if (content == null || content.isEmpty()) {
+            return EMPTY;
+        }
+
+        char[] buffer = new char[EXCERPT_LENGTH];
+        int length = 0;
+        int lastBreak = -1;
+        boolean truncated = false;
+        boolean pendingSpace = false;
+
+        int words = 0;
+        boolean inWord = false;
+        boolean inMarkup = false;
+        // A '<' only opens a tag if a '>' follows it somewhere
+        int lastClose = content.lastIndexOf('>');
+
+        for (int i = 0, n = content.length(); i < n; i++) {
+            char c = content.charAt(i);
+            if (inMarkup) {
+                inMarkup = c != '>';
+                continue;
+            }
+            boolean tag = c == '<' && i < lastClose && opensTag(content.charAt(i + 1));
+            if (tag || Character.isWhitespace(c)) {
+                inMarkup = tag;
+                inWord = false;
+                pendingSpace = length > 0;
+                continue;
+            }
+
+            if (!inWord) {
+                words++;
+                inWord = true;
+            }
+            if (truncated) {
+                continue;
+            }
+            if (pendingSpace) {
+                if (length == EXCERPT_LENGTH) {
+                    truncated = true;
+                    continue;
+                }
+                lastBreak = length;
+                buffer[length++] = ' ';
+                pendingSpace = false;
+            }
+            if (length == EXCERPT_LENGTH) {
+                truncated = true;
+                continue;
+            }
+            buffer[length++] = c;
+        }
+
+        int readingTime = Math.max(1, Math.round((float) words / WORDS_PER_MINUTE));
+        return new TextStatistics(words, readingTime, excerpt(buffer, length, lastBreak, truncated));
+    }
+
+    private static boolean opensTag(char next) {
+        return Character.isLetter(next) || next == '/' || next == '!';
+    }
+
+    private static String excerpt(char[] buffer, int length, int lastBreak, boolean truncated) {
+        if (!truncated) {
+            return new String(buffer, 0, length);
+        }
+        // Cut at the last word boundary unless that would drop most of the excerpt
+        int end = lastBreak > EXCERPT_LENGTH / 2 ? lastBreak : length;
+        if (end > 0 && Character.isHighSurrogate(buffer[end - 1])) {
+            end--;
+        }
+        return new String(buffer, 0, end) + ELLIPSIS;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getReadingTimeMinutes() {
+        return readingTimeMinutes;
+    }
+
+    /**
+     * Plain-text opening of the content, ending in an ellipsis when truncated
+     */
+    public String getExcerpt() {
+        return excerpt;
+    }
+}
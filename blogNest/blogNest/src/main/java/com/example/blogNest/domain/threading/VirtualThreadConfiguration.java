@@ -0,0 +1,109 @@
+package com.example.blogNest.domain.threading;
+
+import com.example.blogNest.domain.config.ThreadingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnJava;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual-thread execution mode, switched on with app.threads.virtual=true on Java 21
+ *
+ * Configures:
+ * - Tomcat request handling on one virtual thread per request
+ * - @Async work on one virtual thread per task instead of the small shared pool
+ * - @Scheduled tasks on virtual threads, so a blocking task does not hold a platform thread
+ * - A fair cap on connections checked out at once, since requests are no longer bounded
+ *   by the size of Tomcat's thread pool
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+    // Bean name of the auto-configured primary connection pool
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    // Virtual scheduler threads are cheap; more of them keep slow tasks from delaying others
+    private static final int SCHEDULER_POOL_SIZE = 16;
+
+    public VirtualThreadConfiguration() {
+        if (VirtualThreads.isSupported()) {
+            log.info("Running requests, @Async and @Scheduled work on virtual threads");
+        } else {
+            log.warn("app.threads.virtual is set but Java {} has no virtual threads; using platform threads",
+                    Runtime.version().feature());
+        }
+    }
+
+    @Bean
+    @ConditionalOnJava(JavaVersion.TWENTY_ONE)
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ThreadFactory factory = VirtualThreads.factory("http-");
+        return protocolHandler -> protocolHandler.setExecutor(command -> factory.newThread(command).start());
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnJava(JavaVersion.TWENTY_ONE)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new SimpleAsyncTaskExecutor(VirtualThreads.factory("task-"));
+    }
+
+    @Bean
+    @ConditionalOnJava(JavaVersion.TWENTY_ONE)
+    public TaskSchedulerCustomizer virtualThreadTaskSchedulerCustomizer() {
+        return scheduler -> {
+            scheduler.setThreadFactory(VirtualThreads.factory("scheduling-"));
+            scheduler.setPoolSize(Math.max(scheduler.getPoolSize(), SCHEDULER_POOL_SIZE));
+        };
+    }
+
+    @Bean
+    @ConditionalOnJava(JavaVersion.TWENTY_ONE)
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(ObjectProvider<ThreadingConfig> config) {
+        return new ConcurrencyLimitPostProcessor(config);
+    }
+
+    /**
+     * Wraps the primary pool bean only, after any read/write routing wrapper (which runs at
+     * highest precedence), so the cap covers work on the primary and the replicas alike
+     */
+    private static final class ConcurrencyLimitPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ThreadingConfig> config;
+
+        private ConcurrencyLimitPostProcessor(ObjectProvider<ThreadingConfig> config) {
+            this.config = config;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (PRIMARY_DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                ThreadingConfig threading = config.getObject();
+                return new ConcurrencyLimitedDataSource(dataSource,
+                        threading.getMaxConcurrentDbWork(), threading.getDbAcquireTimeoutMs());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
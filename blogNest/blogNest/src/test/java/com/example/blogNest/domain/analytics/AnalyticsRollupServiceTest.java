@@ -0,0 +1,184 @@
+package com.example.blogNest.domain.analytics;
+
+import com.example.blogNest.domain.Repository.AnalyticsRollupRepository;
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.Repository.LikeRepository;
+import com.example.blogNest.domain.config.AnalyticsConfig;
+import com.example.blogNest.domain.event.BlogPublishedEvent;
+import com.example.blogNest.domain.event.BlogUnpublishedEvent;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+    private static final LocalDateTime IN_DAY = DAY.atTime(14, 25);
+    private static final LocalDateTime NEXT_DAY = DAY.plusDays(1).atTime(9, 5);
+
+    private final AnalyticsRollupRepository rollupRepository = mock(AnalyticsRollupRepository.class);
+    private final BlogRepository blogRepository = mock(BlogRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final LikeRepository likeRepository = mock(LikeRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    // "granularity/dimension/dimensionId/bucketStart" -> delta written by flushes; each test
+    // records a single metric, so it is left out of the key
+    private final Map<String, Long> written = new HashMap<>();
+
+    private AnalyticsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jdbcTemplate.batchUpdate(startsWith("UPDATE analytics_rollups"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                written.merge(row[2] + "/" + row[3] + "/" + row[4] + "/" + row[5], (Long) row[0], Long::sum);
+            }
+            int[] updated = new int[rows.size()];
+            Arrays.fill(updated, 1);
+            return updated;
+        });
+        when(blogRepository.findBlogDimensions(any())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                rows.add(new Object[]{id, 100L, 200L});
+            }
+            return rows;
+        });
+
+        service = new AnalyticsRollupService(rollupRepository, blogRepository, commentRepository, likeRepository,
+                new AnalyticsConfig(), jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void publishedBlogCountsForEveryDimensionAndGranularity() {
+        service.onBlogPublished(new BlogPublishedEvent(1L, null, null, IN_DAY));
+
+        service.flush();
+
+        assertThat(written).containsOnly(
+                Map.entry(key("HOUR", "GLOBAL", 0L, IN_DAY.withMinute(0)), 1L),
+                Map.entry(key("DAY", "GLOBAL", 0L, DAY.atStartOfDay()), 1L),
+                Map.entry(key("HOUR", "BLOG", 1L, IN_DAY.withMinute(0)), 1L),
+                Map.entry(key("DAY", "BLOG", 1L, DAY.atStartOfDay()), 1L),
+                Map.entry(key("HOUR", "AUTHOR", 100L, IN_DAY.withMinute(0)), 1L),
+                Map.entry(key("DAY", "AUTHOR", 100L, DAY.atStartOfDay()), 1L),
+                Map.entry(key("HOUR", "CATEGORY", 200L, IN_DAY.withMinute(0)), 1L),
+                Map.entry(key("DAY", "CATEGORY", 200L, DAY.atStartOfDay()), 1L));
+    }
+
+    @Test
+    void unpublishedBlogIsCountedOutOfItsPublishHourWithTheDimensionsItCarried() {
+        service.onBlogUnpublished(new BlogUnpublishedEvent(1L, 7L, 8L, IN_DAY));
+
+        service.flush();
+
+        // The blog may be deleted, so its dimensions are not looked up
+        verify(blogRepository, never()).findBlogDimensions(any());
+        assertThat(written)
+                .containsEntry(key("DAY", "GLOBAL", 0L, DAY.atStartOfDay()), -1L)
+                .containsEntry(key("DAY", "BLOG", 1L, DAY.atStartOfDay()), -1L)
+                .containsEntry(key("DAY", "AUTHOR", 7L, DAY.atStartOfDay()), -1L)
+                .containsEntry(key("HOUR", "CATEGORY", 8L, IN_DAY.withMinute(0)), -1L)
+                .hasSize(8);
+    }
+
+    @Test
+    void publishAndUnpublishInTheSameHourCancelOut() {
+        service.onBlogPublished(new BlogPublishedEvent(1L, 7L, 8L, IN_DAY));
+        service.onBlogUnpublished(new BlogUnpublishedEvent(1L, 7L, 8L, IN_DAY.plusMinutes(10)));
+
+        service.flush();
+
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void backfillDropsBufferedDeltasForTheRebuiltDayOnly() {
+        service.onLikeChanged(like(1L, IN_DAY, 1));
+        service.onLikeChanged(like(2L, NEXT_DAY, 1));
+
+        service.backfill(DAY, DAY);
+        service.flush();
+
+        verify(rollupRepository).deleteByBucketRange(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+        assertThat(written.get(key("DAY", "GLOBAL", 0L, DAY.atStartOfDay()))).isNull();
+        assertThat(written.get(key("DAY", "GLOBAL", 0L, NEXT_DAY.toLocalDate().atStartOfDay()))).isEqualTo(1L);
+    }
+
+    @Test
+    void eventsRecordedWhileADayIsRebuiltAreWrittenAfterIt() {
+        when(likeRepository.findLikesForRollup(any(), any())).thenAnswer(invocation -> {
+            // Lands after the raw rows were read, so they do not include it
+            service.onLikeChanged(like(3L, IN_DAY, -1));
+            service.flush();
+            return List.of();
+        });
+
+        service.backfill(DAY, DAY);
+        assertThat(written).isEmpty();
+
+        service.flush();
+        assertThat(written.get(key("DAY", "GLOBAL", 0L, DAY.atStartOfDay()))).isEqualTo(-1L);
+        assertThat(written.get(key("HOUR", "BLOG", 3L, IN_DAY.withMinute(0)))).isEqualTo(-1L);
+    }
+
+    @Test
+    void failedRebuildKeepsTheDaysBufferedDeltas() {
+        service.onLikeChanged(like(1L, IN_DAY, 1));
+        when(rollupRepository.deleteByBucketRange(any(), any())).thenThrow(new IllegalStateException("database down"));
+
+        assertThatThrownBy(() -> service.backfill(DAY, DAY)).isInstanceOf(IllegalStateException.class);
+        service.flush();
+
+        assertThat(written.get(key("DAY", "GLOBAL", 0L, DAY.atStartOfDay()))).isEqualTo(1L);
+    }
+
+    @Test
+    void disabledRollupsRecordNothing() {
+        AnalyticsConfig config = new AnalyticsConfig();
+        config.setRollupEnabled(false);
+        AnalyticsRollupService disabled = new AnalyticsRollupService(rollupRepository, blogRepository,
+                commentRepository, likeRepository, config, jdbcTemplate, mock(PlatformTransactionManager.class));
+
+        disabled.onBlogPublished(new BlogPublishedEvent(1L, 7L, 8L, IN_DAY));
+        disabled.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private static LikeChangedEvent like(Long blogId, LocalDateTime createdAt, int delta) {
+        return new LikeChangedEvent(null, 50L, blogId, null, createdAt, delta);
+    }
+
+    private static String key(String granularity, String dimension, Long dimensionId, LocalDateTime bucket) {
+        return granularity + "/" + dimension + "/" + dimensionId + "/" + Timestamp.valueOf(bucket);
+    }
+}
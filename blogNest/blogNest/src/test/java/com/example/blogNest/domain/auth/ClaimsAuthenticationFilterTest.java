@@ -0,0 +1,100 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.JwtConfig;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.domain.model.enums.Role;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClaimsAuthenticationFilterTest {
+
+    private final JwtConfig config = new JwtConfig();
+    private final JwtTokenService tokenService = new JwtTokenService(config);
+    private final TokenRevocationRegistry registry = mock(TokenRevocationRegistry.class);
+    private final ClaimsAuthenticationFilter filter = new ClaimsAuthenticationFilter(tokenService, registry, config);
+    private final FilterChain chain = mock(FilterChain.class);
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("alice", "alice@example.com", "", "", "");
+        user.setRole(Role.ADMIN);
+        user.setId(42L);
+        user.revokeTokens();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentTokenAuthenticatesFromItsClaims() throws Exception {
+        when(registry.isCurrent(42L, 1L)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(tokenService.issue(user)), response, chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        TokenPrincipal principal = (TokenPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(42L);
+        assertThat(principal.getUsername()).isEqualTo("alice");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        verify(chain).doFilter(any(), any());
+    }
+
+    @Test
+    void revokedTokenIsRejectedWithoutReachingTheRestOfTheChain() throws Exception {
+        String token = tokenService.issue(user);
+        when(registry.isRevoked(42L, 1L)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(token), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void tokenThatCannotBeVouchedForIsLeftToTheDatabasePath() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(tokenService.issue(user)), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(chain).doFilter(any(), any());
+    }
+
+    @Test
+    void invalidTokenIsLeftToTheDatabasePath() throws Exception {
+        when(registry.isCurrent(any(Long.class), any(Long.class))).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("not.a.token"), response, chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(chain).doFilter(any(), any());
+    }
+
+    private MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blogs");
+        request.addHeader(config.getHeaderName(), config.getTokenPrefix() + token);
+        return request;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.JwtConfig;
+import com.example.blogNest.domain.model.entity.User;
+import com.example.blogNest.domain.model.enums.Role;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenServiceTest {
+
+    private final JwtConfig config = new JwtConfig();
+    private final JwtTokenService service = new JwtTokenService(config);
+
+    @Test
+    void issuedTokenCarriesEverythingNeededToAuthenticateWithoutTheDatabase() {
+        User user = new User("alice", "alice@example.com", "", "", "");
+        user.setRole(Role.MODERATOR);
+        user.setId(42L);
+        user.revokeTokens();
+        user.revokeTokens();
+        long before = System.currentTimeMillis();
+
+        VerifiedToken token = service.verify(service.issue(user));
+
+        assertThat(token).isNotNull();
+        assertThat(token.subject()).isEqualTo("alice");
+        assertThat(token.userId()).isEqualTo(42L);
+        assertThat(token.role()).isEqualTo(Role.MODERATOR);
+        assertThat(token.epoch()).isEqualTo(2L);
+        assertThat(token.isSelfContained()).isTrue();
+        // Expiry has second precision in the token
+        assertThat(token.expiresAtMs()).isBetween(before + config.getExpiration() - 1_000,
+                System.currentTimeMillis() + config.getExpiration());
+    }
+
+    @Test
+    void tokenWithoutUserClaimsIsVerifiedButNotSelfContained() {
+        VerifiedToken token = service.verify(token().compact());
+
+        assertThat(token).isNotNull();
+        assertThat(token.subject()).isEqualTo("alice");
+        assertThat(token.epoch()).isZero();
+        assertThat(token.isSelfContained()).isFalse();
+    }
+
+    @Test
+    void tokenForAnotherIssuerIsRejected() {
+        assertThat(service.verify(token().setIssuer("SomeoneElse").compact())).isNull();
+        assertThat(service.verify(token().setIssuer(null).compact())).isNull();
+    }
+
+    @Test
+    void tokenForAnotherAudienceIsRejected() {
+        assertThat(service.verify(token().setAudience("SomeoneElse-Users").compact())).isNull();
+        assertThat(service.verify(token().setAudience(null).compact())).isNull();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String forged = token()
+                .signWith(Keys.hmacShaKeyFor("anotherSecretKeyThatIsLongEnoughForHs256".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(service.verify(forged)).isNull();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String expired = token().setExpiration(new Date(System.currentTimeMillis() - 60_000)).compact();
+
+        assertThat(service.verify(expired)).isNull();
+    }
+
+    @Test
+    void malformedOrMissingTokenIsRejected() {
+        assertThat(service.verify(null)).isNull();
+        assertThat(service.verify("")).isNull();
+        assertThat(service.verify("not.a.token")).isNull();
+    }
+
+    @Test
+    void cachedTokenIsNotVouchedForPastItsExpiry() throws InterruptedException {
+        String token = token().setExpiration(new Date(System.currentTimeMillis() + 1_500)).compact();
+        assertThat(service.verify(token)).isNotNull();
+
+        Thread.sleep(1_600);
+
+        assertThat(service.verify(token)).isNull();
+    }
+
+    /**
+     * A token as JwtTokenService would issue it, without the user claims
+     */
+    private JwtBuilder token() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject("alice")
+                .setIssuer(config.getIssuer())
+                .setAudience(config.getAudience())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 60_000))
+                .signWith(Keys.hmacShaKeyFor(config.getSecret().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.blogNest.domain.auth;
+
+import com.example.blogNest.domain.config.JwtConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private final JdbcTemplate jdbcTemplate =
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:token-revocation;DB_CLOSE_DELAY=-1"));
+    private final JwtConfig config = new JwtConfig();
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, token_epoch BIGINT, updated_at TIMESTAMP)");
+        insertUser(1L, 0L);
+        insertUser(2L, 3L);
+        registry = new TokenRevocationRegistry(jdbcTemplate, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE users");
+    }
+
+    @Test
+    void nothingIsVouchedForUntilEpochsAreLoaded() {
+        assertThat(registry.isCurrent(1L, 0L)).isFalse();
+
+        registry.load();
+
+        assertThat(registry.isCurrent(1L, 0L)).isTrue();
+    }
+
+    @Test
+    void tokensFromBeforeTheLoadedEpochAreRevoked() {
+        registry.load();
+
+        assertThat(registry.isRevoked(2L, 2L)).isTrue();
+        assertThat(registry.isCurrent(2L, 2L)).isFalse();
+        assertThat(registry.isRevoked(2L, 3L)).isFalse();
+        assertThat(registry.isCurrent(2L, 3L)).isTrue();
+    }
+
+    @Test
+    void localRevocationAppliesImmediatelyAndNeverMovesBack() {
+        registry.load();
+
+        registry.update(1L, 1L);
+        registry.update(1L, 0L);
+
+        assertThat(registry.isRevoked(1L, 0L)).isTrue();
+        assertThat(registry.isCurrent(1L, 1L)).isTrue();
+    }
+
+    @Test
+    void revocationOnAnotherNodeIsPickedUpBySync() {
+        registry.load();
+        jdbcTemplate.update("UPDATE users SET token_epoch = 1, updated_at = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.now().plusSeconds(1)));
+
+        registry.sync();
+
+        assertThat(registry.isRevoked(1L, 0L)).isTrue();
+        assertThat(registry.isCurrent(1L, 1L)).isTrue();
+    }
+
+    @Test
+    void registryThatStoppedSyncingNoLongerVouchesForTokens() throws InterruptedException {
+        config.setRevocationSyncIntervalMs(20);
+        registry.load();
+        assertThat(registry.isCurrent(1L, 0L)).isTrue();
+
+        jdbcTemplate.execute("DROP TABLE users");
+        try {
+            Thread.sleep(100);
+            registry.sync();
+
+            assertThat(registry.isCurrent(1L, 0L)).isFalse();
+        } finally {
+            jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, token_epoch BIGINT, updated_at TIMESTAMP)");
+        }
+    }
+
+    private void insertUser(Long id, Long epoch) {
+        jdbcTemplate.update("INSERT INTO users (id, token_epoch, updated_at) VALUES (?, ?, ?)",
+                id, epoch, Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)));
+    }
+}
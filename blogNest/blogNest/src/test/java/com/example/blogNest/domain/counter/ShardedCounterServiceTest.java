@@ -0,0 +1,174 @@
+package com.example.blogNest.domain.counter;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.Repository.CommentRepository;
+import com.example.blogNest.domain.config.ShardedCounterConfig;
+import com.example.blogNest.domain.event.CommentChangedEvent;
+import com.example.blogNest.domain.scheduling.LeaderLock;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ShardedCounterServiceTest {
+
+    private static final long BLOG_ID = 1L;
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:sharded-counters;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final BlogRepository blogRepository = mock(BlogRepository.class);
+    private final LeaderLock leaderLock = mock(LeaderLock.class);
+    private final PlatformStatisticsService platformStatistics = mock(PlatformStatisticsService.class);
+    private final ShardedCounterConfig config = new ShardedCounterConfig();
+    private ShardedCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE blogs (id BIGINT PRIMARY KEY, likes_count BIGINT, comments_count BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT PRIMARY KEY, likes_count BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE counter_shards (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "counter_name VARCHAR(32) NOT NULL, entity_id BIGINT NOT NULL, shard INT NOT NULL, delta BIGINT NOT NULL, " +
+                "CONSTRAINT uk_counter_shard UNIQUE (counter_name, entity_id, shard))");
+        jdbcTemplate.update("INSERT INTO blogs (id, likes_count, comments_count) VALUES (?, 10, 0)", BLOG_ID);
+
+        // The repository's single-step updates, against the same rows
+        doAnswer(invocation -> jdbcTemplate.update("UPDATE blogs SET likes_count = likes_count + 1 WHERE id = ?",
+                invocation.<Long>getArgument(0))).when(blogRepository).incrementLikeCount(anyLong());
+        doAnswer(invocation -> jdbcTemplate.update("UPDATE blogs SET likes_count = GREATEST(0, likes_count - 1) WHERE id = ?",
+                invocation.<Long>getArgument(0))).when(blogRepository).decrementLikeCount(anyLong());
+        doAnswer(invocation -> jdbcTemplate.update("UPDATE blogs SET comments_count = comments_count + 1 WHERE id = ?",
+                invocation.<Long>getArgument(0))).when(blogRepository).incrementCommentCount(anyLong());
+        when(leaderLock.tryAcquire(anyString(), any())).thenReturn(true);
+
+        config.setShards(4);
+        config.setPromoteWrites(5);
+        config.setDemoteWrites(3);
+        config.setDemoteAfterWindows(2);
+        service = new ShardedCounterService(jdbcTemplate, blogRepository, mock(CommentRepository.class), config,
+                leaderLock, platformStatistics, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE counter_shards");
+        jdbcTemplate.execute("DROP TABLE comments");
+        jdbcTemplate.execute("DROP TABLE blogs");
+    }
+
+    @Test
+    void quietCounterIsWrittenToItsOwningRow() {
+        service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        service.decrement(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        service.add(EngagementCounter.BLOG_LIKES, BLOG_ID, 5);
+        service.evaluate();
+
+        assertThat(likesColumn()).isEqualTo(16L);
+        assertThat(shardCount()).isZero();
+        assertThat(service.count(EngagementCounter.BLOG_LIKES, BLOG_ID)).isEqualTo(16L);
+    }
+
+    @Test
+    void hotCounterIsSpreadOverShardsAndStaysExact() {
+        makeHot();
+        assertThat(shardCount()).isEqualTo(4);
+
+        for (int i = 0; i < 20; i++) {
+            service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        }
+
+        assertThat(likesColumn()).isEqualTo(15L);
+        assertThat(service.count(EngagementCounter.BLOG_LIKES, BLOG_ID)).isEqualTo(35L);
+    }
+
+    @Test
+    void foldMovesShardDeltasIntoTheOwningRow() {
+        makeHot();
+        for (int i = 0; i < 20; i++) {
+            service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        }
+
+        service.evaluate();
+
+        assertThat(likesColumn()).isEqualTo(35L);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(delta) FROM counter_shards", Long.class)).isZero();
+        assertThat(service.count(EngagementCounter.BLOG_LIKES, BLOG_ID)).isEqualTo(35L);
+    }
+
+    @Test
+    void counterThatStaysQuietGoesBackToItsRowAndItsShardsAreDeleted() {
+        makeHot();
+
+        service.evaluate();
+        service.evaluate();
+        service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        service.evaluate();
+
+        assertThat(shardCount()).isZero();
+        assertThat(likesColumn()).isEqualTo(16L);
+    }
+
+    @Test
+    void writeWhoseShardWasDeletedGoesToTheOwningRow() {
+        makeHot();
+        jdbcTemplate.update("DELETE FROM counter_shards");
+
+        service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+
+        assertThat(likesColumn()).isEqualTo(16L);
+    }
+
+    @Test
+    void nothingIsFoldedWithoutTheFoldLock() {
+        makeHot();
+        service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        when(leaderLock.tryAcquire(anyString(), any())).thenReturn(false);
+
+        service.evaluate();
+
+        assertThat(likesColumn()).isEqualTo(15L);
+        assertThat(service.count(EngagementCounter.BLOG_LIKES, BLOG_ID)).isEqualTo(16L);
+    }
+
+    @Test
+    void committedCommentIsCountedOnItsBlogAndThePlatform() {
+        service.onCommentChanged(new CommentChangedEvent(7L, 3L, BLOG_ID, null, LocalDateTime.now(), 1));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT comments_count FROM blogs WHERE id = ?", Long.class, BLOG_ID))
+                .isEqualTo(1L);
+        verify(platformStatistics).recordBlogComments(1);
+    }
+
+    /**
+     * Enough writes in one window to shard the blog's like counter
+     */
+    private void makeHot() {
+        for (int i = 0; i < config.getPromoteWrites(); i++) {
+            service.increment(EngagementCounter.BLOG_LIKES, BLOG_ID);
+        }
+        service.evaluate();
+    }
+
+    private long likesColumn() {
+        return jdbcTemplate.queryForObject("SELECT likes_count FROM blogs WHERE id = ?", Long.class, BLOG_ID);
+    }
+
+    private int shardCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counter_shards", Integer.class);
+    }
+}
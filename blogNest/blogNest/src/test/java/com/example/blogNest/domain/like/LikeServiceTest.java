@@ -0,0 +1,201 @@
+package com.example.blogNest.domain.like;
+
+import com.example.blogNest.domain.config.LikeConfig;
+import com.example.blogNest.domain.counter.EngagementCounter;
+import com.example.blogNest.domain.counter.ShardedCounterService;
+import com.example.blogNest.domain.event.LikeChangedEvent;
+import com.example.blogNest.domain.statistics.AuthorStatsService;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikeServiceTest {
+
+    private static final long AUTHOR = 1L;
+    private static final long READER = 2L;
+    private static final long BLOG = 10L;
+    private static final long OTHER_BLOG = 11L;
+    private static final long COMMENT = 20L;
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:likes;DB_CLOSE_DELAY=-1");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final LikeMembershipIndex membershipIndex = mock(LikeMembershipIndex.class);
+    private final ShardedCounterService shardedCounters = mock(ShardedCounterService.class);
+    private final PlatformStatisticsService platformStatistics = mock(PlatformStatisticsService.class);
+    private final AuthorStatsService authorStats = mock(AuthorStatsService.class);
+    private final LikeConfig config = new LikeConfig();
+    private final List<LikeChangedEvent> events = new ArrayList<>();
+    private LikeService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE blogs (id BIGINT PRIMARY KEY, author_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT PRIMARY KEY, blog_id BIGINT, author_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id BIGINT NOT NULL, " +
+                "blog_id BIGINT, comment_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP, version BIGINT, " +
+                "CONSTRAINT uk_blog_like UNIQUE (user_id, blog_id), CONSTRAINT uk_comment_like UNIQUE (user_id, comment_id))");
+        jdbcTemplate.execute("CREATE TABLE notifications (id BIGINT AUTO_INCREMENT PRIMARY KEY, uuid CHAR(36), " +
+                "type VARCHAR(50), title VARCHAR(100), message VARCHAR(500), action_url VARCHAR(500), is_read BOOLEAN, " +
+                "is_email_sent BOOLEAN, related_blog_id BIGINT, related_comment_id BIGINT, recipient_id BIGINT, " +
+                "actor_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP, version BIGINT)");
+        jdbcTemplate.update("INSERT INTO users (id, username) VALUES (?, 'author'), (?, 'reader')", AUTHOR, READER);
+        jdbcTemplate.update("INSERT INTO blogs (id, author_id) VALUES (?, ?), (?, ?)", BLOG, AUTHOR, OTHER_BLOG, AUTHOR);
+        jdbcTemplate.update("INSERT INTO comments (id, blog_id, author_id) VALUES (?, ?, ?)", COMMENT, BLOG, AUTHOR);
+
+        when(shardedCounters.count(any(), anyLong())).thenReturn(5L);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        doAnswer(invocation -> events.add(invocation.getArgument(0))).when(eventPublisher).publishEvent(any(Object.class));
+        config.setMaxAttempts(2);
+        service = new LikeService(jdbcTemplate, membershipIndex, shardedCounters, platformStatistics, authorStats,
+                eventPublisher, config, new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void togglesWithinOneWindowCollapseIntoTheLast() {
+        service.likeBlog(READER, BLOG);
+        service.unlikeBlog(READER, BLOG);
+        service.likeBlog(READER, BLOG);
+
+        service.flush();
+
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.blogId()).isEqualTo(BLOG);
+            assertThat(event.delta()).isEqualTo(1);
+        });
+        verify(shardedCounters).add(EngagementCounter.BLOG_LIKES, BLOG, 1L);
+        verify(platformStatistics).recordLikes(1L, 0L, List.of(READER));
+        verify(authorStats).recordLikes(Map.of(BLOG, 1L), Map.of());
+    }
+
+    @Test
+    void pendingTogglesAreVisibleBeforeTheyAreWritten() {
+        when(membershipIndex.likedBlogIds(READER, List.of(BLOG, OTHER_BLOG))).thenReturn(Set.of(OTHER_BLOG));
+
+        service.likeBlog(READER, BLOG);
+        service.unlikeBlog(READER, OTHER_BLOG);
+
+        assertThat(service.isBlogLiked(READER, BLOG)).isTrue();
+        assertThat(service.isBlogLiked(READER, OTHER_BLOG)).isFalse();
+        assertThat(service.likedBlogIds(READER, List.of(BLOG, OTHER_BLOG))).containsExactly(BLOG);
+        assertThat(service.getBlogLikeCount(BLOG)).isEqualTo(6L);
+        assertThat(service.getBlogLikeCount(OTHER_BLOG)).isEqualTo(4L);
+        assertThat(likeRows()).isZero();
+    }
+
+    @Test
+    void unlikeDeletesTheRowAndReportsItsCreationTime() {
+        LocalDateTime likedAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        jdbcTemplate.update("INSERT INTO likes (user_id, blog_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, 0)",
+                READER, BLOG, Timestamp.valueOf(likedAt), Timestamp.valueOf(likedAt));
+
+        service.unlikeBlog(READER, BLOG);
+        service.flush();
+
+        assertThat(likeRows()).isZero();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.likeId()).isNotNull();
+            assertThat(event.createdAt()).isEqualTo(likedAt);
+            assertThat(event.delta()).isEqualTo(-1);
+        });
+        verify(shardedCounters).add(EngagementCounter.BLOG_LIKES, BLOG, -1L);
+        verify(platformStatistics).recordLikes(-1L, 0L, List.of());
+    }
+
+    @Test
+    void likesThatAlreadyExistOrWhoseTargetIsGoneChangeNothing() {
+        jdbcTemplate.update("INSERT INTO likes (user_id, blog_id, created_at, updated_at, version) " +
+                "VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", READER, BLOG);
+
+        service.likeBlog(READER, BLOG);
+        service.likeBlog(READER, 999L);
+        service.unlikeBlog(READER, OTHER_BLOG);
+        service.flush();
+
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(events).isEmpty();
+        verify(shardedCounters, never()).add(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void likesNotifyTheAuthorButNotOnTheirOwnPosts() {
+        service.likeBlog(READER, BLOG);
+        service.likeComment(READER, COMMENT);
+        service.likeBlog(AUTHOR, OTHER_BLOG);
+        service.flush();
+
+        List<Map<String, Object>> notifications = jdbcTemplate.queryForList(
+                "SELECT type, recipient_id, actor_id, message, uuid FROM notifications ORDER BY type");
+        assertThat(notifications).hasSize(2);
+        assertThat(notifications).extracting(row -> row.get("TYPE")).containsExactly("BLOG_LIKED", "COMMENT_LIKED");
+        assertThat(notifications).allSatisfy(row -> {
+            assertThat(row.get("RECIPIENT_ID")).isEqualTo(AUTHOR);
+            assertThat(row.get("ACTOR_ID")).isEqualTo(READER);
+            assertThat(row.get("UUID")).isNotNull();
+        });
+        assertThat(notifications.get(0).get("MESSAGE")).isEqualTo("reader liked your post");
+    }
+
+    @Test
+    void failingToggleIsIsolatedRetriedAndThenDropped() {
+        doThrow(new IllegalStateException("counter row is locked out"))
+                .when(shardedCounters).add(eq(EngagementCounter.BLOG_LIKES), eq(OTHER_BLOG), anyLong());
+
+        service.likeBlog(READER, BLOG);
+        service.likeBlog(READER, OTHER_BLOG);
+        service.flush();
+
+        // The good toggle is written; the failing one is back in the next window
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(service.isBlogLiked(READER, OTHER_BLOG)).isTrue();
+
+        service.flush();
+
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(service.isBlogLiked(READER, OTHER_BLOG)).isFalse();
+        assertThat(events).extracting(LikeChangedEvent::blogId).containsExactly(BLOG);
+    }
+
+    @Test
+    void unbatchedTogglesAreWrittenRightAway() {
+        config.setBatched(false);
+
+        service.likeBlog(READER, BLOG);
+
+        assertThat(likeRows()).isEqualTo(1);
+        verify(shardedCounters).add(EngagementCounter.BLOG_LIKES, BLOG, 1L);
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes", Integer.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.blogNest.domain.like;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LikerBitmapTest {
+
+    // Serialized form: container count (4 bytes), then per container its key (2 bytes) and a bitmap flag
+    private static final int FIRST_CONTAINER_FLAG = 6;
+
+    @Test
+    void arrayContainerBecomesBitmapAboveThreshold() throws IOException {
+        LikerBitmap bitmap = new LikerBitmap();
+        for (int id = 0; id < 4096; id++) {
+            bitmap.add(id * 3L);
+        }
+        assertThat(isBitmapContainer(bitmap)).isFalse();
+
+        assertThat(bitmap.add(4096 * 3L)).isTrue();
+
+        assertThat(isBitmapContainer(bitmap)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(4097);
+        for (int id = 0; id <= 4096; id++) {
+            assertThat(bitmap.contains(id * 3L)).isTrue();
+            assertThat(bitmap.contains(id * 3L + 1)).isFalse();
+        }
+    }
+
+    @Test
+    void bitmapContainerBecomesArrayOnlyAtHalfTheThreshold() throws IOException {
+        LikerBitmap bitmap = new LikerBitmap();
+        for (int id = 0; id <= 4096; id++) {
+            bitmap.add(id);
+        }
+        for (int id = 4096; id > 2048; id--) {
+            bitmap.remove(id);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(2049);
+        assertThat(isBitmapContainer(bitmap)).isTrue();
+
+        assertThat(bitmap.remove(2048)).isTrue();
+
+        assertThat(isBitmapContainer(bitmap)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2048);
+        assertThat(bitmap.contains(2047)).isTrue();
+        assertThat(bitmap.contains(2048)).isFalse();
+    }
+
+    @Test
+    void addAndRemoveReportChanges() {
+        LikerBitmap bitmap = new LikerBitmap();
+
+        assertThat(bitmap.add(42)).isTrue();
+        assertThat(bitmap.add(42)).isFalse();
+        assertThat(bitmap.remove(43)).isFalse();
+        assertThat(bitmap.remove(42)).isTrue();
+        assertThat(bitmap.remove(42)).isFalse();
+        assertThat(bitmap.cardinality()).isZero();
+    }
+
+    @Test
+    void idsOutsideThirtyTwoBitsAreRejected() {
+        LikerBitmap bitmap = new LikerBitmap();
+
+        assertThat(bitmap.add(-1)).isFalse();
+        assertThat(bitmap.add(LikerBitmap.MAX_ID + 1)).isFalse();
+        assertThat(bitmap.add(LikerBitmap.MAX_ID)).isTrue();
+        assertThat(bitmap.contains(LikerBitmap.MAX_ID)).isTrue();
+        assertThat(bitmap.contains(-1)).isFalse();
+    }
+
+    @Test
+    void ofSortsDeduplicatesAndSkipsIdsThatDoNotFit() {
+        long[] ids = {70_000, 5, -3, 5, LikerBitmap.MAX_ID + 9, 1, 70_000, 65_536};
+
+        LikerBitmap bitmap = LikerBitmap.of(ids, ids.length);
+
+        assertThat(bitmap.cardinality()).isEqualTo(4);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(5)).isTrue();
+        assertThat(bitmap.contains(65_536)).isTrue();
+        assertThat(bitmap.contains(70_000)).isTrue();
+        assertThat(bitmap.contains(-3)).isFalse();
+    }
+
+    @Test
+    void ofBuildsBitmapContainersForDenseRanges() throws IOException {
+        long[] ids = new long[10_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ids.length - i;
+        }
+
+        LikerBitmap bitmap = LikerBitmap.of(ids, ids.length);
+
+        assertThat(isBitmapContainer(bitmap)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(10_000);
+        assertThat(bitmap.contains(0)).isFalse();
+        assertThat(bitmap.contains(10_000)).isTrue();
+    }
+
+    @Test
+    void serializationRoundTripsArrayAndBitmapContainers() throws IOException {
+        Random random = new Random(7);
+        TreeSet<Long> expected = new TreeSet<>();
+        LikerBitmap bitmap = new LikerBitmap();
+        // A dense container, a sparse one and a single id near the top of the range
+        for (int i = 0; i < 6000; i++) {
+            long id = random.nextInt(65_536);
+            expected.add(id);
+            bitmap.add(id);
+        }
+        for (int i = 0; i < 100; i++) {
+            long id = 5L * 65_536 + random.nextInt(65_536);
+            expected.add(id);
+            bitmap.add(id);
+        }
+        expected.add(LikerBitmap.MAX_ID);
+        bitmap.add(LikerBitmap.MAX_ID);
+
+        LikerBitmap restored = roundTrip(bitmap);
+
+        assertThat(restored.cardinality()).isEqualTo(expected.size());
+        for (long id : expected) {
+            assertThat(restored.contains(id)).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            long id = random.nextLong(LikerBitmap.MAX_ID);
+            assertThat(restored.contains(id)).isEqualTo(expected.contains(id));
+        }
+        assertThat(serialize(restored)).isEqualTo(serialize(bitmap));
+    }
+
+    @Test
+    void restoredBitmapAcceptsWrites() throws IOException {
+        LikerBitmap restored = roundTrip(LikerBitmap.of(new long[]{1, 2, 3}, 3));
+
+        assertThat(restored.add(4)).isTrue();
+        assertThat(restored.remove(1)).isTrue();
+        assertThat(restored.cardinality()).isEqualTo(3);
+        assertThat(restored.contains(1)).isFalse();
+        assertThat(restored.contains(4)).isTrue();
+    }
+
+    @Test
+    void emptyBitmapRoundTrips() throws IOException {
+        LikerBitmap restored = roundTrip(new LikerBitmap());
+
+        assertThat(restored.cardinality()).isZero();
+        assertThat(restored.contains(0)).isFalse();
+    }
+
+    @Test
+    void corruptContainerCountIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeInt(-1);
+
+        assertThatThrownBy(() -> LikerBitmap.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static LikerBitmap roundTrip(LikerBitmap bitmap) throws IOException {
+        return LikerBitmap.readFrom(new DataInputStream(new ByteArrayInputStream(serialize(bitmap))));
+    }
+
+    private static byte[] serialize(LikerBitmap bitmap) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bitmap.writeTo(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static boolean isBitmapContainer(LikerBitmap bitmap) throws IOException {
+        return serialize(bitmap)[FIRST_CONTAINER_FLAG] != 0;
+    }
+}
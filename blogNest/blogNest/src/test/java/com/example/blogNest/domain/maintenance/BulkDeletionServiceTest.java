@@ -0,0 +1,120 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.counter.ShardedCounterService;
+import com.example.blogNest.domain.counter.UserCounterService;
+import com.example.blogNest.domain.event.BlogChangedEvent;
+import com.example.blogNest.domain.event.BlogUnpublishedEvent;
+import com.example.blogNest.domain.statistics.AuthorStatsService;
+import com.example.blogNest.domain.statistics.PlatformStat;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BulkDeletionServiceTest {
+
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.of(2024, 2, 3, 10, 15);
+
+    private final JdbcTemplate jdbcTemplate =
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:bulk-deletion;DB_CLOSE_DELAY=-1"));
+    private final BlogRepository blogRepository = mock(BlogRepository.class);
+    private final PlatformStatisticsService platformStatistics = mock(PlatformStatisticsService.class);
+    private final AuthorStatsService authorStats = mock(AuthorStatsService.class);
+    private final UserCounterService userCounters = mock(UserCounterService.class);
+    private final List<Object> events = new ArrayList<>();
+    private BulkDeletionService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE blogs (id BIGINT PRIMARY KEY, author_id BIGINT, category_id BIGINT, " +
+                "published_at TIMESTAMP, status VARCHAR(20))");
+        insertBlog(1L, 10L, 20L, PUBLISHED_AT, "PUBLISHED");
+        insertBlog(2L, 10L, 20L, null, "DRAFT");
+        insertBlog(3L, 11L, null, PUBLISHED_AT.plusDays(1), "PUBLISHED");
+        insertBlog(4L, 11L, 20L, PUBLISHED_AT, "ARCHIVED");
+
+        when(blogRepository.archiveByIds(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        doAnswer(invocation -> events.add(invocation.getArgument(0))).when(eventPublisher).publishEvent(any(Object.class));
+        service = new BulkDeletionService(jdbcTemplate, blogRepository, mock(ShardedCounterService.class),
+                userCounters, platformStatistics, authorStats, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE blogs");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void archivingCountsOnlyPublishedBlogsOutOfThePublishedTotals() {
+        int archived = service.archivePublished(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(archived).isEqualTo(2);
+        verify(blogRepository).archiveByIds(List.of(1L, 3L));
+        verify(platformStatistics).recordDeltas(Map.of(PlatformStat.BLOGS_PUBLISHED, -2L));
+        // Blog counts include archived blogs
+        verifyNoInteractions(authorStats, userCounters);
+    }
+
+    @Test
+    void archivedBlogsAreUnpublishedWithTheDimensionsTheyWereCountedUnder() {
+        service.archivePublished(List.of(1L, 3L));
+
+        assertThat(events).containsExactlyInAnyOrder(
+                new BlogUnpublishedEvent(1L, 10L, 20L, PUBLISHED_AT),
+                new BlogUnpublishedEvent(3L, 11L, null, PUBLISHED_AT.plusDays(1)),
+                new BlogChangedEvent(1L),
+                new BlogChangedEvent(3L));
+    }
+
+    @Test
+    void nothingPublishedLeavesEverythingAlone() {
+        int archived = service.archivePublished(List.of(2L, 4L));
+
+        assertThat(archived).isZero();
+        verify(blogRepository, never()).archiveByIds(anyList());
+        verifyNoInteractions(platformStatistics);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void statisticsAreRecordedOnlyOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.archivePublished(List.of(1L));
+
+        verifyNoInteractions(platformStatistics);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(platformStatistics).recordDeltas(Map.of(PlatformStat.BLOGS_PUBLISHED, -1L));
+    }
+
+    private void insertBlog(Long id, Long authorId, Long categoryId, LocalDateTime publishedAt, String status) {
+        jdbcTemplate.update("INSERT INTO blogs (id, author_id, category_id, published_at, status) VALUES (?, ?, ?, ?, ?)",
+                id, authorId, categoryId, publishedAt != null ? Timestamp.valueOf(publishedAt) : null, status);
+    }
+}
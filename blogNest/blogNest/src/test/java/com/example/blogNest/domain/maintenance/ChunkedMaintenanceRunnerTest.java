@@ -0,0 +1,154 @@
+package com.example.blogNest.domain.maintenance;
+
+import com.example.blogNest.domain.Repository.MaintenanceCheckpointRepository;
+import com.example.blogNest.domain.config.MaintenanceConfig;
+import com.example.blogNest.domain.model.entity.MaintenanceCheckpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChunkedMaintenanceRunnerTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final Map<String, MaintenanceCheckpoint> checkpoints = new HashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChunkedMaintenanceRunner runner;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MaintenanceCheckpointRepository checkpointRepository = mock(MaintenanceCheckpointRepository.class);
+        when(checkpointRepository.findById(any())).thenAnswer(invocation ->
+                Optional.ofNullable(checkpoints.get(invocation.<String>getArgument(0))));
+        when(checkpointRepository.save(any())).thenAnswer(invocation -> {
+            MaintenanceCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoints.put(checkpoint.getJobName(), checkpoint);
+            return checkpoint;
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+
+        MaintenanceConfig config = new MaintenanceConfig();
+        config.setBatchSize(3);
+        config.setTargetLoad(1.0);
+        runner = new ChunkedMaintenanceRunner(checkpointRepository, config, transactionManager, meterRegistryProvider);
+    }
+
+    @Test
+    void processesEveryMatchingIdInBatchesAndCompletes() {
+        ListJob job = new ListJob(List.of(2L, 3L, 5L, 7L, 11L, 13L, 17L));
+
+        MaintenanceRunResult result = runner.run(job);
+
+        assertThat(job.batches).containsExactly(List.of(2L, 3L, 5L), List.of(7L, 11L, 13L), List.of(17L));
+        assertThat(result.completed()).isTrue();
+        assertThat(result.rows()).isEqualTo(7);
+        assertThat(result.batches()).isEqualTo(3);
+        MaintenanceCheckpoint checkpoint = checkpoints.get("list");
+        assertThat(checkpoint.isInProgress()).isFalse();
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(17L);
+        assertThat(checkpoint.getCutoffDate()).isEqualTo(CUTOFF);
+        assertThat(meterRegistry.counter("blognest.maintenance.rows", "job", "list").count()).isEqualTo(7.0);
+    }
+
+    @Test
+    void interruptedRunResumesAfterItsLastCheckpointedId() {
+        MaintenanceCheckpoint checkpoint = new MaintenanceCheckpoint("list");
+        checkpoint.startRun(CUTOFF.minusDays(1));
+        checkpoint.advance(5L, 3);
+        checkpoints.put("list", checkpoint);
+        ListJob job = new ListJob(List.of(2L, 3L, 5L, 7L, 11L));
+
+        MaintenanceRunResult result = runner.run(job);
+
+        assertThat(job.batches).containsExactly(List.of(7L, 11L));
+        assertThat(job.cutoffs).isZero();
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(checkpoints.get("list").getRowsProcessed()).isEqualTo(5L);
+    }
+
+    @Test
+    void failedBatchLeavesTheCheckpointAtTheLastBatchThatCommitted() {
+        ListJob job = new ListJob(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+        job.failOn = 4L;
+
+        assertThatThrownBy(() -> runner.run(job)).isInstanceOf(IllegalStateException.class);
+
+        MaintenanceCheckpoint checkpoint = checkpoints.get("list");
+        assertThat(checkpoint.isInProgress()).isTrue();
+        assertThat(checkpoint.getLastProcessedId()).isEqualTo(3L);
+    }
+
+    @Test
+    void rowsCountWhatTheBatchChangedNotWhatItSelected() {
+        ListJob job = new ListJob(List.of(1L, 2L, 3L, 4L));
+        job.affectedPerBatch = 1;
+
+        MaintenanceRunResult result = runner.run(job);
+
+        assertThat(result.rows()).isEqualTo(2);
+        assertThat(result.batches()).isEqualTo(2);
+        assertThat(checkpoints.get("list").getLastProcessedId()).isEqualTo(4L);
+    }
+
+    /**
+     * Keyset job over a fixed list of ids
+     */
+    private static class ListJob implements MaintenanceJob {
+
+        private final List<Long> ids;
+        private final List<List<Long>> batches = new ArrayList<>();
+        private int cutoffs;
+        private Long failOn;
+        private Integer affectedPerBatch;
+
+        ListJob(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public String getName() {
+            return "list";
+        }
+
+        @Override
+        public LocalDateTime computeCutoff(LocalDateTime now) {
+            cutoffs++;
+            return CUTOFF;
+        }
+
+        @Override
+        public List<Long> findNextIds(LocalDateTime cutoff, Long afterId, int batchSize) {
+            return ids.stream().filter(id -> id > afterId).limit(batchSize).toList();
+        }
+
+        @Override
+        public int processBatch(List<Long> batch) {
+            if (failOn != null && batch.contains(failOn)) {
+                throw new IllegalStateException("batch failed");
+            }
+            batches.add(batch);
+            return affectedPerBatch != null ? affectedPerBatch : batch.size();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.blogNest.domain.model.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedEntityTest {
+
+    @Test
+    void entityAddedBeforePersistIsFoundAfterItsIdIsAssigned() {
+        User user = new User("alice", "alice@example.com", "", "", "");
+        Set<User> users = new HashSet<>();
+        users.add(user);
+        int hash = user.hashCode();
+
+        user.setId(7L);
+
+        assertThat(user.hashCode()).isEqualTo(hash);
+        assertThat(users).contains(user);
+    }
+
+    @Test
+    void loadedCopyOfTheSameRowIsEqualAndHashesAlike() {
+        User saved = new User("alice", "alice@example.com", "", "", "");
+        saved.setId(7L);
+        User loaded = new User();
+        loaded.setId(7L);
+        loaded.setUuid(saved.getUuid());
+
+        assertThat(loaded).isEqualTo(saved);
+        assertThat(loaded.hashCode()).isEqualTo(saved.hashCode());
+    }
+
+    @Test
+    void distinctEntitiesAreNotEqualEvenWithoutIds() {
+        Tag first = new Tag("java", "java");
+        Tag second = new Tag("java", "java");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first.getUuid()).isNotEqualTo(second.getUuid());
+    }
+
+    @Test
+    void entitiesOfDifferentTypesAreNeverEqual() {
+        Tag tag = new Tag("java", "java");
+        Category category = new Category("java", "java");
+        category.setUuid(tag.getUuid());
+
+        assertThat(tag).isNotEqualTo(category);
+    }
+
+    @Test
+    void keysSpreadEntitiesOverBuckets() {
+        Set<Integer> hashes = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            hashes.add(new Blog().hashCode());
+        }
+
+        assertThat(hashes).hasSizeGreaterThan(990);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.blogNest.domain.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long TOKEN = SECOND / 10;
+
+    // Starts far from zero so arithmetic around the start instant is exercised
+    private static final long START = 1_000 * SECOND;
+
+    @Test
+    void newBucketAllowsAFullBurst() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+
+        assertThat(bucket.isFull(START)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryConsume(1, START)).isZero();
+        }
+        assertThat(bucket.remaining(START)).isZero();
+        assertThat(bucket.tryConsume(1, START)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    void rejectedRequestDoesNotSpendTokens() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+        bucket.tryConsume(10, START);
+
+        assertThat(bucket.tryConsume(1, START)).isPositive();
+        assertThat(bucket.tryConsume(1, START)).isEqualTo(TOKEN);
+
+        assertThat(bucket.tryConsume(1, START + TOKEN)).isZero();
+    }
+
+    @Test
+    void tokensRefillAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+        bucket.tryConsume(10, START);
+
+        assertThat(bucket.remaining(START + TOKEN - 1)).isZero();
+        assertThat(bucket.remaining(START + TOKEN)).isEqualTo(1);
+        assertThat(bucket.remaining(START + 5 * TOKEN)).isEqualTo(5);
+        assertThat(bucket.isFull(START + SECOND - 1)).isFalse();
+        assertThat(bucket.isFull(START + SECOND)).isTrue();
+        assertThat(bucket.fullAt()).isEqualTo(START + SECOND);
+    }
+
+    @Test
+    void idleTimeDoesNotGrowTheBurstBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+        long later = START + 60 * SECOND;
+
+        assertThat(bucket.remaining(later)).isEqualTo(10);
+        assertThat(bucket.tryConsume(10, later)).isZero();
+        assertThat(bucket.tryConsume(1, later)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    void costlyRequestWaitsForAllItsTokens() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+        bucket.tryConsume(7, START);
+
+        assertThat(bucket.tryConsume(5, START)).isEqualTo(2 * TOKEN);
+        assertThat(bucket.tryConsume(5, START + 2 * TOKEN)).isZero();
+        assertThat(bucket.remaining(START + 2 * TOKEN)).isZero();
+    }
+
+    @Test
+    void costAboveCapacityIsRejected() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+
+        assertThatThrownBy(() -> bucket.tryConsume(11, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void debitIsCappedAtOneRefill() {
+        TokenBucket bucket = new TokenBucket(10, SECOND, START);
+
+        bucket.debit(4, START);
+        assertThat(bucket.remaining(START)).isEqualTo(6);
+
+        bucket.debit(1_000, START);
+        assertThat(bucket.remaining(START)).isZero();
+        assertThat(bucket.fullAt()).isEqualTo(START + SECOND);
+        assertThat(bucket.remaining(START + SECOND)).isEqualTo(10);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.blogNest.domain.replica;
+
+import com.example.blogNest.domain.config.ReplicaConfig;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PrimaryPinFilterTest {
+
+    private static final long PIN_MS = 5000;
+
+    private final PrimaryPinFilter filter = new PrimaryPinFilter(PIN_MS);
+    private final ReplicaRegistry registry = new ReplicaRegistry(new ReplicaConfig(), new DataSourceProperties());
+
+    @Test
+    void recentWriteFromTheHeaderPinsTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(PrimaryPinFilter.HEADER, Long.toString(System.currentTimeMillis() - 1000));
+
+        assertThat(pinnedDuring(request)).isTrue();
+    }
+
+    @Test
+    void recentWriteFromTheCookiePinsTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(PrimaryPinFilter.COOKIE, Long.toString(System.currentTimeMillis())));
+
+        assertThat(pinnedDuring(request)).isTrue();
+    }
+
+    @Test
+    void staleFutureOrMalformedWriteTimesDoNotPin() throws Exception {
+        long now = System.currentTimeMillis();
+        for (String value : new String[]{Long.toString(now - PIN_MS - 1000), Long.toString(now + PIN_MS * 10), "soon", ""}) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(PrimaryPinFilter.HEADER, value);
+
+            assertThat(pinnedDuring(request)).as(value).isFalse();
+        }
+        assertThat(pinnedDuring(new MockHttpServletRequest())).isFalse();
+    }
+
+    @Test
+    void writeSendsTheNewTimeInTheHeaderAndOneCookie() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSecure(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinnedAfterWrite = new AtomicBoolean();
+
+        filter.doFilter(request, response, (req, res) -> {
+            registry.recordWrite();
+            registry.recordWrite();
+            pinnedAfterWrite.set(registry.isPinned());
+        });
+
+        assertThat(pinnedAfterWrite).isTrue();
+        long sent = Long.parseLong(response.getHeader(PrimaryPinFilter.HEADER));
+        assertThat(sent).isCloseTo(System.currentTimeMillis(), within(5_000L));
+        assertThat(response.getHeaders("Set-Cookie")).singleElement().satisfies(cookie -> assertThat(cookie)
+                .startsWith(PrimaryPinFilter.COOKIE + "=")
+                .contains("HttpOnly", "Secure", "SameSite=Lax", "Max-Age=6"));
+    }
+
+    @Test
+    void writeAfterTheResponseIsCommittedSendsNothing() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> {
+            res.flushBuffer();
+            registry.recordWrite();
+        });
+
+        assertThat(response.getHeader(PrimaryPinFilter.HEADER)).isNull();
+        assertThat(response.getHeaders("Set-Cookie")).isEmpty();
+    }
+
+    @Test
+    void clientIsOnlyBoundForTheRequest() throws Exception {
+        AtomicReference<Boolean> tracked = new AtomicReference<>();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (req, res) -> tracked.set(registry.isTracked()));
+
+        assertThat(tracked.get()).isTrue();
+        assertThat(registry.isTracked()).isFalse();
+        assertThat(PrimaryPinFilter.currentClient()).isNull();
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(registry.isPinned()));
+        return pinned.get();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.blogNest.domain.replica;
+
+import com.example.blogNest.domain.config.ReplicaConfig;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final JdbcTemplate primaryDatabase =
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final JdbcTemplate replicaDatabase =
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final ReplicaConfig config = new ReplicaConfig();
+    private ReplicaRegistry registry;
+    private ReplicaRegistry.Replica replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        for (JdbcTemplate database : List.of(primaryDatabase, replicaDatabase)) {
+            database.execute("CREATE TABLE origin (name VARCHAR(10))");
+            database.execute("CREATE TABLE writes (id INT)");
+        }
+        primaryDatabase.update("INSERT INTO origin VALUES ('primary')");
+        replicaDatabase.update("INSERT INTO origin VALUES ('replica')");
+
+        ReplicaConfig.Node node = new ReplicaConfig.Node();
+        node.setUrl("jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+        node.setUsername("sa");
+        node.setPassword("");
+        config.setNodes(List.of(node));
+        config.setMaxLagMs(1000);
+        config.setPrimaryPinMs(5000);
+        DataSourceProperties primaryProperties = new DataSourceProperties();
+        primaryProperties.setDriverClassName("org.h2.Driver");
+        registry = new ReplicaRegistry(config, primaryProperties);
+        replica = registry.getReplicas().get(0);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDatabase.getDataSource(), registry));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+        primaryDatabase.execute("DROP ALL OBJECTS");
+        replicaDatabase.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionsUseAReplicaWithinTheLagLimit() {
+        registry.recordLag(replica, 200);
+
+        assertThat(origin(readOnly)).isEqualTo("replica");
+        assertThat(origin(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnThePrimaryWhileTheReplicaLagsOrWasNeverChecked() {
+        assertThat(origin(readOnly)).isEqualTo("primary");
+
+        registry.recordLag(replica, 5000);
+        assertThat(origin(readOnly)).isEqualTo("primary");
+
+        registry.recordLag(replica, -1);
+        assertThat(origin(readOnly)).isEqualTo("primary");
+
+        registry.recordLag(replica, 100);
+        assertThat(origin(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplicaIsTakenOutOfRotation() {
+        registry.recordLag(replica, 100);
+        replica.getDataSource().close();
+
+        assertThat(origin(readOnly)).isEqualTo("primary");
+        assertThat(replica.isEligible()).isFalse();
+    }
+
+    @Test
+    void clientThatJustWroteReadsFromThePrimary() throws Exception {
+        registry.recordLag(replica, 100);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(PrimaryPinFilter.HEADER, Long.toString(System.currentTimeMillis() - 1000));
+
+        String[] seen = new String[1];
+        new PrimaryPinFilter(config.getPrimaryPinMs()).doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen[0] = origin(readOnly));
+
+        assertThat(seen[0]).isEqualTo("primary");
+    }
+
+    @Test
+    void committedWritePinsTheClient() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        inRequest(response, () -> readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT name FROM origin", String.class);
+            assertThat(response.getHeader(PrimaryPinFilter.HEADER)).isNull();
+            jdbcTemplate.update("INSERT INTO writes VALUES (1)");
+        }));
+
+        assertThat(response.getHeader(PrimaryPinFilter.HEADER)).isNotNull();
+        assertThat(response.getHeader("Set-Cookie")).startsWith(PrimaryPinFilter.COOKIE + "=");
+    }
+
+    @Test
+    void readsAndRolledBackWritesDoNotPinTheClient() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        inRequest(response, () -> {
+            readWrite.executeWithoutResult(status -> jdbcTemplate.queryForList("SELECT name FROM origin"));
+            readWrite.executeWithoutResult(status -> jdbcTemplate.execute("(SELECT name FROM origin)"));
+            assertThatThrownBy(() -> readWrite.executeWithoutResult(status -> {
+                jdbcTemplate.update("INSERT INTO writes VALUES (1)");
+                throw new IllegalStateException("rolled back");
+            })).isInstanceOf(IllegalStateException.class);
+        });
+
+        assertThat(response.getHeader(PrimaryPinFilter.HEADER)).isNull();
+        assertThat(primaryDatabase.queryForObject("SELECT COUNT(*) FROM writes", Integer.class)).isZero();
+    }
+
+    @Test
+    void backgroundWritesPinNobody() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO writes VALUES (1)"));
+
+        assertThat(registry.isTracked()).isFalse();
+        assertThat(registry.isPinned()).isFalse();
+    }
+
+    private String origin(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM origin", String.class));
+    }
+
+    private void inRequest(MockHttpServletResponse response, Runnable work) throws Exception {
+        FilterChain chain = (req, res) -> work.run();
+        new PrimaryPinFilter(config.getPrimaryPinMs()).doFilter(new MockHttpServletRequest(), response, chain);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.blogNest.domain.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    @Test
+    void pastDeadlinesAreNotAdded() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 1000);
+
+        assertThat(wheel.add("past", 990)).isFalse();
+        assertThat(wheel.add("current tick", 1005)).isFalse();
+        assertThat(wheel.add("next tick", 1010)).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void entryFiresOnTheTickOfItsDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        wheel.add("a", 35);
+
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void farDeadlinesCascadeThroughCoarserLevels() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        // Level spans are 80 ms, 640 ms and 5120 ms; this one starts on the fourth level
+        wheel.add("far", 7_777);
+
+        for (long now = TICK_MS; now < 7_770; now += TICK_MS) {
+            assertThat(wheel.advance(now)).as("at %d ms", now).isEmpty();
+        }
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(7_770)).containsExactly("far");
+    }
+
+    @Test
+    void everyEntryFiresExactlyOnceAtItsTick() {
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        Random random = new Random(3);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = TICK_MS + random.nextInt(50_000);
+            deadlines.put(i, deadline);
+            wheel.add(i, deadline);
+        }
+
+        Map<Integer, Long> fired = new HashMap<>();
+        for (long now = TICK_MS; now <= 50_010; now += TICK_MS) {
+            for (Integer item : wheel.advance(now)) {
+                assertThat(fired.put(item, now)).as("item %d fired twice", item).isNull();
+            }
+        }
+
+        assertThat(fired).hasSize(deadlines.size());
+        deadlines.forEach((item, deadline) ->
+                assertThat(fired.get(item)).as("item %d", item).isEqualTo(Math.floorDiv(deadline, TICK_MS) * TICK_MS));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void oneLargeAdvanceCatchesUpInDeadlineOrder() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        Random random = new Random(5);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long deadline = TICK_MS + random.nextInt(20_000) / TICK_MS * TICK_MS;
+            deadlines.add(deadline);
+            wheel.add(deadline, deadline);
+        }
+
+        List<Long> expired = wheel.advance(10_000);
+
+        assertThat(expired).isSorted();
+        assertThat(expired).containsExactlyInAnyOrderElementsOf(
+                deadlines.stream().filter(deadline -> deadline <= 10_000).toList());
+        assertThat(wheel.size()).isEqualTo(deadlines.size() - expired.size());
+        assertThat(wheel.currentTimeMs()).isEqualTo(10_000);
+
+        int remaining = wheel.size();
+        assertThat(wheel.advance(20_010)).hasSize(remaining).allMatch(deadline -> deadline > 10_000);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void resetDropsEntriesAndMovesTheClockWithoutFiring() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, 0);
+        wheel.add("dropped", 50);
+        wheel.add("dropped far", 90_000);
+
+        wheel.reset(100_000);
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.currentTimeMs()).isEqualTo(100_000);
+        assertThat(wheel.add("before", 99_000)).isFalse();
+        assertThat(wheel.add("after", 100_700)).isTrue();
+        assertThat(wheel.advance(100_690)).isEmpty();
+        assertThat(wheel.advance(100_700)).containsExactly("after");
+    }
+
+    @Test
+    void clockBeforeTheEpochIsSupported() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, -1_000);
+        wheel.add("a", 500);
+
+        assertThat(wheel.advance(490)).isEmpty();
+        assertThat(wheel.advance(500)).containsExactly("a");
+    }
+
+    @Test
+    void invalidGeometryIsRejected() {
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, WHEEL_SIZE, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(TICK_MS, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
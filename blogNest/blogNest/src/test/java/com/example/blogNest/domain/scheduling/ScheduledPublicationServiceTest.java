@@ -0,0 +1,149 @@
+package com.example.blogNest.domain.scheduling;
+
+import com.example.blogNest.domain.Repository.BlogRepository;
+import com.example.blogNest.domain.config.PublicationSchedulerConfig;
+import com.example.blogNest.domain.event.BlogChangedEvent;
+import com.example.blogNest.domain.event.BlogPublishedEvent;
+import com.example.blogNest.domain.statistics.PlatformStat;
+import com.example.blogNest.domain.statistics.PlatformStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduledPublicationServiceTest {
+
+    private final BlogRepository blogRepository = mock(BlogRepository.class);
+    private final LeaderLock leaderLock = mock(LeaderLock.class);
+    private final PlatformStatisticsService platformStatistics = mock(PlatformStatisticsService.class);
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failNextEvent = new AtomicBoolean();
+
+    private ScheduledPublicationService service;
+
+    @BeforeEach
+    void setUp() {
+        PublicationSchedulerConfig config = new PublicationSchedulerConfig();
+        config.setTickMs(10);
+        config.setWheelSize(8);
+        config.setResyncIntervalMs(60_000);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(leaderLock.tryAcquire(eq(ScheduledPublicationService.LOCK_NAME), any())).thenReturn(true);
+        when(blogRepository.publishScheduledBlog(anyLong(), any())).thenReturn(1);
+
+        ApplicationEventPublisher eventPublisher = event -> {
+            if (failNextEvent.compareAndSet(true, false)) {
+                throw new IllegalStateException("listener failed");
+            }
+            events.add(event);
+        };
+        service = new ScheduledPublicationService(blogRepository, leaderLock, config, transactionManager,
+                eventPublisher, platformStatistics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void overdueBlogsArePublishedOnGainingLeadership() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        when(blogRepository.findScheduledPublications()).thenReturn(rows(new Object[]{1L, past}, new Object[]{2L, past}));
+
+        service.start();
+
+        awaitUntil(() -> publishedIds().size() == 2);
+        assertThat(publishedIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(events).contains(new BlogChangedEvent(1L), new BlogChangedEvent(2L));
+        verify(platformStatistics, times(2)).recordDeltas(Map.of(PlatformStat.BLOGS_PUBLISHED, 1L));
+        assertThat(service.getPendingCount()).isZero();
+    }
+
+    @Test
+    void failingPublishDoesNotStopTheTickOrTheRestOfTheBatch() {
+        LocalDateTime soon = LocalDateTime.now().plusNanos(100_000_000);
+        when(blogRepository.findScheduledPublications()).thenReturn(rows(new Object[]{1L, soon}, new Object[]{2L, soon}));
+        failNextEvent.set(true);
+
+        service.start();
+
+        awaitUntil(() -> publishedIds().size() == 1);
+        awaitUntil(() -> service.getPendingCount() == 0);
+        verify(blogRepository).publishScheduledBlog(eq(1L), any());
+        verify(blogRepository).publishScheduledBlog(eq(2L), any());
+
+        // The tick is still scheduled: a blog added later is published too
+        service.onBlogScheduled(new BlogScheduledEvent(3L, LocalDateTime.now().plusNanos(50_000_000)));
+        awaitUntil(() -> publishedIds().contains(3L));
+    }
+
+    @Test
+    void failedUpdateIsForgottenSoTheNextResyncRetriesIt() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        when(blogRepository.findScheduledPublications()).thenReturn(rows(new Object[]{1L, past}));
+        when(blogRepository.publishScheduledBlog(eq(1L), any()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(1);
+
+        service.start();
+        awaitUntil(() -> mockingDetails(blogRepository).getInvocations().stream()
+                .anyMatch(invocation -> invocation.getMethod().getName().equals("publishScheduledBlog")));
+        awaitUntil(() -> service.getPendingCount() == 0);
+        assertThat(publishedIds()).isEmpty();
+
+        service.resync();
+
+        assertThat(publishedIds()).containsExactly(1L);
+    }
+
+    private List<Long> publishedIds() {
+        List<Long> ids = new ArrayList<>();
+        for (Object event : events) {
+            if (event instanceof BlogPublishedEvent published) {
+                ids.add(published.blogId());
+            }
+        }
+        return ids;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
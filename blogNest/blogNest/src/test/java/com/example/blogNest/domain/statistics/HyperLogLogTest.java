@@ -0,0 +1,132 @@
+package com.example.blogNest.domain.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+
+    @Test
+    void newSketchIsEmpty() {
+        HyperLogLog sketch = new HyperLogLog();
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.estimate()).isZero();
+    }
+
+    @Test
+    void duplicatesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 10; round++) {
+            for (long value = 0; value < 1000; value++) {
+                sketch.add(value);
+            }
+        }
+
+        assertThat(relativeError(sketch.estimate(), 1000)).isLessThan(0.02);
+    }
+
+    @Test
+    void estimatesStayWithinThreeStandardErrors() {
+        HyperLogLog sketch = new HyperLogLog();
+        double bound = 3 * standardError(HyperLogLog.DEFAULT_PRECISION);
+
+        // Small counts go through linear counting, large ones through the harmonic mean
+        long added = 0;
+        for (long checkpoint : new long[]{100, 10_000, 40_000, 200_000, 1_000_000}) {
+            for (; added < checkpoint; added++) {
+                sketch.add(added);
+            }
+            assertThat(relativeError(sketch.estimate(), checkpoint))
+                    .as("error at %d values", checkpoint)
+                    .isLessThan(bound);
+        }
+    }
+
+    @Test
+    void meanErrorMatchesPrecision() {
+        int precision = 10;
+        int trials = 30;
+        int values = 50_000;
+        Random random = new Random(11);
+
+        double totalError = 0;
+        for (int trial = 0; trial < trials; trial++) {
+            HyperLogLog sketch = new HyperLogLog(precision);
+            for (int i = 0; i < values; i++) {
+                sketch.add(random.nextLong());
+            }
+            totalError += relativeError(sketch.estimate(), values);
+        }
+
+        // The mean absolute error of a normal estimate is about 0.8 standard errors
+        assertThat(totalError / trials).isLessThan(standardError(precision));
+    }
+
+    @Test
+    void mergeEstimatesTheUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (long value = 0; value < 60_000; value++) {
+            first.add(value);
+        }
+        for (long value = 40_000; value < 100_000; value++) {
+            second.add(value);
+        }
+
+        first.merge(second);
+
+        assertThat(relativeError(first.estimate(), 100_000))
+                .isLessThan(3 * standardError(HyperLogLog.DEFAULT_PRECISION));
+    }
+
+    @Test
+    void mergeRejectsOtherPrecision() {
+        HyperLogLog sketch = new HyperLogLog(12);
+
+        assertThatThrownBy(() -> sketch.merge(new HyperLogLog(14)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void precisionOutsideRangeIsRejected() {
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(19)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (long value = 0; value < 25_000; value++) {
+            sketch.add(value * 31);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertThat(restored.getPrecision()).isEqualTo(12);
+        assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+        assertThat(restored.toBytes()).isEqualTo(sketch.toBytes());
+    }
+
+    @Test
+    void clearEmptiesTheSketch() {
+        HyperLogLog sketch = new HyperLogLog();
+        sketch.add(1);
+
+        sketch.clear();
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.estimate()).isZero();
+    }
+
+    private static double standardError(int precision) {
+        return 1.04 / Math.sqrt(1 << precision);
+    }
+
+    private static double relativeError(long estimate, long actual) {
+        return Math.abs(estimate - actual) / (double) actual;
+    }
+}
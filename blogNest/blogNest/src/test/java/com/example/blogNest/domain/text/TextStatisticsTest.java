@@ -0,0 +1,106 @@
+package com.example.blogNest.domain.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextStatisticsTest {
+
+    @Test
+    void emptyContentHasNoWordsAndOneMinute() {
+        for (String content : new String[]{null, ""}) {
+            TextStatistics statistics = TextStatistics.of(content);
+
+            assertThat(statistics.getWordCount()).isZero();
+            assertThat(statistics.getReadingTimeMinutes()).isEqualTo(1);
+            assertThat(statistics.getExcerpt()).isEmpty();
+        }
+    }
+
+    @Test
+    void tagsSeparateWordsAndAreLeftOutOfTheExcerpt() {
+        TextStatistics statistics = TextStatistics.of("<p>Hello <b>big</b>world</p><!-- note --><br/>again");
+
+        assertThat(statistics.getWordCount()).isEqualTo(4);
+        assertThat(statistics.getExcerpt()).isEqualTo("Hello big world again");
+    }
+
+    @Test
+    void lessThanSignThatDoesNotOpenATagIsText() {
+        TextStatistics statistics = TextStatistics.of("<p>if a < b and 3<4</p>");
+
+        assertThat(statistics.getWordCount()).isEqualTo(6);
+        assertThat(statistics.getExcerpt()).isEqualTo("if a < b and 3<4");
+    }
+
+    @Test
+    void lessThanSignWithoutClosingBracketIsText() {
+        TextStatistics statistics = TextStatistics.of("x <y and z");
+
+        assertThat(statistics.getWordCount()).isEqualTo(4);
+        assertThat(statistics.getExcerpt()).isEqualTo("x <y and z");
+    }
+
+    @Test
+    void whitespaceIsCollapsedAndTrimmed() {
+        TextStatistics statistics = TextStatistics.of("\n\t  one \n\n two\t\tthree   ");
+
+        assertThat(statistics.getWordCount()).isEqualTo(3);
+        assertThat(statistics.getExcerpt()).isEqualTo("one two three");
+    }
+
+    @Test
+    void readingTimeRoundsToWholeMinutesAndIsAtLeastOne() {
+        assertThat(TextStatistics.of(words(99)).getReadingTimeMinutes()).isEqualTo(1);
+        assertThat(TextStatistics.of(words(299)).getReadingTimeMinutes()).isEqualTo(1);
+        assertThat(TextStatistics.of(words(300)).getReadingTimeMinutes()).isEqualTo(2);
+        assertThat(TextStatistics.of(words(1_000)).getReadingTimeMinutes()).isEqualTo(5);
+    }
+
+    @Test
+    void longContentIsCutAtAWordBoundary() {
+        TextStatistics statistics = TextStatistics.of(words(100));
+
+        String excerpt = statistics.getExcerpt();
+        assertThat(statistics.getWordCount()).isEqualTo(100);
+        assertThat(excerpt).endsWith("...");
+        String kept = excerpt.substring(0, excerpt.length() - 3);
+        assertThat(kept.length()).isLessThanOrEqualTo(TextStatistics.EXCERPT_LENGTH);
+        assertThat(words(100)).startsWith(kept + " ");
+    }
+
+    @Test
+    void contentOfExactlyTheExcerptLengthIsNotTruncated() {
+        String content = "a".repeat(TextStatistics.EXCERPT_LENGTH);
+
+        assertThat(TextStatistics.of(content).getExcerpt()).isEqualTo(content);
+        assertThat(TextStatistics.of(content + "   ").getExcerpt()).isEqualTo(content);
+    }
+
+    @Test
+    void longWordIsCutAtTheExcerptLength() {
+        TextStatistics statistics = TextStatistics.of("a".repeat(300));
+
+        assertThat(statistics.getWordCount()).isEqualTo(1);
+        assertThat(statistics.getExcerpt()).isEqualTo("a".repeat(TextStatistics.EXCERPT_LENGTH) + "...");
+    }
+
+    @Test
+    void surrogatePairIsNotSplitAtTheCut() {
+        String content = "a".repeat(TextStatistics.EXCERPT_LENGTH - 1) + "\uD83D\uDE00" + "b";
+
+        assertThat(TextStatistics.of(content).getExcerpt())
+                .isEqualTo("a".repeat(TextStatistics.EXCERPT_LENGTH - 1) + "...");
+    }
+
+    private static String words(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                content.append(' ');
+            }
+            content.append("word").append(i);
+        }
+        return content.toString();
+    }
+}